@@ -37,6 +37,7 @@ import org.eclipse.mosaic.interactions.application.ApplicationInteraction;
 import org.eclipse.mosaic.interactions.application.SumoTraciResponse;
 import org.eclipse.mosaic.interactions.communication.V2xFullMessageReception;
 import org.eclipse.mosaic.interactions.communication.V2xMessageAcknowledgement;
+import org.eclipse.mosaic.interactions.communication.V2xMessageBatchReception;
 import org.eclipse.mosaic.interactions.communication.V2xMessageReception;
 import org.eclipse.mosaic.interactions.electricity.ChargingStationUpdate;
 import org.eclipse.mosaic.interactions.electricity.VehicleBatteryUpdates;
@@ -68,6 +69,7 @@ import org.eclipse.mosaic.lib.objects.traffic.InductionLoopInfo;
 import org.eclipse.mosaic.lib.objects.traffic.LaneAreaDetectorInfo;
 import org.eclipse.mosaic.lib.objects.trafficlight.TrafficLightGroupInfo;
 import org.eclipse.mosaic.lib.objects.v2x.V2xMessage;
+import org.eclipse.mosaic.lib.objects.v2x.V2xReceiverInformation;
 import org.eclipse.mosaic.lib.objects.v2x.etsi.EtsiPayloadConfiguration;
 import org.eclipse.mosaic.lib.objects.vehicle.BatteryData;
 import org.eclipse.mosaic.lib.objects.vehicle.VehicleData;
@@ -77,10 +79,12 @@ import org.eclipse.mosaic.lib.util.objects.ObjectInstantiation;
 import org.eclipse.mosaic.lib.util.scheduling.DefaultEventScheduler;
 import org.eclipse.mosaic.lib.util.scheduling.Event;
 import org.eclipse.mosaic.lib.util.scheduling.EventManager;
+import org.eclipse.mosaic.lib.util.scheduling.EventProcessor;
 import org.eclipse.mosaic.lib.util.scheduling.EventScheduler;
 import org.eclipse.mosaic.lib.util.scheduling.MultiThreadedEventScheduler;
 import org.eclipse.mosaic.rti.TIME;
 import org.eclipse.mosaic.rti.api.AbstractFederateAmbassador;
+import org.eclipse.mosaic.rti.api.CheckpointableFederateAmbassador;
 import org.eclipse.mosaic.rti.api.IllegalValueException;
 import org.eclipse.mosaic.rti.api.Interaction;
 import org.eclipse.mosaic.rti.api.InternalFederateException;
@@ -90,6 +94,7 @@ import edu.umd.cs.findbugs.annotations.SuppressWarnings;
 import org.apache.commons.lang3.Validate;
 
 import java.io.File;
+import java.io.IOException;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.net.URLClassLoader;
@@ -97,20 +102,34 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import javax.annotation.Nonnull;
 
 /**
  * Main class for the application simulator.
  */
 @SuppressWarnings("ST_WRITE_TO_STATIC_FROM_INSTANCE_METHOD")
-public class ApplicationAmbassador extends AbstractFederateAmbassador implements EventManager {
+public class ApplicationAmbassador extends AbstractFederateAmbassador implements EventManager, CheckpointableFederateAmbassador {
 
     private final EventScheduler eventScheduler;
 
     private final Map<String, VehicleRegistration> vehicleRegistrations = new HashMap<>();
 
+    /**
+     * The interactions which registered the units of the simulation, in order of their registration. Used
+     * to register the units again when continuing a simulation from a checkpoint.
+     */
+    private final Map<String, Interaction> unitRegistrations = new LinkedHashMap<>();
+
+    /**
+     * The state restored from a checkpoint, which is applied as soon as the ambassador is initialized.
+     */
+    private ApplicationCheckpoint restoredCheckpoint;
+
     /**
      * Constructor for {@link ApplicationAmbassador}.
      * This will load the configuration, initialize the {@link SimulationKernel},
@@ -219,7 +238,9 @@ public class ApplicationAmbassador extends AbstractFederateAmbassador implements
 
     @Override
     public void finishSimulation() {
-        // we already shut down everything in the last simulation step
+        // we already shut down everything in the last simulation step, unless the simulation has been aborted
+        UnitSimulator.UnitSimulator.removeAllSimulationUnits();
+        SimulationKernel.SimulationKernel.reset();
     }
 
     @Override
@@ -233,11 +254,121 @@ public class ApplicationAmbassador extends AbstractFederateAmbassador implements
         SimulationKernel.SimulationKernel.setInteractable(rti);
         SimulationKernel.SimulationKernel.setRandomNumberGenerator(rti.createRandomNumberGenerator());
 
+        if (rti.getMonitor().isProfilingEnabled()) {
+            eventScheduler.setBatchObserver((time, nice, numberOfEvents, durationNs) -> rti.getMonitor()
+                    .onEventBatch(getId(), EventNicenessPriorityRegister.getName(nice), numberOfEvents, durationNs)
+            );
+        }
+
         // shutdown remaining simulation units within the simulation time frame
         SimulationKernel.SimulationKernel.getEventManager()
                 .newEvent(endTime, this::shutdownSimulationUnits)
                 .withNice(EventNicenessPriorityRegister.UNIT_REMOVED)
                 .schedule();
+
+        if (restoredCheckpoint != null) {
+            applyCheckpoint(startTime, restoredCheckpoint);
+            restoredCheckpoint = null;
+        }
+    }
+
+    /**
+     * Stores all simulation units by the interactions they have been registered with, their pending events
+     * and the cached V2X messages. The internal state of applications is not part of the checkpoint.
+     */
+    @Override
+    public void saveCheckpoint(long time, File directory) throws InternalFederateException {
+        final ApplicationCheckpoint checkpoint = new ApplicationCheckpoint(
+                new ArrayList<>(unitRegistrations.values()),
+                new ArrayList<>(vehicleRegistrations.values()),
+                SimulationKernel.SimulationKernel.getRoutes(),
+                SimulationKernel.SimulationKernel.getVehicleTypes(),
+                V2xMessage.getNextMessageId()
+        );
+        SimulationKernel.SimulationKernel.getV2xMessageCache().forEachItem(checkpoint::addV2xMessage);
+        final Set<Event> events = eventScheduler.getAllEvents();
+        for (Event event : events) {
+            checkpoint.addEvent(event);
+        }
+        try {
+            checkpoint.write(directory);
+        } catch (IOException e) {
+            throw new InternalFederateException("Could not save application state", e);
+        }
+        log.info("Saved application state at {} with {} units, {} of {} events, and {} V2X messages",
+                TIME.format(time), unitRegistrations.size(), checkpoint.getEvents().size(), events.size(),
+                checkpoint.getV2xMessages().size()
+        );
+    }
+
+    /**
+     * Reads the state of the checkpoint, which is applied when the ambassador is initialized with the time of the checkpoint.
+     */
+    @Override
+    public void restoreCheckpoint(long time, File directory) throws InternalFederateException {
+        try {
+            restoredCheckpoint = ApplicationCheckpoint.read(directory, SimulationKernel.SimulationKernel.getClassLoader());
+        } catch (IOException | ClassNotFoundException e) {
+            throw new InternalFederateException("Could not restore application state", e);
+        }
+        log.info("Restored application state at {}", TIME.format(time));
+    }
+
+    /**
+     * Registers all units of the checkpoint again, which start their applications at the given time, and
+     * schedules all events and V2X messages of the checkpoint.
+     */
+    private void applyCheckpoint(final long time, final ApplicationCheckpoint checkpoint) throws InternalFederateException {
+        SimulationKernel.SimulationKernel.setCurrentSimulationTime(time);
+        SimulationKernel.SimulationKernel.getVehicleTypes().putAll(checkpoint.getVehicleTypes());
+        for (var routeEntry : checkpoint.getRoutes().entrySet()) {
+            SimulationKernel.SimulationKernel.registerRoute(routeEntry.getKey(), routeEntry.getValue());
+        }
+
+        final ClassLoader classLoader = SimulationKernel.SimulationKernel.getClassLoader();
+        try {
+            V2xMessage.setNextMessageId(Math.max(V2xMessage.getNextMessageId(), checkpoint.getNextV2xMessageId()));
+            for (ApplicationCheckpoint.CachedMessage cachedMessage : checkpoint.getV2xMessages()) {
+                SimulationKernel.SimulationKernel.getV2xMessageCache().putItem(cachedMessage.time(), cachedMessage.readMessage(classLoader));
+            }
+
+            for (Interaction registration : checkpoint.getUnitRegistrations()) {
+                if (registration instanceof VehicleRegistration vehicleRegistration) {
+                    process(vehicleRegistration);
+                    addVehicleIfNotYetAdded(time, vehicleRegistration.getMapping().getName());
+                } else {
+                    registerUnit(time, registration);
+                }
+            }
+            for (VehicleRegistration vehicleRegistration : checkpoint.getPendingVehicleRegistrations()) {
+                process(vehicleRegistration);
+            }
+
+            for (ApplicationCheckpoint.ScheduledEvent event : checkpoint.getEvents()) {
+                final List<EventProcessor> processors = new ArrayList<>();
+                if (event.unitIds().isEmpty()) {
+                    processors.add(UnitSimulator.UnitSimulator);
+                }
+                for (String unitId : event.unitIds()) {
+                    final AbstractSimulationUnit simulationUnit = UnitSimulator.UnitSimulator.getUnitFromId(unitId);
+                    if (simulationUnit != null) {
+                        processors.add(simulationUnit);
+                    }
+                }
+                if (!processors.isEmpty()) {
+                    newEvent(event.time())
+                            .withProcessors(processors)
+                            .withResource(event.readResource(classLoader))
+                            .withNice(event.nice())
+                            .schedule();
+                }
+            }
+        } catch (IOException | ClassNotFoundException e) {
+            throw new InternalFederateException("Could not restore application state", e);
+        }
+        log.info("Registered {} units and scheduled {} events from checkpoint at {}",
+                checkpoint.getUnitRegistrations().size(), checkpoint.getEvents().size(), TIME.format(time)
+        );
     }
 
     private void shutdownSimulationUnits(Event event) {
@@ -301,6 +432,8 @@ public class ApplicationAmbassador extends AbstractFederateAmbassador implements
                 this.process((VehicleRouteRegistration) interaction);
             } else if (interaction.getTypeId().equals(V2xMessageReception.TYPE_ID)) {
                 this.process((V2xMessageReception) interaction);
+            } else if (interaction.getTypeId().equals(V2xMessageBatchReception.TYPE_ID)) {
+                this.process((V2xMessageBatchReception) interaction);
             } else if (interaction.getTypeId().equals(V2xFullMessageReception.TYPE_ID)) {
                 this.process((V2xFullMessageReception) interaction);
             } else if (interaction.getTypeId().equals(EnvironmentSensorUpdates.TYPE_ID)) {
@@ -371,36 +504,67 @@ public class ApplicationAmbassador extends AbstractFederateAmbassador implements
     }
 
     private void process(final RsuRegistration rsuRegistration) {
-        UnitSimulator.UnitSimulator.registerRsu(rsuRegistration);
+        registerUnit(rsuRegistration.getTime(), rsuRegistration);
     }
 
     private void process(final TmcRegistration tmcRegistration) {
-        UnitSimulator.UnitSimulator.registerTmc(tmcRegistration);
+        registerUnit(tmcRegistration.getTime(), tmcRegistration);
     }
 
     private void process(final ServerRegistration serverRegistration) {
-        UnitSimulator.UnitSimulator.registerServer(serverRegistration);
+        registerUnit(serverRegistration.getTime(), serverRegistration);
     }
 
     private void process(final ChargingStationRegistration chargingStationRegistration) {
-        UnitSimulator.UnitSimulator.registerChargingStation(chargingStationRegistration);
-        String id = chargingStationRegistration.getMapping().getName();
-        GeoPoint position = chargingStationRegistration.getMapping().getPosition();
-        SimulationKernel.SimulationKernel.getChargingStationIndex().addChargingStation(id, position);
+        registerUnit(chargingStationRegistration.getTime(), chargingStationRegistration);
     }
 
     private void process(final TrafficLightRegistration trafficLightRegistration) {
-        UnitSimulator.UnitSimulator.registerTrafficLight(trafficLightRegistration);
-        SimulationKernel.SimulationKernel.getCentralPerceptionComponent()
-                .addTrafficLightGroup(trafficLightRegistration.getTrafficLightGroup());
+        registerUnit(trafficLightRegistration.getTime(), trafficLightRegistration);
     }
 
     private void process(final AgentRegistration agentRegistration) {
-        UnitSimulator.UnitSimulator.registerAgent(agentRegistration);
+        registerUnit(agentRegistration.getTime(), agentRegistration);
+    }
+
+    /**
+     * Registers the unit of the given interaction at the given time, which is the time of the interaction,
+     * or the time of the checkpoint if the unit is registered again after restoring a checkpoint.
+     */
+    private void registerUnit(final long time, final Interaction registration) {
+        if (registration instanceof RsuRegistration rsuRegistration) {
+            UnitSimulator.UnitSimulator.registerRsu(time, rsuRegistration);
+            unitRegistrations.put(rsuRegistration.getMapping().getName(), rsuRegistration);
+        } else if (registration instanceof TmcRegistration tmcRegistration) {
+            UnitSimulator.UnitSimulator.registerTmc(time, tmcRegistration);
+            unitRegistrations.put(tmcRegistration.getMapping().getName(), tmcRegistration);
+        } else if (registration instanceof ServerRegistration serverRegistration) {
+            UnitSimulator.UnitSimulator.registerServer(time, serverRegistration);
+            unitRegistrations.put(serverRegistration.getMapping().getName(), serverRegistration);
+        } else if (registration instanceof ChargingStationRegistration chargingStationRegistration) {
+            UnitSimulator.UnitSimulator.registerChargingStation(time, chargingStationRegistration);
+            String id = chargingStationRegistration.getMapping().getName();
+            GeoPoint position = chargingStationRegistration.getMapping().getPosition();
+            SimulationKernel.SimulationKernel.getChargingStationIndex().addChargingStation(id, position);
+            unitRegistrations.put(id, chargingStationRegistration);
+        } else if (registration instanceof TrafficLightRegistration trafficLightRegistration) {
+            UnitSimulator.UnitSimulator.registerTrafficLight(time, trafficLightRegistration);
+            SimulationKernel.SimulationKernel.getCentralPerceptionComponent()
+                    .addTrafficLightGroup(trafficLightRegistration.getTrafficLightGroup());
+            unitRegistrations.put(trafficLightRegistration.getMapping().getName(), trafficLightRegistration);
+        } else if (registration instanceof AgentRegistration agentRegistration) {
+            UnitSimulator.UnitSimulator.registerAgent(time, agentRegistration);
+            unitRegistrations.put(agentRegistration.getMapping().getName(), agentRegistration);
+        }
     }
 
     private void process(final VehicleRegistration vehicleRegistration) {
         String vehicleName = vehicleRegistration.getMapping().getName();
+        if (unitRegistrations.containsKey(vehicleName)) {
+            // vehicles restored from a checkpoint are registered again by the traffic simulator
+            log.debug("Vehicle {} has already been registered.", vehicleName);
+            return;
+        }
         vehicleRegistrations.put(vehicleName, vehicleRegistration);
         // register vehicle type for perception
         SimulationKernel.SimulationKernel.getCentralPerceptionComponent()
@@ -535,6 +699,50 @@ public class ApplicationAmbassador extends AbstractFederateAmbassador implements
         addEvent(event);
     }
 
+    private void process(final V2xMessageBatchReception v2xMessageBatchReception) {
+        // unmap the message only once for all receivers
+        final V2xMessage v2XMessage = SimulationKernel.SimulationKernel.getV2xMessageCache().getItem(v2xMessageBatchReception.getMessageId());
+        if (v2XMessage == null) {
+            log.warn("V2XMessage with id {} is unknown", v2xMessageBatchReception.getMessageId());
+            return;
+        }
+
+        // receivers sharing the same receiver information also share the received message and, if events are processed sequentially, the event
+        final boolean shareEvents = !(eventScheduler instanceof MultiThreadedEventScheduler);
+        final List<EventProcessor> processors = new ArrayList<>();
+        ReceivedV2xMessage receivedV2xMessage = null;
+        for (int i = 0; i < v2xMessageBatchReception.size(); i++) {
+            final AbstractSimulationUnit simulationUnit =
+                    UnitSimulator.UnitSimulator.getUnitFromId(v2xMessageBatchReception.getReceiverNames().get(i));
+            // we don't simulate vehicles without an application
+            if (simulationUnit == null) {
+                continue;
+            }
+            final V2xReceiverInformation receiverInformation = v2xMessageBatchReception.getReceiverInformation().get(i);
+            if (receivedV2xMessage == null || !Objects.equals(receivedV2xMessage.getReceiverInformation(), receiverInformation)) {
+                addV2xMessageReceptionEvent(v2xMessageBatchReception.getTime(), processors, receivedV2xMessage);
+                receivedV2xMessage = new ReceivedV2xMessage(v2XMessage, receiverInformation);
+            }
+            processors.add(simulationUnit);
+            if (!shareEvents) {
+                addV2xMessageReceptionEvent(v2xMessageBatchReception.getTime(), processors, receivedV2xMessage);
+            }
+        }
+        addV2xMessageReceptionEvent(v2xMessageBatchReception.getTime(), processors, receivedV2xMessage);
+    }
+
+    private void addV2xMessageReceptionEvent(long time, List<EventProcessor> processors, ReceivedV2xMessage receivedV2xMessage) {
+        if (processors.isEmpty()) {
+            return;
+        }
+        newEvent(time)
+                .withProcessors(processors)
+                .withResource(receivedV2xMessage)
+                .withNice(EventNicenessPriorityRegister.V2X_MESSAGE_RECEPTION)
+                .schedule();
+        processors.clear();
+    }
+
     private void process(final V2xFullMessageReception v2xFullMessageReception) {
         final AbstractSimulationUnit simulationUnit = UnitSimulator.UnitSimulator.getUnitFromId(v2xFullMessageReception.getReceiverName());
         // we don't simulate vehicles without an application
@@ -677,6 +885,7 @@ public class ApplicationAmbassador extends AbstractFederateAmbassador implements
             addEvent(event);
         }
 
+        unitRegistrations.keySet().removeAll(agentUpdates.getRemoved());
         final RemoveUnits removeUnits = new RemoveUnits(agentUpdates.getRemoved());
         final Event event = new Event(
                 agentUpdates.getTime(),
@@ -707,6 +916,7 @@ public class ApplicationAmbassador extends AbstractFederateAmbassador implements
 
     private void process(final VehicleUpdates vehicleUpdates) {
         SimulationKernel.SimulationKernel.getCentralPerceptionComponent().updateVehicles(vehicleUpdates);
+        SimulationKernel.SimulationKernel.getCentralNavigationComponent().updateLiveTraffic(vehicleUpdates);
         // schedule all added vehicles
         for (VehicleData vehicleData : vehicleUpdates.getAdded()) {
             addVehicleIfNotYetAdded(vehicleUpdates.getTime(), vehicleData.getName());
@@ -746,6 +956,7 @@ public class ApplicationAmbassador extends AbstractFederateAmbassador implements
          * event occurs only after the simulation. The unit simulator will
          * cleanly terminate the application.
          */
+        unitRegistrations.keySet().removeAll(vehicleUpdates.getRemovedNames());
         final RemoveUnits removeUnits = new RemoveUnits(vehicleUpdates.getRemovedNames());
         final Event event = new Event(
                 vehicleUpdates.getTime(),
@@ -790,6 +1001,7 @@ public class ApplicationAmbassador extends AbstractFederateAmbassador implements
         final VehicleRegistration vehicleRegistration = vehicleRegistrations.remove(unitName);
         if (vehicleRegistration != null) {
             UnitSimulator.UnitSimulator.registerVehicle(time, vehicleRegistration);
+            unitRegistrations.put(unitName, vehicleRegistration);
         }
     }
 
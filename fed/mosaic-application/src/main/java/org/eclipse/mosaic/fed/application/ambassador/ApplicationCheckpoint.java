@@ -0,0 +1,185 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.fed.application.ambassador;
+
+import org.eclipse.mosaic.fed.application.ambassador.eventresources.StartApplications;
+import org.eclipse.mosaic.fed.application.ambassador.simulation.AbstractSimulationUnit;
+import org.eclipse.mosaic.interactions.mapping.VehicleRegistration;
+import org.eclipse.mosaic.lib.objects.v2x.V2xMessage;
+import org.eclipse.mosaic.lib.objects.vehicle.VehicleRoute;
+import org.eclipse.mosaic.lib.objects.vehicle.VehicleType;
+import org.eclipse.mosaic.lib.util.SerializationUtils;
+import org.eclipse.mosaic.lib.util.scheduling.Event;
+import org.eclipse.mosaic.lib.util.scheduling.EventProcessor;
+import org.eclipse.mosaic.rti.api.Interaction;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Serializable;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Describes the state of the application simulator at the time of a checkpoint. Simulation units are stored by the
+ * interactions they have been registered with, and are registered again when restoring the checkpoint. Their applications
+ * are started anew, thus the internal state of applications, and all events scheduled by applications, are not part of
+ * the checkpoint. Pending events of simulation units and of the {@link UnitSimulator}, as well as the cached V2X messages,
+ * are serialized one by one, as they may carry objects of applications which can not be serialized.
+ */
+class ApplicationCheckpoint implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final String STATE_FILE = "application-state.ser";
+
+    private final List<Interaction> unitRegistrations;
+    private final List<VehicleRegistration> pendingVehicleRegistrations;
+    private final Map<String, VehicleRoute> routes;
+    private final Map<String, VehicleType> vehicleTypes;
+    private final int nextV2xMessageId;
+    private final List<CachedMessage> v2xMessages = new ArrayList<>();
+    private final List<ScheduledEvent> events = new ArrayList<>();
+
+    ApplicationCheckpoint(
+            List<Interaction> unitRegistrations,
+            List<VehicleRegistration> pendingVehicleRegistrations,
+            Map<String, VehicleRoute> routes,
+            Map<String, VehicleType> vehicleTypes,
+            int nextV2xMessageId
+    ) {
+        this.unitRegistrations = new ArrayList<>(unitRegistrations);
+        this.pendingVehicleRegistrations = new ArrayList<>(pendingVehicleRegistrations);
+        this.routes = new HashMap<>(routes);
+        this.vehicleTypes = new HashMap<>(vehicleTypes);
+        this.nextV2xMessageId = nextV2xMessageId;
+    }
+
+    /**
+     * Adds a message of the V2X message cache. Messages which can not be serialized are skipped.
+     *
+     * @return {@code true}, if the message has been added to the checkpoint
+     */
+    boolean addV2xMessage(long time, V2xMessage message) {
+        final byte[] bytes = toBytes(message);
+        if (bytes == null) {
+            return false;
+        }
+        v2xMessages.add(new CachedMessage(time, bytes));
+        return true;
+    }
+
+    /**
+     * Adds a pending event, if it is processed by simulation units or the {@link UnitSimulator}, and carries a resource
+     * which can be serialized. Events which start applications are skipped, as all applications are started anew.
+     *
+     * @return {@code true}, if the event has been added to the checkpoint
+     */
+    boolean addEvent(Event event) {
+        if (!(event.getResource() instanceof Serializable) || event.getResource() instanceof StartApplications) {
+            return false;
+        }
+        final List<String> unitIds = new ArrayList<>();
+        for (EventProcessor processor : event.getProcessors()) {
+            if (processor instanceof AbstractSimulationUnit unit) {
+                unitIds.add(unit.getId());
+            } else if (processor != UnitSimulator.UnitSimulator) {
+                return false;
+            }
+        }
+        final byte[] resource = toBytes(event.getResource());
+        if (resource == null) {
+            return false;
+        }
+        events.add(new ScheduledEvent(event.getTime(), event.getNice(), unitIds, resource));
+        return true;
+    }
+
+    List<Interaction> getUnitRegistrations() {
+        return unitRegistrations;
+    }
+
+    List<VehicleRegistration> getPendingVehicleRegistrations() {
+        return pendingVehicleRegistrations;
+    }
+
+    Map<String, VehicleRoute> getRoutes() {
+        return routes;
+    }
+
+    Map<String, VehicleType> getVehicleTypes() {
+        return vehicleTypes;
+    }
+
+    int getNextV2xMessageId() {
+        return nextV2xMessageId;
+    }
+
+    List<CachedMessage> getV2xMessages() {
+        return v2xMessages;
+    }
+
+    List<ScheduledEvent> getEvents() {
+        return events;
+    }
+
+    /**
+     * Writes this checkpoint into the given directory.
+     */
+    void write(File directory) throws IOException {
+        Files.write(new File(directory, STATE_FILE).toPath(), new SerializationUtils<ApplicationCheckpoint>().toBytes(this));
+    }
+
+    /**
+     * Reads a checkpoint previously written into the given directory.
+     *
+     * @param classLoader the class loader which is able to load the classes of all applications
+     */
+    static ApplicationCheckpoint read(File directory, ClassLoader classLoader) throws IOException, ClassNotFoundException {
+        return new SerializationUtils<ApplicationCheckpoint>()
+                .fromBytes(Files.readAllBytes(new File(directory, STATE_FILE).toPath()), classLoader);
+    }
+
+    private static byte[] toBytes(Object object) {
+        try {
+            return new SerializationUtils<>().toBytes(object);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    /**
+     * A message of the V2X message cache, together with the time it has been put into the cache.
+     */
+    record CachedMessage(long time, byte[] message) implements Serializable {
+
+        V2xMessage readMessage(ClassLoader classLoader) throws IOException, ClassNotFoundException {
+            return new SerializationUtils<V2xMessage>().fromBytes(message, classLoader);
+        }
+    }
+
+    /**
+     * A pending event. An empty list of unit ids refers to the {@link UnitSimulator} as processor of the event.
+     */
+    record ScheduledEvent(long time, long nice, List<String> unitIds, byte[] resource) implements Serializable {
+
+        Object readResource(ClassLoader classLoader) throws IOException, ClassNotFoundException {
+            return new SerializationUtils<>().fromBytes(resource, classLoader);
+        }
+    }
+}
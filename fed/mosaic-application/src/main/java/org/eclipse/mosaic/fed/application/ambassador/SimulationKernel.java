@@ -366,6 +366,26 @@ public enum SimulationKernel {
         return Paths.get("");
     }
 
+    /**
+     * Removes all references and data of the finished simulation, so that the next simulation
+     * which is executed within the same JVM starts with an empty simulation kernel.
+     */
+    void reset() {
+        interactable = null;
+        classLoader = null;
+        randomNumberGenerator = null;
+        currentSimulationTime = 0;
+        configuration = null;
+        configurationPath = null;
+        navigation = null;
+        centralPerceptionComponent = null;
+        chargingStationIndex = null;
+        eventManager = null;
+        routes.clear();
+        vehicleTypes.clear();
+        v2XMessageCache.garbageCollection(Long.MAX_VALUE);
+    }
+
     void garbageCollection() {
         if (interactable == null) {
             return;
@@ -288,6 +288,17 @@ public enum UnitSimulator implements EventProcessor {
      * @param rsuRegistration road side unit
      */
     public void registerRsu(RsuRegistration rsuRegistration) {
+        registerRsu(rsuRegistration.getTime(), rsuRegistration);
+    }
+
+    /**
+     * Registers a Road Side Unit (RSU).
+     * The RSU is only registered if it is equipped with an application.
+     *
+     * @param time            the time at which the unit is added to the simulation
+     * @param rsuRegistration road side unit
+     */
+    public void registerRsu(long time, RsuRegistration rsuRegistration) {
         if (!rsuRegistration.getMapping().hasApplication()) {
             return;
         }
@@ -299,10 +310,10 @@ public enum UnitSimulator implements EventProcessor {
 
         addSimulationUnit(roadSideUnit);
 
-        doSensorRegistration(rsuRegistration.getTime(), roadSideUnit.getId());
+        doSensorRegistration(time, roadSideUnit.getId());
 
         final Event event = new Event(
-                rsuRegistration.getTime(),
+                time,
                 this,
                 new StartApplications(roadSideUnit.getId(), rsuRegistration.getMapping()),
                 Event.NICE_MAX_PRIORITY
@@ -317,6 +328,17 @@ public enum UnitSimulator implements EventProcessor {
      * @param tmcRegistration traffic management center
      */
     public void registerTmc(TmcRegistration tmcRegistration) {
+        registerTmc(tmcRegistration.getTime(), tmcRegistration);
+    }
+
+    /**
+     * Registers a Traffic Management Center (TMC).
+     * The TMC is only registered if it is equipped with an application.
+     *
+     * @param time            the time at which the unit is added to the simulation
+     * @param tmcRegistration traffic management center
+     */
+    public void registerTmc(long time, TmcRegistration tmcRegistration) {
         if (!tmcRegistration.getMapping().hasApplication()) {
             return;
         }
@@ -327,7 +349,7 @@ public enum UnitSimulator implements EventProcessor {
         // doSensorRegistration(tmcRegistration.getTime(), tmc.getId());
 
         final Event event = new Event(
-                tmcRegistration.getTime(),
+                time,
                 this, new StartApplications(tmc.getId(), tmcRegistration.getMapping()),
                 Event.NICE_MAX_PRIORITY
         );
@@ -340,6 +362,16 @@ public enum UnitSimulator implements EventProcessor {
      * @param serverRegistration the interaction containing the mapping of the server
      */
     public void registerServer(ServerRegistration serverRegistration) {
+        registerServer(serverRegistration.getTime(), serverRegistration);
+    }
+
+    /**
+     * Registers a Server. Unit is only registered if it is equipped with an application
+     *
+     * @param time               the time at which the unit is added to the simulation
+     * @param serverRegistration the interaction containing the mapping of the server
+     */
+    public void registerServer(long time, ServerRegistration serverRegistration) {
         if (!serverRegistration.getMapping().hasApplication()) {
             return;
         }
@@ -349,7 +381,7 @@ public enum UnitSimulator implements EventProcessor {
         addSimulationUnit(server);
 
         final Event event = new Event(
-                serverRegistration.getTime(),
+                time,
                 this, new StartApplications(server.getId(), serverRegistration.getMapping()),
                 Event.NICE_MAX_PRIORITY
         );
@@ -363,6 +395,17 @@ public enum UnitSimulator implements EventProcessor {
      * @param chargingStationRegistration charging station
      */
     public void registerChargingStation(ChargingStationRegistration chargingStationRegistration) {
+        registerChargingStation(chargingStationRegistration.getTime(), chargingStationRegistration);
+    }
+
+    /**
+     * Registers a charging station.
+     * The charging station is only registered if it is equipped with an application.
+     *
+     * @param time                        the time at which the unit is added to the simulation
+     * @param chargingStationRegistration charging station
+     */
+    public void registerChargingStation(long time, ChargingStationRegistration chargingStationRegistration) {
         if (!chargingStationRegistration.getMapping().hasApplication()) {
             return;
         }
@@ -373,10 +416,10 @@ public enum UnitSimulator implements EventProcessor {
         chargingStationUnit.setGroup(chargingStationRegistration.getMapping().getGroup());
 
         addSimulationUnit(chargingStationUnit);
-        doSensorRegistration(chargingStationRegistration.getTime(), chargingStationUnit.getId());
+        doSensorRegistration(time, chargingStationUnit.getId());
 
         final Event event = new Event(
-                chargingStationRegistration.getTime(),
+                time,
                 this, new StartApplications(chargingStationUnit.getId(), chargingStationRegistration.getMapping()),
                 Event.NICE_MAX_PRIORITY
         );
@@ -390,6 +433,17 @@ public enum UnitSimulator implements EventProcessor {
      * @param trafficLightRegistration traffic light
      */
     public void registerTrafficLight(TrafficLightRegistration trafficLightRegistration) {
+        registerTrafficLight(trafficLightRegistration.getTime(), trafficLightRegistration);
+    }
+
+    /**
+     * Registers a traffic light.
+     * The traffic light is only registered if it is equipped with an application.
+     *
+     * @param time                     the time at which the unit is added to the simulation
+     * @param trafficLightRegistration traffic light
+     */
+    public void registerTrafficLight(long time, TrafficLightRegistration trafficLightRegistration) {
         // if traffic light index is enabled, we need traffic light state information for all traffic lights via subscriptions
         boolean isTrafficLightIndexEnabled = SimulationKernel.SimulationKernel.getConfiguration().perceptionConfiguration.trafficLightIndex != null &&
                 SimulationKernel.SimulationKernel.getConfiguration().perceptionConfiguration.trafficLightIndex.enabled;
@@ -402,17 +456,17 @@ public enum UnitSimulator implements EventProcessor {
                 trafficLightRegistration.getMapping().getPosition(),
                 trafficLightRegistration.getTrafficLightGroup()
         );
-        Interaction trafficLightSubscription = new TrafficLightSubscription(trafficLightRegistration.getTime(),
+        Interaction trafficLightSubscription = new TrafficLightSubscription(time,
                 trafficLightRegistration.getTrafficLightGroup().getGroupId());
         log.info("Sending TrafficLightSubscription: {}", trafficLightSubscription);
         trafficLightGroupUnit.sendInteractionToRti(trafficLightSubscription);
         trafficLightGroupUnit.setGroup(trafficLightRegistration.getMapping().getGroup());
 
         addSimulationUnit(trafficLightGroupUnit);
-        doSensorRegistration(trafficLightRegistration.getTime(), trafficLightGroupUnit.getId());
+        doSensorRegistration(time, trafficLightGroupUnit.getId());
 
         final Event event = new Event(
-                trafficLightRegistration.getTime(),
+                time,
                 this,
                 new StartApplications(trafficLightGroupUnit.getId(), trafficLightRegistration.getMapping()),
                 Event.NICE_MAX_PRIORITY
@@ -483,6 +537,16 @@ public enum UnitSimulator implements EventProcessor {
      * @param agentRegistration the interaction containing the mapping of the agent
      */
     public void registerAgent(AgentRegistration agentRegistration) {
+        registerAgent(agentRegistration.getTime(), agentRegistration);
+    }
+
+    /**
+     * Registers an Agent. Unit is only registered if it is equipped with an application
+     *
+     * @param time              the time at which the unit is added to the simulation
+     * @param agentRegistration the interaction containing the mapping of the agent
+     */
+    public void registerAgent(long time, AgentRegistration agentRegistration) {
         if (!agentRegistration.getMapping().hasApplication()) {
             log.warn("An agent will not move without any application.");
             return;
@@ -493,7 +557,7 @@ public enum UnitSimulator implements EventProcessor {
         addSimulationUnit(agent);
 
         final Event event = new Event(
-                agentRegistration.getTime(),
+                time,
                 this, new StartApplications(agent.getId(), agentRegistration.getMapping()),
                 Event.NICE_MAX_PRIORITY
         );
@@ -21,11 +21,14 @@ import org.eclipse.mosaic.lib.objects.v2x.V2xReceiverInformation;
 import org.apache.commons.lang3.builder.EqualsBuilder;
 import org.apache.commons.lang3.builder.HashCodeBuilder;
 
+import java.io.Serializable;
 import javax.annotation.Nonnull;
 import javax.annotation.concurrent.Immutable;
 
 @Immutable
-public class ReceivedV2xMessage {
+public class ReceivedV2xMessage implements Serializable {
+
+    private static final long serialVersionUID = 1L;
 
     /**
      * The received V2XMessage.
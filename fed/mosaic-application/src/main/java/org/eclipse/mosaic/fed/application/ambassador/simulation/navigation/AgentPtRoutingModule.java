@@ -22,6 +22,8 @@ import org.eclipse.mosaic.lib.routing.pt.PtRoutingParameters;
 import org.eclipse.mosaic.lib.routing.pt.PtRoutingRequest;
 import org.eclipse.mosaic.lib.routing.pt.PtRoutingResponse;
 
+import java.util.concurrent.CompletableFuture;
+
 public class AgentPtRoutingModule implements PtRoutingModule {
 
     private final double defaultWalkingSpeed;
@@ -32,10 +34,21 @@ public class AgentPtRoutingModule implements PtRoutingModule {
 
     @Override
     public PtRoutingResponse calculateRoute(long requestTime, GeoPoint origin, GeoPoint destination, PtRoutingParameters parameters) {
-        PtRoutingRequest routingRequest = new PtRoutingRequest(requestTime, origin, destination, parameters);
+        return SimulationKernel.SimulationKernel.getCentralNavigationComponent()
+                .findPtRoute(createRequest(requestTime, origin, destination, parameters));
+    }
+
+    @Override
+    public CompletableFuture<PtRoutingResponse> calculateRouteAsync(long requestTime, GeoPoint origin, GeoPoint destination,
+                                                                    PtRoutingParameters parameters) {
+        return SimulationKernel.SimulationKernel.getCentralNavigationComponent()
+                .findPtRouteAsync(createRequest(requestTime, origin, destination, parameters));
+    }
+
+    private PtRoutingRequest createRequest(long requestTime, GeoPoint origin, GeoPoint destination, PtRoutingParameters parameters) {
         if (parameters.getWalkingSpeedMps() == null) {
             parameters.walkingSpeedMps(defaultWalkingSpeed);
         }
-        return SimulationKernel.SimulationKernel.getCentralNavigationComponent().findPtRoute(routingRequest);
+        return new PtRoutingRequest(requestTime, origin, destination, parameters);
     }
 }
@@ -19,6 +19,7 @@ import org.eclipse.mosaic.fed.application.ambassador.ApplicationAmbassador;
 import org.eclipse.mosaic.fed.application.ambassador.SimulationKernel;
 import org.eclipse.mosaic.fed.application.config.CApplicationAmbassador;
 import org.eclipse.mosaic.interactions.traffic.VehicleRoutesInitialization;
+import org.eclipse.mosaic.interactions.traffic.VehicleUpdates;
 import org.eclipse.mosaic.interactions.vehicle.VehicleRouteChange;
 import org.eclipse.mosaic.interactions.vehicle.VehicleRouteRegistration;
 import org.eclipse.mosaic.lib.geo.GeoCircle;
@@ -33,6 +34,7 @@ import org.eclipse.mosaic.lib.objects.vehicle.VehicleRoute;
 import org.eclipse.mosaic.lib.routing.CandidateRoute;
 import org.eclipse.mosaic.lib.routing.IllegalRouteException;
 import org.eclipse.mosaic.lib.routing.RoutingCostFunction;
+import org.eclipse.mosaic.lib.routing.RoutingCostMatrix;
 import org.eclipse.mosaic.lib.routing.RoutingParameters;
 import org.eclipse.mosaic.lib.routing.RoutingPosition;
 import org.eclipse.mosaic.lib.routing.RoutingRequest;
@@ -56,8 +58,10 @@ import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Predicate;
 import javax.annotation.Nonnull;
 
@@ -169,6 +173,9 @@ public class CentralNavigationComponent {
     }
 
     public void close() {
+        if (vehicleRouting instanceof DatabaseRouting databaseRouting && databaseRouting.getRouteCache() != null) {
+            log.info("Route cache statistics: {}", databaseRouting.getRouteCache());
+        }
         if (ptRouting != null) {
             ptRouting.close();
         }
@@ -213,6 +220,55 @@ public class CentralNavigationComponent {
         return vehicleRouting.findRoutes(routingRequest);
     }
 
+    /**
+     * Find routes for several routing requests at once.
+     *
+     * @param routingRequests A list of {@link RoutingRequest}s.
+     * @return the responses in the same order as the requests
+     */
+    List<RoutingResponse> findRoutes(List<RoutingRequest> routingRequests) {
+        return vehicleRouting.findRoutes(routingRequests);
+    }
+
+    /**
+     * Calculates the costs of the best routes from each of the given sources to each of the given targets.
+     *
+     * @param sources           the source positions
+     * @param targets           the target positions
+     * @param routingParameters the parameters used for all routes
+     * @return the matrix containing the costs for each pair of source and target
+     */
+    RoutingCostMatrix calculateCostMatrix(List<RoutingPosition> sources, List<RoutingPosition> targets, RoutingParameters routingParameters) {
+        return vehicleRouting.calculateCostMatrix(sources, targets, routingParameters);
+    }
+
+    /**
+     * Provides the mean speed of all moving vehicles per connection to the routing, if live traffic is enabled.
+     *
+     * @param vehicleUpdates the latest vehicle updates from the traffic simulator
+     */
+    public void updateLiveTraffic(VehicleUpdates vehicleUpdates) {
+        if (!configuration.liveTraffic || vehicleRouting == null) {
+            return;
+        }
+        final Map<String, double[]> speedSums = new HashMap<>();
+        for (VehicleData vehicleData : Iterables.concat(vehicleUpdates.getAdded(), vehicleUpdates.getUpdated())) {
+            if (vehicleData.isStopped() || vehicleData.getRoadPosition() == null
+                    || vehicleData.getRoadPosition().getConnectionId() == null) {
+                continue;
+            }
+            final double[] speedSum = speedSums.computeIfAbsent(vehicleData.getRoadPosition().getConnectionId(), k -> new double[2]);
+            speedSum[0] += vehicleData.getSpeed();
+            speedSum[1]++;
+        }
+        if (speedSums.isEmpty()) {
+            return;
+        }
+        final Map<String, Double> connectionSpeeds = new HashMap<>(speedSums.size());
+        speedSums.forEach((connectionId, speedSum) -> connectionSpeeds.put(connectionId, speedSum[0] / speedSum[1]));
+        vehicleRouting.updateConnectionSpeeds(vehicleUpdates.getTime(), connectionSpeeds);
+    }
+
     /**
      * Switch to a specific route.
      *
@@ -339,6 +395,17 @@ public class CentralNavigationComponent {
         return ptRouting.findPtRoute(routingRequest);
     }
 
+    /**
+     * Find a public transport route asynchronously, so that several routes can be calculated in parallel.
+     *
+     * @param routingRequest A {@link PtRoutingRequest} that contains the origin, the end, the request time,
+     *                       and additional routing parameters to calculate the public transport route.
+     * @return a future which is completed with the response by a routing thread
+     */
+    CompletableFuture<PtRoutingResponse> findPtRouteAsync(PtRoutingRequest routingRequest) {
+        return ptRouting.findPtRouteAsync(routingRequest);
+    }
+
     /**
      * Provides the current routing API implementation.
      *
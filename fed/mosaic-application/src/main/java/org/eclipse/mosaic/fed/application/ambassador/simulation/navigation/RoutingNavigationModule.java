@@ -27,6 +27,7 @@ import org.eclipse.mosaic.lib.objects.vehicle.VehicleData;
 import org.eclipse.mosaic.lib.objects.vehicle.VehicleRoute;
 import org.eclipse.mosaic.lib.routing.CandidateRoute;
 import org.eclipse.mosaic.lib.routing.IllegalRouteException;
+import org.eclipse.mosaic.lib.routing.RoutingCostMatrix;
 import org.eclipse.mosaic.lib.routing.RoutingParameters;
 import org.eclipse.mosaic.lib.routing.RoutingPosition;
 import org.eclipse.mosaic.lib.routing.RoutingRequest;
@@ -35,6 +36,8 @@ import org.eclipse.mosaic.lib.routing.RoutingResponse;
 import com.google.common.annotations.VisibleForTesting;
 import org.apache.commons.lang3.StringUtils;
 
+import java.util.List;
+
 /**
  * Implementation of the interface to access the central navigation component.
  * This class provides implementation for both {@link NavigationModule} and {@link RoutingModule}, as
@@ -91,6 +94,24 @@ public class RoutingNavigationModule implements NavigationModule, RoutingModule
         return SimulationKernel.SimulationKernel.getCentralNavigationComponent().findRoutes(routingRequest);
     }
 
+    @Override
+    public List<RoutingResponse> calculateRoutes(List<RoutingRequest> routingRequests) {
+        belongingUnit.getOsLog().debug("NavigationModule#calculateRoutes: Calculate routes for {} requests", routingRequests.size());
+        return SimulationKernel.SimulationKernel.getCentralNavigationComponent().findRoutes(routingRequests);
+    }
+
+    @Override
+    public RoutingCostMatrix calculateCostMatrix(List<RoutingPosition> sources, List<RoutingPosition> targets,
+                                                 RoutingParameters routingParameters) {
+        belongingUnit.getOsLog().debug(
+                "NavigationModule#calculateCostMatrix: Calculate costs from {} sources to {} targets with params [{}]",
+                sources.size(),
+                targets.size(),
+                routingParameters
+        );
+        return SimulationKernel.SimulationKernel.getCentralNavigationComponent().calculateCostMatrix(sources, targets, routingParameters);
+    }
+
     @Override
     public boolean switchRoute(CandidateRoute newRoute) {
         belongingUnit.getOsLog().debug(
@@ -15,6 +15,11 @@
 
 package org.eclipse.mosaic.fed.application.ambassador.util;
 
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * top = highest priority. bottom lowest priority.
  */
@@ -54,4 +59,30 @@ public class EventNicenessPriorityRegister {
 
     // batteryUpdated
     public final static long BATTERY_UPDATED = -99_998_900;
+
+    private static Map<Long, String> names;
+
+    /**
+     * Returns the name of the constant registered for the given niceness, e.g. for reporting the
+     * execution times of events per type.
+     *
+     * @return the name of the constant, or the niceness itself if no constant is registered for it
+     */
+    public static synchronized String getName(long nice) {
+        if (names == null) {
+            names = new HashMap<>();
+            names.put(0L, "DEFAULT");
+            for (Field field : EventNicenessPriorityRegister.class.getFields()) {
+                if (Modifier.isStatic(field.getModifiers()) && field.getType() == long.class) {
+                    try {
+                        names.put(field.getLong(null), field.getName());
+                    } catch (IllegalAccessException e) {
+                        // public fields are always accessible
+                    }
+                }
+            }
+        }
+        final String name = names.get(nice);
+        return name != null ? name : Long.toString(nice);
+    }
 }
@@ -19,6 +19,8 @@ import org.eclipse.mosaic.lib.geo.GeoPoint;
 import org.eclipse.mosaic.lib.routing.pt.PtRoutingParameters;
 import org.eclipse.mosaic.lib.routing.pt.PtRoutingResponse;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * Interface to access public transport routing functionalities for agents.
  */
@@ -35,4 +37,18 @@ public interface PtRoutingModule {
      */
     PtRoutingResponse calculateRoute(long requestTime, GeoPoint origin, GeoPoint destination, PtRoutingParameters routingParameters);
 
+    /**
+     * Calculates a public transport route from the provided origin to the provided destination position asynchronously.
+     * Several routes requested this way are calculated in parallel. The returned future is completed by a routing thread,
+     * hence, its result should be awaited within the current event, e.g., after requesting routes for several agents.
+     *
+     * @param requestTime       The time at which the public transport route should begin earliest.
+     * @param origin            The origin position of the required route.
+     * @param destination       The destination position of the required route.
+     * @param routingParameters Properties defining the way routes are calculated (e.g. number of routes, weighting).
+     * @return A future which is completed with the response including a public transport route towards the target.
+     */
+    CompletableFuture<PtRoutingResponse> calculateRouteAsync(long requestTime, GeoPoint origin, GeoPoint destination,
+                                                             PtRoutingParameters routingParameters);
+
 }
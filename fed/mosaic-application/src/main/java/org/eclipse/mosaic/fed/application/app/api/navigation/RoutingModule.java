@@ -19,10 +19,14 @@ import org.eclipse.mosaic.lib.geo.GeoPoint;
 import org.eclipse.mosaic.lib.objects.road.IConnection;
 import org.eclipse.mosaic.lib.objects.road.INode;
 import org.eclipse.mosaic.lib.objects.road.IRoadPosition;
+import org.eclipse.mosaic.lib.routing.RoutingCostMatrix;
 import org.eclipse.mosaic.lib.routing.RoutingParameters;
 import org.eclipse.mosaic.lib.routing.RoutingPosition;
+import org.eclipse.mosaic.lib.routing.RoutingRequest;
 import org.eclipse.mosaic.lib.routing.RoutingResponse;
 
+import java.util.List;
+
 /**
  * Interface to access road routing functionalities for server or road side units.
  * The offered methods, for example, provide route calculation from a provided source to
@@ -43,6 +47,26 @@ public interface RoutingModule {
      */
     RoutingResponse calculateRoutes(RoutingPosition sourcePosition, RoutingPosition targetPosition, RoutingParameters routingParameters);
 
+    /**
+     * Calculates routes for several routing requests at once. This is considerably faster than calculating
+     * each route on its own, especially if many requests share the same source position.
+     *
+     * @param routingRequests The routing requests, each containing source, target, and routing parameters.
+     * @return The responses to the routing requests, in the same order as the requests.
+     */
+    List<RoutingResponse> calculateRoutes(List<RoutingRequest> routingRequests);
+
+    /**
+     * Calculates the travel times and lengths of the best routes from each of the given sources to each of the
+     * given targets, e.g., to assign vehicles of a fleet to the closest pick-up locations.
+     *
+     * @param sources           The source positions.
+     * @param targets           The target positions.
+     * @param routingParameters Properties defining the way routes are calculated, alternative routes are ignored.
+     * @return The matrix containing the costs of the best route for each pair of source and target.
+     */
+    RoutingCostMatrix calculateCostMatrix(List<RoutingPosition> sources, List<RoutingPosition> targets, RoutingParameters routingParameters);
+
     /**
      * Returns the node object identified by the given nodeId.
      *
@@ -43,9 +43,11 @@ import org.eclipse.mosaic.fed.application.app.TestVehicleApplication;
 import org.eclipse.mosaic.fed.application.app.api.Application;
 import org.eclipse.mosaic.interactions.application.ApplicationInteraction;
 import org.eclipse.mosaic.interactions.communication.V2xMessageAcknowledgement;
+import org.eclipse.mosaic.interactions.communication.V2xMessageBatchReception;
 import org.eclipse.mosaic.interactions.communication.V2xMessageReception;
 import org.eclipse.mosaic.interactions.electricity.VehicleBatteryUpdates;
 import org.eclipse.mosaic.interactions.mapping.TrafficLightRegistration;
+import org.eclipse.mosaic.interactions.mapping.VehicleRegistration;
 import org.eclipse.mosaic.interactions.traffic.TrafficDetectorUpdates;
 import org.eclipse.mosaic.interactions.traffic.TrafficLightUpdates;
 import org.eclipse.mosaic.interactions.traffic.VehicleRoutesInitialization;
@@ -72,6 +74,7 @@ import org.eclipse.mosaic.rti.TIME;
 import org.eclipse.mosaic.rti.api.IllegalValueException;
 import org.eclipse.mosaic.rti.api.Interaction;
 import org.eclipse.mosaic.rti.api.InternalFederateException;
+import org.eclipse.mosaic.rti.api.Monitor;
 import org.eclipse.mosaic.rti.api.RtiAmbassador;
 import org.eclipse.mosaic.rti.api.parameters.AmbassadorParameter;
 
@@ -129,6 +132,7 @@ public class ApplicationAmbassadorTest {
     @Before
     public void setup() throws IllegalValueException {
         rtiAmbassador = mock(RtiAmbassador.class);
+        when(rtiAmbassador.getMonitor()).thenReturn(new Monitor() {});
 
         // Catch the latest call of "requestAdvanceTime" in order to assert the last advance time the ambassador requests
         Answer<Void> timeAdvanceAnswer = invocation -> {
@@ -396,6 +400,54 @@ public class ApplicationAmbassadorTest {
         ambassador.finishSimulation();
     }
 
+    /**
+     * After two vehicles have been added to the ApplicationAmbassador, they receive a message with one V2xMessageBatchReception
+     * Interaction. The applications of both vehicles should receive the message, while unknown receivers are ignored.
+     */
+    @Test
+    public void processInteraction_V2xMessageBatchReception() throws InternalFederateException, IOException {
+        final ApplicationAmbassador ambassador = createAmbassador();
+
+        // init ambassador
+        ambassador.initialize(0L, END_TIME);
+
+        // add units to ambassador
+        TestVehicleApplication app0 = testAddUnit(
+                ambassador,
+                "veh_0",
+                InteractionTestHelper.createVehicleRegistrationInteraction("veh_0", 5, TestVehicleApplication.class)
+        );
+        TestVehicleApplication app1 = testAddUnit(
+                ambassador,
+                "veh_1",
+                InteractionTestHelper.createVehicleRegistrationInteraction("veh_1", 5, TestVehicleApplication.class)
+        );
+
+        // store mocked message in cache
+        final V2xMessage v2xMessage = mock(V2xMessage.class);
+        SimulationKernel.SimulationKernel.getV2xMessageCache().putItem(9 * TIME.SECOND, v2xMessage);
+
+        // RUN: Send message V2xMessageBatchReception
+        V2xReceiverInformation information = new V2xReceiverInformation(10 * TIME.SECOND);
+        V2xMessageBatchReception v2xMessageBatchReception = new V2xMessageBatchReception(
+                10 * TIME.SECOND, 0, Lists.newArrayList("veh_0", "veh_9", "veh_1"), information
+        );
+        ambassador.processInteraction(v2xMessageBatchReception);
+
+        // ASSERT + RUN: process event, which has been created by the ambassador
+        assertEquals(v2xMessageBatchReception.getTime(), recentAdvanceTime);
+        ambassador.processTimeAdvanceGrant(recentAdvanceTime);
+
+        // ASSERT: Verify, that both applications have received the message
+        Mockito.verify(app0.getApplicationSpy()).onMessageReceived(argThat(argument -> argument.getMessage() == v2xMessage));
+        Mockito.verify(app1.getApplicationSpy()).onMessageReceived(argThat(argument -> argument.getMessage() == v2xMessage));
+
+        // finish simulation
+        ambassador.processTimeAdvanceGrant(recentAdvanceTime);
+        ambassador.processTimeAdvanceGrant(END_TIME);
+        ambassador.finishSimulation();
+    }
+
     /**
      * After a vehicle has been added to the ApplicationAmbassador, the ambassador received
      * various VehicleUpdates interactions, each with information for added vehicles, updated vehicles,
@@ -984,7 +1036,8 @@ public class ApplicationAmbassadorTest {
         ambassador.processInteraction(interaction);
         final VehicleData vehInfo = mock(VehicleData.class);
         when(vehInfo.getTime()).thenReturn(5 * TIME.SECOND);
-        when(vehInfo.getName()).thenReturn("veh_0");
+        // vehicles are added with their first VehicleUpdates
+        when(vehInfo.getName()).thenReturn(interaction instanceof VehicleRegistration ? unitId : "veh_0");
 
         VehicleUpdates movements = new VehicleUpdates(
                 5 * TIME.SECOND,
@@ -0,0 +1,277 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.fed.application.ambassador;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyByte;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.isA;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.eclipse.mosaic.fed.application.ambassador.simulation.AbstractSimulationUnit;
+import org.eclipse.mosaic.fed.application.ambassador.simulation.navigation.CentralNavigationComponent;
+import org.eclipse.mosaic.fed.application.ambassador.simulation.perception.CentralPerceptionComponent;
+import org.eclipse.mosaic.fed.application.app.TestRoadSideUnitApplication;
+import org.eclipse.mosaic.fed.application.app.TestVehicleApplication;
+import org.eclipse.mosaic.fed.mapping.ambassador.MappingAmbassador;
+import org.eclipse.mosaic.interactions.communication.V2xMessageReception;
+import org.eclipse.mosaic.interactions.mapping.VehicleRegistration;
+import org.eclipse.mosaic.interactions.traffic.VehicleUpdates;
+import org.eclipse.mosaic.lib.enums.AdHocChannel;
+import org.eclipse.mosaic.lib.enums.ProtocolType;
+import org.eclipse.mosaic.lib.enums.RoutingType;
+import org.eclipse.mosaic.lib.geo.GeoPoint;
+import org.eclipse.mosaic.lib.junit.GeoProjectionRule;
+import org.eclipse.mosaic.lib.junit.IpResolverRule;
+import org.eclipse.mosaic.lib.math.DefaultRandomNumberGenerator;
+import org.eclipse.mosaic.lib.objects.UnitNameGenerator;
+import org.eclipse.mosaic.lib.objects.addressing.DestinationAddressContainer;
+import org.eclipse.mosaic.lib.objects.addressing.NetworkAddress;
+import org.eclipse.mosaic.lib.objects.addressing.SourceAddressContainer;
+import org.eclipse.mosaic.lib.objects.v2x.MessageRouting;
+import org.eclipse.mosaic.lib.objects.v2x.V2xMessage;
+import org.eclipse.mosaic.lib.objects.v2x.V2xReceiverInformation;
+import org.eclipse.mosaic.lib.objects.v2x.etsi.EtsiPayloadConfiguration;
+import org.eclipse.mosaic.lib.objects.vehicle.VehicleData;
+import org.eclipse.mosaic.lib.objects.vehicle.VehicleRoute;
+import org.eclipse.mosaic.lib.util.junit.TestUtils;
+import org.eclipse.mosaic.rti.TIME;
+import org.eclipse.mosaic.rti.api.AbstractFederateAmbassador;
+import org.eclipse.mosaic.rti.api.Interaction;
+import org.eclipse.mosaic.rti.api.Monitor;
+import org.eclipse.mosaic.rti.api.RtiAmbassador;
+import org.eclipse.mosaic.rti.api.parameters.AmbassadorParameter;
+import org.eclipse.mosaic.rti.api.parameters.FederateDescriptor;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Stores a checkpoint of the application and the mapping federate, and continues a simulation from this checkpoint
+ * with new ambassadors, in which both federates are expected to behave the same as in the uninterrupted simulation.
+ */
+public class ApplicationCheckpointTest {
+
+    private static final long CHECKPOINT_TIME = 30 * TIME.SECOND;
+    private static final long COMPARE_TIME = 60 * TIME.SECOND;
+    private static final long END_TIME = 100 * TIME.SECOND;
+
+    private final CentralNavigationComponent navigationMock = mock(CentralNavigationComponent.class);
+    private final CentralPerceptionComponent perceptionMock = mock(CentralPerceptionComponent.class);
+
+    @Rule
+    public TemporaryFolder tmpFolder = new TemporaryFolder();
+
+    @Rule
+    public SimulationKernelRule simulationKernel = new SimulationKernelRule(null, null, navigationMock, perceptionMock);
+
+    @Rule
+    public IpResolverRule ipResolverRule = new IpResolverRule();
+
+    @Rule
+    public GeoProjectionRule projectionRule = new GeoProjectionRule(GeoPoint.latLon(52.5, 13.4));
+
+    /**
+     * Pending time advance requests of both federates, as managed by the time management of the RTI.
+     */
+    private final Set<TimeAdvanceRequest> requests = new TreeSet<>(
+            Comparator.comparingLong(TimeAdvanceRequest::time).thenComparing(TimeAdvanceRequest::federateId)
+    );
+    private final Map<String, AbstractFederateAmbassador> ambassadors = new HashMap<>();
+    private final List<String> vehicleRegistrations = new ArrayList<>();
+
+    private MappingAmbassador mapping;
+    private ApplicationAmbassador application;
+
+    @Before
+    public void setup() {
+        when(navigationMock.refineRoute(isA(VehicleRoute.class))).thenAnswer(c -> c.getArguments()[0]);
+        UnitNameGenerator.reset();
+    }
+
+    @After
+    public void tearDown() {
+        application.finishSimulation();
+        UnitNameGenerator.reset();
+        TestUtils.setPrivateField(EtsiPayloadConfiguration.class, "globalConfiguration", null);
+    }
+
+    @Test
+    public void restoreCheckpoint_continueSimulation() throws Exception {
+        // SETUP
+        final File mappingCheckpoint = tmpFolder.newFolder("mapping");
+        final File applicationCheckpoint = tmpFolder.newFolder("application");
+        createAmbassadors();
+        application.initialize(0, END_TIME);
+        mapping.initialize(0, END_TIME);
+        simulateUntil(CHECKPOINT_TIME - TIME.SECOND);
+
+        // a message is received by a vehicle after the checkpoint
+        final String receiver = UnitSimulator.UnitSimulator.getVehicles().keySet().iterator().next();
+        final V2xMessage message = createMessage();
+        SimulationKernel.SimulationKernel.getV2xMessageCache().putItem(CHECKPOINT_TIME, message);
+        application.receiveInteraction(new V2xMessageReception(
+                CHECKPOINT_TIME + 5 * TIME.SECOND, receiver, message.getId(), new V2xReceiverInformation(CHECKPOINT_TIME)
+        ));
+        simulateUntil(CHECKPOINT_TIME);
+
+        // RUN: store the checkpoint, and continue the simulation to record the expected behavior
+        mapping.saveCheckpoint(CHECKPOINT_TIME, mappingCheckpoint);
+        application.saveCheckpoint(CHECKPOINT_TIME, applicationCheckpoint);
+        final List<TimeAdvanceRequest> pendingRequests = new ArrayList<>(requests);
+        final List<Interaction> pendingMappingInteractions = mapping.getPendingInteractions();
+        final Set<String> expectedUnits = Set.copyOf(UnitSimulator.UnitSimulator.getAllUnits().keySet());
+
+        vehicleRegistrations.clear();
+        simulateUntil(COMPARE_TIME);
+        final List<String> expectedRegistrations = new ArrayList<>(vehicleRegistrations);
+        application.finishSimulation();
+
+        // RUN: restore the checkpoint in new ambassadors, as if started in a new JVM
+        UnitNameGenerator.reset();
+        TestUtils.setPrivateField(EtsiPayloadConfiguration.class, "globalConfiguration", null);
+        SimulationKernel.SimulationKernel.setCentralNavigationComponent(navigationMock);
+        SimulationKernel.SimulationKernel.setCentralPerceptionComponent(perceptionMock);
+        createAmbassadors();
+        mapping.restoreCheckpoint(CHECKPOINT_TIME, mappingCheckpoint);
+        application.restoreCheckpoint(CHECKPOINT_TIME, applicationCheckpoint);
+        mapping.addPendingInteractions(pendingMappingInteractions);
+        requests.clear();
+        requests.addAll(pendingRequests);
+        application.initialize(CHECKPOINT_TIME, END_TIME);
+        mapping.initialize(CHECKPOINT_TIME, END_TIME);
+
+        // ASSERT: units and cached messages are restored
+        assertEquals(expectedUnits, UnitSimulator.UnitSimulator.getAllUnits().keySet());
+        assertTrue(UnitSimulator.UnitSimulator.getRoadSideUnits().size() > 0);
+        assertNotNull(SimulationKernel.SimulationKernel.getV2xMessageCache().getItem(message.getId()));
+
+        vehicleRegistrations.clear();
+        simulateUntil(COMPARE_TIME);
+
+        // ASSERT: mapping continues spawning the same vehicles with the same applications
+        assertFalse(expectedRegistrations.isEmpty());
+        assertEquals(expectedRegistrations, vehicleRegistrations);
+
+        // ASSERT: applications are started again, and receive the events pending at the checkpoint
+        final TestVehicleApplication vehicleApplication = getApplication(receiver);
+        verify(vehicleApplication.getApplicationSpy()).onStartup();
+        verify(vehicleApplication.getApplicationSpy()).onMessageReceived(argThat(m -> m.getMessage().getId() == message.getId()));
+        final String rsu = UnitSimulator.UnitSimulator.getRoadSideUnits().keySet().iterator().next();
+        verify(this.<TestRoadSideUnitApplication>getApplication(rsu).getApplicationSpy()).onStartup();
+    }
+
+    private void createAmbassadors() throws Exception {
+        final File mappingConfiguration = new File(getClass().getResource("/mapping_config_checkpoint.json").toURI());
+        mapping = new MappingAmbassador(new AmbassadorParameter("mapping", mappingConfiguration));
+        mapping.setRtiAmbassador(createRti("mapping", this::sendFromMapping));
+        mapping.setFederateDescriptor(new FederateDescriptor("mapping", mapping, (byte) 1));
+        application = new ApplicationAmbassador(new AmbassadorParameter("application", tmpFolder.newFile()));
+        application.setRtiAmbassador(createRti("application", interaction -> {}));
+        application.setFederateDescriptor(new FederateDescriptor("application", application, (byte) 1));
+        ambassadors.put("mapping", mapping);
+        ambassadors.put("application", application);
+    }
+
+    private RtiAmbassador createRti(String federateId, InteractionConsumer interactionConsumer) throws Exception {
+        final RtiAmbassador rti = mock(RtiAmbassador.class);
+        when(rti.getMonitor()).thenReturn(new Monitor() {});
+        when(rti.createRandomNumberGenerator()).thenReturn(new DefaultRandomNumberGenerator(42L));
+        doAnswer(invocation -> requests.add(new TimeAdvanceRequest(invocation.getArgument(0), federateId)))
+                .when(rti).requestAdvanceTime(anyLong());
+        doAnswer(invocation -> requests.add(new TimeAdvanceRequest(invocation.getArgument(0), federateId)))
+                .when(rti).requestAdvanceTime(anyLong(), anyLong(), anyByte());
+        doAnswer(invocation -> {
+            interactionConsumer.accept(invocation.getArgument(0));
+            return null;
+        }).when(rti).triggerInteraction(any(Interaction.class));
+        return rti;
+    }
+
+    /**
+     * Passes all interactions of the mapping to the application, and adds each registered vehicle to
+     * the simulation right away, as a traffic simulator would do.
+     */
+    private void sendFromMapping(Interaction interaction) throws Exception {
+        application.receiveInteraction(interaction);
+        if (interaction instanceof VehicleRegistration vehicleRegistration) {
+            final String name = vehicleRegistration.getMapping().getName();
+            vehicleRegistrations.add(String.join(",",
+                    TIME.format(vehicleRegistration.getTime()), name, vehicleRegistration.getMapping().getApplications().toString()
+            ));
+            final GeoPoint position = GeoPoint.latLon(52.5, 13.4);
+            final VehicleData vehicleData = new VehicleData.Builder(vehicleRegistration.getTime(), name)
+                    .position(position, position.toCartesian())
+                    .create();
+            application.receiveInteraction(new VehicleUpdates(vehicleRegistration.getTime(), List.of(vehicleData), List.of(), List.of()));
+        }
+    }
+
+    private void simulateUntil(long time) throws Exception {
+        while (!requests.isEmpty() && requests.iterator().next().time() <= time) {
+            final TimeAdvanceRequest request = requests.iterator().next();
+            requests.remove(request);
+            ambassadors.get(request.federateId()).advanceTime(request.time());
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T getApplication(String unitId) {
+        final AbstractSimulationUnit unit = UnitSimulator.UnitSimulator.getUnitFromIdNonNull(unitId);
+        return (T) unit.getApplications().get(0);
+    }
+
+    private static V2xMessage createMessage() {
+        return new V2xMessage.Simple("checkpoint", new MessageRouting(
+                new DestinationAddressContainer(
+                        RoutingType.AD_HOC_TOPOCAST,
+                        new NetworkAddress(NetworkAddress.BROADCAST_ADDRESS),
+                        AdHocChannel.CCH,
+                        1,
+                        null,
+                        ProtocolType.UDP
+                ),
+                new SourceAddressContainer(new NetworkAddress(new byte[]{10, 2, 0, 0}), "rsu_0", GeoPoint.latLon(52.5, 13.4))
+        ));
+    }
+
+    private interface InteractionConsumer {
+        void accept(Interaction interaction) throws Exception;
+    }
+
+    private record TimeAdvanceRequest(long time, String federateId) {
+    }
+}
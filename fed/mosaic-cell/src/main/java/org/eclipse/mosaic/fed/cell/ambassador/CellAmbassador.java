@@ -133,6 +133,9 @@ public class CellAmbassador extends AbstractFederateAmbassador {
     public void initialize(long startTime, long endTime) throws InternalFederateException {
         log.info("Start Cell");
 
+        // remove nodes left over from a previous simulation within the same JVM
+        simData.reset();
+
         readConfigurations();
 
         final RandomNumberGenerator rng = rti.createRandomNumberGenerator();
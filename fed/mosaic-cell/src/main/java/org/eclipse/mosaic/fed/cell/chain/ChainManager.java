@@ -208,7 +208,7 @@ public class ChainManager implements EventManager {
      * Send interaction back to MOSAIC.
      *
      * @param interaction can be either
-     *                    a V2xMessageReception and dedicated for the receiver or
+     *                    a V2xMessageReception or V2xMessageBatchReception dedicated for the receivers or
      *                    an V2xMessageAcknowledgement for the sender.
      */
     public void sendInteractionToRti(Interaction interaction) {
@@ -219,4 +219,11 @@ public enum SimulationData {
         SimulationNode node = simulationNodeMap.get(nodeId);
         return node != null && (node.cellConfiguration != null);
     }
+
+    /**
+     * Removes all known nodes and thereby resets the state of the simulation data.
+     */
+    public void reset() {
+        simulationNodeMap.clear();
+    }
 }
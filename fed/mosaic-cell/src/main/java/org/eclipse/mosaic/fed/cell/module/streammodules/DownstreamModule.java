@@ -26,6 +26,7 @@ import org.eclipse.mosaic.fed.cell.viz.StreamListener.StreamParticipant;
 import org.eclipse.mosaic.fed.cell.viz.StreamListener.StreamProperties;
 import org.eclipse.mosaic.interactions.communication.V2xFullMessageReception;
 import org.eclipse.mosaic.interactions.communication.V2xMessageAcknowledgement;
+import org.eclipse.mosaic.interactions.communication.V2xMessageBatchReception;
 import org.eclipse.mosaic.interactions.communication.V2xMessageReception;
 import org.eclipse.mosaic.lib.enums.ProtocolType;
 import org.eclipse.mosaic.lib.objects.v2x.MessageStreamRouting;
@@ -38,6 +39,9 @@ import org.eclipse.mosaic.rti.api.InternalFederateException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * This module simulates the Downlink in the RAN-Part of the cellular network.
  * When messages successfully passed the Downlink module, they go to the receiver applications.
@@ -159,13 +163,21 @@ public final class DownstreamModule extends AbstractStreamModule {
                 V2xReceiverInformation receiverInformation = extractReceiverInformation(processingResult, messageStartTime);
 
                 // TODO: better ReceiverInformation handling
-                for (String receiver : geocasterResult.getReceivers().get(region)) {
-                    sendReceptionInteraction(
-                            geocasterResult.isFullMessage(),
-                            processingResult.getMessageEndTime(), receiver,
-                            processingInput.getV2xMessage(),
-                            receiverInformation
-                    );
+                final List<String> receivers = new ArrayList<>(geocasterResult.getReceivers().get(region));
+                if (!geocasterResult.isFullMessage() && receivers.size() > 1) {
+                    // all receivers in the region receive the message at the same time, thus only one interaction is required
+                    chainManager.sendInteractionToRti(new V2xMessageBatchReception(
+                            processingResult.getMessageEndTime(), processingInput.getV2xMessage().getId(), receivers, receiverInformation
+                    ));
+                } else {
+                    for (String receiver : receivers) {
+                        sendReceptionInteraction(
+                                geocasterResult.isFullMessage(),
+                                processingResult.getMessageEndTime(), receiver,
+                                processingInput.getV2xMessage(),
+                                receiverInformation
+                        );
+                    }
                 }
                 notifyStreamListeners(processingInput, processingResult, cellModuleMessage);
                 // sendAck(input, processingResult); // no ack is sent in multicast TODO get confirmed
@@ -37,6 +37,7 @@ import org.eclipse.mosaic.fed.cell.module.streammodules.DownstreamModule;
 import org.eclipse.mosaic.fed.cell.utility.NodeCapacityUtility;
 import org.eclipse.mosaic.fed.cell.utility.RegionUtility;
 import org.eclipse.mosaic.interactions.communication.V2xMessageAcknowledgement;
+import org.eclipse.mosaic.interactions.communication.V2xMessageBatchReception;
 import org.eclipse.mosaic.interactions.communication.V2xMessageReception;
 import org.eclipse.mosaic.lib.enums.NegativeAckReason;
 import org.eclipse.mosaic.lib.enums.ProtocolType;
@@ -148,6 +149,12 @@ public class DownstreamModuleStreamingTest {
         doAnswer(
                 invocationOnMock -> {
                     Interaction interaction = (Interaction) invocationOnMock.getArguments()[0];
+                    if (interaction instanceof V2xMessageBatchReception batchReception) {
+                        // check batched receptions of a multicast like individual receptions
+                        rtiInteractionsSent.addAll(batchReception.toReceptions());
+                        rtiV2xReceptionsSent.addAll(batchReception.toReceptions());
+                        return null;
+                    }
                     rtiInteractionsSent.add(interaction);
                     if (interaction.getTypeId().equals(V2xMessageReception.TYPE_ID)) {
                         rtiV2xReceptionsSent.add((V2xMessageReception) invocationOnMock.getArguments()[0]);
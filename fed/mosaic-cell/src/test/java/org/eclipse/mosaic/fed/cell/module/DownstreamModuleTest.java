@@ -37,6 +37,7 @@ import org.eclipse.mosaic.fed.cell.module.streammodules.DownstreamModule;
 import org.eclipse.mosaic.fed.cell.utility.NodeCapacityUtility;
 import org.eclipse.mosaic.fed.cell.utility.RegionUtility;
 import org.eclipse.mosaic.interactions.communication.V2xMessageAcknowledgement;
+import org.eclipse.mosaic.interactions.communication.V2xMessageBatchReception;
 import org.eclipse.mosaic.interactions.communication.V2xMessageReception;
 import org.eclipse.mosaic.lib.enums.NegativeAckReason;
 import org.eclipse.mosaic.lib.enums.ProtocolType;
@@ -119,6 +120,7 @@ public class DownstreamModuleTest {
     private final List<CellModuleMessage> cellModuleMessages = new ArrayList<>();
     private final List<Interaction> rtiInteractionsSent = new ArrayList<>();
     private final List<Interaction> rtiV2xReceptionsSent = new ArrayList<>();
+    private final List<V2xMessageBatchReception> rtiV2xBatchReceptionsSent = new ArrayList<>();
     private final List<Interaction> rtiV2xAcknowledgementsSent = new ArrayList<>();
     private final AtomicReference<MessageRouting> routing = new AtomicReference<>();
     private static final long DELAY_VALUE_IN_MS = 50 * TIME.MILLI_SECOND;
@@ -140,6 +142,13 @@ public class DownstreamModuleTest {
         doAnswer(
                 invocationOnMock -> {
                     Interaction interaction = (Interaction) invocationOnMock.getArguments()[0];
+                    if (interaction instanceof V2xMessageBatchReception batchReception) {
+                        rtiV2xBatchReceptionsSent.add(batchReception);
+                        // check batched receptions of a multicast like individual receptions
+                        rtiInteractionsSent.addAll(batchReception.toReceptions());
+                        rtiV2xReceptionsSent.addAll(batchReception.toReceptions());
+                        return null;
+                    }
                     rtiInteractionsSent.add(interaction);
                     if (interaction.getTypeId().equals(V2xMessageReception.TYPE_ID)) {
                         rtiV2xReceptionsSent.add((V2xMessageReception) invocationOnMock.getArguments()[0]);
@@ -184,6 +193,7 @@ public class DownstreamModuleTest {
         // ASSERT
         assertEquals(3, rtiInteractionsSent.size());
         assertEquals(3, rtiV2xReceptionsSent.size());
+        assertEquals(1, rtiV2xBatchReceptionsSent.size());
         assertEquals(1, cellModuleMessages.size());
         long endTime = 10 * TIME.SECOND + DELAY_VALUE_IN_MS;
         checkNotifyOnFinishMessage(0, GLOBAL_NETWORK_ID, 8960 * DATA.BIT, 10 * TIME.SECOND, endTime);
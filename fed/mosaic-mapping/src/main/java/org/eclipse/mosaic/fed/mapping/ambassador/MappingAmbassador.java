@@ -29,8 +29,13 @@ import org.eclipse.mosaic.interactions.mapping.advanced.ScenarioAgentRegistratio
 import org.eclipse.mosaic.interactions.mapping.advanced.ScenarioTrafficLightRegistration;
 import org.eclipse.mosaic.interactions.mapping.advanced.ScenarioVehicleRegistration;
 import org.eclipse.mosaic.lib.math.RandomNumberGenerator;
+import org.eclipse.mosaic.lib.objects.UnitNameGenerator;
+import org.eclipse.mosaic.lib.objects.UnitType;
+import org.eclipse.mosaic.lib.util.SerializationUtils;
 import org.eclipse.mosaic.lib.util.objects.ObjectInstantiation;
+import org.eclipse.mosaic.rti.TIME;
 import org.eclipse.mosaic.rti.api.AbstractFederateAmbassador;
+import org.eclipse.mosaic.rti.api.CheckpointableFederateAmbassador;
 import org.eclipse.mosaic.rti.api.FederateExecutor;
 import org.eclipse.mosaic.rti.api.IllegalValueException;
 import org.eclipse.mosaic.rti.api.Interaction;
@@ -40,6 +45,11 @@ import org.eclipse.mosaic.rti.config.CLocalHost.OperatingSystem;
 
 import org.apache.commons.lang3.ObjectUtils;
 
+import java.io.File;
+import java.io.IOException;
+import java.io.Serializable;
+import java.nio.file.Files;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -55,7 +65,9 @@ import javax.annotation.Nonnull;
  * In the 3.0 version of the mapping the departures in the db are ignored. The
  * only other data being used is the Traffic Light Information, found in the db.
  */
-public class MappingAmbassador extends AbstractFederateAmbassador {
+public class MappingAmbassador extends AbstractFederateAmbassador implements CheckpointableFederateAmbassador {
+
+    private final static String CHECKPOINT_STATE_FILE = "mapping-state.ser";
 
     /**
      * The framework doing the actual work.
@@ -80,6 +92,11 @@ public class MappingAmbassador extends AbstractFederateAmbassador {
      */
     private final Map<String, WeightedSelector<CPrototype>> typeDistributionSelectors = new HashMap<>();
 
+    /**
+     * Flag to indicate, that the spawning state has been restored from a checkpoint.
+     */
+    private boolean restoredFromCheckpoint = false;
+
     /**
      * Constructor for the {@link MappingAmbassador}.
      *
@@ -297,6 +314,12 @@ public class MappingAmbassador extends AbstractFederateAmbassador {
     @Override
     public void initialize(long startTime, long endTime) throws InternalFederateException {
         super.initialize(startTime, endTime);
+        if (restoredFromCheckpoint) {
+            // vehicle types are already known to all federates, and the next spawn time
+            // has been requested before the checkpoint was taken
+            framework.setRti(rti);
+            return;
+        }
         try {
             randomNumberGenerator = rti.createRandomNumberGenerator();
 
@@ -320,6 +343,55 @@ public class MappingAmbassador extends AbstractFederateAmbassador {
         }
     }
 
+    /**
+     * Stores the spawning framework, including the state of all flows and the spawn calendar, the random number
+     * generator, and the counters used for generating unit names.
+     */
+    @Override
+    public void saveCheckpoint(long time, File directory) throws InternalFederateException {
+        final Map<UnitType, Integer> nextUnitIndices = new EnumMap<>(UnitType.class);
+        for (UnitType unitType : UnitType.values()) {
+            nextUnitIndices.put(unitType, UnitNameGenerator.getNextUnitIndex(unitType));
+        }
+        final CheckpointState state = new CheckpointState(
+                framework,
+                randomNumberGenerator,
+                new HashMap<>(typeDistributionSelectors),
+                scenarioTrafficLightRegistration,
+                nextUnitIndices
+        );
+        try {
+            Files.write(new File(directory, CHECKPOINT_STATE_FILE).toPath(), new SerializationUtils<CheckpointState>().toBytes(state));
+        } catch (IOException e) {
+            throw new InternalFederateException("Could not save mapping state", e);
+        }
+        log.info("Saved mapping state at {}", TIME.format(time));
+    }
+
+    /**
+     * Restores the spawning state of the checkpoint. Spawning continues with the time advance
+     * which has been requested at the time of the checkpoint.
+     */
+    @Override
+    public void restoreCheckpoint(long time, File directory) throws InternalFederateException {
+        final CheckpointState state;
+        try {
+            state = new SerializationUtils<CheckpointState>().fromBytes(
+                    Files.readAllBytes(new File(directory, CHECKPOINT_STATE_FILE).toPath())
+            );
+        } catch (IOException | ClassNotFoundException e) {
+            throw new InternalFederateException("Could not restore mapping state", e);
+        }
+        framework = state.framework();
+        randomNumberGenerator = state.randomNumberGenerator();
+        typeDistributionSelectors.clear();
+        typeDistributionSelectors.putAll(state.typeDistributionSelectors());
+        scenarioTrafficLightRegistration = state.scenarioTrafficLightRegistration();
+        state.nextUnitIndices().forEach(UnitNameGenerator::setNextUnitIndex);
+        restoredFromCheckpoint = true;
+        log.info("Restored mapping state at {}", TIME.format(time));
+    }
+
     @Nonnull
     @Override
     public FederateExecutor createFederateExecutor(String host, int port, OperatingSystem os) {
@@ -340,4 +412,17 @@ public class MappingAmbassador extends AbstractFederateAmbassador {
     public boolean isTimeRegulating() {
         return true;
     }
+
+    /**
+     * The state of the mapping which is stored in a checkpoint. All parts are written within
+     * one stream, so that the random number generator is shared by the restored objects again.
+     */
+    private record CheckpointState(
+            SpawningFramework framework,
+            RandomNumberGenerator randomNumberGenerator,
+            Map<String, WeightedSelector<CPrototype>> typeDistributionSelectors,
+            ScenarioTrafficLightRegistration scenarioTrafficLightRegistration,
+            Map<UnitType, Integer> nextUnitIndices
+    ) implements Serializable {
+    }
 }
@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.fed.mapping.ambassador;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Keeps all active {@link VehicleFlowGenerator}s ordered by the time they have to be called next, so that
+ * only the generators which are due need to be processed with a time advance, instead of polling all of them.
+ * Generators due at the same time are returned in the order they have been added to the calendar, thus vehicle
+ * names and random numbers are drawn in the same order as with a plain list of generators.
+ */
+class SpawnCalendar implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final PriorityQueue<Entry> queue = new PriorityQueue<>();
+
+    private int addedGenerators = 0;
+
+    /**
+     * Adds a new generator which is called for the first time at the given time.
+     */
+    void add(VehicleFlowGenerator generator, long time) {
+        queue.add(new Entry(time, addedGenerators++, generator));
+    }
+
+    /**
+     * Adds a generator returned by {@link #pollDue} again, which is called next at the given time.
+     */
+    void reschedule(Entry entry, long time) {
+        queue.add(new Entry(time, entry.order(), entry.generator()));
+    }
+
+    /**
+     * Removes and returns all generators which have to be called at or before the given time.
+     */
+    List<Entry> pollDue(long time) {
+        final List<Entry> due = new ArrayList<>();
+        while (!queue.isEmpty() && queue.peek().time() <= time) {
+            due.add(queue.poll());
+        }
+        return due;
+    }
+
+    /**
+     * @return the earliest time any generator has to be called, or {@code -1} if the calendar is empty
+     */
+    long getNextTime() {
+        return queue.isEmpty() ? -1 : queue.peek().time();
+    }
+
+    record Entry(long time, int order, VehicleFlowGenerator generator) implements Comparable<Entry>, Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public int compareTo(Entry other) {
+            final int result = Long.compare(time, other.time);
+            return result != 0 ? result : Integer.compare(order, other.order);
+        }
+    }
+}
@@ -53,6 +53,7 @@ import org.apache.commons.lang3.ObjectUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Iterator;
@@ -62,7 +63,9 @@ import java.util.Map;
 /**
  * Framework doing the actual work.
  */
-public class SpawningFramework {
+public class SpawningFramework implements Serializable {
+
+    private static final long serialVersionUID = 1L;
 
     private static final Logger LOG = LoggerFactory.getLogger(SpawningFramework.class);
 
@@ -85,9 +88,9 @@ public class SpawningFramework {
      */
     private long time = 0;
     /**
-     * The ambassador of the runtime infrastructure.
+     * The ambassador of the runtime infrastructure, which is not part of a checkpoint.
      */
-    private RtiAmbassador rti;
+    private transient RtiAmbassador rti;
     /**
      * Whether mapping already was initialized. We use it in timeAdvance method
      * for initializing static objects such as RSUs, TMCs and charging stations.
@@ -98,6 +101,18 @@ public class SpawningFramework {
      * (relevant for external scenarios).
      */
     private boolean trafficLightsInitialized = false;
+    /**
+     * Holds the vehicle flow generators which are still active, ordered by the time they spawn their next vehicle.
+     */
+    private final SpawnCalendar spawnCalendar = new SpawnCalendar();
+    /**
+     * Whether the vehicle flow generators have been added to the spawn calendar.
+     */
+    private boolean spawnCalendarInitialized = false;
+    /**
+     * The latest time advance requested on behalf of the vehicle flow generators, to avoid requesting the same time twice.
+     */
+    private long requestedSpawnTime = -1;
 
     /**
      * Constructor for {@link SpawningFramework}.
@@ -239,6 +254,13 @@ public class SpawningFramework {
         return rti;
     }
 
+    /**
+     * Sets the ambassador of the runtime infrastructure after this framework has been restored from a checkpoint.
+     */
+    void setRti(RtiAmbassador rti) {
+        this.rti = rti;
+    }
+
     void setScenarioTrafficLightRegistration(ScenarioTrafficLightRegistration trafficLightsRegistration) {
         this.scenarioTrafficLightRegistration = trafficLightsRegistration;
     }
@@ -495,13 +517,7 @@ public class SpawningFramework {
             trafficLightsInitialized = true;
         }
 
-        Iterator<VehicleFlowGenerator> vehicleFlowIt = vehicleFlowGenerators.iterator();
-        while (vehicleFlowIt.hasNext()) {
-            VehicleFlowGenerator vehicleFlowGenerator = vehicleFlowIt.next();
-            if (vehicleFlowGenerator.timeAdvance(this)) {
-                vehicleFlowIt.remove();
-            }
-        }
+        advanceVehicleFlowGenerators(time);
 
         Iterator<AgentSpawner> agentSpawnerIt = agentSpawners.iterator();
         while (agentSpawnerIt.hasNext()) {
@@ -512,6 +528,42 @@ public class SpawningFramework {
         }
     }
 
+    /**
+     * Calls only those vehicle flow generators which are due at the given time. Generators which are due again at the
+     * same time, e.g. in instant spawning mode, are called repeatedly, hence all vehicles of this time are registered
+     * within this time advance. Afterward, one time advance is requested for the earliest next spawn time of all generators.
+     */
+    private void advanceVehicleFlowGenerators(long time) throws InternalFederateException {
+        if (!spawnCalendarInitialized) {
+            // each generator is called with the first time advance to determine its first spawn time
+            vehicleFlowGenerators.forEach(generator -> spawnCalendar.add(generator, time));
+            spawnCalendarInitialized = true;
+        }
+
+        List<SpawnCalendar.Entry> dueGenerators = spawnCalendar.pollDue(time);
+        while (!dueGenerators.isEmpty()) {
+            for (SpawnCalendar.Entry entry : dueGenerators) {
+                long nextTime = entry.generator().timeAdvance(this);
+                // generators which have finished, or missed their spawn time, are dropped
+                if (nextTime >= time) {
+                    spawnCalendar.reschedule(entry, nextTime);
+                }
+            }
+            dueGenerators = spawnCalendar.pollDue(time);
+        }
+
+        long nextSpawnTime = spawnCalendar.getNextTime();
+        if (nextSpawnTime != -1 && nextSpawnTime != requestedSpawnTime) {
+            try {
+                rti.requestAdvanceTime(nextSpawnTime);
+                requestedSpawnTime = nextSpawnTime;
+            } catch (IllegalValueException e) {
+                LOG.error("Exception while requesting time advance in SpawningFramework.timeAdvance()", e);
+                throw new InternalFederateException("Exception while requesting time advance in SpawningFramework.timeAdvance()", e);
+            }
+        }
+    }
+
     private void initTrafficLights(long time, RtiAmbassador rti, RandomNumberGenerator rng) throws InternalFederateException {
         WeightedSelector<TrafficLightSpawner> selector = null;
         List<TrafficLightSpawner> itemsWithWeight = tls.values().stream().filter(tl -> tl.getWeight() != 0).toList();
@@ -52,6 +52,7 @@ import org.apache.commons.lang3.builder.ToStringStyle;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -60,7 +61,9 @@ import javax.annotation.Nonnull;
 /**
  * Class for traffic stream generation.
  */
-public class VehicleFlowGenerator {
+public class VehicleFlowGenerator implements Serializable {
+
+    private static final long serialVersionUID = 1L;
 
     private static final Logger LOG = LoggerFactory.getLogger(VehicleFlowGenerator.class);
 
@@ -330,44 +333,34 @@ public class VehicleFlowGenerator {
     }
 
     /**
-     * This contains the main logic of vehicle spawning.
+     * This contains the main logic of vehicle spawning. It is called by the {@link SpawningFramework} with its first
+     * time advance, and afterward only at the times returned by this method.
      *
      * @param framework the {@link SpawningFramework} handling the time advance
-     * @return true if there is no more vehicles to spawn or max time reached, thus the vehicle spawner can be removed
+     * @return the time this generator has to be called again, or {@code -1} if there is no more vehicles to spawn
+     *         or max time reached, thus the vehicle spawner can be removed
      * @throws InternalFederateException thrown if time advance couldn't be completed successfully
      */
-    boolean timeAdvance(SpawningFramework framework) throws InternalFederateException {
+    long timeAdvance(SpawningFramework framework) throws InternalFederateException {
         // to reduce load, first handle everything that might stop execution
         if (!spawningMode.isSpawningActive(framework.getTime())) {
-            return true;
+            return -1;
         }
         // if there are no more vehicles left to be spawned: destroy
         // note that numbers below zero will lead to the number being ignored
         if (maxNumberVehicles == 0) {
-            return true;
+            return -1;
         }
         // now determine if a vehicle has to be spawned
         if (nextSpawnTime == -1) { // init some variables before the first time advance
             nextSpawnTime = spawningMode.getNextSpawningTime(framework.getTime());
-            try {
-                framework.getRti().requestAdvanceTime(nextSpawnTime);
-            } catch (IllegalValueException e) {
-                LOG.error("Exception while requesting time advance in VehicleStreamGenerator.timeAdvance()", e);
-                throw new InternalFederateException("Exception while requesting time advance in VehicleStreamGenerator.timeAdvance()", e);
-            }
         }
         // check if we really need to spawn something right now
         if (nextSpawnTime != framework.getTime()) {
-            return false;
+            return nextSpawnTime;
         }
 
         nextSpawnTime = spawningMode.getNextSpawningTime(framework.getTime());
-        try {
-            framework.getRti().requestAdvanceTime(nextSpawnTime);
-        } catch (IllegalValueException e) {
-            LOG.error("Exception in VehicleStreamGenerator.timeAdvance()", e);
-            throw new InternalFederateException("Exception in VehicleStreamGenerator.timeAdvance()", e);
-        }
 
         // If maxNumberVehicles wasn't given in mapping, we assume that it should be an endless flow, so
         // we set it to Integer.MAX_VALUE and don't reduce the max number of vehicles in this case
@@ -384,7 +377,7 @@ public class VehicleFlowGenerator {
 
         createVehicle(framework, name, group, laneSelector.nextLane(type), type);
 
-        return false;
+        return nextSpawnTime;
     }
 
     private boolean notInTimeFrame(long time) {
@@ -21,6 +21,7 @@ import org.apache.commons.lang3.ObjectUtils;
 import org.apache.commons.lang3.builder.ToStringBuilder;
 import org.apache.commons.lang3.builder.ToStringStyle;
 
+import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -31,7 +32,10 @@ import java.util.Objects;
  * spawn units into a simulation (e.g {@link ChargingStationSpawner}, {@link RoadSideUnitSpawner}, etc.).
  * It offers basic functionality for the handling of applications on simulation units.
  */
-abstract class UnitSpawner {
+abstract class UnitSpawner implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
     /**
      * All applications defined for a unit.
      */
@@ -15,11 +15,13 @@
 
 package org.eclipse.mosaic.fed.mapping.ambassador.spawning.flow;
 
+import java.io.Serializable;
+
 /**
  * Interface to be implemented by all {@link SpawningMode}'s. Includes
  * all methods to supply necessary spawning functionality.
  */
-public interface SpawningMode {
+public interface SpawningMode extends Serializable {
 
     /**
      * Determines whether the spawning for the given simulation time is still active.
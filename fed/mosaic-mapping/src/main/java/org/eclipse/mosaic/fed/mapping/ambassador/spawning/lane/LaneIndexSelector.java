@@ -17,12 +17,14 @@ package org.eclipse.mosaic.fed.mapping.ambassador.spawning.lane;
 
 import org.eclipse.mosaic.fed.mapping.ambassador.spawning.VehicleTypeSpawner;
 
+import java.io.Serializable;
+
 /**
  * Interface defining all methods necessary to implement a {@link LaneIndexSelector}.
  * Implementations of this interface are supposed to supply an algorithm to decide, which
  * lane a vehicle should be spawned on.
  */
-public interface LaneIndexSelector {
+public interface LaneIndexSelector extends Serializable {
 
     /**
      * Supplies a lane index depending on the given {@link VehicleTypeSpawner}.
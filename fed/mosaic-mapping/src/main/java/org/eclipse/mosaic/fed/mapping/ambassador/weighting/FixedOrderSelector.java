@@ -17,6 +17,7 @@ package org.eclipse.mosaic.fed.mapping.ambassador.weighting;
 
 import org.apache.commons.lang3.Validate;
 
+import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
@@ -30,7 +31,10 @@ import java.util.List;
 public class FixedOrderSelector<T extends Weighted> implements WeightedSelector<T> {
     private List<Item<T>> items;
 
-    private static class Item<T extends Weighted> implements Weighted {
+    private static class Item<T extends Weighted> implements Weighted, Serializable {
+
+        private static final long serialVersionUID = 1L;
+
         // The actual object to be returned after selection
         private T object;
         // The probability of selecting this item
@@ -15,13 +15,15 @@
 
 package org.eclipse.mosaic.fed.mapping.ambassador.weighting;
 
+import java.io.Serializable;
+
 /**
  * Interface for all {@link WeightedSelector}'s. Classes implementing this interface allow the random and pseudo-random
  * selection of multiple objects. The distribution can be defined by weights.
  *
  * @param <T> The type of the object to be returned
  */
-public interface WeightedSelector<T extends Weighted> {
+public interface WeightedSelector<T extends Weighted> extends Serializable {
 
     /**
      * Request the next item.
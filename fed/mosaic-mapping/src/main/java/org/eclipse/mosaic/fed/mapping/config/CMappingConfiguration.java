@@ -20,10 +20,14 @@ import org.eclipse.mosaic.lib.util.gson.TimeFieldAdapter;
 
 import com.google.gson.annotations.JsonAdapter;
 
+import java.io.Serializable;
+
 /**
  * Class that contains options for the parametrization of the Mapping.
  */
-public class CMappingConfiguration {
+public class CMappingConfiguration implements Serializable {
+
+    private static final long serialVersionUID = 1L;
 
     /**
      * Scales the traffic by the given factor. E.g. 2.0 would
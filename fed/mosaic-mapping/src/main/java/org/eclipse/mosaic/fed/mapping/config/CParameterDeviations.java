@@ -18,7 +18,11 @@ package org.eclipse.mosaic.fed.mapping.config;
 import org.apache.commons.lang3.builder.EqualsBuilder;
 import org.apache.commons.lang3.builder.HashCodeBuilder;
 
-public class CParameterDeviations {
+import java.io.Serializable;
+
+public class CParameterDeviations implements Serializable {
+
+    private static final long serialVersionUID = 1L;
 
     public Double length;
     public Double width;
@@ -23,6 +23,7 @@ import org.eclipse.mosaic.lib.util.gson.UnitFieldAdapter;
 
 import com.google.gson.annotations.JsonAdapter;
 
+import java.io.Serializable;
 import java.util.List;
 
 /**
@@ -32,7 +33,9 @@ import java.util.List;
  * <p/>
  * If these values are not defined some default values might be applied depending on prototype type.
  */
-public class CPrototype implements Weighted {
+public class CPrototype implements Weighted, Serializable {
+
+    private static final long serialVersionUID = 1L;
 
     /**
      * The name of this prototype. This identifier is used to match it against
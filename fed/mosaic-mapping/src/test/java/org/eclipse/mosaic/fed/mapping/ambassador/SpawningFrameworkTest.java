@@ -180,6 +180,46 @@ public class SpawningFrameworkTest {
         verify(rti, times(7)).triggerInteraction(isA(VehicleRegistration.class));
     }
 
+    @Test
+    public void vehicleFlows_sameSpawnTimes_oneTimeAdvanceRequestPerSpawnTime() throws IllegalValueException, InternalFederateException {
+        //SETUP
+        CMappingAmbassador framework = new CMappingAmbassador();
+        framework.prototypes = Lists.newArrayList(newPrototype("prototype"));
+        framework.vehicles = Lists.newArrayList(newSpawner("prototype"), newSpawner("prototype"));
+
+        //RUN
+        SpawningFramework spawningFramework = new SpawningFramework(framework, null, rti, rng);
+        spawningFramework.timeAdvance(0, rti, rng);
+        spawningFramework.timeAdvance(TIME.SECOND, rti, rng);
+        spawningFramework.timeAdvance(3 * TIME.SECOND, rti, rng);
+
+        //ASSERT
+        verify(rti, times(4)).triggerInteraction(isA(VehicleRegistration.class));
+        verify(rti, times(1)).requestAdvanceTime(3 * TIME.SECOND);
+        verify(rti, times(1)).requestAdvanceTime(6 * TIME.SECOND);
+        verify(rti, times(2)).requestAdvanceTime(isA(Long.class));
+    }
+
+    @Test
+    public void vehicleFlow_instantSpawningMode_allVehiclesWithinOneTimeAdvance() throws IllegalValueException, InternalFederateException {
+        //SETUP
+        CVehicle spawner = newSpawner("prototype");
+        spawner.spawningMode = CVehicle.SpawningMode.INSTANT;
+        spawner.maxNumberVehicles = 3;
+
+        CMappingAmbassador framework = new CMappingAmbassador();
+        framework.prototypes = Lists.newArrayList(newPrototype("prototype"));
+        framework.vehicles = Lists.newArrayList(spawner);
+
+        //RUN
+        SpawningFramework spawningFramework = new SpawningFramework(framework, null, rti, rng);
+        spawningFramework.timeAdvance(0, rti, rng);
+
+        //ASSERT
+        verify(rti, times(3)).triggerInteraction(isA(VehicleRegistration.class));
+        verify(rti, never()).requestAdvanceTime(isA(Long.class));
+    }
+
     private CTrafficManagementCenter newTmc(String prototype) {
         CTrafficManagementCenter trafficManagementCenterConfiguration = new CTrafficManagementCenter();
         trafficManagementCenterConfiguration.name = prototype;
@@ -23,8 +23,13 @@ import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.lang.reflect.InvocationTargetException;
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
@@ -71,6 +76,8 @@ public class AbstractOutputGenerator {
 
     protected final static Logger log = LoggerFactory.getLogger(AbstractOutputGenerator.class);
 
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
     private final Map<String, Consumer<Interaction>> interactionRegistry = new HashMap<>();
 
     protected AbstractOutputGenerator() {
@@ -117,16 +124,70 @@ public class AbstractOutputGenerator {
                 }
             }
 
+            final Consumer<Interaction> handleMethod;
+            try {
+                handleMethod = compileHandleMethod(m);
+            } catch (Throwable e) {
+                log.warn("Could not access handle method '{}'", m.getName(), e);
+                continue;
+            }
             registerInteractionForOutputGeneration(annotatedTypeId, (Interaction interaction) -> {
                 try {
-                    m.invoke(AbstractOutputGenerator.this, interaction);
-                } catch (IllegalAccessException | InvocationTargetException e) {
-                    log.warn("Could not invoke handle method for method " + interaction.getTypeId(), e.getCause());
+                    handleMethod.accept(interaction);
+                } catch (Exception e) {
+                    log.warn("Could not invoke handle method for method " + interaction.getTypeId(), e);
                 }
             });
         }
     }
 
+    /**
+     * Binds the given handle method to this output generator once, so that interactions can be passed
+     * to it without reflection. If possible, the method is linked via {@link LambdaMetafactory}, otherwise
+     * (e.g. if the output generator is not a public class) a bound {@link MethodHandle} is used.
+     */
+    private Consumer<Interaction> compileHandleMethod(Method m) throws Throwable {
+        MethodHandle handle;
+        try {
+            handle = LOOKUP.unreflect(m);
+        } catch (IllegalAccessException e) {
+            m.setAccessible(true);
+            handle = LOOKUP.unreflect(m);
+        }
+
+        final Class<?> declaringClass = m.getDeclaringClass();
+        if (Modifier.isPublic(declaringClass.getModifiers()) && Modifier.isPublic(m.getModifiers())
+                && declaringClass.getClassLoader() == AbstractOutputGenerator.class.getClassLoader()) {
+            try {
+                final CallSite callSite = LambdaMetafactory.metafactory(LOOKUP, "accept",
+                        MethodType.methodType(Consumer.class, declaringClass),
+                        MethodType.methodType(void.class, Object.class),
+                        handle,
+                        MethodType.methodType(void.class, m.getParameterTypes()[0])
+                );
+                return castConsumer(callSite.getTarget().invoke(this));
+            } catch (Throwable e) {
+                log.debug("Could not link handle method '{}', falling back to method handle", m.getName(), e);
+            }
+        }
+
+        final MethodHandle boundHandle = handle.bindTo(this).asType(MethodType.methodType(void.class, Interaction.class));
+        return interaction -> {
+            try {
+                boundHandle.invokeExact(interaction);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IllegalStateException(e);
+            }
+        };
+    }
+
+    @java.lang.SuppressWarnings("unchecked")
+    private static Consumer<Interaction> castConsumer(Object consumer) {
+        return (Consumer<Interaction>) consumer;
+    }
+
     public void finish() {
         //nop
     }
@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.fed.output.ambassador;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A bounded, lock-free queue for exactly one producer thread and one consumer thread. Elements
+ * are stored in an array ring, producer and consumer only synchronize via their respective positions.
+ *
+ * @param <E> the type of the elements
+ */
+final class BoundedSpscQueue<E> {
+
+    private final Object[] elements;
+    private final int mask;
+
+    /**
+     * Position of the next element to poll, only written by the consumer.
+     */
+    private final AtomicLong head = new AtomicLong();
+
+    /**
+     * Position of the next element to offer, only written by the producer.
+     */
+    private final AtomicLong tail = new AtomicLong();
+
+    /**
+     * Creates a new queue.
+     *
+     * @param capacity the minimum capacity of the queue, will be rounded up to the next power of two
+     */
+    BoundedSpscQueue(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive, but was " + capacity);
+        }
+        int actualCapacity = Integer.highestOneBit(capacity);
+        if (actualCapacity < capacity) {
+            actualCapacity <<= 1;
+        }
+        this.elements = new Object[actualCapacity];
+        this.mask = actualCapacity - 1;
+    }
+
+    int capacity() {
+        return elements.length;
+    }
+
+    /**
+     * Adds the element to the queue, if there is space left. Must only be called by the producer.
+     *
+     * @param element the element to add
+     * @return {@code false}, if the queue is full
+     */
+    boolean offer(E element) {
+        final long currentTail = tail.get();
+        if (currentTail - head.get() >= elements.length) {
+            return false;
+        }
+        elements[(int) (currentTail & mask)] = element;
+        tail.lazySet(currentTail + 1);
+        return true;
+    }
+
+    /**
+     * Removes the oldest element from the queue. Must only be called by the consumer.
+     *
+     * @return the oldest element, or {@code null} if the queue is empty
+     */
+    @SuppressWarnings("unchecked")
+    E poll() {
+        final long currentHead = head.get();
+        if (currentHead >= tail.get()) {
+            return null;
+        }
+        final int index = (int) (currentHead & mask);
+        final E element = (E) elements[index];
+        elements[index] = null;
+        head.lazySet(currentHead + 1);
+        return element;
+    }
+
+    boolean isEmpty() {
+        return head.get() >= tail.get();
+    }
+
+    int size() {
+        return (int) (tail.get() - head.get());
+    }
+}
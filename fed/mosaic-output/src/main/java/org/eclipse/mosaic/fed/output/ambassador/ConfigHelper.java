@@ -34,6 +34,9 @@ public class ConfigHelper {
     private static final int DEFAULT_UPDATE_INTERVAL = 1;
     private static final int DEFAULT_HANDLE_START_TIME = 0;
     private static final int DEFAULT_HANDLE_END_TIME = Integer.MAX_VALUE;
+    private static final int DEFAULT_QUEUE_SIZE = 8192;
+    private static final String BACKPRESSURE_BLOCK = "block";
+    private static final String BACKPRESSURE_DROP = "drop";
 
     /**
      * Load attribute "id" from the given configuration.
@@ -125,6 +128,51 @@ public class ConfigHelper {
         return getStart ? handleStartTime : handleEndTime;
     }
 
+    /**
+     * Load attribute "async". If not given, return false by default.
+     *
+     * @param config configuration
+     * @return true, if the output generator should handle interactions in its own thread
+     */
+    public static boolean isAsynchronous(HierarchicalConfiguration<?> config) {
+        return config.getBoolean("[@async]", false);
+    }
+
+    /**
+     * Load attribute "queueSize", which defines the number of interactions which can be queued for an
+     * asynchronous output generator. If not given, return default value of 8192.
+     *
+     * @param config configuration
+     * @return the capacity of the queue
+     * @throws Exception If less than or equal to 0
+     */
+    public static int getQueueCapacity(HierarchicalConfiguration<?> config) throws Exception {
+        int queueSize = config.getInt("[@queueSize]", DEFAULT_QUEUE_SIZE);
+        if (queueSize <= 0) {
+            throw new Exception("The value for queue size must be positive.");
+        }
+        return queueSize;
+    }
+
+    /**
+     * Load attribute "backpressure", which is either "block" (default) or "drop". With "drop", interactions are
+     * discarded if the queue of an asynchronous output generator is full, instead of waiting for free space.
+     *
+     * @param config configuration
+     * @return true, if interactions should be dropped on a full queue
+     * @throws Exception If the value is neither "block" nor "drop"
+     */
+    public static boolean isDropOnFullQueue(HierarchicalConfiguration<?> config) throws Exception {
+        String backpressure = config.getString("[@backpressure]", BACKPRESSURE_BLOCK);
+        if (BACKPRESSURE_DROP.equalsIgnoreCase(backpressure)) {
+            return true;
+        }
+        if (BACKPRESSURE_BLOCK.equalsIgnoreCase(backpressure)) {
+            return false;
+        }
+        throw new Exception("Unknown backpressure '" + backpressure + "', expected 'block' or 'drop'.");
+    }
+
     public static String getConfigLoader(HierarchicalConfiguration<?> config) {
         String configLoader = config.getString("[@loader]");
         Validate.isTrue(StringUtils.isNotBlank(configLoader), "Mandatory attribute 'loader' not given.");
@@ -34,7 +34,7 @@ class GeneratorInformation {
     private int updateUnitCount;
     private final long handleStartTime;
     private final long handleEndTime;
-
+    private final OutputGeneratorWorker worker;
 
     GeneratorInformation(OutputGeneratorLoader config, AbstractOutputGenerator generator, int globalUpdateIntervalInSeconds) {
         this.id = config.getId();
@@ -46,6 +46,9 @@ class GeneratorInformation {
 
         this.handleStartTime = config.getHandleStartTime();
         this.handleEndTime = config.getHandleEndTime();
+        this.worker = config.isAsynchronous()
+                ? new OutputGeneratorWorker(id, generator, config.getQueueCapacity(), config.isDropOnFullQueue())
+                : null;
         reloadUpdateUnitCount();
     }
 
@@ -65,6 +68,10 @@ class GeneratorInformation {
         return generator;
     }
 
+    long getDroppedInteractions() {
+        return worker != null ? worker.getDroppedInteractions() : 0;
+    }
+
     int decrementUpdateUnitCount() {
         if (updateUnitCount > 0) {
             return --updateUnitCount;
@@ -113,7 +120,31 @@ class GeneratorInformation {
     }
 
     void processNextInteraction() {
-        generator.handleInteraction(interactionQueue.poll());
+        handleInteraction(interactionQueue.poll());
+    }
+
+    /**
+     * Passes the interaction to the output generator, either directly or, if configured
+     * as asynchronous, via the queue of the generator's worker thread.
+     *
+     * @param interaction the interaction to handle
+     */
+    void handleInteraction(Interaction interaction) {
+        if (worker != null) {
+            worker.submit(interaction);
+        } else {
+            generator.handleInteraction(interaction);
+        }
+    }
+
+    /**
+     * Waits until all interactions passed to an asynchronous output generator are handled, and finishes the generator afterwards.
+     */
+    void finish() {
+        if (worker != null) {
+            worker.finish();
+        }
+        generator.finish();
     }
 
     boolean hasNextInteraction() {
@@ -15,6 +15,8 @@
 
 package org.eclipse.mosaic.fed.output.ambassador;
 
+import org.eclipse.mosaic.interactions.communication.V2xMessageBatchReception;
+import org.eclipse.mosaic.interactions.communication.V2xMessageReception;
 import org.eclipse.mosaic.lib.math.MathUtils;
 import org.eclipse.mosaic.lib.util.XmlUtils;
 import org.eclipse.mosaic.rti.TIME;
@@ -193,6 +195,25 @@ public class OutputAmbassador extends AbstractFederateAmbassador {
 
     @Override
     public void processInteraction(Interaction interaction) {
+        distributeInteraction(interaction);
+        if (interaction instanceof V2xMessageBatchReception batchReception && isInteractionTypeRelevant(V2xMessageReception.TYPE_ID)) {
+            // generators which are not aware of batched receptions get the individual receptions instead
+            for (V2xMessageReception reception : batchReception.toReceptions()) {
+                distributeInteraction(reception);
+            }
+        }
+    }
+
+    private boolean isInteractionTypeRelevant(String type) {
+        for (GeneratorInformation generator : this.generators.values()) {
+            if (generator.isInteractionTypeRelevant(type)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void distributeInteraction(Interaction interaction) {
         String type = interaction.getTypeId();
         long interactionTime = interaction.getTime();
         log.trace("Process interaction with type '{}' at time: {}", type, interactionTime);
@@ -204,7 +225,7 @@ public class OutputAmbassador extends AbstractFederateAmbassador {
             if (generator.isInteractionRelevant(type, interactionTime)) {
                 if (generator.getUpdateUnitCount() == 0) {
                     //handle interaction immediately if no update interval is set
-                    generator.getGenerator().handleInteraction(interaction);
+                    generator.handleInteraction(interaction);
                 } else {
                     generator.addInteraction(interaction);
 
@@ -222,7 +243,10 @@ public class OutputAmbassador extends AbstractFederateAmbassador {
 
             for (GeneratorInformation generator : this.generators.values()) {
                 flushInteractionsForOutputGenerator(generator);
-                generator.getGenerator().finish();
+            }
+            // finish generators only after all of them have been flushed, so that asynchronous generators drain in parallel
+            for (GeneratorInformation generator : this.generators.values()) {
+                generator.finish();
             }
         } catch (Exception e) {
             throw new InternalFederateException(e);
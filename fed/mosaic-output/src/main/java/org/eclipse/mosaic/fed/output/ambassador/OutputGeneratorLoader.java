@@ -37,6 +37,9 @@ public abstract class OutputGeneratorLoader {
     private long handleStartTime;
     private long handleEndTime;
     private Collection<String> interactionTypes;
+    private boolean asynchronous;
+    private int queueCapacity;
+    private boolean dropOnFullQueue;
     private File configurationDirectory;
 
     /**
@@ -93,6 +96,34 @@ public abstract class OutputGeneratorLoader {
         return interactionTypes;
     }
 
+    /**
+     * Returns whether the output generator handles interactions in its own thread.
+     *
+     * @return true, if the output generator runs asynchronously
+     */
+    public boolean isAsynchronous() {
+        return asynchronous;
+    }
+
+    /**
+     * Returns the maximum number of interactions queued for an asynchronous output generator.
+     *
+     * @return capacity of the queue
+     */
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    /**
+     * Returns whether interactions are dropped if the queue of an asynchronous output generator is full.
+     * Otherwise, the simulation waits until the output generator has caught up.
+     *
+     * @return true, if interactions are dropped on a full queue
+     */
+    public boolean isDropOnFullQueue() {
+        return dropOnFullQueue;
+    }
+
     /**
      * Returns the path to the directory of the output generator.
      *
@@ -116,6 +147,9 @@ public abstract class OutputGeneratorLoader {
         this.handleStartTime = ConfigHelper.getHandleStartTime(config);
         this.handleEndTime = ConfigHelper.getHandleEndTime(config);
         this.interactionTypes = ConfigHelper.getSubscriptions(config);
+        this.asynchronous = ConfigHelper.isAsynchronous(config);
+        this.queueCapacity = ConfigHelper.getQueueCapacity(config);
+        this.dropOnFullQueue = ConfigHelper.isDropOnFullQueue(config);
         this.configurationDirectory = configurationDirectory;
 
         configure(config);
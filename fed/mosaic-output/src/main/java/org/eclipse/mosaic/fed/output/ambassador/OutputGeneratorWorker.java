@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.fed.output.ambassador;
+
+import org.eclipse.mosaic.rti.api.Interaction;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Passes interactions to an {@link AbstractOutputGenerator} on a dedicated consumer thread, so that formatting
+ * and writing of output does not block the simulation. Interactions are handed over via a {@link BoundedSpscQueue}.
+ * If the queue is full, the submitting thread either waits until the consumer has caught up, or drops the
+ * interaction and counts it, depending on the configured backpressure.
+ */
+class OutputGeneratorWorker {
+
+    private final static Logger log = LoggerFactory.getLogger(OutputGeneratorWorker.class);
+
+    private static final long PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+
+    private final String id;
+    private final AbstractOutputGenerator generator;
+    private final BoundedSpscQueue<Interaction> queue;
+    private final boolean dropOnFullQueue;
+    private final Thread thread;
+
+    private volatile boolean finishing = false;
+    private volatile boolean consumerWaiting = false;
+    private volatile Throwable failure = null;
+
+    /**
+     * Number of interactions dropped due to a full queue, only modified by the submitting thread.
+     */
+    private long droppedInteractions = 0;
+
+    private long submittedInteractions = 0;
+
+    OutputGeneratorWorker(String id, AbstractOutputGenerator generator, int queueCapacity, boolean dropOnFullQueue) {
+        this.id = id;
+        this.generator = generator;
+        this.queue = new BoundedSpscQueue<>(queueCapacity);
+        this.dropOnFullQueue = dropOnFullQueue;
+        this.thread = new Thread(this::consume, "OutputGenerator-" + id);
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    /**
+     * Submits an interaction to be handled by the output generator.
+     *
+     * @param interaction the interaction to handle
+     */
+    void submit(Interaction interaction) {
+        checkFailure();
+        if (!queue.offer(interaction)) {
+            if (dropOnFullQueue) {
+                droppedInteractions++;
+                return;
+            }
+            while (!queue.offer(interaction)) {
+                wakeUpConsumer();
+                checkFailure();
+                LockSupport.parkNanos(PARK_NANOS);
+            }
+        }
+        submittedInteractions++;
+        if (consumerWaiting) {
+            wakeUpConsumer();
+        }
+    }
+
+    /**
+     * Waits until all submitted interactions have been handled and stops the consumer thread.
+     */
+    void finish() {
+        finishing = true;
+        wakeUpConsumer();
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while waiting for output generator " + id, e);
+        }
+        checkFailure();
+        if (droppedInteractions > 0) {
+            log.warn("Output generator '{}' dropped {} of {} interactions due to a full queue (capacity={}).",
+                    id, droppedInteractions, droppedInteractions + submittedInteractions, queue.capacity());
+        }
+    }
+
+    long getDroppedInteractions() {
+        return droppedInteractions;
+    }
+
+    private void consume() {
+        try {
+            while (true) {
+                final Interaction interaction = queue.poll();
+                if (interaction != null) {
+                    generator.handleInteraction(interaction);
+                    continue;
+                }
+                if (finishing && queue.isEmpty()) {
+                    return;
+                }
+                consumerWaiting = true;
+                if (queue.isEmpty() && !finishing) {
+                    LockSupport.parkNanos(this, PARK_NANOS * 10);
+                }
+                consumerWaiting = false;
+            }
+        } catch (Throwable e) {
+            log.error("Output generator '{}' failed to handle interaction", id, e);
+            failure = e;
+        }
+    }
+
+    private void wakeUpConsumer() {
+        LockSupport.unpark(thread);
+    }
+
+    private void checkFailure() {
+        if (failure != null) {
+            throw new RuntimeException("Could not handle interactions: " + failure.getMessage(), failure);
+        }
+    }
+}
@@ -0,0 +1,192 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.fed.output.generator.columnar;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Definition of the chunked, columnar binary format written by the {@link ColumnarOutput}. All multi-byte
+ * values are stored in big-endian byte order, strings are stored in modified UTF-8 (see {@link DataOutput#writeUTF}).
+ * <br/><br/>
+ * A file starts with the magic bytes {@code "MCOL"} and the format version (int). A sequence of chunks follows,
+ * each starting with one byte specifying the type of the chunk:
+ * <ul>
+ *     <li>{@code SCHEMA (1)}: table id (byte), table name (UTF), number of columns (var-int), and for each
+ *     column its name (UTF) and {@link ColumnType} (byte). Written once per table before its first row group.</li>
+ *     <li>{@code DICTIONARY (2)}: index of first entry (var-int), number of entries (var-int), and the entries (UTF).
+ *     Ids of units and other recurring strings are stored only once in the dictionary, which grows incrementally.
+ *     All entries referenced by a row group are written before the row group.</li>
+ *     <li>{@code ROW_GROUP (3)}: table id (byte), number of rows (var-int), and for each column the length in bytes
+ *     (var-int) followed by the encoded values of the column. The length allows readers to skip columns.</li>
+ *     <li>{@code END (0)}: marks the end of the file.</li>
+ * </ul>
+ * Var-ints are unsigned LEB128 encoded, signed values are zig-zag encoded beforehand. Values of a column are encoded
+ * according to its {@link ColumnType}. Delta encoding is restarted in each row group, so that each row group can be
+ * decoded independently.
+ */
+public final class ColumnarFormat {
+
+    static final byte[] MAGIC = {'M', 'C', 'O', 'L'};
+
+    static final int VERSION = 1;
+
+    static final byte CHUNK_END = 0;
+    static final byte CHUNK_SCHEMA = 1;
+    static final byte CHUNK_DICTIONARY = 2;
+    static final byte CHUNK_ROW_GROUP = 3;
+
+    /**
+     * Resolution of coordinates in degrees, which is about 1 cm at the equator.
+     */
+    static final double COORDINATE_RESOLUTION = 1e-7;
+
+    private ColumnarFormat() {
+        // static definitions only
+    }
+
+    /**
+     * The encodings of the values of a column.
+     */
+    public enum ColumnType {
+        /**
+         * Simulation time in nanoseconds, stored as signed var-int of the difference to the previous row.
+         */
+        TIMESTAMP,
+        /**
+         * Index of an entry in the dictionary as signed var-int, {@code -1} represents a missing value.
+         */
+        DICTIONARY,
+        /**
+         * Integer number as signed var-int.
+         */
+        INTEGER,
+        /**
+         * Floating-point number with single precision (4 bytes), {@code NaN} represents a missing value.
+         */
+        FLOAT,
+        /**
+         * Latitude or longitude, quantized to {@link #COORDINATE_RESOLUTION}. The difference to the previous
+         * present value is zig-zag encoded, shifted left by one bit, and the lowest bit set. A missing value is stored as {@code 0}.
+         */
+        COORDINATE,
+        /**
+         * A single byte, e.g. for enumerations.
+         */
+        BYTE
+    }
+
+    public record Column(String name, ColumnType type) {
+    }
+
+    /**
+     * The tables which are written by the {@link ColumnarOutput}.
+     */
+    public enum Table {
+        VEHICLE_UPDATES(1,
+                new Column("time", ColumnType.TIMESTAMP),
+                new Column("vehicle", ColumnType.DICTIONARY),
+                new Column("state", ColumnType.BYTE),
+                new Column("latitude", ColumnType.COORDINATE),
+                new Column("longitude", ColumnType.COORDINATE),
+                new Column("speed", ColumnType.FLOAT),
+                new Column("heading", ColumnType.FLOAT),
+                new Column("distanceDriven", ColumnType.FLOAT)
+        ),
+        V2X_MESSAGE_TRANSMISSIONS(2,
+                new Column("time", ColumnType.TIMESTAMP),
+                new Column("messageId", ColumnType.INTEGER),
+                new Column("source", ColumnType.DICTIONARY),
+                new Column("messageType", ColumnType.DICTIONARY),
+                new Column("length", ColumnType.INTEGER)
+        ),
+        V2X_MESSAGE_RECEPTIONS(3,
+                new Column("time", ColumnType.TIMESTAMP),
+                new Column("messageId", ColumnType.INTEGER),
+                new Column("receiver", ColumnType.DICTIONARY),
+                new Column("signalStrength", ColumnType.FLOAT)
+        ),
+        INDUCTION_LOOPS(4,
+                new Column("time", ColumnType.TIMESTAMP),
+                new Column("detector", ColumnType.DICTIONARY),
+                new Column("vehicleCount", ColumnType.INTEGER),
+                new Column("meanSpeed", ColumnType.FLOAT),
+                new Column("meanVehicleLength", ColumnType.FLOAT),
+                new Column("trafficFlow", ColumnType.FLOAT)
+        ),
+        LANE_AREA_DETECTORS(5,
+                new Column("time", ColumnType.TIMESTAMP),
+                new Column("detector", ColumnType.DICTIONARY),
+                new Column("vehicleCount", ColumnType.INTEGER),
+                new Column("haltingVehicles", ColumnType.INTEGER),
+                new Column("meanSpeed", ColumnType.FLOAT),
+                new Column("trafficDensity", ColumnType.FLOAT)
+        );
+
+        /**
+         * Values of the "state" column of {@link #VEHICLE_UPDATES}.
+         */
+        public static final byte VEHICLE_ADDED = 0;
+        public static final byte VEHICLE_UPDATED = 1;
+        public static final byte VEHICLE_REMOVED = 2;
+
+        private final byte id;
+        private final List<Column> columns;
+
+        Table(int id, Column... columns) {
+            this.id = (byte) id;
+            this.columns = List.of(columns);
+        }
+
+        public byte getId() {
+            return id;
+        }
+
+        public List<Column> getColumns() {
+            return columns;
+        }
+    }
+
+    static void writeVarLong(DataOutput out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    static long readVarLong(DataInput in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            final byte b = in.readByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed var-int");
+    }
+
+    static long encodeZigZag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    static long decodeZigZag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.fed.output.generator.columnar;
+
+import org.eclipse.mosaic.fed.output.ambassador.AbstractOutputGenerator;
+import org.eclipse.mosaic.fed.output.ambassador.Handle;
+import org.eclipse.mosaic.fed.output.generator.columnar.ColumnarFormat.Table;
+import org.eclipse.mosaic.interactions.communication.V2xMessageReception;
+import org.eclipse.mosaic.interactions.communication.V2xMessageTransmission;
+import org.eclipse.mosaic.interactions.traffic.TrafficDetectorUpdates;
+import org.eclipse.mosaic.interactions.traffic.VehicleUpdates;
+import org.eclipse.mosaic.lib.geo.GeoPoint;
+import org.eclipse.mosaic.lib.objects.traffic.InductionLoopInfo;
+import org.eclipse.mosaic.lib.objects.traffic.LaneAreaDetectorInfo;
+import org.eclipse.mosaic.lib.objects.v2x.GenericV2xMessage;
+import org.eclipse.mosaic.lib.objects.v2x.V2xMessage;
+import org.eclipse.mosaic.lib.objects.vehicle.VehicleData;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Writes vehicle movements, V2X messages, and detector values into a compact, columnar
+ * binary file (see {@link ColumnarFormat}), which can be read with the {@link ColumnarReader}.
+ */
+public class ColumnarOutput extends AbstractOutputGenerator {
+
+    private final static Logger log = LoggerFactory.getLogger(ColumnarOutput.class);
+
+    private final ColumnarWriter writer;
+
+    public ColumnarOutput(ColumnarWriter writer) {
+        this.writer = writer;
+    }
+
+    @Handle
+    public void visualizeInteraction(VehicleUpdates interaction) {
+        try {
+            final ColumnarTable table = writer.getTable(Table.VEHICLE_UPDATES);
+            writeVehicles(table, interaction.getTime(), interaction.getAdded(), Table.VEHICLE_ADDED);
+            writeVehicles(table, interaction.getTime(), interaction.getUpdated(), Table.VEHICLE_UPDATED);
+            if (interaction.getRemovedNames() != null) {
+                for (String removed : interaction.getRemovedNames()) {
+                    table.time(interaction.getTime()).id(removed).flag(Table.VEHICLE_REMOVED)
+                            .coordinate(Double.NaN).coordinate(Double.NaN)
+                            .decimal(Double.NaN).decimal(Double.NaN).decimal(Double.NaN)
+                            .endRow();
+                }
+            }
+        } catch (IOException e) {
+            log.error("Could not write vehicle updates", e);
+        }
+    }
+
+    private void writeVehicles(ColumnarTable table, long time, List<VehicleData> vehicles, byte state) throws IOException {
+        if (vehicles == null) {
+            return;
+        }
+        for (VehicleData vehicle : vehicles) {
+            final GeoPoint position = vehicle.getPosition();
+            table.time(time).id(vehicle.getName()).flag(state)
+                    .coordinate(position != null ? position.getLatitude() : Double.NaN)
+                    .coordinate(position != null ? position.getLongitude() : Double.NaN)
+                    .decimal(vehicle.getSpeed())
+                    .decimal(vehicle.getHeading())
+                    .decimal(vehicle.getDistanceDriven())
+                    .endRow();
+        }
+    }
+
+    @Handle
+    public void visualizeInteraction(V2xMessageTransmission interaction) {
+        try {
+            final V2xMessage message = interaction.getMessage();
+            writer.getTable(Table.V2X_MESSAGE_TRANSMISSIONS)
+                    .time(interaction.getTime())
+                    .integer(interaction.getMessageId())
+                    .id(interaction.getSourceName())
+                    .id(message instanceof GenericV2xMessage genericV2xMessage
+                            ? genericV2xMessage.getMessageType()
+                            : message.getSimpleClassName())
+                    .integer(message.getPayload() != null ? message.getPayload().getEffectiveLength() : 0)
+                    .endRow();
+        } catch (IOException e) {
+            log.error("Could not write V2X message transmission", e);
+        }
+    }
+
+    @Handle
+    public void visualizeInteraction(V2xMessageReception interaction) {
+        try {
+            writer.getTable(Table.V2X_MESSAGE_RECEPTIONS)
+                    .time(interaction.getTime())
+                    .integer(interaction.getMessageId())
+                    .id(interaction.getReceiverName())
+                    .decimal(interaction.getReceiverInformation() != null
+                            ? interaction.getReceiverInformation().getReceiveSignalStrength()
+                            : Double.NaN)
+                    .endRow();
+        } catch (IOException e) {
+            log.error("Could not write V2X message reception", e);
+        }
+    }
+
+    @Handle
+    public void visualizeInteraction(TrafficDetectorUpdates interaction) {
+        try {
+            if (interaction.getUpdatedInductionLoops() != null) {
+                final ColumnarTable table = writer.getTable(Table.INDUCTION_LOOPS);
+                for (InductionLoopInfo inductionLoop : interaction.getUpdatedInductionLoops()) {
+                    table.time(interaction.getTime())
+                            .id(inductionLoop.getName())
+                            .integer(inductionLoop.getVehicleCount())
+                            .decimal(inductionLoop.getMeanSpeed())
+                            .decimal(inductionLoop.getMeanVehicleLength())
+                            .decimal(inductionLoop.getTrafficFlow())
+                            .endRow();
+                }
+            }
+            if (interaction.getUpdatedLaneAreaDetectors() != null) {
+                final ColumnarTable table = writer.getTable(Table.LANE_AREA_DETECTORS);
+                for (LaneAreaDetectorInfo laneAreaDetector : interaction.getUpdatedLaneAreaDetectors()) {
+                    table.time(interaction.getTime())
+                            .id(laneAreaDetector.getName())
+                            .integer(laneAreaDetector.getVehicleCount())
+                            .integer(laneAreaDetector.getHaltingVehicles())
+                            .decimal(laneAreaDetector.getMeanSpeed())
+                            .decimal(laneAreaDetector.getTrafficDensity())
+                            .endRow();
+                }
+            }
+        } catch (IOException e) {
+            log.error("Could not write traffic detector updates", e);
+        }
+    }
+
+    @Override
+    public void finish() {
+        try {
+            writer.close();
+        } catch (IOException e) {
+            log.error("Could not close columnar output", e);
+        }
+    }
+}
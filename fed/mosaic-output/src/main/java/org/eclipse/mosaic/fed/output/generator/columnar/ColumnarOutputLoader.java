@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.fed.output.generator.columnar;
+
+import org.eclipse.mosaic.fed.output.ambassador.AbstractOutputGenerator;
+import org.eclipse.mosaic.fed.output.ambassador.OutputGeneratorLoader;
+
+import org.apache.commons.configuration2.HierarchicalConfiguration;
+import org.apache.commons.configuration2.tree.ImmutableNode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.FileOutputStream;
+
+/**
+ * Loads the {@link ColumnarOutput} generator. The file name, directory, and row group size are configured
+ * within the {@code <columnar>} element of the output configuration.
+ */
+public class ColumnarOutputLoader extends OutputGeneratorLoader {
+
+    private static final Logger log = LoggerFactory.getLogger(ColumnarOutputLoader.class);
+
+    /* Configuration properties */
+    private static final String FILE_NAME = "columnar.filename";
+    private static final String DIR = "columnar.directory";
+    private static final String ROW_GROUP_SIZE = "columnar.rowGroupSize";
+
+    private static final String FILE_NAME_DEFAULT = "output.mcol";
+    private static final String DIR_DEFAULT = ".";
+    private static final int ROW_GROUP_SIZE_DEFAULT = 65536;
+
+    private File outputFile;
+    private int rowGroupSize;
+
+    @Override
+    public void configure(HierarchicalConfiguration<ImmutableNode> config) {
+        String dir = loggerDirectory() + File.separator + config.getString(DIR, DIR_DEFAULT);
+        File d = new File(dir);
+        if (!d.exists() && !d.mkdirs()) {
+            log.warn("Could not create directory in {}", dir);
+        }
+        this.outputFile = new File(d, config.getString(FILE_NAME, FILE_NAME_DEFAULT));
+        this.rowGroupSize = config.getInt(ROW_GROUP_SIZE, ROW_GROUP_SIZE_DEFAULT);
+    }
+
+    @Override
+    public AbstractOutputGenerator createOutputGenerator() throws Exception {
+        return new ColumnarOutput(new ColumnarWriter(new FileOutputStream(outputFile), rowGroupSize));
+    }
+}
@@ -0,0 +1,252 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.fed.output.generator.columnar;
+
+import org.eclipse.mosaic.fed.output.generator.columnar.ColumnarFormat.Column;
+import org.eclipse.mosaic.fed.output.generator.columnar.ColumnarFormat.ColumnType;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reads files written in the {@link ColumnarFormat} row group by row group.
+ */
+public class ColumnarReader implements Closeable {
+
+    private final DataInputStream in;
+
+    private final Map<Byte, Schema> schemas = new HashMap<>();
+    private final List<String> dictionary = new ArrayList<>();
+
+    private boolean finished = false;
+
+    public ColumnarReader(InputStream in) throws IOException {
+        this.in = new DataInputStream(new BufferedInputStream(in, 1 << 16));
+
+        final byte[] magic = new byte[ColumnarFormat.MAGIC.length];
+        this.in.readFully(magic);
+        if (!Arrays.equals(magic, ColumnarFormat.MAGIC)) {
+            throw new IOException("Not a columnar output file");
+        }
+        final int version = this.in.readInt();
+        if (version != ColumnarFormat.VERSION) {
+            throw new IOException("Unsupported version " + version + " of columnar output file");
+        }
+    }
+
+    /**
+     * Reads the next row group of any table.
+     *
+     * @return the next row group, or {@code null} if the end of the file is reached
+     */
+    public RowGroup next() throws IOException {
+        while (!finished) {
+            final int chunkType;
+            try {
+                chunkType = in.readByte();
+            } catch (EOFException e) {
+                // file has not been closed properly, e.g. due to an aborted simulation
+                finished = true;
+                return null;
+            }
+            switch (chunkType) {
+                case ColumnarFormat.CHUNK_SCHEMA -> readSchema();
+                case ColumnarFormat.CHUNK_DICTIONARY -> readDictionary();
+                case ColumnarFormat.CHUNK_ROW_GROUP -> {
+                    return readRowGroup();
+                }
+                case ColumnarFormat.CHUNK_END -> finished = true;
+                default -> throw new IOException("Unknown chunk type " + chunkType);
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+
+    private void readSchema() throws IOException {
+        final byte tableId = in.readByte();
+        final String tableName = in.readUTF();
+        final int columnCount = (int) ColumnarFormat.readVarLong(in);
+        final List<Column> columns = new ArrayList<>(columnCount);
+        for (int i = 0; i < columnCount; i++) {
+            final String name = in.readUTF();
+            final int type = in.readByte();
+            if (type < 0 || type >= ColumnType.values().length) {
+                throw new IOException("Unknown type " + type + " of column " + name);
+            }
+            columns.add(new Column(name, ColumnType.values()[type]));
+        }
+        schemas.put(tableId, new Schema(tableName, columns));
+    }
+
+    private void readDictionary() throws IOException {
+        final long firstIndex = ColumnarFormat.readVarLong(in);
+        if (firstIndex != dictionary.size()) {
+            throw new IOException("Dictionary entries are missing, expected index " + dictionary.size() + " but got " + firstIndex);
+        }
+        final long count = ColumnarFormat.readVarLong(in);
+        for (long i = 0; i < count; i++) {
+            dictionary.add(in.readUTF());
+        }
+    }
+
+    private RowGroup readRowGroup() throws IOException {
+        final byte tableId = in.readByte();
+        final Schema schema = schemas.get(tableId);
+        if (schema == null) {
+            throw new IOException("No schema for table " + tableId);
+        }
+        final int rows = (int) ColumnarFormat.readVarLong(in);
+        final Map<String, Object> columns = new LinkedHashMap<>();
+        for (Column column : schema.columns()) {
+            final byte[] data = new byte[(int) ColumnarFormat.readVarLong(in)];
+            in.readFully(data);
+            columns.put(column.name(), decodeColumn(column.type(), rows, new DataInputStream(new ByteArrayInputStream(data))));
+        }
+        return new RowGroup(schema.name(), rows, columns);
+    }
+
+    private Object decodeColumn(ColumnType type, int rows, DataInputStream data) throws IOException {
+        switch (type) {
+            case TIMESTAMP, INTEGER, BYTE -> {
+                final long[] values = new long[rows];
+                long previous = 0;
+                for (int row = 0; row < rows; row++) {
+                    if (type == ColumnType.BYTE) {
+                        values[row] = data.readByte();
+                    } else if (type == ColumnType.TIMESTAMP) {
+                        previous += ColumnarFormat.decodeZigZag(ColumnarFormat.readVarLong(data));
+                        values[row] = previous;
+                    } else {
+                        values[row] = ColumnarFormat.decodeZigZag(ColumnarFormat.readVarLong(data));
+                    }
+                }
+                return values;
+            }
+            case FLOAT -> {
+                final double[] values = new double[rows];
+                for (int row = 0; row < rows; row++) {
+                    values[row] = Float.intBitsToFloat(data.readInt());
+                }
+                return values;
+            }
+            case COORDINATE -> {
+                final double[] values = new double[rows];
+                long previous = 0;
+                for (int row = 0; row < rows; row++) {
+                    final long encoded = ColumnarFormat.readVarLong(data);
+                    if (encoded == 0) {
+                        values[row] = Double.NaN;
+                    } else {
+                        previous += ColumnarFormat.decodeZigZag(encoded >>> 1);
+                        values[row] = previous * ColumnarFormat.COORDINATE_RESOLUTION;
+                    }
+                }
+                return values;
+            }
+            case DICTIONARY -> {
+                final String[] values = new String[rows];
+                for (int row = 0; row < rows; row++) {
+                    final int index = (int) ColumnarFormat.decodeZigZag(ColumnarFormat.readVarLong(data));
+                    values[row] = index >= 0 ? dictionary.get(index) : null;
+                }
+                return values;
+            }
+            default -> throw new IOException("Unknown column type " + type);
+        }
+    }
+
+    private record Schema(String name, List<Column> columns) {
+    }
+
+    /**
+     * The decoded columns of one row group of a table.
+     */
+    public static class RowGroup {
+
+        private final String table;
+        private final int rowCount;
+        private final Map<String, Object> columns;
+
+        private RowGroup(String table, int rowCount, Map<String, Object> columns) {
+            this.table = table;
+            this.rowCount = rowCount;
+            this.columns = columns;
+        }
+
+        /**
+         * Returns the name of the table, see {@link ColumnarFormat.Table}.
+         */
+        public String getTable() {
+            return table;
+        }
+
+        public int getRowCount() {
+            return rowCount;
+        }
+
+        public List<String> getColumnNames() {
+            return new ArrayList<>(columns.keySet());
+        }
+
+        /**
+         * Returns the values of a column of type TIMESTAMP, INTEGER, or BYTE.
+         */
+        public long[] getLongs(String column) {
+            return getColumn(column, long[].class);
+        }
+
+        /**
+         * Returns the values of a column of type FLOAT or COORDINATE (in degrees). Missing values are {@code NaN}.
+         */
+        public double[] getDoubles(String column) {
+            return getColumn(column, double[].class);
+        }
+
+        /**
+         * Returns the values of a column of type DICTIONARY. Missing values are {@code null}.
+         */
+        public String[] getStrings(String column) {
+            return getColumn(column, String[].class);
+        }
+
+        private <T> T getColumn(String column, Class<T> type) {
+            final Object values = columns.get(column);
+            if (values == null) {
+                throw new IllegalArgumentException("No column " + column + " in table " + table);
+            }
+            if (!type.isInstance(values)) {
+                throw new IllegalArgumentException("Column " + column + " of table " + table + " is not of type " + type.getSimpleName());
+            }
+            return type.cast(values);
+        }
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.fed.output.generator.columnar;
+
+import org.eclipse.mosaic.fed.output.generator.columnar.ColumnarFormat.ColumnType;
+import org.eclipse.mosaic.fed.output.generator.columnar.ColumnarFormat.Table;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Buffers the rows of one {@link Table} column by column, and writes them as a row group
+ * as soon as the configured number of rows is reached. Values of a row are added in the order
+ * of the columns of the table, and the row is completed with {@link #endRow()}.
+ */
+public final class ColumnarTable {
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private final Table table;
+    private final ColumnType[] columnTypes;
+    private final ColumnarWriter writer;
+    private final int rowGroupSize;
+
+    /**
+     * Raw values of each column, see {@link #encodeColumn} for their encoding.
+     */
+    private final long[][] values;
+    private int rows = 0;
+    private int currentColumn = 0;
+
+    private final ByteArrayOutputStream columnBuffer = new ByteArrayOutputStream();
+    private final DataOutputStream columnOutput = new DataOutputStream(columnBuffer);
+
+    ColumnarTable(Table table, ColumnarWriter writer, int rowGroupSize) {
+        this.table = table;
+        this.columnTypes = table.getColumns().stream().map(ColumnarFormat.Column::type).toArray(ColumnType[]::new);
+        this.writer = writer;
+        this.rowGroupSize = rowGroupSize;
+        this.values = new long[columnTypes.length][Math.min(INITIAL_CAPACITY, rowGroupSize)];
+    }
+
+    Table getTable() {
+        return table;
+    }
+
+    int getRowCount() {
+        return rows;
+    }
+
+    public ColumnarTable time(long time) {
+        return put(ColumnType.TIMESTAMP, time);
+    }
+
+    public ColumnarTable id(String value) {
+        return put(ColumnType.DICTIONARY, value != null ? writer.getDictionaryIndex(value) : -1);
+    }
+
+    public ColumnarTable integer(long value) {
+        return put(ColumnType.INTEGER, value);
+    }
+
+    public ColumnarTable decimal(double value) {
+        return put(ColumnType.FLOAT, Float.floatToRawIntBits((float) value));
+    }
+
+    public ColumnarTable decimal(Double value) {
+        return decimal(value != null ? value : Double.NaN);
+    }
+
+    public ColumnarTable coordinate(double degrees) {
+        return put(ColumnType.COORDINATE, Double.isNaN(degrees)
+                ? Long.MIN_VALUE
+                : Math.round(degrees / ColumnarFormat.COORDINATE_RESOLUTION));
+    }
+
+    public ColumnarTable flag(byte value) {
+        return put(ColumnType.BYTE, value);
+    }
+
+    /**
+     * Completes the current row. Writes all buffered rows as a row group, if the configured size of row groups is reached.
+     */
+    public void endRow() throws IOException {
+        if (currentColumn != columnTypes.length) {
+            throw new IllegalStateException("Row of table " + table + " is incomplete, "
+                    + currentColumn + " of " + columnTypes.length + " values given.");
+        }
+        currentColumn = 0;
+        if (++rows >= rowGroupSize) {
+            writer.writeRowGroup(this);
+        }
+    }
+
+    private ColumnarTable put(ColumnType type, long value) {
+        if (currentColumn >= columnTypes.length || columnTypes[currentColumn] != type) {
+            throw new IllegalStateException("Unexpected value of type " + type + " for column " + currentColumn + " of table " + table);
+        }
+        long[] column = values[currentColumn];
+        if (rows == column.length) {
+            column = values[currentColumn] = Arrays.copyOf(column, Math.min(column.length * 2, rowGroupSize));
+        }
+        column[rows] = value;
+        currentColumn++;
+        return this;
+    }
+
+    /**
+     * Writes all buffered rows as a row group (without the chunk type) and clears the buffer.
+     */
+    void writeRowGroup(DataOutputStream out) throws IOException {
+        out.writeByte(table.getId());
+        ColumnarFormat.writeVarLong(out, rows);
+        for (int column = 0; column < columnTypes.length; column++) {
+            columnBuffer.reset();
+            encodeColumn(columnTypes[column], values[column], columnOutput);
+            columnOutput.flush();
+            ColumnarFormat.writeVarLong(out, columnBuffer.size());
+            columnBuffer.writeTo(out);
+        }
+        rows = 0;
+    }
+
+    private void encodeColumn(ColumnType type, long[] column, DataOutputStream out) throws IOException {
+        long previous = 0;
+        for (int row = 0; row < rows; row++) {
+            final long value = column[row];
+            switch (type) {
+                case TIMESTAMP -> {
+                    ColumnarFormat.writeVarLong(out, ColumnarFormat.encodeZigZag(value - previous));
+                    previous = value;
+                }
+                case DICTIONARY, INTEGER -> ColumnarFormat.writeVarLong(out, ColumnarFormat.encodeZigZag(value));
+                case FLOAT -> out.writeInt((int) value);
+                case COORDINATE -> {
+                    if (value == Long.MIN_VALUE) {
+                        ColumnarFormat.writeVarLong(out, 0);
+                    } else {
+                        ColumnarFormat.writeVarLong(out, ColumnarFormat.encodeZigZag(value - previous) << 1 | 1);
+                        previous = value;
+                    }
+                }
+                case BYTE -> out.writeByte((int) value);
+                default -> throw new IllegalStateException("Unknown column type " + type);
+            }
+        }
+    }
+}
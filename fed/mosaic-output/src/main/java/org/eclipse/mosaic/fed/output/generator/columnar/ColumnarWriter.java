@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.fed.output.generator.columnar;
+
+import org.eclipse.mosaic.fed.output.generator.columnar.ColumnarFormat.Column;
+import org.eclipse.mosaic.fed.output.generator.columnar.ColumnarFormat.Table;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes tables in the {@link ColumnarFormat}. Rows are added via the {@link ColumnarTable}s
+ * returned by {@link #getTable(Table)}.
+ */
+public class ColumnarWriter implements Closeable {
+
+    private final DataOutputStream out;
+    private final int rowGroupSize;
+
+    private final Map<Table, ColumnarTable> tables = new EnumMap<>(Table.class);
+
+    private final Map<String, Integer> dictionary = new HashMap<>();
+    private final List<String> pendingDictionaryEntries = new ArrayList<>();
+
+    private boolean closed = false;
+
+    /**
+     * Creates a new writer and writes the header of the format.
+     *
+     * @param out          the stream to write to
+     * @param rowGroupSize the maximum number of rows per row group
+     */
+    public ColumnarWriter(OutputStream out, int rowGroupSize) throws IOException {
+        if (rowGroupSize <= 0) {
+            throw new IllegalArgumentException("Size of row groups must be positive, but was " + rowGroupSize);
+        }
+        this.out = new DataOutputStream(new BufferedOutputStream(out, 1 << 16));
+        this.rowGroupSize = rowGroupSize;
+
+        this.out.write(ColumnarFormat.MAGIC);
+        this.out.writeInt(ColumnarFormat.VERSION);
+    }
+
+    /**
+     * Returns the table to add rows to. The schema of the table is written on first access.
+     *
+     * @param table the table
+     * @return the buffer of the table
+     */
+    public ColumnarTable getTable(Table table) throws IOException {
+        ColumnarTable columnarTable = tables.get(table);
+        if (columnarTable == null) {
+            writeSchema(table);
+            columnarTable = new ColumnarTable(table, this, rowGroupSize);
+            tables.put(table, columnarTable);
+        }
+        return columnarTable;
+    }
+
+    int getDictionaryIndex(String value) {
+        Integer index = dictionary.get(value);
+        if (index == null) {
+            index = dictionary.size();
+            dictionary.put(value, index);
+            pendingDictionaryEntries.add(value);
+        }
+        return index;
+    }
+
+    void writeRowGroup(ColumnarTable table) throws IOException {
+        if (table.getRowCount() == 0) {
+            return;
+        }
+        writeDictionary();
+        out.writeByte(ColumnarFormat.CHUNK_ROW_GROUP);
+        table.writeRowGroup(out);
+    }
+
+    /**
+     * Writes the buffered rows of all tables as row groups, even if the row groups are not full yet.
+     */
+    public void flush() throws IOException {
+        for (ColumnarTable table : tables.values()) {
+            writeRowGroup(table);
+        }
+        out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            flush();
+            out.writeByte(ColumnarFormat.CHUNK_END);
+        } finally {
+            out.close();
+        }
+    }
+
+    private void writeSchema(Table table) throws IOException {
+        out.writeByte(ColumnarFormat.CHUNK_SCHEMA);
+        out.writeByte(table.getId());
+        out.writeUTF(table.name());
+        ColumnarFormat.writeVarLong(out, table.getColumns().size());
+        for (Column column : table.getColumns()) {
+            out.writeUTF(column.name());
+            out.writeByte(column.type().ordinal());
+        }
+    }
+
+    private void writeDictionary() throws IOException {
+        if (pendingDictionaryEntries.isEmpty()) {
+            return;
+        }
+        out.writeByte(ColumnarFormat.CHUNK_DICTIONARY);
+        ColumnarFormat.writeVarLong(out, dictionary.size() - pendingDictionaryEntries.size());
+        ColumnarFormat.writeVarLong(out, pendingDictionaryEntries.size());
+        for (String entry : pendingDictionaryEntries) {
+            out.writeUTF(entry);
+        }
+        pendingDictionaryEntries.clear();
+    }
+}
@@ -16,20 +16,24 @@
 package org.eclipse.mosaic.fed.output.generator.file.filter;
 
 import org.eclipse.mosaic.fed.output.generator.file.format.ExtendedMethodSet;
+import org.eclipse.mosaic.fed.output.generator.file.format.MethodAccessors;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.lang.reflect.Method;
+import java.util.function.Function;
 
 public abstract class Filter {
 
     private static final Logger log = LoggerFactory.getLogger(Filter.class);
 
-    private final Method method;
+    private final Function<Object, Object> getter;
 
     protected Filter(Method method) {
-        this.method = method;
+        this.getter = method != null && method.getDeclaringClass() != ExtendedMethodSet.class
+                ? MethodAccessors.compileGetter(method)
+                : null;
     }
 
     /**
@@ -39,9 +43,9 @@ public abstract class Filter {
      * @return {@code true} if the given object is accepted by this filter
      */
     public boolean accept(Object declareObj) {
-        if (this.method != null && this.method.getDeclaringClass() != ExtendedMethodSet.class) {
+        if (this.getter != null) {
             try {
-                Object filterObject = this.method.invoke(declareObj);
+                Object filterObject = this.getter.apply(declareObj);
                 if (filterObject != null) {
                     return this.acceptImpl(filterObject);
                 }
@@ -0,0 +1,196 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.fed.output.generator.file.format;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * Compiles getter methods, as well as the static methods of the {@link ExtendedMethodSet}, into functional
+ * interfaces once, so that they can be called without reflection when formatting interactions. Methods are
+ * bound via {@link LambdaMetafactory} where possible, which allows the JIT to inline the call. If the method
+ * is not accessible that way (e.g. declared in a non-public class), a {@link MethodHandle} is used instead.
+ */
+public final class MethodAccessors {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    private MethodAccessors() {
+        // static methods only
+    }
+
+    /**
+     * Compiles a getter method without parameters, or a static method with exactly one parameter, into a function
+     * which receives the declaring object (or the parameter respectively) and returns the (boxed) result.
+     *
+     * @param method the method to compile
+     * @return a function calling the given method
+     */
+    public static Function<Object, Object> compileGetter(Method method) {
+        final MethodHandle handle = unreflect(method);
+        try {
+            if (isLinkable(method)) {
+                final CallSite callSite = LambdaMetafactory.metafactory(LOOKUP, "apply",
+                        MethodType.methodType(Function.class),
+                        MethodType.methodType(Object.class, Object.class),
+                        handle,
+                        handle.type().wrap()
+                );
+                @SuppressWarnings("unchecked")
+                Function<Object, Object> getter = (Function<Object, Object>) callSite.getTarget().invokeExact();
+                return getter;
+            }
+        } catch (Throwable e) {
+            // fall back to method handle
+        }
+        final MethodHandle genericHandle = handle.asType(MethodType.methodType(Object.class, Object.class));
+        return object -> {
+            try {
+                return genericHandle.invokeExact(object);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IllegalStateException(e);
+            }
+        };
+    }
+
+    /**
+     * Compiles a getter method returning a primitive {@code double} or {@code float} value into a function
+     * which returns the value without boxing it.
+     *
+     * @param method the method to compile, must return {@code double} or {@code float}
+     * @return a function calling the given method
+     */
+    public static ToDoubleFunction<Object> compileDoubleGetter(Method method) {
+        if (method.getReturnType() != double.class && method.getReturnType() != float.class) {
+            throw new IllegalArgumentException("Method " + method.getName() + " does not return a floating-point number.");
+        }
+        final MethodHandle handle = unreflect(method);
+        try {
+            if (isLinkable(method)) {
+                final CallSite callSite = LambdaMetafactory.metafactory(LOOKUP, "applyAsDouble",
+                        MethodType.methodType(ToDoubleFunction.class),
+                        MethodType.methodType(double.class, Object.class),
+                        handle,
+                        handle.type().changeReturnType(double.class)
+                );
+                @SuppressWarnings("unchecked")
+                ToDoubleFunction<Object> getter = (ToDoubleFunction<Object>) callSite.getTarget().invokeExact();
+                return getter;
+            }
+        } catch (Throwable e) {
+            // fall back to method handle
+        }
+        final MethodHandle genericHandle = handle.asType(MethodType.methodType(double.class, Object.class));
+        return object -> {
+            try {
+                return (double) genericHandle.invokeExact(object);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IllegalStateException(e);
+            }
+        };
+    }
+
+    /**
+     * Compiles a getter method returning a primitive integral value ({@code long}, {@code int}, {@code short},
+     * or {@code byte}) into a function which returns the value without boxing it.
+     *
+     * @param method the method to compile, must return an integral primitive value
+     * @return a function calling the given method
+     */
+    public static ToLongFunction<Object> compileLongGetter(Method method) {
+        if (!isIntegral(method.getReturnType())) {
+            throw new IllegalArgumentException("Method " + method.getName() + " does not return an integral number.");
+        }
+        final MethodHandle handle = unreflect(method);
+        try {
+            if (isLinkable(method)) {
+                final CallSite callSite = LambdaMetafactory.metafactory(LOOKUP, "applyAsLong",
+                        MethodType.methodType(ToLongFunction.class),
+                        MethodType.methodType(long.class, Object.class),
+                        handle,
+                        handle.type().changeReturnType(long.class)
+                );
+                @SuppressWarnings("unchecked")
+                ToLongFunction<Object> getter = (ToLongFunction<Object>) callSite.getTarget().invokeExact();
+                return getter;
+            }
+        } catch (Throwable e) {
+            // fall back to method handle
+        }
+        final MethodHandle genericHandle = handle.asType(MethodType.methodType(long.class, Object.class));
+        return object -> {
+            try {
+                return (long) genericHandle.invokeExact(object);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IllegalStateException(e);
+            }
+        };
+    }
+
+    /**
+     * Returns {@code true}, if the given type is a primitive integral type which can be widened to {@code long}.
+     */
+    static boolean isIntegral(Class<?> type) {
+        return type == long.class || type == int.class || type == short.class || type == byte.class;
+    }
+
+    private static MethodHandle unreflect(Method method) {
+        final boolean isStatic = Modifier.isStatic(method.getModifiers());
+        if (method.getParameterCount() != (isStatic ? 1 : 0)) {
+            throw new IllegalArgumentException("Method " + method.getName() + " is neither a getter nor a static method with one parameter.");
+        }
+        try {
+            return LOOKUP.unreflect(method);
+        } catch (IllegalAccessException e) {
+            try {
+                method.setAccessible(true);
+                return LOOKUP.unreflect(method);
+            } catch (RuntimeException | IllegalAccessException e1) {
+                throw new IllegalArgumentException("Method " + method.getName() + " is not accessible.", e1);
+            }
+        }
+    }
+
+    /**
+     * The lambda class generated by {@link LambdaMetafactory} is defined in the class loader of this class and
+     * links the target method directly, which is why the declaring class needs to be public and visible from here.
+     */
+    private static boolean isLinkable(Method method) {
+        final Class<?> declaringClass = method.getDeclaringClass();
+        if (!Modifier.isPublic(declaringClass.getModifiers()) || !Modifier.isPublic(method.getModifiers())) {
+            return false;
+        }
+        try {
+            return Class.forName(declaringClass.getName(), false, MethodAccessors.class.getClassLoader()) == declaringClass;
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+}
@@ -27,8 +27,12 @@ import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
+import java.text.DecimalFormat;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToLongFunction;
 
 /**
  * A {@link MethodElement} defines a specific method, including the name
@@ -50,6 +54,29 @@ class MethodElement {
     private ArrayList<Method> methodList;
     private ArrayList<Filter> filterList;
 
+    /**
+     * The methods of {@link #methodList} compiled into direct accessors.
+     */
+    private ArrayList<Function<Object, Object>> accessorList;
+
+    /**
+     * For each method of {@link #methodList}, the compiled method of the {@link ExtendedMethodSet} with the same
+     * name, which is called if the method returns {@code null}, or {@code null} if no such method exists.
+     */
+    private ArrayList<Function<Object, Object>> fallbackAccessorList;
+
+    /**
+     * If the last method returns a primitive floating-point number, it is additionally
+     * compiled into this accessor, which avoids boxing of the result.
+     */
+    private ToDoubleFunction<Object> doubleAccessor;
+
+    /**
+     * If the last method returns a primitive integral number, it is additionally
+     * compiled into this accessor, which avoids boxing of the result.
+     */
+    private ToLongFunction<Object> longAccessor;
+
     /**
      * Constructs a method element with sanity checking.
      *
@@ -88,6 +115,8 @@ class MethodElement {
         }
 
         this.methodList = new ArrayList<>();
+        this.accessorList = new ArrayList<>();
+        this.fallbackAccessorList = new ArrayList<>();
         this.filterList = new ArrayList<>();
 
         for (int i = 0, begin = 0, end = methods.indexOf("."); begin != -1; i++) {
@@ -116,6 +145,8 @@ class MethodElement {
                 );
             }
             this.methodList.add(m);
+            this.accessorList.add(MethodAccessors.compileGetter(m));
+            this.fallbackAccessorList.add(compileExtendedMethod(cl, m));
             cl = m.getReturnType();
 
             for (String filterDef : filterDefs.split(",")) {
@@ -124,6 +155,35 @@ class MethodElement {
                 }
             }
         }
+
+        if (cl == double.class || cl == float.class) {
+            this.doubleAccessor = MethodAccessors.compileDoubleGetter(methodList.get(methodList.size() - 1));
+        } else if (MethodAccessors.isIntegral(cl)) {
+            this.longAccessor = MethodAccessors.compileLongGetter(methodList.get(methodList.size() - 1));
+        }
+    }
+
+    /**
+     * Resolves the method of the {@link ExtendedMethodSet} which is called if the given basic method returns
+     * {@code null}, by searching for a method with the same name accepting the declaring class or one of its
+     * super classes.
+     *
+     * @param clazz  the class the basic method is called on
+     * @param method the basic method
+     * @return the compiled extended method, or {@code null} if there is none
+     */
+    private Function<Object, Object> compileExtendedMethod(Class<?> clazz, Method method) {
+        if (method.getDeclaringClass() == ExtendedMethodSet.class) {
+            return null;
+        }
+        for (Class<?> c = clazz; c != null; c = c.getSuperclass()) {
+            try {
+                return MethodAccessors.compileGetter(ExtendedMethodSet.class.getMethod(method.getName(), c));
+            } catch (NoSuchMethodException e) {
+                //be quiet as we try until we find something suitable
+            }
+        }
+        return null;
     }
 
     /**
@@ -214,45 +274,69 @@ class MethodElement {
             return constantValue;
         }
 
-        Object ret = null;
         Object declareObj = objList.get(objIndex);
 
         if (declareObj == null) {
             return null;
         }
+        return invokeMethods(declareObj, accessorList.size());
+    }
+
+    /**
+     * Invokes the Method defined by this MethodElement (see {@link #invoke(List)}) and appends the result
+     * to the given {@link StringBuilder}. Floating-point numbers are formatted using the given {@link DecimalFormat}.
+     *
+     * @param result        the builder to append the result to
+     * @param objList       list of objects
+     * @param decimalFormat format for floating-point numbers
+     */
+    void appendTo(final StringBuilder result, final List<Object> objList, final DecimalFormat decimalFormat)
+            throws IllegalArgumentException, IllegalAccessException, InvocationTargetException {
+        if (doubleAccessor == null && longAccessor == null) {
+            Object methodInvocationResult = invoke(objList);
+            // if result of method invocation is float or double use defined decimal format
+            if (methodInvocationResult instanceof Double || methodInvocationResult instanceof Float) {
+                result.append(decimalFormat.format(methodInvocationResult));
+            } else {
+                result.append(methodInvocationResult);
+            }
+            return;
+        }
+
+        Object declareObj = objList.get(objIndex);
+        if (declareObj != null) {
+            declareObj = invokeMethods(declareObj, accessorList.size() - 1);
+        }
+        if (declareObj == null) {
+            result.append((Object) null);
+        } else if (doubleAccessor != null) {
+            result.append(decimalFormat.format(doubleAccessor.applyAsDouble(declareObj)));
+        } else {
+            result.append(longAccessor.applyAsLong(declareObj));
+        }
+    }
 
-        Class<?> declareClass = declareObj.getClass();
+    /**
+     * Calls the first {@code count} methods in cascade, starting with the given object.
+     */
+    private Object invokeMethods(Object declareObj, int count) {
+        Object ret = declareObj;
 
-        // cascaded method
-        for (Method m : methodList) {
-            String simpleName = m.getName();
+        for (int i = 0; i < count; i++) {
+            ret = accessorList.get(i).apply(declareObj);
 
-            // extended method
-            if (m.getDeclaringClass() == ExtendedMethodSet.class) {
-                ret = m.invoke(null, declareObj);
-            } else {
-                // basic method
-                ret = m.invoke(declareObj);
-
-                // if basic method returns null, then try the extended method
-                if (ret == null) {
-                    for (Class<?> c = declareClass; c != null; c = c.getSuperclass()) {
-                        try {
-                            Method extMet = ExtendedMethodSet.class.getMethod(simpleName, c);
-                            ret = extMet.invoke(null, declareObj);
-                        } catch (NoSuchMethodException e) {
-                            //be quiet as we try until we find something suitable
-                        } catch (Exception e) {
-                            log.debug("Exception occurred", e);
-                        }
-                    }
+            // if basic method returns null, then try the extended method
+            final Function<Object, Object> fallbackAccessor = fallbackAccessorList.get(i);
+            if (ret == null && fallbackAccessor != null) {
+                try {
+                    ret = fallbackAccessor.apply(declareObj);
+                } catch (RuntimeException e) {
+                    log.debug("Exception occurred", e);
                 }
             }
 
             declareObj = ret;
-            if (declareObj != null) {
-                declareClass = declareObj.getClass();
-            } else {
+            if (declareObj == null) {
                 // if a null object is returned, then stop invoking remaining methods
                 return null;
             }
@@ -135,28 +135,25 @@ class MethodManager {
     public String format(Interaction interaction) throws IllegalArgumentException, IllegalAccessException, InvocationTargetException {
         List<Object> itObjects = new ArrayList<>();
         itObjects.add(interaction);
-        return format(itObjects, 0);
-    }
-
-    private String format(List<Object> itObjects, int level) throws IllegalArgumentException, IllegalAccessException, InvocationTargetException {
         StringBuilder result = new StringBuilder();
+        format(itObjects, 0, result);
+        return result.toString();
+    }
 
+    private void format(List<Object> itObjects, int level, StringBuilder result)
+            throws IllegalArgumentException, IllegalAccessException, InvocationTargetException {
         if (level == this.iterationMethods.size()) {
             // output method
+            final int lineStart = result.length();
             MethodElement outputMethod;
             for (int i = 0; i < this.outputMethods.size(); i++) {
                 outputMethod = this.outputMethods.get(i);
-                Object methodInvocationResult = outputMethod.invoke(itObjects);
-                // if result of method invocation is float or double use defined decimal format
-                if (methodInvocationResult instanceof Double || methodInvocationResult instanceof Float) {
-                    String invocationResultString = decimalFormat.format(methodInvocationResult);
-                    result.append(invocationResultString);
-                } else {
-                    result.append(methodInvocationResult);
-                }
+                outputMethod.appendTo(result, itObjects, decimalFormat);
                 result.append(i == this.outputMethods.size() - 1 ? LINE_SEPARATOR : this.separator); // add separator or linebreak
                 if (!outputMethod.isAcceptedByFilter(itObjects)) {
-                    return "";
+                    // discard the whole line
+                    result.setLength(lineStart);
+                    return;
                 }
             }
         } else {
@@ -167,17 +164,15 @@ class MethodManager {
 
             if (c == null) {
                 itObjects.set(level + 1, null);
-                result.append(format(itObjects, level + 1));
+                format(itObjects, level + 1, result);
             } else {
                 for (Object element : c) {
                     itObjects.set(level + 1, element);
-                    result.append(format(itObjects, level + 1));
+                    format(itObjects, level + 1, result);
                 }
             }
             itObjects.remove(level);
         }
-
-        return result.toString();
     }
 
     private String getIterationMethodName(String method) {
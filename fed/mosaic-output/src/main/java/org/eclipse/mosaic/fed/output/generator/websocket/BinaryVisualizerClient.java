@@ -0,0 +1,274 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.fed.output.generator.websocket;
+
+import org.eclipse.mosaic.lib.geo.GeoPoint;
+import org.eclipse.mosaic.lib.objects.vehicle.VehicleData;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * Holds the state of a visualizer client which requested the binary protocol and encodes
+ * vehicle movements and V2X activity as binary frames against this state. Vehicles are only sent
+ * if they are within the viewport of the client, and only if their position or parking state
+ * has changed since the previous frame sent to this client.
+ *
+ * <p>A frame is encoded in little endian byte order as follows:
+ * <pre>
+ * uint8   frame type (always 1)
+ * float64 simulation time in ns
+ * uint32  index of first new unit name, uint32 number of new unit names,
+ *         for each name: uint16 number of bytes, UTF-8 bytes
+ * uint32  number of vehicle updates, for each update:
+ *         uint32 unit index, uint8 flags (bit 0: parking, bit 1: absolute position),
+ *         int32 latitude, int32 longitude (absolute, in micro degrees) or
+ *         int16 latitude, int16 longitude (difference to previous position, in micro degrees)
+ * uint32  number of vehicles which left the viewport, followed by their uint32 unit indices
+ * uint32  number of removed vehicles, followed by their uint32 unit indices
+ * uint32  number of sending units, followed by their uint32 unit indices
+ * uint32  number of receiving units, followed by their uint32 unit indices
+ * </pre>
+ */
+class BinaryVisualizerClient {
+
+    static final byte FRAME_UNIT_UPDATES = 1;
+
+    static final byte FLAG_PARKING = 1;
+    static final byte FLAG_ABSOLUTE = 2;
+
+    /**
+     * Positions are transferred in micro degrees, which is roughly 0.1m.
+     */
+    static final double POSITION_RESOLUTION = 1e-6;
+
+    private final UnitNameDictionary names;
+
+    /**
+     * The viewport of the client as {@code [south, west, north, east]} in degrees, or {@code null} if everything should be sent.
+     */
+    private volatile double[] viewport;
+
+    private int knownNames = 0;
+
+    private int[] lastLatitudes = new int[1024];
+    private int[] lastLongitudes = new int[1024];
+    private byte[] lastFlags = new byte[1024];
+
+    /**
+     * Vehicles of which the client currently knows the position.
+     */
+    private final BitSet visible = new BitSet();
+    /**
+     * All units which were sent as vehicles, to tell them apart from stationary units for culling V2X activity.
+     */
+    private final BitSet vehicles = new BitSet();
+
+    BinaryVisualizerClient(UnitNameDictionary names) {
+        this.names = names;
+    }
+
+    /**
+     * Sets the viewport of the client.
+     *
+     * @param viewport {@code [south, west, north, east]} in degrees, or {@code null} to disable culling
+     */
+    void setViewport(double[] viewport) {
+        if (viewport != null && viewport.length != 4) {
+            throw new IllegalArgumentException("Viewport must consist of [south, west, north, east], but was " + Arrays.toString(viewport));
+        }
+        this.viewport = viewport != null ? viewport.clone() : null;
+    }
+
+    /**
+     * Encodes the given updates into a binary frame. Must not be called concurrently for the same client.
+     *
+     * @return the encoded frame, or {@code null} if there is nothing new for this client
+     */
+    ByteBuffer encode(long time, List<VehicleData> updated, List<String> removed, List<String> senders, List<String> receivers) {
+        final double[] viewport = this.viewport;
+
+        final int[] updates = new int[updated.size() * 4];
+        int updateCount = 0;
+        int updateBytes = 0;
+        final IntList hidden = new IntList();
+        for (VehicleData vehicle : updated) {
+            final GeoPoint position = vehicle.getPosition();
+            if (position == null) {
+                continue;
+            }
+            final int index = names.indexOf(vehicle.getName());
+            ensureCapacity(index);
+            vehicles.set(index);
+
+            if (viewport != null && !isInViewport(viewport, position)) {
+                if (visible.get(index)) {
+                    visible.clear(index);
+                    hidden.add(index);
+                }
+                continue;
+            }
+
+            final int latitude = (int) Math.round(position.getLatitude() / POSITION_RESOLUTION);
+            final int longitude = (int) Math.round(position.getLongitude() / POSITION_RESOLUTION);
+            byte flags = vehicle.getVehicleStopMode() != null && vehicle.getVehicleStopMode().isParking() ? FLAG_PARKING : 0;
+
+            final boolean known = visible.get(index);
+            if (known && latitude == lastLatitudes[index] && longitude == lastLongitudes[index] && flags == lastFlags[index]) {
+                continue;
+            }
+            final int latitudeDelta = latitude - lastLatitudes[index];
+            final int longitudeDelta = longitude - lastLongitudes[index];
+            if (!known || !fitsShort(latitudeDelta) || !fitsShort(longitudeDelta)) {
+                flags |= FLAG_ABSOLUTE;
+                updates[updateCount * 4 + 2] = latitude;
+                updates[updateCount * 4 + 3] = longitude;
+                updateBytes += 4 + 1 + 8;
+            } else {
+                updates[updateCount * 4 + 2] = latitudeDelta;
+                updates[updateCount * 4 + 3] = longitudeDelta;
+                updateBytes += 4 + 1 + 4;
+            }
+            updates[updateCount * 4] = index;
+            updates[updateCount * 4 + 1] = flags;
+            updateCount++;
+
+            lastLatitudes[index] = latitude;
+            lastLongitudes[index] = longitude;
+            lastFlags[index] = (byte) (flags & FLAG_PARKING);
+            visible.set(index);
+        }
+
+        final IntList removedIndices = new IntList();
+        for (String name : removed) {
+            final int index = names.indexOf(name);
+            ensureCapacity(index);
+            visible.clear(index);
+            removedIndices.add(index);
+        }
+
+        final IntList sending = collectVisibleUnits(senders, viewport);
+        final IntList receiving = collectVisibleUnits(receivers, viewport);
+
+        final int totalNames = names.size();
+        final List<String> newNames = names.getNames(knownNames, totalNames);
+        if (newNames.isEmpty() && updateCount == 0 && hidden.size == 0
+                && removedIndices.size == 0 && sending.size == 0 && receiving.size == 0) {
+            return null;
+        }
+
+        final byte[][] encodedNames = new byte[newNames.size()][];
+        int nameBytes = 0;
+        for (int i = 0; i < encodedNames.length; i++) {
+            byte[] encoded = newNames.get(i).getBytes(StandardCharsets.UTF_8);
+            if (encoded.length > 0xFFFF) {
+                encoded = Arrays.copyOf(encoded, 0xFFFF);
+            }
+            encodedNames[i] = encoded;
+            nameBytes += 2 + encoded.length;
+        }
+
+        final ByteBuffer frame = ByteBuffer.allocate(1 + 8 + 8 + nameBytes + 4 + updateBytes
+                + 4 * (4 + hidden.size + removedIndices.size + sending.size + receiving.size)
+        ).order(ByteOrder.LITTLE_ENDIAN);
+        frame.put(FRAME_UNIT_UPDATES);
+        frame.putDouble(time);
+        frame.putInt(knownNames);
+        frame.putInt(encodedNames.length);
+        for (byte[] encodedName : encodedNames) {
+            frame.putShort((short) encodedName.length);
+            frame.put(encodedName);
+        }
+        frame.putInt(updateCount);
+        for (int i = 0; i < updateCount; i++) {
+            final byte flags = (byte) updates[i * 4 + 1];
+            frame.putInt(updates[i * 4]);
+            frame.put(flags);
+            if ((flags & FLAG_ABSOLUTE) != 0) {
+                frame.putInt(updates[i * 4 + 2]);
+                frame.putInt(updates[i * 4 + 3]);
+            } else {
+                frame.putShort((short) updates[i * 4 + 2]);
+                frame.putShort((short) updates[i * 4 + 3]);
+            }
+        }
+        hidden.writeTo(frame);
+        removedIndices.writeTo(frame);
+        sending.writeTo(frame);
+        receiving.writeTo(frame);
+        frame.flip();
+
+        knownNames = totalNames;
+        return frame;
+    }
+
+    /**
+     * V2X activity of vehicles outside the viewport is dropped. Stationary units, such as RSUs,
+     * are registered with the client anyway, hence their activity is always sent.
+     */
+    private IntList collectVisibleUnits(List<String> unitNames, double[] viewport) {
+        final IntList result = new IntList();
+        for (String name : unitNames) {
+            final int index = names.indexOf(name);
+            if (viewport == null || !vehicles.get(index) || visible.get(index)) {
+                result.add(index);
+            }
+        }
+        return result;
+    }
+
+    private static boolean isInViewport(double[] viewport, GeoPoint position) {
+        return position.getLatitude() >= viewport[0] && position.getLongitude() >= viewport[1]
+                && position.getLatitude() <= viewport[2] && position.getLongitude() <= viewport[3];
+    }
+
+    private static boolean fitsShort(int value) {
+        return value >= Short.MIN_VALUE && value <= Short.MAX_VALUE;
+    }
+
+    private void ensureCapacity(int index) {
+        if (index >= lastLatitudes.length) {
+            final int capacity = Math.max(index + 1, lastLatitudes.length * 2);
+            lastLatitudes = Arrays.copyOf(lastLatitudes, capacity);
+            lastLongitudes = Arrays.copyOf(lastLongitudes, capacity);
+            lastFlags = Arrays.copyOf(lastFlags, capacity);
+        }
+    }
+
+    private static class IntList {
+
+        private int[] values = new int[16];
+        private int size = 0;
+
+        private void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        private void writeTo(ByteBuffer buffer) {
+            buffer.putInt(size);
+            for (int i = 0; i < size; i++) {
+                buffer.putInt(values[i]);
+            }
+        }
+    }
+}
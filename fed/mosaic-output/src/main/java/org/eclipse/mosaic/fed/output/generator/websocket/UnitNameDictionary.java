@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.fed.output.generator.websocket;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Assigns a stable index to each unit name, so that binary frames only need to transfer
+ * the index of a unit. The dictionary only grows, each client remembers how many entries it already knows.
+ */
+class UnitNameDictionary {
+
+    private final Map<String, Integer> indices = new HashMap<>();
+    private final List<String> names = new ArrayList<>();
+
+    synchronized int indexOf(String name) {
+        Integer index = indices.get(name);
+        if (index == null) {
+            index = names.size();
+            indices.put(name, index);
+            names.add(name);
+        }
+        return index;
+    }
+
+    synchronized int size() {
+        return names.size();
+    }
+
+    /**
+     * Returns all names with an index between {@code fromIndex} (inclusive) and {@code toIndex} (exclusive).
+     */
+    synchronized List<String> getNames(int fromIndex, int toIndex) {
+        return new ArrayList<>(names.subList(fromIndex, toIndex));
+    }
+}
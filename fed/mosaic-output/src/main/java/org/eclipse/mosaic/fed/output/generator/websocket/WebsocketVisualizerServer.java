@@ -34,6 +34,7 @@ import com.google.common.collect.Queues;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
 import org.java_websocket.WebSocket;
 import org.java_websocket.handshake.ClientHandshake;
 import org.java_websocket.server.WebSocketServer;
@@ -41,12 +42,16 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.ToLongFunction;
 
 @SuppressWarnings("UnstableApiUsage")
 public class WebsocketVisualizerServer extends WebSocketServer implements Runnable {
@@ -56,6 +61,17 @@ public class WebsocketVisualizerServer extends WebSocketServer implements Runnab
      */
     record V2xMessageTransmissionInfo(long time, int messageId, String sourceName) {}
 
+    /**
+     * Helper class to reduce fields for V2xMessageReception interaction.
+     */
+    record V2xMessageReceptionInfo(long time, int messageId, String receiverName) {}
+
+    /**
+     * Message sent by a client to switch to the binary protocol and to update its viewport.
+     * The viewport is given as {@code [south, west, north, east]} in degrees.
+     */
+    record ClientRequest(String protocol, double[] viewport) {}
+
     private final Logger log = LoggerFactory.getLogger(this.getClass());
 
     private static final int MAX_MESSAGES_LIST = 1000;
@@ -66,6 +82,16 @@ public class WebsocketVisualizerServer extends WebSocketServer implements Runnab
      */
     private static final String UNITS_REMOVE = "UnitsRemove";
 
+    /**
+     * Separate message ids to transmit all V2X messages sent or received within one time step as one array.
+     */
+    private static final String V2X_MESSAGE_TRANSMISSIONS = "V2xMessageTransmissions";
+    private static final String V2X_MESSAGE_RECEPTIONS = "V2xMessageReceptions";
+
+    private static final String PROTOCOL_BINARY = "binary";
+
+    private static final Gson GSON = new Gson();
+
     private final AtomicReference<VehicleUpdates> vehicleUpdatesReference = new AtomicReference<>();
     private final AtomicReference<AgentUpdates> agentUpdatesReference = new AtomicReference<>();
     private final Queue<String> vehiclesToRemove = createQueue();
@@ -81,6 +107,9 @@ public class WebsocketVisualizerServer extends WebSocketServer implements Runnab
     private final Queue<ChargingStationRegistration> chargingStationRegistrations = createQueue();
     private final Queue<ChargingStationUpdate> chargingStationUpdates = createQueue();
 
+    private final UnitNameDictionary unitNames = new UnitNameDictionary();
+    private final Map<WebSocket, BinaryVisualizerClient> binaryClients = new ConcurrentHashMap<>();
+
     public WebsocketVisualizerServer(InetSocketAddress address) {
         super(address);
     }
@@ -92,6 +121,9 @@ public class WebsocketVisualizerServer extends WebSocketServer implements Runnab
 
     @Override
     public void onClose(WebSocket arg0, int arg1, String arg2, boolean arg3) {
+        if (arg0 != null) {
+            binaryClients.remove(arg0);
+        }
         log.debug("Closed");
     }
 
@@ -100,29 +132,141 @@ public class WebsocketVisualizerServer extends WebSocketServer implements Runnab
         log.error("WebsocketError", ex);
     }
 
+    /**
+     * Called whenever a client pulls for new data. Any message starting with <code>{</code> is read as {@link ClientRequest},
+     * which switches the client to the binary protocol (see {@link BinaryVisualizerClient}) and updates its viewport.
+     * All other messages are answered using the JSON protocol.
+     */
     @Override
-    public synchronized void onMessage(WebSocket socket, String arg1) {
+    public void onMessage(WebSocket socket, String message) {
+        if (message != null && message.startsWith("{")) {
+            configureClient(socket, message);
+        }
+        final BinaryVisualizerClient binaryClient = binaryClients.get(socket);
+        if (binaryClient != null) {
+            sendBinary(socket, binaryClient);
+        } else {
+            sendJson(socket);
+        }
+    }
+
+    private void configureClient(WebSocket socket, String message) {
+        try {
+            final ClientRequest request = GSON.fromJson(message, ClientRequest.class);
+            if (PROTOCOL_BINARY.equals(request.protocol())) {
+                binaryClients.computeIfAbsent(socket, s -> new BinaryVisualizerClient(unitNames)).setViewport(request.viewport());
+            } else {
+                binaryClients.remove(socket);
+            }
+        } catch (JsonParseException | IllegalArgumentException e) {
+            log.warn("Could not read request of visualizer client: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * All pending interactions are collected while holding the lock, their serialization and
+     * transmission is done afterward, without blocking the simulation.
+     */
+    private void sendJson(WebSocket socket) {
+        final List<Interaction> registrations;
+        final VehicleUpdates vehicleUpdates;
+        final AgentUpdates agentUpdates;
+        final List<String> removedUnits;
+        final List<V2xMessageTransmission> transmissions;
+        final List<V2xMessageReception> receptions;
+        final List<ChargingStationUpdate> stationUpdates;
+        synchronized (this) {
+            registrations = drainRegistrations();
+            vehicleUpdates = vehicleUpdatesReference.get();
+            agentUpdates = agentUpdatesReference.get();
+            removedUnits = drain(vehiclesToRemove);
+            removedUnits.addAll(drain(agentsToRemove));
+            transmissions = drain(sentV2xMessages);
+            receptions = drain(receivedV2xMessages);
+            stationUpdates = drain(chargingStationUpdates);
+        }
+
+        sendInteractions(socket, registrations);
+
+        sendVehicleUpdates(socket, vehicleUpdates);
+        sendAgentUpdates(socket, agentUpdates);
+        sendUnitsToBeRemoved(socket, removedUnits);
+
+        sendV2xMessageTransmissions(socket, transmissions);
+        sendV2xMessageReceptions(socket, receptions);
+
+        sendInteractions(socket, stationUpdates);
+    }
+
+    /**
+     * Vehicle movements, vehicle removals, and V2X activity are sent as one binary frame, all other
+     * (rare) interactions are still sent as JSON. Only the collection of pending interactions
+     * is done while holding the lock, the encoding of the frame is done without blocking the simulation.
+     */
+    private void sendBinary(WebSocket socket, BinaryVisualizerClient client) {
+        final List<Interaction> registrations;
+        final AgentUpdates agentUpdates;
+        final List<String> removedAgents;
+        final List<ChargingStationUpdate> stationUpdates;
+        final VehicleUpdates vehicleUpdates;
+        final List<String> removedVehicles;
+        final List<String> senders;
+        final List<String> receivers;
+        synchronized (this) {
+            registrations = drainRegistrations();
+            agentUpdates = agentUpdatesReference.get();
+            removedAgents = drain(agentsToRemove);
+            stationUpdates = drain(chargingStationUpdates);
+
+            vehicleUpdates = vehicleUpdatesReference.get();
+            removedVehicles = drain(vehiclesToRemove);
+            senders = new ArrayList<>(sentV2xMessages.size());
+            for (V2xMessageTransmission transmission : drain(sentV2xMessages)) {
+                senders.add(transmission.getSourceName());
+            }
+            receivers = new ArrayList<>(receivedV2xMessages.size());
+            for (V2xMessageReception reception : drain(receivedV2xMessages)) {
+                receivers.add(reception.getReceiverName());
+            }
+        }
 
-        sendInteractions(socket, vehicleRegistrations);
-        sendInteractions(socket, agentRegistrations);
-        sendInteractions(socket, rsuRegistrations);
-        sendInteractions(socket, trafficLightRegistrations);
-        sendInteractions(socket, chargingStationRegistrations);
+        sendInteractions(socket, registrations);
+        sendAgentUpdates(socket, agentUpdates);
+        sendUnitsToBeRemoved(socket, removedAgents);
 
-        sendVehicleUpdates(socket);
-        sendAgentUpdates(socket);
-        sendUnitsToBeRemoved(socket);
+        final ByteBuffer frame;
+        synchronized (client) {
+            frame = client.encode(
+                    vehicleUpdates != null ? vehicleUpdates.getTime() : 0,
+                    vehicleUpdates != null ? vehicleUpdates.getUpdated() : Collections.emptyList(),
+                    removedVehicles, senders, receivers
+            );
+        }
+        if (frame != null) {
+            socket.send(frame);
+        }
 
-        sendV2xMessageTransmissions(socket);
-        sendInteractions(socket, receivedV2xMessages);
+        sendInteractions(socket, stationUpdates);
+    }
 
-        sendInteractions(socket, chargingStationUpdates);
+    /**
+     * Collects (and removes) all pending registrations in the order they are sent to the client.
+     * Must be called while holding the lock.
+     */
+    private List<Interaction> drainRegistrations() {
+        final List<Interaction> registrations = new ArrayList<>();
+        registrations.addAll(drain(vehicleRegistrations));
+        registrations.addAll(drain(agentRegistrations));
+        registrations.addAll(drain(rsuRegistrations));
+        registrations.addAll(drain(trafficLightRegistrations));
+        registrations.addAll(drain(chargingStationRegistrations));
+        return registrations;
     }
 
-    private void sendVehicleUpdates(WebSocket socket) {
-        if (vehicleUpdatesReference.get() != null && !vehicleUpdatesReference.get().getUpdated().isEmpty()) {
-            VehicleUpdates reduced = reduceVehicleUpdates(vehicleUpdatesReference.get());
-            JsonElement jsonElement = new Gson().toJsonTree(reduced);
+    private void sendVehicleUpdates(WebSocket socket, VehicleUpdates vehicleUpdates) {
+        if (vehicleUpdates != null && !vehicleUpdates.getUpdated().isEmpty()) {
+            VehicleUpdates reduced = reduceVehicleUpdates(vehicleUpdates);
+            JsonElement jsonElement = GSON.toJsonTree(reduced);
             JsonObject jsonObject = new JsonObject();
             jsonObject.add(VehicleUpdates.TYPE_ID, jsonElement);
             socket.send(jsonObject.toString());
@@ -140,10 +284,10 @@ public class WebsocketVisualizerServer extends WebSocketServer implements Runnab
         return new VehicleUpdates(original.getTime(), Collections.EMPTY_LIST, reducedUpdates, Collections.EMPTY_LIST);
     }
 
-    private void sendAgentUpdates(WebSocket socket) {
-        if (agentUpdatesReference.get() != null && !agentUpdatesReference.get().getUpdated().isEmpty()) {
-            AgentUpdates reduced = reduceAgentUpdates(agentUpdatesReference.get());
-            JsonElement jsonElement = new Gson().toJsonTree(reduced);
+    private void sendAgentUpdates(WebSocket socket, AgentUpdates agentUpdates) {
+        if (agentUpdates != null && !agentUpdates.getUpdated().isEmpty()) {
+            AgentUpdates reduced = reduceAgentUpdates(agentUpdates);
+            JsonElement jsonElement = GSON.toJsonTree(reduced);
             JsonObject jsonObject = new JsonObject();
             jsonObject.add(AgentUpdates.TYPE_ID, jsonElement);
             socket.send(jsonObject.toString());
@@ -160,54 +304,54 @@ public class WebsocketVisualizerServer extends WebSocketServer implements Runnab
         return new AgentUpdates(original.getTime(), reducedUpdates, Collections.EMPTY_LIST);
     }
 
-    private void sendUnitsToBeRemoved(WebSocket socket) {
-        if (!agentsToRemove.isEmpty() || !vehiclesToRemove.isEmpty()) {
-            // copy (and remove) vehicles from queue to separate list in a thread-safe manner
-            final List<String> toRemove = new ArrayList<>(vehiclesToRemove.size() + agentsToRemove.size());
-            for (Iterator<String> iterator = vehiclesToRemove.iterator(); iterator.hasNext(); ) {
-                toRemove.add(iterator.next());
-                iterator.remove();
-            }
-            for (Iterator<String> iterator = agentsToRemove.iterator(); iterator.hasNext(); ) {
-                toRemove.add(iterator.next());
-                iterator.remove();
-            }
-
-            JsonElement jsonElement = new Gson().toJsonTree(toRemove);
+    private void sendUnitsToBeRemoved(WebSocket socket, List<String> toRemove) {
+        if (!toRemove.isEmpty()) {
+            JsonElement jsonElement = GSON.toJsonTree(toRemove);
             JsonObject jsonObject = new JsonObject();
             jsonObject.add(UNITS_REMOVE, jsonElement);
             socket.send(jsonObject.toString());
         }
     }
 
-    private void sendV2xMessageTransmissions(WebSocket socket) {
-        for (Iterator<V2xMessageTransmission> iterator = sentV2xMessages.iterator(); iterator.hasNext(); ) {
-            V2xMessageTransmission transmission = iterator.next();
-
-            Gson gson = new Gson();
-            JsonElement jsonElement = gson.toJsonTree(
-                    // reduce info to avoid expensive/erroneous json-serialization of custom V2xMessages
-                    new V2xMessageTransmissionInfo(transmission.getTime(), transmission.getMessageId(), transmission.getSourceName())
-            );
-            JsonObject jsonObject = new JsonObject();
-            jsonObject.add(V2xMessageTransmission.TYPE_ID, jsonElement);
-            socket.send(jsonObject.toString());
+    private void sendV2xMessageTransmissions(WebSocket socket, List<V2xMessageTransmission> transmissions) {
+        // reduce info to avoid expensive/erroneous json-serialization of custom V2xMessages
+        List<V2xMessageTransmissionInfo> reduced = new ArrayList<>(transmissions.size());
+        for (V2xMessageTransmission transmission : transmissions) {
+            reduced.add(new V2xMessageTransmissionInfo(transmission.getTime(), transmission.getMessageId(), transmission.getSourceName()));
+        }
+        sendPerTimeStep(socket, V2X_MESSAGE_TRANSMISSIONS, reduced, V2xMessageTransmissionInfo::time);
+    }
 
-            iterator.remove();
+    private void sendV2xMessageReceptions(WebSocket socket, List<V2xMessageReception> receptions) {
+        List<V2xMessageReceptionInfo> reduced = new ArrayList<>(receptions.size());
+        for (V2xMessageReception reception : receptions) {
+            reduced.add(new V2xMessageReceptionInfo(reception.getTime(), reception.getMessageId(), reception.getReceiverName()));
         }
+        sendPerTimeStep(socket, V2X_MESSAGE_RECEPTIONS, reduced, V2xMessageReceptionInfo::time);
     }
 
-    private <T extends Interaction> void sendInteractions(WebSocket socket, Queue<T> interactionsQueue) {
-        for (Iterator<T> iterator = interactionsQueue.iterator(); iterator.hasNext(); ) {
-            T interaction = iterator.next();
+    /**
+     * Sends the given elements as one JSON array for each time step, instead of one message per element.
+     * The elements are expected in the order they have been collected, thus sorted by time.
+     */
+    private <T> void sendPerTimeStep(WebSocket socket, String typeId, List<T> elements, ToLongFunction<T> timeFunction) {
+        int first = 0;
+        for (int i = 1; i <= elements.size(); i++) {
+            if (i == elements.size() || timeFunction.applyAsLong(elements.get(i)) != timeFunction.applyAsLong(elements.get(first))) {
+                JsonObject jsonObject = new JsonObject();
+                jsonObject.add(typeId, GSON.toJsonTree(elements.subList(first, i)));
+                socket.send(jsonObject.toString());
+                first = i;
+            }
+        }
+    }
 
-            Gson gson = new Gson();
-            JsonElement jsonElement = gson.toJsonTree(interaction);
+    private void sendInteractions(WebSocket socket, List<? extends Interaction> interactions) {
+        for (Interaction interaction : interactions) {
+            JsonElement jsonElement = GSON.toJsonTree(interaction);
             JsonObject jsonObject = new JsonObject();
             jsonObject.add(interaction.getTypeId(), jsonElement);
             socket.send(jsonObject.toString());
-
-            iterator.remove();
         }
     }
 
@@ -260,6 +404,18 @@ public class WebsocketVisualizerServer extends WebSocketServer implements Runnab
         agentRegistrations.add(interaction);
     }
 
+    /**
+     * Copies (and removes) all elements from the queue to a separate list in a thread-safe manner.
+     */
+    private static <T> List<T> drain(Queue<T> queue) {
+        final List<T> result = new ArrayList<>(queue.size());
+        for (Iterator<T> iterator = queue.iterator(); iterator.hasNext(); ) {
+            result.add(iterator.next());
+            iterator.remove();
+        }
+        return result;
+    }
+
     private static <T> Queue<T> createQueue() {
         return Queues.synchronizedQueue(EvictingQueue.create(MAX_MESSAGES_LIST));
     }
@@ -887,16 +887,18 @@ const WebSocketClient = (function () {
                 console.log(JSON.stringify(data.AgentRegistration))
                 var agentOrigin = data.AgentRegistration.origin
                 map.addAgent(data.AgentRegistration.agentMapping.name, agentOrigin.latitude, agentOrigin.longitude)
-            } else if (data.V2xMessageTransmission) {
-                // Mark vehicles that are sending right now
-                unitName = data.V2xMessageTransmission.sourceName
-                map.setUnitState(unitName, 'sending')
-                updatedUnits.push(unitName)
-            } else if (data.V2xMessageReception) {
-                // Mark vehicles that are receiving right now
-                unitName = data.V2xMessageReception.receiverName
-                map.setUnitState(unitName, 'receiving')
-                updatedUnits.push(unitName)
+            } else if (data.V2xMessageTransmissions) {
+                // Mark vehicles that are sending right now, all messages of one time step are sent together
+                data.V2xMessageTransmissions.forEach(transmission => {
+                    map.setUnitState(transmission.sourceName, 'sending')
+                    updatedUnits.push(transmission.sourceName)
+                })
+            } else if (data.V2xMessageReceptions) {
+                // Mark vehicles that are receiving right now, all messages of one time step are sent together
+                data.V2xMessageReceptions.forEach(reception => {
+                    map.setUnitState(reception.receiverName, 'receiving')
+                    updatedUnits.push(reception.receiverName)
+                })
             } else if (data.RsuRegistration) {
                 // Add RSU to map
                 unitName = data.RsuRegistration.rsuMapping.name
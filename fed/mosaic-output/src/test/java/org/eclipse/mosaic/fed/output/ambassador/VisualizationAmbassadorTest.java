@@ -20,19 +20,26 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.isA;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
+import org.eclipse.mosaic.interactions.communication.V2xMessageBatchReception;
+import org.eclipse.mosaic.interactions.communication.V2xMessageReception;
 import org.eclipse.mosaic.interactions.mapping.RsuRegistration;
 import org.eclipse.mosaic.interactions.mapping.VehicleRegistration;
 import org.eclipse.mosaic.interactions.traffic.VehicleUpdates;
 import org.eclipse.mosaic.lib.geo.GeoPoint;
+import org.eclipse.mosaic.lib.objects.v2x.V2xReceiverInformation;
 import org.eclipse.mosaic.lib.objects.vehicle.VehicleDeparture;
 import org.eclipse.mosaic.lib.objects.vehicle.VehicleType;
 import org.eclipse.mosaic.lib.util.junit.TestFileRule;
 import org.eclipse.mosaic.rti.TIME;
+import org.eclipse.mosaic.rti.api.Interaction;
 import org.eclipse.mosaic.rti.api.InternalFederateException;
 import org.eclipse.mosaic.rti.api.RtiAmbassador;
 import org.eclipse.mosaic.rti.api.parameters.AmbassadorParameter;
@@ -44,6 +51,7 @@ import com.google.common.collect.Lists;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnit;
 import org.mockito.junit.MockitoRule;
@@ -51,6 +59,8 @@ import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.stream.Collectors;
 
 /**
  * Test suite for {@link OutputAmbassador}.
@@ -61,7 +71,8 @@ public class VisualizationAmbassadorTest {
     public TestFileRule testFileRule = new TestFileRule()
             .with("/testconfiguration.xml")
             .with("/testconfiguration_faulty.xml")
-            .with("/testconfiguration_sameId.xml");
+            .with("/testconfiguration_sameId.xml")
+            .with("/testconfiguration_async.xml");
 
     @Rule
     public MockitoRule mockitoRule = MockitoJUnit.rule();
@@ -209,6 +220,32 @@ public class VisualizationAmbassadorTest {
         verify(generator4, never()).handleUnregisteredInteraction(isA(RsuRegistration.class));
     }
 
+    @Test
+    public void visualizeBatchReceptionAsSingleReceptions() throws InternalFederateException {
+        //PREPARE
+        output.initialize(0, Long.MAX_VALUE);
+
+        AbstractOutputGenerator generator1 = output.generators.get("generator1").getGenerator();
+        AbstractOutputGenerator generator2 = output.generators.get("generator2").getGenerator();
+
+        //RUN
+        output.processInteraction(new V2xMessageBatchReception(
+                TIME.SECOND, 1, Lists.newArrayList("veh_0", "veh_1", "veh_2"), new V2xReceiverInformation(TIME.SECOND)
+        ));
+        output.processTimeAdvanceGrant(2 * TIME.SECOND);
+
+        //ASSERT
+        // generator2 subscribed to V2xMessageReception and receives one interaction per receiver
+        ArgumentCaptor<Interaction> captor = ArgumentCaptor.forClass(Interaction.class);
+        verify(generator2, times(3)).handleUnregisteredInteraction(captor.capture());
+        assertEquals(
+                Lists.newArrayList("veh_0", "veh_1", "veh_2"),
+                captor.getAllValues().stream().map(i -> ((V2xMessageReception) i).getReceiverName()).collect(Collectors.toList())
+        );
+        verify(generator2, never()).handleUnregisteredInteraction(isA(V2xMessageBatchReception.class));
+        verify(generator1, never()).handleUnregisteredInteraction(any());
+    }
+
     /**
      * A test to check if faulty start and end values are handled correct.
      * Checks log output to verify that Exceptions were logged.
@@ -267,4 +304,65 @@ public class VisualizationAmbassadorTest {
         }
     }
 
-}
\ No newline at end of file
+    @Test(timeout = 10000)
+    public void asyncGenerator_blockingBackpressure_allInteractionsHandledInOrder() throws Exception {
+        //PREPARE
+        OutputAmbassador outputAsync = new OutputAmbassador(
+                new AmbassadorParameter("output", testFileRule.get("testconfiguration_async.xml"))
+        );
+        outputAsync.setRtiAmbassador(rtiMock);
+        outputAsync.initialize(0, Long.MAX_VALUE);
+
+        AbstractOutputGenerator generator = outputAsync.generators.get("asyncBlocking").getGenerator();
+
+        //RUN
+        for (int i = 0; i < 100; i++) {
+            outputAsync.processInteraction(new VehicleUpdates(i * TIME.MILLI_SECOND, Lists.newArrayList(), Lists.newArrayList(), Lists.newArrayList()));
+        }
+        outputAsync.processTimeAdvanceGrant(2 * TIME.SECOND);
+        outputAsync.finishSimulation();
+
+        //ASSERT
+        ArgumentCaptor<Interaction> captor = ArgumentCaptor.forClass(Interaction.class);
+        verify(generator, times(100)).handleUnregisteredInteraction(captor.capture());
+        List<Long> handledTimes = captor.getAllValues().stream().map(Interaction::getTime).collect(Collectors.toList());
+        assertEquals(handledTimes.stream().sorted().collect(Collectors.toList()), handledTimes);
+        assertEquals(0, outputAsync.generators.get("asyncBlocking").getDroppedInteractions());
+        verify(generator, times(1)).finish();
+    }
+
+    @Test(timeout = 10000)
+    public void asyncGenerator_dropBackpressure_interactionsDroppedOnFullQueue() throws Exception {
+        //PREPARE
+        OutputAmbassador outputAsync = new OutputAmbassador(
+                new AmbassadorParameter("output", testFileRule.get("testconfiguration_async.xml"))
+        );
+        outputAsync.setRtiAmbassador(rtiMock);
+        outputAsync.initialize(0, Long.MAX_VALUE);
+
+        GeneratorInformation generatorInformation = outputAsync.generators.get("asyncDropping");
+        AbstractOutputGenerator generator = generatorInformation.getGenerator();
+
+        // the generator blocks until all interactions have been submitted
+        CountDownLatch submitted = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            submitted.await();
+            return null;
+        }).when(generator).handleUnregisteredInteraction(any());
+
+        //RUN
+        for (int i = 0; i < 20; i++) {
+            outputAsync.processInteraction(new VehicleUpdates(i * TIME.MILLI_SECOND, Lists.newArrayList(), Lists.newArrayList(), Lists.newArrayList()));
+        }
+        submitted.countDown();
+        outputAsync.finishSimulation();
+
+        //ASSERT
+        // queue of size 4, at most one further interaction has been taken by the blocked generator
+        long dropped = generatorInformation.getDroppedInteractions();
+        assertTrue(dropped >= 15);
+        verify(generator, times((int) (20 - dropped))).handleUnregisteredInteraction(isA(VehicleUpdates.class));
+        verify(generator, atLeastOnce()).finish();
+    }
+
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.fed.output.generator.columnar;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import org.eclipse.mosaic.fed.output.generator.columnar.ColumnarFormat.Table;
+import org.eclipse.mosaic.interactions.communication.V2xMessageReception;
+import org.eclipse.mosaic.interactions.traffic.TrafficDetectorUpdates;
+import org.eclipse.mosaic.interactions.traffic.VehicleUpdates;
+import org.eclipse.mosaic.lib.geo.GeoPoint;
+import org.eclipse.mosaic.lib.objects.traffic.InductionLoopInfo;
+import org.eclipse.mosaic.lib.objects.traffic.LaneAreaDetectorInfo;
+import org.eclipse.mosaic.lib.objects.v2x.V2xReceiverInformation;
+import org.eclipse.mosaic.lib.objects.vehicle.VehicleData;
+import org.eclipse.mosaic.rti.TIME;
+
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Tests for the {@link ColumnarOutput} and the {@link ColumnarReader}.
+ */
+public class ColumnarOutputTest {
+
+    @Test
+    public void vehicleUpdates_writtenAndReadBack() throws IOException {
+        // SETUP
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ColumnarOutput output = new ColumnarOutput(new ColumnarWriter(out, 1024));
+
+        // RUN
+        output.handleInteraction(new VehicleUpdates(TIME.SECOND,
+                List.of(vehicle(TIME.SECOND, "veh_0", 52.5131, 13.3249, 10.0)),
+                List.of(vehicle(TIME.SECOND, "veh_1", 52.5132, 13.3248, 12.5)),
+                List.of()
+        ));
+        output.handleInteraction(new VehicleUpdates(2 * TIME.SECOND,
+                List.of(),
+                List.of(vehicle(2 * TIME.SECOND, "veh_0", 52.5133, 13.3251, 11.0),
+                        new VehicleData.Builder(2 * TIME.SECOND, "veh_2").position(null, null).create()),
+                List.of("veh_1")
+        ));
+        output.finish();
+
+        // ASSERT
+        ColumnarReader reader = new ColumnarReader(new ByteArrayInputStream(out.toByteArray()));
+        ColumnarReader.RowGroup rowGroup = reader.next();
+        assertEquals(Table.VEHICLE_UPDATES.name(), rowGroup.getTable());
+        assertEquals(5, rowGroup.getRowCount());
+        assertArrayEquals(new long[]{TIME.SECOND, TIME.SECOND, 2 * TIME.SECOND, 2 * TIME.SECOND, 2 * TIME.SECOND}, rowGroup.getLongs("time"));
+        assertArrayEquals(new String[]{"veh_0", "veh_1", "veh_0", "veh_2", "veh_1"}, rowGroup.getStrings("vehicle"));
+        assertArrayEquals(new long[]{0, 1, 1, 1, 2}, rowGroup.getLongs("state"));
+        assertArrayEquals(new double[]{52.5131, 52.5132, 52.5133, Double.NaN, Double.NaN}, rowGroup.getDoubles("latitude"), 1e-7);
+        assertArrayEquals(new double[]{13.3249, 13.3248, 13.3251, Double.NaN, Double.NaN}, rowGroup.getDoubles("longitude"), 1e-7);
+        assertArrayEquals(new double[]{10.0, 12.5, 11.0, 0.0, Double.NaN}, rowGroup.getDoubles("speed"), 1e-6);
+        assertNull(reader.next());
+    }
+
+    @Test
+    public void rowGroupsFlushedBySize_dictionaryWrittenIncrementally() throws IOException {
+        // SETUP
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ColumnarOutput output = new ColumnarOutput(new ColumnarWriter(out, 4));
+
+        // RUN
+        for (int i = 0; i < 10; i++) {
+            output.handleInteraction(new V2xMessageReception(i * TIME.MILLI_SECOND, "rsu_" + (i % 6), i,
+                    new V2xReceiverInformation(i * TIME.MILLI_SECOND).signalStrength(-80f + i)));
+        }
+        output.finish();
+
+        // ASSERT
+        ColumnarReader reader = new ColumnarReader(new ByteArrayInputStream(out.toByteArray()));
+        List<String> receivers = new ArrayList<>();
+        List<Integer> rowGroupSizes = new ArrayList<>();
+        ColumnarReader.RowGroup rowGroup;
+        while ((rowGroup = reader.next()) != null) {
+            assertEquals(Table.V2X_MESSAGE_RECEPTIONS.name(), rowGroup.getTable());
+            rowGroupSizes.add(rowGroup.getRowCount());
+            receivers.addAll(List.of(rowGroup.getStrings("receiver")));
+        }
+        assertEquals(List.of(4, 4, 2), rowGroupSizes);
+        assertEquals(List.of("rsu_0", "rsu_1", "rsu_2", "rsu_3", "rsu_4", "rsu_5", "rsu_0", "rsu_1", "rsu_2", "rsu_3"), receivers);
+    }
+
+    @Test
+    public void trafficDetectorUpdates_writtenIntoSeparateTables() throws IOException {
+        // SETUP
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ColumnarOutput output = new ColumnarOutput(new ColumnarWriter(out, 1024));
+
+        // RUN
+        output.handleInteraction(new TrafficDetectorUpdates(5 * TIME.SECOND,
+                List.of(new LaneAreaDetectorInfo.Builder(5 * TIME.SECOND, "lad_0").vehicleData(3, 8.5).haltingVehicles(1).create()),
+                List.of(new InductionLoopInfo.Builder(5 * TIME.SECOND, "il_0").traffic(7, 1200).vehicleData(13.5, 4.5).create())
+        ));
+        output.finish();
+
+        // ASSERT
+        ColumnarReader reader = new ColumnarReader(new ByteArrayInputStream(out.toByteArray()));
+        ColumnarReader.RowGroup inductionLoops = reader.next();
+        ColumnarReader.RowGroup laneAreaDetectors = reader.next();
+        assertNull(reader.next());
+
+        assertEquals(Table.INDUCTION_LOOPS.name(), inductionLoops.getTable());
+        assertArrayEquals(new String[]{"il_0"}, inductionLoops.getStrings("detector"));
+        assertArrayEquals(new long[]{7}, inductionLoops.getLongs("vehicleCount"));
+        assertArrayEquals(new double[]{13.5}, inductionLoops.getDoubles("meanSpeed"), 1e-6);
+
+        assertEquals(Table.LANE_AREA_DETECTORS.name(), laneAreaDetectors.getTable());
+        assertArrayEquals(new String[]{"lad_0"}, laneAreaDetectors.getStrings("detector"));
+        assertArrayEquals(new long[]{1}, laneAreaDetectors.getLongs("haltingVehicles"));
+    }
+
+    private static VehicleData vehicle(long time, String name, double latitude, double longitude, double speed) {
+        return new VehicleData.Builder(time, name)
+                .position(GeoPoint.latLon(latitude, longitude), null)
+                .movement(speed, 0, 0)
+                .create();
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.fed.output.generator.file.format;
+
+import static org.junit.Assert.assertEquals;
+
+import org.eclipse.mosaic.lib.geo.GeoPoint;
+
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * Tests for the {@link MethodAccessors}.
+ */
+public class MethodAccessorsTest {
+
+    @Test
+    public void compileGetter_publicClass() throws Exception {
+        Function<Object, Object> getter = MethodAccessors.compileGetter(GeoPoint.class.getMethod("getLatitude"));
+
+        assertEquals(52.5, getter.apply(GeoPoint.latLon(52.5, 13.4)));
+    }
+
+    @Test
+    public void compileDoubleGetter_publicClass() throws Exception {
+        ToDoubleFunction<Object> getter = MethodAccessors.compileDoubleGetter(GeoPoint.class.getMethod("getLongitude"));
+
+        assertEquals(13.4, getter.applyAsDouble(GeoPoint.latLon(52.5, 13.4)), 0d);
+    }
+
+    @Test
+    public void compileGetter_nonPublicClass() throws Exception {
+        Function<Object, Object> getter = MethodAccessors.compileGetter(Hidden.class.getMethod("getValue"));
+        ToDoubleFunction<Object> doubleGetter = MethodAccessors.compileDoubleGetter(Hidden.class.getMethod("getFactor"));
+
+        assertEquals("hidden", getter.apply(new Hidden()));
+        assertEquals(0.5, doubleGetter.applyAsDouble(new Hidden()), 0d);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void compileDoubleGetter_noFloatingPointNumber() throws Exception {
+        MethodAccessors.compileDoubleGetter(Hidden.class.getMethod("getValue"));
+    }
+
+    @Test
+    public void compileLongGetter() throws Exception {
+        ToLongFunction<Object> intGetter = MethodAccessors.compileLongGetter(String.class.getMethod("length"));
+        ToLongFunction<Object> longGetter = MethodAccessors.compileLongGetter(AtomicLong.class.getMethod("get"));
+        ToLongFunction<Object> hiddenGetter = MethodAccessors.compileLongGetter(Hidden.class.getMethod("getCount"));
+
+        assertEquals(6L, intGetter.applyAsLong("hidden"));
+        assertEquals(5_000L, longGetter.applyAsLong(new AtomicLong(5_000L)));
+        assertEquals(42L, hiddenGetter.applyAsLong(new Hidden()));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void compileLongGetter_noIntegralNumber() throws Exception {
+        MethodAccessors.compileLongGetter(Hidden.class.getMethod("getFactor"));
+    }
+
+    private static class Hidden {
+
+        public String getValue() {
+            return "hidden";
+        }
+
+        public float getFactor() {
+            return 0.5f;
+        }
+
+        public int getCount() {
+            return 42;
+        }
+    }
+}
@@ -15,12 +15,16 @@
 
 package org. eclipse.mosaic.fed.output.generator.websocket;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNull;
 
+import org.eclipse.mosaic.interactions.communication.V2xMessageReception;
+import org.eclipse.mosaic.interactions.communication.V2xMessageTransmission;
 import org.eclipse.mosaic.interactions.traffic.VehicleUpdates;
 import org.eclipse.mosaic.lib.enums.DriveDirection;
 import org.eclipse.mosaic.lib.geo.GeoPoint;
 import org.eclipse.mosaic.lib.objects.road.SimpleRoadPosition;
+import org.eclipse.mosaic.lib.objects.v2x.V2xMessage;
 import org.eclipse.mosaic.lib.objects.vehicle.VehicleData;
 import org.eclipse.mosaic.lib.objects.vehicle.VehicleSensors;
 import org.eclipse.mosaic.lib.objects.vehicle.sensor.DistanceSensor;
@@ -32,11 +36,15 @@ import org.java_websocket.WebSocket;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.ArgumentMatchers;
 import org.mockito.Mockito;
 import org.mockito.stubbing.Answer;
 
 import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
 import java.util.concurrent.atomic.AtomicReference;
 
 public class WebsocketVisualizerServerTest {
@@ -44,17 +52,23 @@ public class WebsocketVisualizerServerTest {
     private WebsocketVisualizerServer websocketVisualizer;
     private WebSocket socketMock;
     private AtomicReference<String> sentString;
+    private AtomicReference<ByteBuffer> sentFrame;
 
     @Before
     public void setup() {
         websocketVisualizer = new WebsocketVisualizerServer(Mockito.mock(InetSocketAddress.class));
         sentString = new AtomicReference<>(null);
+        sentFrame = new AtomicReference<>(null);
 
         socketMock = Mockito.mock(WebSocket.class);
         Mockito.doAnswer((Answer<Void>) invocation -> {
             sentString.set(invocation.getArgument(0));
             return null;
         }).when(socketMock).send(ArgumentMatchers.anyString());
+        Mockito.doAnswer((Answer<Void>) invocation -> {
+            sentFrame.set(invocation.getArgument(0));
+            return null;
+        }).when(socketMock).send(ArgumentMatchers.any(ByteBuffer.class));
     }
 
     /**
@@ -132,4 +146,123 @@ public class WebsocketVisualizerServerTest {
         Assert.assertEquals(vehMovementsToReceive, actualVehMovementsReceived);
     }
 
+    /**
+     * Tests if all V2X messages sent or received within one time step are sent to the client as one array.
+     */
+    @Test
+    public void v2xMessagesSentPerTimeStep() {
+        // setup
+        websocketVisualizer.sendV2xMessage(transmission(5, 1, "rsu_0"));
+        websocketVisualizer.sendV2xMessage(transmission(5, 2, "veh_0"));
+        websocketVisualizer.sendV2xMessage(transmission(6, 3, "rsu_0"));
+        websocketVisualizer.receiveV2xMessage(new V2xMessageReception(5, "veh_1", 1, null));
+        websocketVisualizer.receiveV2xMessage(new V2xMessageReception(5, "veh_2", 1, null));
+
+        // run
+        websocketVisualizer.onMessage(socketMock, "pull");
+
+        // assert
+        final ArgumentCaptor<String> sentMessages = ArgumentCaptor.forClass(String.class);
+        Mockito.verify(socketMock, Mockito.times(3)).send(sentMessages.capture());
+        assertEquals(Lists.newArrayList(
+                "{\"V2xMessageTransmissions\":[{\"time\":5,\"messageId\":1,\"sourceName\":\"rsu_0\"},"
+                        + "{\"time\":5,\"messageId\":2,\"sourceName\":\"veh_0\"}]}",
+                "{\"V2xMessageTransmissions\":[{\"time\":6,\"messageId\":3,\"sourceName\":\"rsu_0\"}]}",
+                "{\"V2xMessageReceptions\":[{\"time\":5,\"messageId\":1,\"receiverName\":\"veh_1\"},"
+                        + "{\"time\":5,\"messageId\":1,\"receiverName\":\"veh_2\"}]}"
+        ), sentMessages.getAllValues());
+    }
+
+    /**
+     * Tests if vehicles are only sent if they changed since the last frame and if they are within the viewport of the client.
+     */
+    @Test
+    public void binaryProtocol_deltaEncodedAndCulledByViewport() {
+        websocketVisualizer.onMessage(socketMock, "{\"protocol\":\"binary\",\"viewport\":[52.0,13.0,53.0,14.0]}");
+        assertNull(sentFrame.get());
+
+        // first frame: new names, absolute position of visible vehicle only
+        websocketVisualizer.updateVehicleUpdates(new VehicleUpdates(5, Lists.newArrayList(), Lists.newArrayList(
+                vehicle("veh_0", 52.5, 13.5), vehicle("veh_1", 10.0, 10.0)
+        ), Lists.newArrayList()));
+        websocketVisualizer.onMessage(socketMock, "pull");
+
+        ByteBuffer frame = sentFrame.getAndSet(null).order(ByteOrder.LITTLE_ENDIAN);
+        assertEquals(BinaryVisualizerClient.FRAME_UNIT_UPDATES, frame.get());
+        assertEquals(5d, frame.getDouble(), 0d);
+        assertEquals(0, frame.getInt());
+        assertEquals(2, frame.getInt());
+        assertEquals("veh_0", readName(frame));
+        assertEquals("veh_1", readName(frame));
+        assertEquals(1, frame.getInt());
+        assertEquals(0, frame.getInt());
+        assertEquals(BinaryVisualizerClient.FLAG_ABSOLUTE, frame.get());
+        assertEquals(52_500_000, frame.getInt());
+        assertEquals(13_500_000, frame.getInt());
+        assertEmptyLists(frame, 4);
+
+        // nothing changed -> no frame at all
+        websocketVisualizer.onMessage(socketMock, "pull");
+        assertNull(sentFrame.get());
+
+        // vehicle moved slightly -> delta, then vehicle leaves the viewport
+        websocketVisualizer.updateVehicleUpdates(new VehicleUpdates(6, Lists.newArrayList(), Lists.newArrayList(
+                vehicle("veh_0", 52.5001, 13.4999), vehicle("veh_1", 10.0, 10.0)
+        ), Lists.newArrayList()));
+        websocketVisualizer.onMessage(socketMock, "pull");
+
+        frame = sentFrame.getAndSet(null).order(ByteOrder.LITTLE_ENDIAN);
+        frame.position(1 + 8);
+        assertEquals(2, frame.getInt());
+        assertEquals(0, frame.getInt());
+        assertEquals(1, frame.getInt());
+        assertEquals(0, frame.getInt());
+        assertEquals(0, frame.get());
+        assertEquals(100, frame.getShort());
+        assertEquals(-100, frame.getShort());
+        assertEmptyLists(frame, 4);
+
+        websocketVisualizer.updateVehicleUpdates(new VehicleUpdates(7, Lists.newArrayList(), Lists.newArrayList(
+                vehicle("veh_0", 54.0, 13.5)
+        ), Lists.newArrayList("veh_1")));
+        websocketVisualizer.onMessage(socketMock, "pull");
+
+        frame = sentFrame.getAndSet(null).order(ByteOrder.LITTLE_ENDIAN);
+        frame.position(1 + 8 + 4);
+        assertEquals(0, frame.getInt());
+        assertEquals(0, frame.getInt());
+        // hidden
+        assertEquals(1, frame.getInt());
+        assertEquals(0, frame.getInt());
+        // removed
+        assertEquals(1, frame.getInt());
+        assertEquals(1, frame.getInt());
+        assertEmptyLists(frame, 2);
+        assertNull(sentString.get());
+    }
+
+    private static V2xMessageTransmission transmission(long time, int messageId, String sourceName) {
+        final V2xMessage message = Mockito.mock(V2xMessage.class, Mockito.RETURNS_DEEP_STUBS);
+        Mockito.when(message.getId()).thenReturn(messageId);
+        Mockito.when(message.getRouting().getSource().getSourceName()).thenReturn(sourceName);
+        return new V2xMessageTransmission(time, message);
+    }
+
+    private static VehicleData vehicle(String name, double latitude, double longitude) {
+        return new VehicleData.Builder(0, name).position(GeoPoint.latLon(latitude, longitude), null).create();
+    }
+
+    private static String readName(ByteBuffer frame) {
+        final byte[] name = new byte[frame.getShort()];
+        frame.get(name);
+        return new String(name, StandardCharsets.UTF_8);
+    }
+
+    private static void assertEmptyLists(ByteBuffer frame, int count) {
+        for (int i = 0; i < count; i++) {
+            assertEquals(0, frame.getInt());
+        }
+        assertEquals(0, frame.remaining());
+    }
+
 }
@@ -17,6 +17,7 @@ package org.eclipse.mosaic.fed.sns.ambassador;
 
 import org.eclipse.mosaic.fed.sns.config.CSns;
 import org.eclipse.mosaic.interactions.communication.AdHocCommunicationConfiguration;
+import org.eclipse.mosaic.interactions.communication.V2xMessageBatchReception;
 import org.eclipse.mosaic.interactions.communication.V2xMessageReception;
 import org.eclipse.mosaic.interactions.communication.V2xMessageTransmission;
 import org.eclipse.mosaic.interactions.mapping.ChargingStationRegistration;
@@ -42,8 +43,11 @@ import org.eclipse.mosaic.rti.api.Interaction;
 import org.eclipse.mosaic.rti.api.InternalFederateException;
 import org.eclipse.mosaic.rti.api.parameters.AmbassadorParameter;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -89,6 +93,9 @@ public class SnsAmbassador extends AbstractFederateAmbassador {
         super.initialize(startTime, endTime);
         this.log.info("Init simulation with startTime={}, endTime={}", startTime, endTime);
 
+        // remove nodes left over from a previous simulation within the same JVM
+        SimulationEntities.INSTANCE.reset();
+
         if (log.isTraceEnabled()) {
             log.trace("subscribedMessages: {}", Arrays.toString(this.rti.getSubscribedInteractions().toArray()));
         }
@@ -264,7 +271,8 @@ public class SnsAmbassador extends AbstractFederateAmbassador {
 
     /**
      * Create the {@link V2xMessageReception}s to be sent to the RTI, the Application Simulator and accordingly
-     * applications of possible receivers.
+     * applications of possible receivers. All receivers which receive the message at the same time are
+     * combined into one {@link V2xMessageBatchReception}.
      *
      * @param transmissionResults    Set of successful receivers
      * @param v2xMessageTransmission Originally sent message (for messageId and sending time)
@@ -274,6 +282,7 @@ public class SnsAmbassador extends AbstractFederateAmbassador {
         if (transmissionResults == null) {
             return;
         }
+        final Map<Long, List<String>> receiversByTime = new LinkedHashMap<>();
         for (Map.Entry<String, TransmissionResult> transmissionResultEntry : transmissionResults.entrySet()) {
             if (transmissionResultEntry.getValue().success) {
                 long receiveTime = v2xMessageTransmission.getTime() + transmissionResultEntry.getValue().delay;
@@ -282,22 +291,30 @@ public class SnsAmbassador extends AbstractFederateAmbassador {
                             v2xMessageTransmission.getMessageId(), transmissionResultEntry.getKey(), TIME.format(receiveTime)
                     );
                 }
+                receiversByTime.computeIfAbsent(receiveTime, t -> new ArrayList<>()).add(transmissionResultEntry.getKey());
+            }
+        }
 
-                final V2xMessageReception v2xMessageReception = new V2xMessageReception(
-                        receiveTime,
-                        transmissionResultEntry.getKey(),
-                        v2xMessageTransmission.getMessageId(),
-                        new V2xReceiverInformation(receiveTime).sendTime(v2xMessageTransmission.getTime())
+        for (Map.Entry<Long, List<String>> receivers : receiversByTime.entrySet()) {
+            final long receiveTime = receivers.getKey();
+            final V2xReceiverInformation receiverInformation = new V2xReceiverInformation(receiveTime)
+                    .sendTime(v2xMessageTransmission.getTime());
+            final Interaction reception;
+            if (receivers.getValue().size() == 1) {
+                reception = new V2xMessageReception(
+                        receiveTime, receivers.getValue().get(0), v2xMessageTransmission.getMessageId(), receiverInformation
+                );
+            } else {
+                reception = new V2xMessageBatchReception(
+                        receiveTime, v2xMessageTransmission.getMessageId(), receivers.getValue(), receiverInformation
                 );
-                try {
-                    rti.triggerInteraction(v2xMessageReception);
-                } catch (IllegalValueException | InternalFederateException e) {
-                    throw new InternalFederateException(e);
-                }
-
+            }
+            try {
+                rti.triggerInteraction(reception);
+            } catch (IllegalValueException | InternalFederateException e) {
+                throw new InternalFederateException(e);
             }
         }
-
     }
 
     @Override
@@ -22,6 +22,7 @@ import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.when;
 
 import org.eclipse.mosaic.interactions.communication.AdHocCommunicationConfiguration;
+import org.eclipse.mosaic.interactions.communication.V2xMessageBatchReception;
 import org.eclipse.mosaic.interactions.communication.V2xMessageReception;
 import org.eclipse.mosaic.interactions.communication.V2xMessageTransmission;
 import org.eclipse.mosaic.interactions.mapping.VehicleRegistration;
@@ -91,6 +92,7 @@ public class SnsAmbassadorTest {
 
     private final Map<String, GeoPoint> vehToPosition = new HashMap<>();
     private final List<V2xMessageReception> messagesSent = new ArrayList<>();
+    private final List<V2xMessageBatchReception> batchesSent = new ArrayList<>();
 
     @Before
     public void setup() throws Exception {
@@ -110,6 +112,12 @@ public class SnsAmbassadorTest {
             messagesSent.add(((V2xMessageReception) invocationOnMock.getArguments()[0]));
             return null;
         }).when(rtiMock).triggerInteraction(isA(V2xMessageReception.class));
+        doAnswer((invocationOnMock) -> {
+            V2xMessageBatchReception batch = (V2xMessageBatchReception) invocationOnMock.getArguments()[0];
+            batchesSent.add(batch);
+            messagesSent.addAll(batch.toReceptions());
+            return null;
+        }).when(rtiMock).triggerInteraction(isA(V2xMessageBatchReception.class));
 
     }
 
@@ -183,6 +191,33 @@ public class SnsAmbassadorTest {
 
     }
 
+    @Test
+    public void topoBroadcast_receptionsAtSameTimeAreBatched() throws InternalFederateException {
+        //PREPARE
+        addVehicle("veh_0");
+        addVehicle("veh_1");
+        addVehicle("veh_2");
+        configureAdHoc("veh_0", 700d);
+        configureAdHoc("veh_1", 700d);
+        configureAdHoc("veh_2", 700d);
+
+        moveVehicle("veh_0", GeoPoint.latLon(52.31, 13.41));
+        moveVehicle("veh_1", GeoPoint.latLon(52.31, 13.40));
+        moveVehicle("veh_2", GeoPoint.latLon(52.31, 13.39));
+
+        //RUN
+        AdHocMessageRoutingBuilder adHocMessageRoutingBuilder = new AdHocMessageRoutingBuilder("veh_1", vehToPosition.get("veh_1"));
+        MessageRouting routing = adHocMessageRoutingBuilder.channel(AdHocChannel.CCH).singlehop().broadcast().topological().build();
+        sendMessage(routing);
+
+        //ASSERT
+        assertReceivedMessages("veh_0", "veh_2");
+        assertEquals(1, batchesSent.size());
+        assertEquals(2, batchesSent.get(0).size());
+        assertEquals(messagesSent.get(0).getTime(), batchesSent.get(0).getTime());
+        assertEquals(0, batchesSent.get(0).getReceiverInformation().get(0).getSendTime());
+    }
+
     private void assertReceivedMessages(String... vehicleNames) {
         Set<String> sent = new HashSet<>();
         for (V2xMessageReception message : messagesSent) {
@@ -197,6 +232,7 @@ public class SnsAmbassadorTest {
 
     private void sendMessage(MessageRouting routing) throws InternalFederateException {
         messagesSent.clear();
+        batchesSent.clear();
 
         V2xMessage v2xMessage = new V2xMessage(routing) {
             @Nonnull
@@ -55,11 +55,13 @@ import org.eclipse.mosaic.interactions.vehicle.VehicleStop;
 import org.eclipse.mosaic.lib.objects.traffic.SumoTraciResult;
 import org.eclipse.mosaic.lib.util.FileUtils;
 import org.eclipse.mosaic.lib.util.ProcessLoggingThread;
+import org.eclipse.mosaic.lib.util.SerializationUtils;
 import org.eclipse.mosaic.lib.util.objects.ObjectInstantiation;
 import org.eclipse.mosaic.lib.util.scheduling.DefaultEventScheduler;
 import org.eclipse.mosaic.lib.util.scheduling.EventScheduler;
 import org.eclipse.mosaic.rti.TIME;
 import org.eclipse.mosaic.rti.api.AbstractFederateAmbassador;
+import org.eclipse.mosaic.rti.api.CheckpointableFederateAmbassador;
 import org.eclipse.mosaic.rti.api.FederateExecutor;
 import org.eclipse.mosaic.rti.api.IllegalValueException;
 import org.eclipse.mosaic.rti.api.Interaction;
@@ -80,9 +82,11 @@ import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.Serializable;
 import java.net.Socket;
 import java.net.UnknownHostException;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -100,7 +104,7 @@ import javax.annotation.concurrent.NotThreadSafe;
  * publishes {@link VehicleUpdates}.
  */
 @NotThreadSafe
-public class SumoAmbassador extends AbstractFederateAmbassador {
+public class SumoAmbassador extends AbstractFederateAmbassador implements CheckpointableFederateAmbassador {
 
     /**
      * Maximum number of attempts to connect to SUMO process.
@@ -112,6 +116,16 @@ public class SumoAmbassador extends AbstractFederateAmbassador {
      */
     private final static long SLEEP_AFTER_ATTEMPT = TIME.SECOND;
 
+    /**
+     * Name of the file within the checkpoint directory holding the state of SUMO.
+     */
+    private final static String CHECKPOINT_STATE_FILE = "sumo-state.xml";
+
+    /**
+     * Name of the file within the checkpoint directory holding the vehicle types and routes received from the RTI.
+     */
+    private final static String CHECKPOINT_INITIALIZATION_FILE = "sumo-initialization.ser";
+
     /**
      * Configuration object.
      */
@@ -148,6 +162,16 @@ public class SumoAmbassador extends AbstractFederateAmbassador {
      */
     private boolean firstAdvanceTime = true;
 
+    /**
+     * Indicates whether the state of SUMO has been restored from a checkpoint.
+     */
+    private boolean restoredFromCheckpoint = false;
+
+    /**
+     * The state file of the checkpoint which is loaded into SUMO as soon as SUMO has been started.
+     */
+    private File restoredStateFile;
+
     /**
      * List of {@link Interaction}s which will be cached till a time advance occurs.
      */
@@ -335,6 +359,11 @@ public class SumoAmbassador extends AbstractFederateAmbassador {
         super.initialize(startTime, endTime);
 
         nextTimeStep = startTime;
+        if (restoredFromCheckpoint) {
+            // the state of SUMO has been saved after the simulation step at the start time has been processed
+            nextTimeStep += sumoConfig.updateInterval * TIME.MILLI_SECOND;
+            restoreSumoState();
+        }
 
         try {
             rti.requestAdvanceTime(nextTimeStep, 0, FederatePriority.higher(descriptor.getPriority()));
@@ -429,9 +458,29 @@ public class SumoAmbassador extends AbstractFederateAmbassador {
     }
 
     private void sumoStartupProcedure() throws InternalFederateException {
+        startSumo();
+        initSimulation();
+    }
+
+    /**
+     * Starts SUMO with the vehicle types of the checkpoint, loads the state of the checkpoint,
+     * and initializes the handlers afterward, so that they read the routes of the restored state.
+     */
+    private void restoreSumoState() throws InternalFederateException {
+        startSumo();
+        bridge.getSimulationControl().loadState(restoredStateFile);
+        vehiclesHandler.handleVehicleTypesInitialization(cachedVehicleTypesInitialization);
+        initSimulation();
+        log.info("Loaded SUMO state from {}", restoredStateFile);
+    }
+
+    private void startSumo() throws InternalFederateException {
         writeTypesFromRti(cachedVehicleTypesInitialization);
         startSumoLocal();
         initSumoConnection();
+    }
+
+    private void initSimulation() throws InternalFederateException {
         initHandlers();
         routesHandler.readInitialRoutesFromTraci(nextTimeStep);
         if (cachedVehicleRoutesInitialization != null) {
@@ -623,6 +672,9 @@ public class SumoAmbassador extends AbstractFederateAmbassador {
                 initSumoConnection();
                 initHandlers();
                 trafficLightsHandler.initializeTrafficLights(time);
+                if (restoredFromCheckpoint) {
+                    vehiclesHandler.propagateRestoredVehiclesToRti(time);
+                }
                 firstAdvanceTime = false;
             }
 
@@ -657,6 +709,49 @@ public class SumoAmbassador extends AbstractFederateAmbassador {
         }
     }
 
+    /**
+     * Saves the state of SUMO, which includes all vehicles, traffic lights and detectors, together with the
+     * vehicle types and routes received from the RTI. Vehicle subscriptions and vehicle actions scheduled
+     * by this ambassador are not part of the checkpoint.
+     */
+    @Override
+    public void saveCheckpoint(long time, File directory) throws InternalFederateException {
+        if (bridge == null || cachedVehicleTypesInitialization == null) {
+            throw new InternalFederateException("Could not save SUMO state, SUMO has not been started yet.");
+        }
+        bridge.getSimulationControl().saveState(new File(directory, CHECKPOINT_STATE_FILE));
+        final CheckpointState state = new CheckpointState(cachedVehicleTypesInitialization, cachedVehicleRoutesInitialization);
+        try {
+            Files.write(new File(directory, CHECKPOINT_INITIALIZATION_FILE).toPath(), new SerializationUtils<CheckpointState>().toBytes(state));
+        } catch (IOException e) {
+            throw new InternalFederateException("Could not save SUMO state", e);
+        }
+        log.info("Saved SUMO state at {}", TIME.format(time));
+    }
+
+    /**
+     * Restores the vehicle types and routes of the checkpoint. The vehicle types are not sent again by the
+     * RTI on a restored run, therefore SUMO is started with these types in {@link #initialize} and the
+     * state of SUMO is loaded afterward. All vehicles driving at the time of the checkpoint are registered
+     * at the RTI with the first time advance, same as vehicles defined in the route file of SUMO.
+     */
+    @Override
+    public void restoreCheckpoint(long time, File directory) throws InternalFederateException {
+        final CheckpointState state;
+        try {
+            state = new SerializationUtils<CheckpointState>().fromBytes(
+                    Files.readAllBytes(new File(directory, CHECKPOINT_INITIALIZATION_FILE).toPath())
+            );
+        } catch (IOException | ClassNotFoundException e) {
+            throw new InternalFederateException("Could not restore SUMO state", e);
+        }
+        cachedVehicleTypesInitialization = state.vehicleTypesInitialization();
+        cachedVehicleRoutesInitialization = state.vehicleRoutesInitialization();
+        restoredStateFile = new File(directory, CHECKPOINT_STATE_FILE);
+        restoredFromCheckpoint = true;
+        log.info("Restored SUMO state at {}", TIME.format(time));
+    }
+
     @Override
     public void finishSimulation() {
         log.info("Closing SUMO connection");
@@ -759,4 +854,13 @@ public class SumoAmbassador extends AbstractFederateAmbassador {
     public boolean isTimeRegulating() {
         return true;
     }
+
+    /**
+     * Vehicle types and routes received from the RTI before the checkpoint has been saved.
+     */
+    private record CheckpointState(
+            VehicleTypesInitialization vehicleTypesInitialization,
+            VehicleRoutesInitialization vehicleRoutesInitialization
+    ) implements Serializable {
+    }
 }
@@ -327,10 +327,20 @@ public class SumoVehiclesHandler extends AbstractHandler {
     }
 
     void propagateSumoVehiclesToRti(long time) throws InternalFederateException {
-        List<String> routeFileVehicles = getRouteFileVehicles();
+        propagateVehiclesToRti(getRouteFileVehicles(), time);
+    }
+
+    /**
+     * Registers all vehicles which are driving in SUMO after its state has been restored from a checkpoint.
+     */
+    void propagateRestoredVehiclesToRti(long time) throws InternalFederateException {
+        propagateVehiclesToRti(bridge.getSimulationControl().getVehicleIds(), time);
+    }
+
+    private void propagateVehiclesToRti(List<String> vehicleIds, long time) throws InternalFederateException {
         String vehicleTypeId;
         VehicleType vehicleType;
-        for (String vehicleId : routeFileVehicles) {
+        for (String vehicleId : vehicleIds) {
             vehiclesAddedViaRouteFile.add(vehicleId);
             vehicleTypeId = bridge.getVehicleControl().getVehicleTypeId(vehicleId);
             vehicleType = bridge.getVehicleControl().getVehicleType(vehicleTypeId);
@@ -0,0 +1,38 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.fed.sumo.bridge.api;
+
+import org.eclipse.mosaic.fed.sumo.bridge.Bridge;
+import org.eclipse.mosaic.fed.sumo.bridge.CommandException;
+import org.eclipse.mosaic.rti.api.InternalFederateException;
+
+import java.util.List;
+
+/**
+ * This class represents the SUMO command which allows to get the Id's of all vehicles currently driving in the simulation.
+ */
+public interface SimulationGetVehicleIds {
+    /**
+     * This method executes the command with the given arguments in order to get the Id's
+     * of all vehicles currently driving in the simulation.
+     *
+     * @param bridge Connection to SUMO.
+     * @return List of vehicle Id's.
+     * @throws CommandException          if the status code of the response is ERROR. The connection to SUMO is still available.
+     * @throws InternalFederateException if some serious error occurs during writing or reading. The connection to SUMO is shut down.
+     */
+    List<String> execute(Bridge bridge) throws CommandException, InternalFederateException;
+}
@@ -30,6 +30,9 @@ import org.eclipse.mosaic.fed.sumo.bridge.api.SimulationGetArrivedPersonIds;
 import org.eclipse.mosaic.fed.sumo.bridge.api.SimulationGetDepartedPersonIds;
 import org.eclipse.mosaic.fed.sumo.bridge.api.SimulationGetDepartedVehicleIds;
 import org.eclipse.mosaic.fed.sumo.bridge.api.SimulationGetTrafficLightIds;
+import org.eclipse.mosaic.fed.sumo.bridge.api.SimulationGetVehicleIds;
+import org.eclipse.mosaic.fed.sumo.bridge.api.SimulationLoadState;
+import org.eclipse.mosaic.fed.sumo.bridge.api.SimulationSaveState;
 import org.eclipse.mosaic.fed.sumo.bridge.api.SimulationSimulateStep;
 import org.eclipse.mosaic.fed.sumo.bridge.api.TrafficLightSubscribe;
 import org.eclipse.mosaic.fed.sumo.bridge.api.VehicleAdd;
@@ -86,6 +89,7 @@ import org.eclipse.mosaic.rti.api.InternalFederateException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.File;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Iterator;
@@ -111,6 +115,9 @@ public class SimulationFacade {
     private final SimulationGetDepartedPersonIds getDepartedPersonIds;
     private final SimulationGetArrivedPersonIds getArrivedPersonIds;
     private final SimulationGetTrafficLightIds getTrafficLightIds;
+    private final SimulationGetVehicleIds getVehicleIds;
+    private final SimulationSaveState saveState;
+    private final SimulationLoadState loadState;
     private final VehicleAdd vehicleAdd;
     private final VehicleSetRemove remove;
     private final VehicleGetTeleportingList getTeleportingList;
@@ -189,6 +196,9 @@ public class SimulationFacade {
         this.getDepartedPersonIds = bridge.getCommandRegister().getOrCreate(SimulationGetDepartedPersonIds.class);
         this.getArrivedPersonIds = bridge.getCommandRegister().getOrCreate(SimulationGetArrivedPersonIds.class);
         this.getTrafficLightIds = bridge.getCommandRegister().getOrCreate(SimulationGetTrafficLightIds.class);
+        this.getVehicleIds = bridge.getCommandRegister().getOrCreate(SimulationGetVehicleIds.class);
+        this.saveState = bridge.getCommandRegister().getOrCreate(SimulationSaveState.class);
+        this.loadState = bridge.getCommandRegister().getOrCreate(SimulationLoadState.class);
         this.vehicleAdd = bridge.getCommandRegister().getOrCreate(VehicleAdd.class);
         this.remove = bridge.getCommandRegister().getOrCreate(VehicleSetRemove.class);
         this.getTeleportingList = bridge.getCommandRegister().getOrCreate(VehicleGetTeleportingList.class);
@@ -269,6 +279,51 @@ public class SimulationFacade {
         }
     }
 
+    /**
+     * Returns a list of ids of all vehicles currently driving in the simulation.
+     *
+     * @return a list of vehicle ids.
+     * @throws InternalFederateException if the vehicles couldn't be retrieved
+     */
+    public List<String> getVehicleIds() throws InternalFederateException {
+        try {
+            return getVehicleIds.execute(bridge);
+        } catch (CommandException e) {
+            throw new InternalFederateException("Could not retrieve vehicles", e);
+        }
+    }
+
+    /**
+     * Saves the current state of the simulation, including all vehicles, traffic lights and detectors, into a file.
+     *
+     * @param stateFile the file to write the state into
+     * @throws InternalFederateException if the state couldn't be saved
+     */
+    public void saveState(File stateFile) throws InternalFederateException {
+        try {
+            saveState.execute(bridge, stateFile.getAbsolutePath());
+        } catch (CommandException e) {
+            throw new InternalFederateException("Could not save simulation state to " + stateFile, e);
+        }
+    }
+
+    /**
+     * Replaces the current state of the simulation by the state previously saved by {@link #saveState}.
+     * Afterward, the simulation time of SUMO equals the time at which the state has been saved. Subscriptions
+     * are not part of the state, thus the information about subscribed vehicles is reset.
+     *
+     * @param stateFile the file to read the state from
+     * @throws InternalFederateException if the state couldn't be loaded
+     */
+    public void loadState(File stateFile) throws InternalFederateException {
+        try {
+            loadState.execute(bridge, stateFile.getAbsolutePath());
+            sumoVehicles.clear();
+        } catch (CommandException e) {
+            throw new InternalFederateException("Could not load simulation state from " + stateFile, e);
+        }
+    }
+
     /**
      * Adds a vehicle to the simulation.
      *
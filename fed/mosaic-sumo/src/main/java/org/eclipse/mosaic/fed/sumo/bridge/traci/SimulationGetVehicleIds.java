@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.fed.sumo.bridge.traci;
+
+import org.eclipse.mosaic.fed.sumo.bridge.Bridge;
+import org.eclipse.mosaic.fed.sumo.bridge.CommandException;
+import org.eclipse.mosaic.fed.sumo.bridge.TraciVersion;
+import org.eclipse.mosaic.fed.sumo.bridge.api.complex.Status;
+import org.eclipse.mosaic.fed.sumo.bridge.traci.constants.CommandRetrieveVehicleState;
+import org.eclipse.mosaic.fed.sumo.bridge.traci.constants.TraciDatatypes;
+import org.eclipse.mosaic.fed.sumo.bridge.traci.reader.ListTraciReader;
+import org.eclipse.mosaic.fed.sumo.bridge.traci.reader.VehicleIdTraciReader;
+import org.eclipse.mosaic.rti.api.InternalFederateException;
+
+import java.util.List;
+
+/**
+ * This class represents the SUMO command which allows to get the Id's of all vehicles currently driving in the simulation.
+ */
+public class SimulationGetVehicleIds
+        extends AbstractTraciCommand<List<String>>
+        implements org.eclipse.mosaic.fed.sumo.bridge.api.SimulationGetVehicleIds {
+
+    /**
+     * Creates a new {@link SimulationGetVehicleIds} traci command,
+     * which will return a list of all vehicles in the simulation once executed.
+     * Access needs to be public, because command is called using Reflection.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public SimulationGetVehicleIds() {
+        super(TraciVersion.LOWEST);
+
+        write()
+                .command(CommandRetrieveVehicleState.COMMAND)
+                .variable(CommandRetrieveVehicleState.VAR_ID_LIST)
+                .writeString("");
+
+        read()
+                .skipBytes(2)
+                .skipString()
+                .expectByte(TraciDatatypes.STRING_LIST)
+                .readComplex(new ListTraciReader<>(new VehicleIdTraciReader()));
+    }
+
+    /**
+     * This method executes the command with the given arguments in order to get the Id's
+     * of all vehicles currently driving in the simulation.
+     *
+     * @param bridge Connection to SUMO.
+     * @return List of vehicle Id's.
+     * @throws CommandException          if the status code of the response is ERROR. The connection to SUMO is still available.
+     * @throws InternalFederateException if some serious error occurs during writing or reading. The TraCI connection is shut down.
+     */
+    public List<String> execute(Bridge bridge) throws CommandException, InternalFederateException {
+        return executeAndReturn(bridge).orElseThrow(
+                () -> new CommandException("Could not read list of Vehicles.")
+        );
+    }
+
+    @Override
+    protected List<String> constructResult(Status status, Object... objects) {
+        return (List<String>) objects[0];
+    }
+}
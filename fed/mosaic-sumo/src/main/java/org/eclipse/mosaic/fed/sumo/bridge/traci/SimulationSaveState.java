@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.fed.sumo.bridge.traci;
+
+import org.eclipse.mosaic.fed.sumo.bridge.Bridge;
+import org.eclipse.mosaic.fed.sumo.bridge.CommandException;
+import org.eclipse.mosaic.fed.sumo.bridge.TraciVersion;
+import org.eclipse.mosaic.fed.sumo.bridge.api.complex.Status;
+import org.eclipse.mosaic.fed.sumo.bridge.traci.constants.CommandSimulationControl;
+import org.eclipse.mosaic.rti.api.InternalFederateException;
+
+/**
+ * This class represents the SUMO command which saves the current state of the simulation into a file.
+ */
+public class SimulationSaveState
+        extends AbstractTraciCommand<Void>
+        implements org.eclipse.mosaic.fed.sumo.bridge.api.SimulationSaveState {
+
+    /**
+     * Creates a new {@link SimulationSaveState} traci command.
+     * Access needs to be public, because command is called using Reflection.
+     *
+     * @see <a href="https://sumo.dlr.de/docs/TraCI/Change_Simulation_State.html">Simulation State Change</a>
+     */
+    @SuppressWarnings("WeakerAccess")
+    public SimulationSaveState() {
+        super(TraciVersion.LOWEST);
+
+        write()
+                .command(CommandSimulationControl.COMMAND_CHANGE_SIMULATION_STATE)
+                .variable(CommandSimulationControl.VAR_SAVE_STATE)
+                .writeString("")
+                .writeStringParamWithType();
+    }
+
+    /**
+     * This method executes the command with the given arguments and saves the state of the simulation.
+     *
+     * @param bridge   Connection to SUMO.
+     * @param filename Path of the file to write the state into.
+     * @throws CommandException          if the status code of the response is ERROR. The connection to SUMO is still available.
+     * @throws InternalFederateException if some serious error occurs during writing or reading. The TraCI connection is shut down.
+     */
+    public void execute(Bridge bridge, String filename) throws CommandException, InternalFederateException {
+        super.execute(bridge, filename);
+    }
+
+    @Override
+    protected Void constructResult(Status status, Object... objects) {
+        return null;
+    }
+}
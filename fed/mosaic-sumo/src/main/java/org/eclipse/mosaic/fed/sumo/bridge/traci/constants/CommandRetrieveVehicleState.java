@@ -23,6 +23,11 @@ public class CommandRetrieveVehicleState {
 
     public final static int COMMAND = 0xa4;
 
+    /**
+     * Ids of all vehicles currently driving within the simulation.
+     */
+    public final static int VAR_ID_LIST = 0x00;
+
     public final static SumoVar VAR_MIN_GAP = SumoVar.var(0x4c);
 
     public final static SumoVar VAR_SPEED = SumoVar.var(0x40);
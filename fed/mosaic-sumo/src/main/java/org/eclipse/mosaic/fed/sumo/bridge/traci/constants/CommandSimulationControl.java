@@ -36,5 +36,19 @@ public class CommandSimulationControl {
      * Command to set the client order if multiple clients are supposed to be connected to a single simulation (must be unique).
      */
     public final static int COMMAND_SET_ORDER = 0x03;
-}
 
+    /**
+     * Command to change a variable of the simulation.
+     */
+    public final static int COMMAND_CHANGE_SIMULATION_STATE = 0xcb;
+
+    /**
+     * Variable to save the state of the simulation into a file.
+     */
+    public final static int VAR_SAVE_STATE = 0x95;
+
+    /**
+     * Variable to load the state of the simulation from a file.
+     */
+    public final static int VAR_LOAD_STATE = 0x96;
+}
@@ -27,6 +27,7 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
@@ -66,16 +67,19 @@ import org.eclipse.mosaic.rti.api.parameters.FederatePriority;
 import org.eclipse.mosaic.rti.config.CLocalHost;
 
 import com.google.common.collect.Lists;
+import org.apache.commons.io.FileUtils;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.RuleChain;
 import org.junit.rules.TemporaryFolder;
 import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 
 import java.io.File;
 import java.io.IOException;
 import java.net.Socket;
+import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
@@ -97,13 +101,14 @@ public class SumoAmbassadorTest {
 
     private TraciClientBridge traciClientBridgeMock;
     private RtiAmbassador rtiMock;
+    private FederateDescriptor handleMock;
 
     private SumoAmbassador ambassador;
 
     @Before
     public void setup() throws IOException {
         rtiMock = mock(RtiAmbassador.class);
-        FederateDescriptor handleMock = mock(FederateDescriptor.class);
+        handleMock = mock(FederateDescriptor.class);
         File workingDir = temporaryFolder.getRoot();
 
         CLocalHost testHostConfig = new CLocalHost();
@@ -113,7 +118,11 @@ public class SumoAmbassadorTest {
         when(handleMock.getPriority()).thenReturn(FederatePriority.DEFAULT);
 
         traciClientBridgeMock = null;
-        ambassador = new SumoAmbassador(new AmbassadorParameter("sumo", temporaryFolder.newFile("sumo/sumo_config.json"))) {
+        ambassador = createAmbassador(temporaryFolder.newFile("sumo/sumo_config.json"));
+    }
+
+    private SumoAmbassador createAmbassador(File configuration) {
+        SumoAmbassador sumoAmbassador = new SumoAmbassador(new AmbassadorParameter("sumo", configuration)) {
             @Override
             protected void initSumoConnection() throws InternalFederateException {
 
@@ -124,8 +133,9 @@ public class SumoAmbassadorTest {
             }
         };
 
-        ambassador.setRtiAmbassador(rtiMock);
-        ambassador.setFederateDescriptor(handleMock);
+        sumoAmbassador.setRtiAmbassador(rtiMock);
+        sumoAmbassador.setFederateDescriptor(handleMock);
+        return sumoAmbassador;
     }
 
     @Test
@@ -345,6 +355,55 @@ public class SumoAmbassadorTest {
         assertTrue(trafficLights.getLanesControlledByGroups().get(tlg.getGroupId()).contains("edge_1"));
     }
 
+    @Test
+    public void saveAndRestoreCheckpoint_sumoStartedBeforeStateIsLoaded() throws Throwable {
+        // SETUP
+        sendVehiclePathsAndTypes_doInitTraci();
+        File checkpointDirectory = temporaryFolder.newFolder("checkpoint");
+        File stateFile = new File(checkpointDirectory, "sumo-state.xml");
+        File vehicleTypesFile = new File(temporaryFolder.getRoot(), "sumo/mosaic_types.add.xml");
+
+        // RUN
+        ambassador.saveCheckpoint(5 * TIME.SECOND, checkpointDirectory);
+
+        // ASSERT
+        verify(traciClientBridgeMock.getSimulationControl()).saveState(eq(stateFile));
+
+        // SETUP
+        assertTrue(vehicleTypesFile.delete());
+        traciClientBridgeMock = null;
+        clearInvocations(rtiMock);
+        SumoAmbassador restoredAmbassador = createAmbassador(new File(temporaryFolder.getRoot(), "sumo/sumo_config.json"));
+
+        // RUN
+        restoredAmbassador.restoreCheckpoint(5 * TIME.SECOND, checkpointDirectory);
+
+        // ASSERT
+        assertNull(traciClientBridgeMock);
+
+        // RUN
+        restoredAmbassador.initialize(5 * TIME.SECOND, 1000 * TIME.SECOND);
+
+        // ASSERT
+        assertNotNull(traciClientBridgeMock);
+        assertTrue(vehicleTypesFile.exists());
+        assertTrue(FileUtils.readFileToString(vehicleTypesFile, StandardCharsets.UTF_8).contains("id=\"default\""));
+        InOrder inOrder = inOrder(traciClientBridgeMock.getSimulationControl(), traciClientBridgeMock.getRouteControl());
+        inOrder.verify(traciClientBridgeMock.getSimulationControl()).loadState(eq(stateFile));
+        inOrder.verify(traciClientBridgeMock.getRouteControl()).getRouteIds();
+        verify(rtiMock, times(1)).triggerInteraction(isA(VehicleRouteRegistration.class));
+        verify(rtiMock, times(1))
+                .requestAdvanceTime(eq(6 * TIME.SECOND), eq(0L), eq((byte) (FederatePriority.DEFAULT - 1)));
+    }
+
+    @Test(expected = InternalFederateException.class)
+    public void saveCheckpoint_sumoNotStarted() throws Throwable {
+        initialize_doNotInitTraci();
+
+        // RUN
+        ambassador.saveCheckpoint(0, temporaryFolder.newFolder("checkpoint"));
+    }
+
     private void mockSimulationStepResult(long time, VehicleData... vehicles) throws InternalFederateException {
         VehicleUpdates vehicleUpdates = new VehicleUpdates(time, Lists.newArrayList(vehicles), Lists.newArrayList(), Lists.newArrayList());
         TraciSimulationStepResult traciSimulationResult = new TraciSimulationStepResult(
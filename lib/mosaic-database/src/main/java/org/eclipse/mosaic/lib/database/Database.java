@@ -18,6 +18,7 @@ package org.eclipse.mosaic.lib.database;
 import org.eclipse.mosaic.lib.database.building.Building;
 import org.eclipse.mosaic.lib.database.building.Corner;
 import org.eclipse.mosaic.lib.database.building.Wall;
+import org.eclipse.mosaic.lib.database.persistence.DatabaseSnapshot;
 import org.eclipse.mosaic.lib.database.persistence.OutdatedDatabaseException;
 import org.eclipse.mosaic.lib.database.persistence.SQLiteReader;
 import org.eclipse.mosaic.lib.database.persistence.SQLiteTypeDetector;
@@ -166,6 +167,18 @@ public class Database {
         return Database.Builder.loadFromFile(file).build();
     }
 
+    /**
+     * This method loads a database object from the given {@link File}, using a binary snapshot
+     * of this file stored in the given snapshot directory, if it exists and is up-to-date.
+     *
+     * @param file              the database-file
+     * @param snapshotDirectory the directory to read and store snapshots of the database, or {@code null} to not use snapshots
+     * @return the loaded database
+     */
+    public static Database loadFromFile(File file, File snapshotDirectory) {
+        return Database.Builder.loadFromFile(file, snapshotDirectory).build();
+    }
+
     /**
      * This method loads tries to load a database object from
      * the given filename, which should refer to a database-file.
@@ -409,6 +422,32 @@ public class Database {
          * @return the builder for easy cascading of methods
          */
         public static Builder loadFromFile(File file) {
+            return loadFromFile(file, null);
+        }
+
+        /**
+         * This method tries to load a database object from the given {@link File}, which should refer
+         * to a database-file. If a snapshot directory is given, and it contains an up-to-date binary snapshot
+         * of this file, the snapshot is loaded instead. Otherwise, a {@link SQLiteReader} is used for the translation
+         * of the database to the Java-Object, and such a snapshot is created afterwards, so that subsequent calls
+         * load much faster.
+         *
+         * @param file              the database-file
+         * @param snapshotDirectory the directory to read and store snapshots of the database, or {@code null} to not use snapshots
+         * @return the builder for easy cascading of methods
+         */
+        public static Builder loadFromFile(File file, File snapshotDirectory) {
+            final File snapshotFile = snapshotDirectory != null ? DatabaseSnapshot.getSnapshotFile(file, snapshotDirectory) : null;
+            if (snapshotFile != null && DatabaseSnapshot.isUpToDate(snapshotFile, file)) {
+                try {
+                    final Builder builder = DatabaseSnapshot.read(snapshotFile);
+                    log.debug("loaded database from snapshot {}", snapshotFile);
+                    return builder;
+                } catch (IOException | RuntimeException e) {
+                    log.warn("could not load database snapshot {}, loading database instead", snapshotFile, e);
+                }
+            }
+
             SQLiteReader reader;
             try {
                 String contentType = Files.probeContentType(file.toPath());
@@ -427,7 +466,11 @@ public class Database {
             // type was already determined, start loading
             if (reader != null) {
                 try {
-                    return reader.loadFromFile(file.getCanonicalPath());
+                    final Builder builder = reader.loadFromFile(file.getCanonicalPath());
+                    if (snapshotFile != null) {
+                        DatabaseSnapshot.tryWrite(builder.getIntermediateDatabase(), file, snapshotFile);
+                    }
+                    return builder;
                 } catch (OutdatedDatabaseException | IOException ode) {
                     throw new RuntimeException(ode);
                 }
@@ -0,0 +1,657 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+package org.eclipse.mosaic.lib.database.persistence;
+
+import org.eclipse.mosaic.lib.database.Database;
+import org.eclipse.mosaic.lib.database.building.Building;
+import org.eclipse.mosaic.lib.database.building.Wall;
+import org.eclipse.mosaic.lib.database.road.Connection;
+import org.eclipse.mosaic.lib.database.road.Node;
+import org.eclipse.mosaic.lib.database.road.Restriction;
+import org.eclipse.mosaic.lib.database.road.Roundabout;
+import org.eclipse.mosaic.lib.database.road.TrafficLightNode;
+import org.eclipse.mosaic.lib.database.road.Way;
+import org.eclipse.mosaic.lib.database.route.Route;
+import org.eclipse.mosaic.lib.geo.GeoPoint;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import javax.annotation.Nonnull;
+
+/**
+ * Reads and writes a {@link Database} as a binary snapshot, which can be loaded much faster than the SQLite database
+ * it has been created from. All elements are stored in flat arrays, and references between elements are stored as
+ * indices into these arrays. All strings are stored once in a string table. The file starts with a header containing
+ * the size and modification time of the source database, followed by an index of the offsets of all sections.
+ * Each section is memory mapped when loading the snapshot.
+ * <p>
+ * Snapshots are stored in a separate directory, e.g. the cache directory of the routing graphs, named after the
+ * database file and its location, with the suffix {@value #FILE_SUFFIX}.
+ */
+public class DatabaseSnapshot {
+
+    private static final Logger log = LoggerFactory.getLogger(DatabaseSnapshot.class);
+
+    public static final String FILE_SUFFIX = ".snapshot";
+
+    private static final int MAGIC = 0x4D534442; // "MSDB"
+
+    /**
+     * Must be increased whenever the layout of the snapshot changes.
+     */
+    private static final int FORMAT_VERSION = 1;
+
+    private static final int HEADER_SIZE = 4 + 4 + 8 + 8 + 4;
+
+    private enum Section {
+        STRINGS, PROPERTIES, NODES, WAYS, CONNECTIONS, ROUNDABOUTS, RESTRICTIONS, BUILDINGS, ROUTES
+    }
+
+    private static final byte FLAG_TRAFFIC_LIGHT = 1;
+    private static final byte FLAG_INTERSECTION = 1 << 1;
+    private static final byte FLAG_GENERATED = 1 << 2;
+
+    private DatabaseSnapshot() {
+        // static methods only
+    }
+
+    /**
+     * Returns the location of the snapshot of the given database file within the given snapshot directory.
+     * The name contains a hash of the absolute path of the database file, so that databases of
+     * different scenarios with the same file name don't replace each other's snapshots.
+     */
+    public static File getSnapshotFile(File databaseFile, File snapshotDirectory) {
+        final String location = Integer.toHexString(databaseFile.getAbsolutePath().hashCode());
+        return new File(snapshotDirectory, databaseFile.getName() + "-" + location + FILE_SUFFIX);
+    }
+
+    /**
+     * Checks if the snapshot exists, has the current format, and has been created from the current state of the database file.
+     */
+    public static boolean isUpToDate(File snapshotFile, File databaseFile) {
+        if (!snapshotFile.isFile() || !databaseFile.isFile()) {
+            return false;
+        }
+        try (FileChannel channel = FileChannel.open(snapshotFile.toPath(), StandardOpenOption.READ)) {
+            final ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+            while (header.hasRemaining() && channel.read(header) >= 0) {
+                // read complete header
+            }
+            header.flip();
+            return header.remaining() == HEADER_SIZE
+                    && header.getInt() == MAGIC
+                    && header.getInt() == FORMAT_VERSION
+                    && header.getLong() == databaseFile.length()
+                    && header.getLong() == databaseFile.lastModified();
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Writes a snapshot of the given database, without throwing an exception if this fails.
+     * The snapshot is written to a temporary file first, which is moved to its final location
+     * afterward, so that several processes can create the same snapshot concurrently.
+     *
+     * @param database     the database loaded from the database file
+     * @param databaseFile the file the database has been loaded from
+     * @param snapshotFile the file to write the snapshot to, its directory is created if necessary
+     * @return {@code true}, if the snapshot has been written
+     */
+    public static boolean tryWrite(Database database, File databaseFile, File snapshotFile) {
+        final File temporaryFile = new File(snapshotFile.getPath() + "." + UUID.randomUUID() + ".tmp");
+        try {
+            Files.createDirectories(snapshotFile.getAbsoluteFile().getParentFile().toPath());
+            write(database, databaseFile, temporaryFile);
+            Files.move(temporaryFile.toPath(), snapshotFile.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            log.debug("Stored database snapshot {}", snapshotFile);
+            return true;
+        } catch (IOException | RuntimeException e) {
+            log.warn("Could not store database snapshot {}: {}", snapshotFile, e.getMessage());
+            return false;
+        } finally {
+            temporaryFile.delete();
+        }
+    }
+
+    /**
+     * Writes a snapshot of the given database.
+     *
+     * @param database     the database loaded from the database file
+     * @param databaseFile the file the database has been loaded from, used to detect outdated snapshots
+     * @param snapshotFile the file to write the snapshot to
+     */
+    public static void write(@Nonnull Database database, @Nonnull File databaseFile, @Nonnull File snapshotFile) throws IOException {
+        new Writer(database).write(databaseFile, snapshotFile);
+    }
+
+    /**
+     * Loads the given snapshot into a new {@link Database.Builder}.
+     */
+    public static Database.Builder read(@Nonnull File snapshotFile) throws IOException {
+        try (FileChannel channel = FileChannel.open(snapshotFile.toPath(), StandardOpenOption.READ)) {
+            final ByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_SIZE + 16L * Section.values().length);
+            if (header.getInt() != MAGIC || header.getInt() != FORMAT_VERSION) {
+                throw new IOException("Unsupported database snapshot " + snapshotFile);
+            }
+            header.getLong();
+            header.getLong();
+            final int sectionCount = header.getInt();
+            if (sectionCount != Section.values().length) {
+                throw new IOException("Unsupported database snapshot " + snapshotFile);
+            }
+            final ByteBuffer[] sections = new ByteBuffer[sectionCount];
+            for (int i = 0; i < sectionCount; i++) {
+                final long offset = header.getLong();
+                final long length = header.getLong();
+                sections[i] = channel.map(FileChannel.MapMode.READ_ONLY, offset, length);
+            }
+            return new Reader(sections).read();
+        }
+    }
+
+    private static class Writer {
+
+        private final Database database;
+        private final Map<String, Integer> strings = new HashMap<>();
+        private final List<String> stringTable = new ArrayList<>();
+        private final Map<String, Integer> nodeIndices = new HashMap<>();
+        private final Map<String, Integer> wayIndices = new HashMap<>();
+        private final Map<String, Integer> connectionIndices = new HashMap<>();
+
+        private Writer(Database database) {
+            this.database = database;
+        }
+
+        private void write(File databaseFile, File snapshotFile) throws IOException {
+            final byte[][] sections = new byte[Section.values().length][];
+            // the string table is filled while writing all other sections, thus it is written last
+            sections[Section.PROPERTIES.ordinal()] = writeProperties();
+            sections[Section.NODES.ordinal()] = writeNodes();
+            sections[Section.WAYS.ordinal()] = writeWays();
+            sections[Section.CONNECTIONS.ordinal()] = writeConnections();
+            sections[Section.ROUNDABOUTS.ordinal()] = writeRoundabouts();
+            sections[Section.RESTRICTIONS.ordinal()] = writeRestrictions();
+            sections[Section.BUILDINGS.ordinal()] = writeBuildings();
+            sections[Section.ROUTES.ordinal()] = writeRoutes();
+            sections[Section.STRINGS.ordinal()] = writeStrings();
+
+            final ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE + 16 * sections.length);
+            header.putInt(MAGIC);
+            header.putInt(FORMAT_VERSION);
+            header.putLong(databaseFile.length());
+            header.putLong(databaseFile.lastModified());
+            header.putInt(sections.length);
+            long offset = header.capacity();
+            for (byte[] section : sections) {
+                header.putLong(offset);
+                header.putLong(section.length);
+                offset += section.length;
+            }
+            header.flip();
+
+            try (FileChannel channel = FileChannel.open(snapshotFile.toPath(),
+                    StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                writeFully(channel, header);
+                for (byte[] section : sections) {
+                    writeFully(channel, ByteBuffer.wrap(section));
+                }
+            }
+        }
+
+        private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        }
+
+        private int string(String value) {
+            if (value == null) {
+                return -1;
+            }
+            return strings.computeIfAbsent(value, v -> {
+                stringTable.add(v);
+                return stringTable.size() - 1;
+            });
+        }
+
+        private byte[] writeStrings() throws IOException {
+            final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            final DataOutputStream out = new DataOutputStream(bytes);
+            final byte[][] encoded = new byte[stringTable.size()][];
+            out.writeInt(encoded.length);
+            int offset = 0;
+            out.writeInt(offset);
+            for (int i = 0; i < encoded.length; i++) {
+                encoded[i] = stringTable.get(i).getBytes(StandardCharsets.UTF_8);
+                offset += encoded[i].length;
+                out.writeInt(offset);
+            }
+            for (byte[] string : encoded) {
+                out.write(string);
+            }
+            return bytes.toByteArray();
+        }
+
+        private byte[] writeProperties() throws IOException {
+            final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            final DataOutputStream out = new DataOutputStream(bytes);
+            out.writeInt(database.getPropertyKeys().size());
+            for (String key : database.getPropertyKeys()) {
+                out.writeInt(string(key));
+                out.writeInt(string(database.getProperty(key)));
+            }
+            return bytes.toByteArray();
+        }
+
+        private byte[] writeNodes() throws IOException {
+            final List<Node> nodes = new ArrayList<>(database.getNodes());
+            final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            final DataOutputStream out = new DataOutputStream(bytes);
+            out.writeInt(nodes.size());
+            for (Node node : nodes) {
+                nodeIndices.put(node.getId(), nodeIndices.size());
+                out.writeInt(string(node.getId()));
+            }
+            for (Node node : nodes) {
+                out.writeDouble(node.getPosition().getLatitude());
+            }
+            for (Node node : nodes) {
+                out.writeDouble(node.getPosition().getLongitude());
+            }
+            for (Node node : nodes) {
+                out.writeDouble(node.getElevation());
+            }
+            for (Node node : nodes) {
+                out.writeByte((node instanceof TrafficLightNode ? FLAG_TRAFFIC_LIGHT : 0)
+                        | (node.isIntersection() ? FLAG_INTERSECTION : 0)
+                        | (node.isGenerated() ? FLAG_GENERATED : 0));
+            }
+            return bytes.toByteArray();
+        }
+
+        private byte[] writeWays() throws IOException {
+            final List<Way> ways = new ArrayList<>(database.getWays());
+            final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            final DataOutputStream out = new DataOutputStream(bytes);
+            out.writeInt(ways.size());
+            for (Way way : ways) {
+                wayIndices.put(way.getId(), wayIndices.size());
+                out.writeInt(string(way.getId()));
+            }
+            for (Way way : ways) {
+                out.writeInt(string(way.getName()));
+            }
+            for (Way way : ways) {
+                out.writeInt(string(way.getType()));
+            }
+            for (Way way : ways) {
+                out.writeDouble(way.getMaxSpeedInMs());
+            }
+            for (Way way : ways) {
+                out.writeInt(way.getNumberOfLanesForward());
+            }
+            for (Way way : ways) {
+                out.writeInt(way.getNumberOfLanesBackward());
+            }
+            for (Way way : ways) {
+                out.writeByte(way.isOneway() ? 1 : 0);
+            }
+            writeNodeReferences(out, ways.stream().map(Way::getNodes).toList());
+            return bytes.toByteArray();
+        }
+
+        private byte[] writeConnections() throws IOException {
+            final List<Connection> connections = new ArrayList<>(database.getConnections());
+            final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            final DataOutputStream out = new DataOutputStream(bytes);
+            out.writeInt(connections.size());
+            for (Connection connection : connections) {
+                connectionIndices.put(connection.getId(), connectionIndices.size());
+                out.writeInt(string(connection.getId()));
+            }
+            for (Connection connection : connections) {
+                out.writeInt(wayIndices.get(connection.getWay().getId()));
+            }
+            for (Connection connection : connections) {
+                out.writeInt(connection.getLanes());
+            }
+            for (Connection connection : connections) {
+                out.writeDouble(connection.getLength());
+            }
+            writeNodeReferences(out, connections.stream().map(Connection::getNodes).toList());
+            return bytes.toByteArray();
+        }
+
+        private byte[] writeRoundabouts() throws IOException {
+            final List<Roundabout> roundabouts = new ArrayList<>(database.getRoundabouts());
+            final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            final DataOutputStream out = new DataOutputStream(bytes);
+            out.writeInt(roundabouts.size());
+            for (Roundabout roundabout : roundabouts) {
+                out.writeInt(string(roundabout.getId()));
+            }
+            writeNodeReferences(out, roundabouts.stream().map(Roundabout::getNodes).toList());
+            return bytes.toByteArray();
+        }
+
+        private void writeNodeReferences(DataOutputStream out, List<List<Node>> nodeLists) throws IOException {
+            int offset = 0;
+            out.writeInt(offset);
+            for (List<Node> nodes : nodeLists) {
+                offset += nodes.size();
+                out.writeInt(offset);
+            }
+            for (List<Node> nodes : nodeLists) {
+                for (Node node : nodes) {
+                    out.writeInt(node != null ? nodeIndices.get(node.getId()) : -1);
+                }
+            }
+        }
+
+        private byte[] writeRestrictions() throws IOException {
+            final List<Restriction> restrictions = new ArrayList<>(database.getRestrictions());
+            final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            final DataOutputStream out = new DataOutputStream(bytes);
+            out.writeInt(restrictions.size());
+            for (Restriction restriction : restrictions) {
+                out.writeInt(string(restriction.getId()));
+                out.writeByte(restriction.getType().ordinal());
+                out.writeInt(wayIndices.get(restriction.getSource().getId()));
+                out.writeInt(nodeIndices.get(restriction.getVia().getId()));
+                out.writeInt(wayIndices.get(restriction.getTarget().getId()));
+            }
+            return bytes.toByteArray();
+        }
+
+        private byte[] writeBuildings() throws IOException {
+            final List<Building> buildings = new ArrayList<>(database.getBuildings());
+            final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            final DataOutputStream out = new DataOutputStream(bytes);
+            out.writeInt(buildings.size());
+            for (Building building : buildings) {
+                out.writeInt(string(building.getId()));
+                out.writeInt(string(building.getName()));
+                out.writeDouble(building.getHeight());
+            }
+            // the corners of a building are the start corners of its walls, as in the SQLite database
+            int offset = 0;
+            out.writeInt(offset);
+            for (Building building : buildings) {
+                offset += building.getWalls().size();
+                out.writeInt(offset);
+            }
+            for (Building building : buildings) {
+                for (Wall wall : building.getWalls()) {
+                    out.writeDouble(wall.getFromCorner().getPosition().getLatitude());
+                    out.writeDouble(wall.getFromCorner().getPosition().getLongitude());
+                }
+            }
+            return bytes.toByteArray();
+        }
+
+        private byte[] writeRoutes() throws IOException {
+            final List<Route> routes = new ArrayList<>(database.getRoutes());
+            final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            final DataOutputStream out = new DataOutputStream(bytes);
+            out.writeInt(routes.size());
+            for (Route route : routes) {
+                out.writeInt(string(route.getId()));
+            }
+            int offset = 0;
+            out.writeInt(offset);
+            for (Route route : routes) {
+                offset += route.getConnectionIds().size();
+                out.writeInt(offset);
+            }
+            for (Route route : routes) {
+                for (String connectionId : route.getConnectionIds()) {
+                    out.writeInt(connectionIndices.get(connectionId));
+                }
+            }
+            return bytes.toByteArray();
+        }
+    }
+
+    private static class Reader {
+
+        private final ByteBuffer[] sections;
+        private String[] strings;
+
+        private Reader(ByteBuffer[] sections) {
+            this.sections = sections;
+        }
+
+        private Database.Builder read() {
+            strings = readStrings(sections[Section.STRINGS.ordinal()]);
+
+            final ByteBuffer properties = sections[Section.PROPERTIES.ordinal()];
+            final int propertyCount = properties.getInt();
+            final Map<String, String> propertyMap = new HashMap<>();
+            for (int i = 0; i < propertyCount; i++) {
+                propertyMap.put(string(properties.getInt()), string(properties.getInt()));
+            }
+            final Database.Builder builder = new Database.Builder(
+                    propertyMap.getOrDefault(Database.PROPERTY_VERSION, Database.VERSION_UNKNOWN)
+            );
+            propertyMap.forEach((key, value) -> {
+                if (!Database.PROPERTY_VERSION.equals(key)) {
+                    builder.addProperty(key, value);
+                }
+            });
+
+            final Node[] nodes = readNodes(builder);
+            final Way[] ways = readWays(builder, nodes);
+            final Connection[] connections = readConnections(builder, ways, nodes);
+            readRoundabouts(builder, nodes);
+            readRestrictions(builder, ways, nodes);
+            readBuildings(builder);
+            readRoutes(builder, connections);
+            return builder;
+        }
+
+        private String string(int index) {
+            return index >= 0 ? strings[index] : null;
+        }
+
+        private static String[] readStrings(ByteBuffer section) {
+            final int count = section.getInt();
+            final int[] offsets = readInts(section, count + 1);
+            final byte[] data = new byte[offsets[count]];
+            section.get(data);
+            final String[] result = new String[count];
+            for (int i = 0; i < count; i++) {
+                result[i] = new String(data, offsets[i], offsets[i + 1] - offsets[i], StandardCharsets.UTF_8);
+            }
+            return result;
+        }
+
+        private Node[] readNodes(Database.Builder builder) {
+            final ByteBuffer section = sections[Section.NODES.ordinal()];
+            final int count = section.getInt();
+            final int[] ids = readInts(section, count);
+            final double[] latitudes = readDoubles(section, count);
+            final double[] longitudes = readDoubles(section, count);
+            final double[] elevations = readDoubles(section, count);
+            final byte[] flags = new byte[count];
+            section.get(flags);
+
+            final Node[] nodes = new Node[count];
+            for (int i = 0; i < count; i++) {
+                final Node node = builder.addNode(
+                        string(ids[i]),
+                        GeoPoint.lonLat(longitudes[i], latitudes[i], elevations[i]),
+                        (flags[i] & FLAG_TRAFFIC_LIGHT) != 0
+                );
+                node.setIntersection((flags[i] & FLAG_INTERSECTION) != 0);
+                node.setGenerated((flags[i] & FLAG_GENERATED) != 0);
+                nodes[i] = node;
+            }
+            return nodes;
+        }
+
+        private Way[] readWays(Database.Builder builder, Node[] nodes) {
+            final ByteBuffer section = sections[Section.WAYS.ordinal()];
+            final int count = section.getInt();
+            final int[] ids = readInts(section, count);
+            final int[] names = readInts(section, count);
+            final int[] types = readInts(section, count);
+            final double[] speeds = readDoubles(section, count);
+            final int[] lanesForward = readInts(section, count);
+            final int[] lanesBackward = readInts(section, count);
+            final byte[] oneway = new byte[count];
+            section.get(oneway);
+            final int[] nodeOffsets = readInts(section, count + 1);
+            final int[] wayNodes = readInts(section, nodeOffsets[count]);
+
+            final Way[] ways = new Way[count];
+            for (int i = 0; i < count; i++) {
+                final Way way = builder.addWay(string(ids[i]), string(names[i]), string(types[i]));
+                way.setMaxSpeedInMs(speeds[i]);
+                way.setLanes(lanesForward[i], lanesBackward[i]);
+                way.setIsOneway(oneway[i] != 0);
+                for (int j = nodeOffsets[i]; j < nodeOffsets[i + 1]; j++) {
+                    final Node node = nodes[wayNodes[j]];
+                    way.addNode(node);
+                    node.addWay(way);
+                }
+                ways[i] = way;
+            }
+            return ways;
+        }
+
+        private Connection[] readConnections(Database.Builder builder, Way[] ways, Node[] nodes) {
+            final ByteBuffer section = sections[Section.CONNECTIONS.ordinal()];
+            final int count = section.getInt();
+            final int[] ids = readInts(section, count);
+            final int[] connectionWays = readInts(section, count);
+            final int[] lanes = readInts(section, count);
+            final double[] lengths = readDoubles(section, count);
+            final int[] nodeOffsets = readInts(section, count + 1);
+            final int[] connectionNodes = readInts(section, nodeOffsets[count]);
+
+            final Connection[] connections = new Connection[count];
+            for (int i = 0; i < count; i++) {
+                final Connection connection = builder.addConnection(string(ids[i]), ways[connectionWays[i]].getId())
+                        .setLanes(lanes[i])
+                        .setLength(lengths[i]);
+                for (int j = nodeOffsets[i]; j < nodeOffsets[i + 1]; j++) {
+                    builder.addNodeToConnection(connection.getId(), nodes[connectionNodes[j]].getId());
+                }
+                connections[i] = connection;
+            }
+            return connections;
+        }
+
+        private void readRoundabouts(Database.Builder builder, Node[] nodes) {
+            final ByteBuffer section = sections[Section.ROUNDABOUTS.ordinal()];
+            final int count = section.getInt();
+            final int[] ids = readInts(section, count);
+            final int[] nodeOffsets = readInts(section, count + 1);
+            final int[] roundaboutNodes = readInts(section, nodeOffsets[count]);
+            for (int i = 0; i < count; i++) {
+                final List<Node> roundabout = new ArrayList<>(nodeOffsets[i + 1] - nodeOffsets[i]);
+                for (int j = nodeOffsets[i]; j < nodeOffsets[i + 1]; j++) {
+                    roundabout.add(roundaboutNodes[j] >= 0 ? nodes[roundaboutNodes[j]] : null);
+                }
+                builder.addRoundabout(string(ids[i]), roundabout);
+            }
+        }
+
+        private void readRestrictions(Database.Builder builder, Way[] ways, Node[] nodes) {
+            // same as when loading from SQLite, connections are completed before adding restrictions
+            builder.completeConnections();
+
+            final ByteBuffer section = sections[Section.RESTRICTIONS.ordinal()];
+            final int count = section.getInt();
+            for (int i = 0; i < count; i++) {
+                final String id = string(section.getInt());
+                final Restriction.Type type = Restriction.Type.values()[section.get()];
+                final Way source = ways[section.getInt()];
+                final Node via = nodes[section.getInt()];
+                final Way target = ways[section.getInt()];
+                builder.addRestriction(id, type, source.getId(), via.getId(), target.getId());
+            }
+        }
+
+        private void readBuildings(Database.Builder builder) {
+            final ByteBuffer section = sections[Section.BUILDINGS.ordinal()];
+            final int count = section.getInt();
+            final String[] ids = new String[count];
+            final String[] names = new String[count];
+            final double[] heights = new double[count];
+            for (int i = 0; i < count; i++) {
+                ids[i] = string(section.getInt());
+                names[i] = string(section.getInt());
+                heights[i] = section.getDouble();
+            }
+            final int[] cornerOffsets = readInts(section, count + 1);
+            final double[] coordinates = readDoubles(section, 2 * cornerOffsets[count]);
+            for (int i = 0; i < count; i++) {
+                final GeoPoint[] corners = new GeoPoint[cornerOffsets[i + 1] - cornerOffsets[i]];
+                for (int j = 0; j < corners.length; j++) {
+                    final int corner = cornerOffsets[i] + j;
+                    corners[j] = GeoPoint.latLon(coordinates[2 * corner], coordinates[2 * corner + 1]);
+                }
+                builder.addBuilding(ids[i], names[i], heights[i], corners);
+            }
+        }
+
+        private void readRoutes(Database.Builder builder, Connection[] connections) {
+            final ByteBuffer section = sections[Section.ROUTES.ordinal()];
+            final int count = section.getInt();
+            final int[] ids = readInts(section, count);
+            final int[] connectionOffsets = readInts(section, count + 1);
+            final int[] routeConnections = readInts(section, connectionOffsets[count]);
+            for (int i = 0; i < count; i++) {
+                final Database.RouteBuilder route = builder.addRoute(string(ids[i]));
+                for (int j = connectionOffsets[i]; j < connectionOffsets[i + 1]; j++) {
+                    route.addConnection(connections[routeConnections[j]].getId());
+                }
+                route.create();
+            }
+        }
+
+        private static int[] readInts(ByteBuffer section, int count) {
+            final int[] result = new int[count];
+            section.asIntBuffer().get(result);
+            section.position(section.position() + 4 * count);
+            return result;
+        }
+
+        private static double[] readDoubles(ByteBuffer section, int count) {
+            final double[] result = new double[count];
+            section.asDoubleBuffer().get(result);
+            section.position(section.position() + 8 * count);
+            return result;
+        }
+    }
+}
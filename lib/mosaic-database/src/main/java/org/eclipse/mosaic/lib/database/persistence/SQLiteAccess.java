@@ -29,6 +29,8 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Properties;
+import java.util.function.Consumer;
 import java.util.function.Function;
 
 /**
@@ -41,6 +43,7 @@ class SQLiteAccess {
 
     private Connection dbConnection;
     private String dbName = "";
+    private boolean readOnly = false;
 
     /**
      * Constructor for accessing an existing database file.
@@ -91,6 +94,16 @@ class SQLiteAccess {
         }
     }
 
+    /**
+     * Opens all further connections in read-only mode, which allows several connections to read
+     * the same database file concurrently. Must be called before {@link #setDatabaseFile(java.lang.String)}.
+     *
+     * @param readOnly {@code true}, if the database file must not be changed
+     */
+    protected void setReadOnly(boolean readOnly) {
+        this.readOnly = readOnly;
+    }
+
     /**
      * Connects to the database defined by {@link #setDatabaseFile(java.lang.String)}.
      *
@@ -98,7 +111,12 @@ class SQLiteAccess {
      */
     protected Statement connect() throws SQLException {
         if (dbConnection == null || dbConnection.isClosed()) {
-            dbConnection = DriverManager.getConnection("jdbc:sqlite:" + dbName);
+            final Properties properties = new Properties();
+            if (readOnly) {
+                // equals SQLITE_OPEN_READONLY, the config class of the driver is not available at compile time
+                properties.setProperty("open_mode", "1");
+            }
+            dbConnection = DriverManager.getConnection("jdbc:sqlite:" + dbName, properties);
         }
         return dbConnection.createStatement();
     }
@@ -157,23 +175,47 @@ class SQLiteAccess {
         return result;
     }
 
+    /**
+     * Executes the given query and passes each row of its result to the consumer while reading the result,
+     * instead of collecting all rows beforehand. The same {@link ResultRow} object is reused for all rows,
+     * thus the consumer must not keep a reference to it. Connects and disconnects each time.
+     *
+     * @param statementString SQL query to be executed
+     * @param rowConsumer     consumer for each row of the result
+     * @throws SQLException Exception that provides information on a database access error or other errors.
+     */
+    protected void forEachRow(String statementString, Consumer<ResultRow> rowConsumer) throws SQLException {
+        Statement statement = connect();
+        try (ResultSet resultSet = statement.executeQuery(statementString)) {
+            final Map<String, Integer> columnIndex = readColumnIndex(resultSet.getMetaData());
+            final ResultRow row = new ResultRow(columnIndex, new Object[columnIndex.size()]);
+            while (resultSet.next()) {
+                row.read(resultSet);
+                rowConsumer.accept(row);
+            }
+        } finally {
+            disconnect(statement);
+        }
+    }
+
     private List<ResultRow> readRows(ResultSet rs) throws SQLException {
         List<ResultRow> re = new ArrayList<>();
 
+        final Map<String, Integer> columnIndex = readColumnIndex(rs.getMetaData());
+        while (rs.next()) {
+            ResultRow row = new ResultRow(columnIndex, new Object[columnIndex.size()]);
+            row.read(rs);
+            re.add(row);
+        }
+        return re;
+    }
+
+    private static Map<String, Integer> readColumnIndex(ResultSetMetaData metaData) throws SQLException {
         final Map<String, Integer> columnIndex = new HashMap<>();
-        final ResultSetMetaData metaData = rs.getMetaData();
         for (int i = 0; i < metaData.getColumnCount(); i++) {
             columnIndex.put(metaData.getColumnName(i + 1), i);
         }
-
-        while (rs.next()) {
-            Object[] fields = new Object[columnIndex.size()];
-            for (int column : columnIndex.values()) {
-                fields[column] = rs.getObject(column + 1);
-            }
-            re.add(new ResultRow(columnIndex, fields));
-        }
-        return re;
+        return columnIndex;
     }
 
     static class ResultRow {
@@ -186,6 +228,12 @@ class SQLiteAccess {
             this.fields = fields;
         }
 
+        private void read(ResultSet resultSet) throws SQLException {
+            for (int column : columnIndex.values()) {
+                fields[column] = resultSet.getObject(column + 1);
+            }
+        }
+
         protected <T> T get(String columnName, T defaultValue, Function<Object, T> objectMapper) {
             Integer column = columnIndex.get(columnName);
             if (column != null) {
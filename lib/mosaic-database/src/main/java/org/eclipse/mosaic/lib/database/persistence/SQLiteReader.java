@@ -17,6 +17,7 @@ package org.eclipse.mosaic.lib.database.persistence;
 
 import org.eclipse.mosaic.lib.database.Database;
 import org.eclipse.mosaic.lib.database.building.Building;
+import org.eclipse.mosaic.lib.database.road.CompactRoadNetwork;
 import org.eclipse.mosaic.lib.database.road.Connection;
 import org.eclipse.mosaic.lib.database.road.Node;
 import org.eclipse.mosaic.lib.database.road.Restriction;
@@ -35,13 +36,25 @@ import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Properties;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
 import javax.annotation.Nonnull;
 
 /**
- * This reads all objects from an SQLite database into the given object database.
+ * This reads all objects from an SQLite database into the given object database. The rows of each table
+ * are passed directly to the database builder while reading them. Nodes, ways, and buildings do not depend on
+ * each other, therefore these tables are read in parallel, each using its own read-only connection.
  */
 public class SQLiteReader {
 
+    /**
+     * The number of tables which are read in parallel, i.e. nodes, ways, and buildings.
+     */
+    private static final int PARALLEL_TABLES = 3;
+
     private final Logger log = LoggerFactory.getLogger(this.getClass());
 
     private final SQLiteAccess sqlite = new SQLiteAccess();
@@ -96,29 +109,141 @@ public class SQLiteReader {
         Database.Builder builder = new Database.Builder(checkVersion());
         log.debug("Loading properties...");
         loadProperties(builder);
-        log.debug("Loading nodes...");
-        loadNodes(builder); //Needs to be loaded before any other network related table
-        log.debug("Loading ways...");
-        loadWays(builder);
-        log.debug("Loading way <--> node relations...");
-        loadWayNodes(builder);
-        log.debug("Loading connections...");
-        loadConnections(builder);
-        log.debug("Loading connection <--> node relations...");
-        loadConnectionNodes(builder);
-        log.debug("Loading roundabouts...");
-        loadRoundabouts(builder);
-        log.debug("Loading restrictions...");
-        loadRestrictions(builder);
-        log.debug("Loading buildings...");
-        loadBuildings(builder);
-        log.debug("Loading routes...");
-        loadRoutes(builder);
+
+        // the parallel tasks add their objects to distinct collections of the builder, which are
+        // not accessed by any other task until the respective task has finished
+        final ExecutorService executor = Executors.newFixedThreadPool(PARALLEL_TABLES);
+        try {
+            log.debug("Loading nodes, ways, and buildings...");
+            final Future<?> nodes = executor.submit(() -> loadNodes(createReadOnlyAccess(dbFilename), builder));
+            final Future<?> ways = executor.submit(() -> loadWays(createReadOnlyAccess(dbFilename), builder));
+            final Future<?> buildings = executor.submit(() -> loadBuildings(createReadOnlyAccess(dbFilename), builder));
+            await(nodes); //Needs to be loaded before any other network related table
+            await(ways);
+            log.debug("Loading way <--> node relations...");
+            loadWayNodes(builder);
+            log.debug("Loading connections...");
+            loadConnections(builder);
+            log.debug("Loading connection <--> node relations...");
+            loadConnectionNodes(builder);
+            log.debug("Loading roundabouts...");
+            loadRoundabouts(builder);
+            log.debug("Loading restrictions...");
+            loadRestrictions(builder);
+            log.debug("Loading routes...");
+            loadRoutes(builder);
+            await(buildings);
+        } finally {
+            executor.shutdownNow();
+            sqlite.disconnect(null);
+        }
         log.debug("Database loaded");
-        sqlite.disconnect(null);
         return builder;
     }
 
+    private SQLiteAccess createReadOnlyAccess(String dbFilename) {
+        final SQLiteAccess access = new SQLiteAccess();
+        access.setReadOnly(true);
+        access.setDatabaseFile(dbFilename);
+        return access;
+    }
+
+    /**
+     * Waits until the given loading task has finished, and passes on any exception thrown by the task.
+     */
+    private static void await(Future<?> task) {
+        try {
+            task.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while loading database", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Error loading database: " + e.getCause().getMessage(), e.getCause());
+        }
+    }
+
+    /**
+     * This loads only the road network of the given database into a {@link CompactRoadNetwork}, without creating
+     * objects for each node, way, and connection in the meantime. Buildings, roundabouts, and routes are skipped.
+     *
+     * @param dbFilename Database filename.
+     * @return Loaded road network.
+     * @throws OutdatedDatabaseException if there is an error while reading version from database or the read version is older than stable version.
+     */
+    public CompactRoadNetwork loadRoadNetwork(@Nonnull String dbFilename) throws OutdatedDatabaseException {
+        sqlite.setDatabaseFile(dbFilename);
+        log.debug("checking version...");
+        checkVersion();
+        CompactRoadNetwork.Builder builder = new CompactRoadNetwork.Builder();
+        try {
+            log.debug("Loading nodes...");
+            sqlite.forEachRow(
+                    "SELECT id, lat, lon, ele, is_traffic_light, is_intersection, is_generated FROM " + TABLES.NODE,
+                    nodeEntry -> builder.addNode(
+                            nodeEntry.getString("id"),
+                            nodeEntry.getDouble("lat"),
+                            nodeEntry.getDouble("lon"),
+                            nodeEntry.getDouble("ele", 0d),
+                            nodeEntry.getBoolean("is_traffic_light"),
+                            nodeEntry.getBoolean("is_intersection"),
+                            nodeEntry.getBoolean("is_generated")
+                    )
+            );
+            log.debug("Loading ways...");
+            sqlite.forEachRow(
+                    "SELECT id, name, type, speed, lanesForward, lanesBackward, oneway FROM " + TABLES.WAY,
+                    wayEntry -> builder.addWay(
+                            wayEntry.getString("id"),
+                            wayEntry.getString("name", null),
+                            wayEntry.getString("type", null),
+                            wayEntry.getDouble("speed"),
+                            wayEntry.getInt("lanesForward"),
+                            wayEntry.getInt("lanesBackward"),
+                            wayEntry.getBoolean("oneway")
+                    )
+            );
+            log.debug("Loading way <--> node relations...");
+            sqlite.forEachRow(
+                    "SELECT way_id, node_id FROM " + TABLES.WAY_CONSISTS_OF + " ORDER BY sequence_number",
+                    consistsEntry -> builder.addNodeToWay(consistsEntry.getString("way_id"), consistsEntry.getString("node_id"))
+            );
+            log.debug("Loading connections...");
+            sqlite.forEachRow(
+                    "SELECT id, way_id, lanes, length FROM " + TABLES.CONNECTION,
+                    connectionEntry -> builder.addConnection(
+                            connectionEntry.getString("id"),
+                            connectionEntry.getString("way_id"),
+                            connectionEntry.getInt("lanes"),
+                            connectionEntry.getDouble("length")
+                    )
+            );
+            log.debug("Loading connection <--> node relations...");
+            sqlite.forEachRow(
+                    "SELECT connection_id, node_id FROM " + TABLES.CONNECTION_CONSISTS_OF + " ORDER BY sequence_number",
+                    consistsEntry -> builder.addNodeToConnection(consistsEntry.getString("connection_id"), consistsEntry.getString("node_id"))
+            );
+            log.debug("Loading restrictions...");
+            sqlite.forEachRow(
+                    "SELECT id, source_way_id, via_node_id, target_way_id, type FROM " + TABLES.RESTRICTION,
+                    restrictionEntry -> builder.addRestriction(
+                            Restriction.Type.convertTypeFromString(restrictionEntry.getString("type")),
+                            restrictionEntry.getString("source_way_id"),
+                            restrictionEntry.getString("via_node_id"),
+                            restrictionEntry.getString("target_way_id")
+                    )
+            );
+        } catch (SQLException e) {
+            throw new IllegalStateException("Error loading road network: " + e.getMessage(), e);
+        } finally {
+            sqlite.disconnect(null);
+        }
+        log.debug("Road network loaded");
+        return builder.build();
+    }
+
     /**
      * Checks the version of the database and creates a database object for usage.
      *
@@ -151,22 +276,17 @@ public class SQLiteReader {
     private void loadProperties(Database.Builder databaseBuilder) {
 
         try {
-            // get all properties
-            List<SQLiteAccess.ResultRow> propertyList = sqlite.executeStatement(
-                    "SELECT id, value FROM " + TABLES.PROPERTIES
-            ).getRows();
-
-            // rework into objects
-            for (SQLiteAccess.ResultRow propertyEntry : propertyList) {
+            // get all properties and rework into objects
+            sqlite.forEachRow("SELECT id, value FROM " + TABLES.PROPERTIES, propertyEntry -> {
 
                 // read files from entry, mind index order (see columns above)
                 String id = propertyEntry.getString("id");
                 if (id.equals(Database.PROPERTY_VERSION)) {
-                    continue;
+                    return;
                 }
                 String value = propertyEntry.getString("value", null);
                 databaseBuilder.addProperty(id, value);
-            }
+            });
         } catch (SQLException e) {
             log.warn("Error loading properties: {}. Skipping", e.getMessage());
         }
@@ -176,18 +296,14 @@ public class SQLiteReader {
      * Loads all {@link Node}s from the persistence and writes to the given {@link Database}. This
      * needs to be loaded before any other network related tables.
      *
+     * @param access          Connection to the database, used by this loader only.
      * @param databaseBuilder Database builder from which to load.
      */
-    private void loadNodes(Database.Builder databaseBuilder) {
+    private void loadNodes(SQLiteAccess access, Database.Builder databaseBuilder) {
 
         try {
-            // get all nodes
-            List<SQLiteAccess.ResultRow> nodeList = sqlite.executeStatement(
-                    "SELECT id, lat, lon, ele, is_traffic_light, is_intersection, is_generated FROM " + TABLES.NODE
-            ).getRows();
-
-            // rework into objects
-            for (SQLiteAccess.ResultRow nodeEntry : nodeList) {
+            // get all nodes and rework into objects
+            access.forEachRow("SELECT id, lat, lon, ele, is_traffic_light, is_intersection, is_generated FROM " + TABLES.NODE, nodeEntry -> {
 
                 // read files from entry, mind index order (see columns above)
                 String id = nodeEntry.getString("id");
@@ -206,7 +322,7 @@ public class SQLiteReader {
                 );
                 node.setIntersection(isIntersection);
                 node.setGenerated(isGenerated);
-            }
+            });
         } catch (SQLException e) {
             log.warn("Error loading nodes: {}. Skipping", e.getMessage());
         }
@@ -216,16 +332,13 @@ public class SQLiteReader {
      * Loads all {@link Way}s from the persistence and writes to the given {@link Database}. This is
      * the second step when loading the network.
      *
+     * @param access          Connection to the database, used by this loader only.
      * @param databaseBuilder Database from which to load.
      */
-    private void loadWays(Database.Builder databaseBuilder) {
+    private void loadWays(SQLiteAccess access, Database.Builder databaseBuilder) {
         try {
             // get all ways
-            List<SQLiteAccess.ResultRow> wayList = sqlite.executeStatement(
-                    "SELECT id, name, type, speed, lanesForward, lanesBackward, oneway FROM " + TABLES.WAY
-            ).getRows();
-
-            for (SQLiteAccess.ResultRow wayEntry : wayList) {
+            access.forEachRow("SELECT id, name, type, speed, lanesForward, lanesBackward, oneway FROM " + TABLES.WAY, wayEntry -> {
 
                 String id = wayEntry.getString("id");
                 String name = wayEntry.getString("name", null);
@@ -240,8 +353,7 @@ public class SQLiteReader {
                 way.setMaxSpeedInMs(speed);
                 way.setLanes(lanesForward, lanesBackward);
                 way.setIsOneway(oneway);
-
-            }
+            });
 
         } catch (IllegalArgumentException iae) {
             log.error("could not read way from DB please check for consistency");
@@ -257,16 +369,11 @@ public class SQLiteReader {
      */
     private void loadWayNodes(Database.Builder databaseBuilder) {
         try {
-            List<SQLiteAccess.ResultRow> consists = sqlite.executeStatement(
-                    "SELECT way_id, node_id FROM " + TABLES.WAY_CONSISTS_OF+ " ORDER BY sequence_number"
-            ).getRows();
-
-            // rework into objects
-            for (SQLiteAccess.ResultRow consistsEntry : consists) {
+            sqlite.forEachRow("SELECT way_id, node_id FROM " + TABLES.WAY_CONSISTS_OF + " ORDER BY sequence_number", consistsEntry -> {
                 String wayId = consistsEntry.getString("way_id");
                 String nodeId = consistsEntry.getString("node_id");
                 databaseBuilder.addNodeToWay(wayId, nodeId);
-            }
+            });
 
         } catch (SQLException e) {
             log.warn("Error loading way <--> node relations: {}. Skipping", e.getMessage());
@@ -280,12 +387,7 @@ public class SQLiteReader {
      */
     private void loadConnections(Database.Builder databaseBuilder) {
         try {
-            List<SQLiteAccess.ResultRow> connections = sqlite.executeStatement(
-                    "SELECT id, way_id, lanes, length FROM " + TABLES.CONNECTION
-            ).getRows();
-
-            // rework into objects
-            for (SQLiteAccess.ResultRow connectionEntry : connections) {
+            sqlite.forEachRow("SELECT id, way_id, lanes, length FROM " + TABLES.CONNECTION, connectionEntry -> {
 
                 String id = connectionEntry.getString("id");
                 String wayId = connectionEntry.getString("way_id");
@@ -294,7 +396,7 @@ public class SQLiteReader {
 
                 // create object and save to db
                 databaseBuilder.addConnection(id, wayId).setLanes(lanes).setLength(length);
-            }
+            });
 
         } catch (SQLException e) {
             log.warn("Error loading connections: {}. Skipping", e.getMessage());
@@ -308,12 +410,7 @@ public class SQLiteReader {
      */
     private void loadConnectionNodes(Database.Builder databaseBuilder) {
         try {
-            List<SQLiteAccess.ResultRow> consists = sqlite.executeStatement(
-                    "SELECT connection_id, node_id FROM " + TABLES.CONNECTION_CONSISTS_OF + " ORDER BY sequence_number"
-            ).getRows();
-
-            // rework into objects
-            for (SQLiteAccess.ResultRow consistsEntry : consists) {
+            sqlite.forEachRow("SELECT connection_id, node_id FROM " + TABLES.CONNECTION_CONSISTS_OF + " ORDER BY sequence_number", consistsEntry -> {
 
                 // read files from entry, mind index order (see columns above)
                 String connectionId = consistsEntry.getString("connection_id");
@@ -321,7 +418,7 @@ public class SQLiteReader {
 
                 // create object and save to db
                 databaseBuilder.addNodeToConnection(connectionId, nodeId);
-            }
+            });
 
         } catch (SQLException e) {
             log.warn("Error loading connection <--> node relations: {}. Skipping", e.getMessage());
@@ -329,51 +426,39 @@ public class SQLiteReader {
     }
 
     /**
-     * This loads {@link Roundabout}s.
+     * This loads {@link Roundabout}s together with the {@link Node}s they consist of, using a single scan
+     * ordered by roundabout.
      *
      * @param databaseBuilder Database builder from which to load.
      */
     private void loadRoundabouts(Database.Builder databaseBuilder) {
-        try {
-            List<SQLiteAccess.ResultRow> roundabouts = sqlite.executeStatement(
-                    "SELECT id FROM " + TABLES.ROUNDABOUT
-            ).getRows();
-
-            // rework into objects
-            for (SQLiteAccess.ResultRow roundaboutEntry : roundabouts) {
-
-                // read files from entry, mind index order (see columns above)
-                String id = roundaboutEntry.getString("id");
-
-                // create object and save to db
-                List<Node> nodes = loadRoundaboutNodes(id, databaseBuilder);
-                databaseBuilder.addRoundabout(id, nodes);
+        final List<Node> nodes = new ArrayList<>();
+        final GroupedRows roundabouts = new GroupedRows("id") {
+            @Override
+            void addRow(SQLiteAccess.ResultRow roundaboutEntry) {
+                // nodes which are not part of the road network anymore are skipped
+                Node node = databaseBuilder.getNode(roundaboutEntry.getString("node_id", null));
+                if (node != null) {
+                    nodes.add(node);
+                }
             }
-        } catch (Exception e) {
-            log.warn("No roundabouts were found in the scenario database. Note that roundabouts in this scenario may be treated as ordinary crossings.");
-        }
-    }
 
-    /**
-     * This loads {@link Node}-References (IDs) that are part of the {@link Roundabout} with id `roundaboutId`.
-     *
-     * @param roundaboutId Id of the roundabout from which to load the nodes.
-     */
-    private List<Node> loadRoundaboutNodes(String roundaboutId, Database.Builder databaseBuilder) {
-        try {
-            List<SQLiteAccess.ResultRow> restrictions = sqlite.executeStatement(
-                    "SELECT node_id FROM " + TABLES.ROUNDABOUT_CONSISTS_OF + " WHERE roundabout_id = \""
-                            + roundaboutId + "\" ORDER BY sequence_number ASC"
-            ).getRows();
-            List<Node> restrictionNodes = new ArrayList<>();
-            for (SQLiteAccess.ResultRow restriction : restrictions) {
-                restrictionNodes.add(databaseBuilder.getNode(restriction.getString("id")));
+            @Override
+            void finishGroup(String id) {
+                databaseBuilder.addRoundabout(id, new ArrayList<>(nodes));
+                nodes.clear();
             }
-            return restrictionNodes;
+        };
+        try {
+            // older databases contain a misspelled sequence number column, therefore the nodes are
+            // ordered by their insertion order, which equals their sequence
+            sqlite.forEachRow("SELECT r.id, c.node_id FROM " + TABLES.ROUNDABOUT + " r"
+                    + " LEFT JOIN " + TABLES.ROUNDABOUT_CONSISTS_OF + " c ON c.roundabout_id = r.id"
+                    + " ORDER BY r.id, c.rowid", roundabouts);
+            roundabouts.finish();
         } catch (Exception e) {
-            log.warn("Error loading roundabout nodes: {}. Skipping", e.getMessage());
+            log.warn("No roundabouts were found in the scenario database. Note that roundabouts in this scenario may be treated as ordinary crossings.");
         }
-        return new ArrayList<>();
     }
 
     /**
@@ -385,11 +470,7 @@ public class SQLiteReader {
         databaseBuilder.completeConnections();
 
         try {
-            List<SQLiteAccess.ResultRow> restrictions = sqlite.executeStatement(
-                    "SELECT id, source_way_id, via_node_id, target_way_id, type FROM " + TABLES.RESTRICTION
-            ).getRows();
-
-            for (SQLiteAccess.ResultRow restrictionEntry : restrictions) {
+            sqlite.forEachRow("SELECT id, source_way_id, via_node_id, target_way_id, type FROM " + TABLES.RESTRICTION, restrictionEntry -> {
                 String restrictionId = restrictionEntry.getString("id");
                 String sourceWayId = restrictionEntry.getString("source_way_id");
                 String viaNodeId = restrictionEntry.getString("via_node_id");
@@ -397,7 +478,7 @@ public class SQLiteReader {
                 Restriction.Type type = Restriction.Type.convertTypeFromString(restrictionEntry.getString("type"));
 
                 databaseBuilder.addRestriction(restrictionId, type, sourceWayId, viaNodeId, targetWayId);
-            }
+            });
 
         } catch (SQLException e) {
             log.warn("Error loading restrictions: {}, Skipping", e.getMessage());
@@ -405,34 +486,46 @@ public class SQLiteReader {
     }
 
     /**
-     * This loads the {@link Building}s from the database.
+     * This loads the {@link Building}s from the database. The corners of all buildings are read within
+     * the same scan, ordered by building, instead of querying them per building.
      *
+     * @param access          Connection to the database, used by this loader only.
      * @param databaseBuilder Database from which to load the buildings.
      */
-    private void loadBuildings(Database.Builder databaseBuilder) {
-        try {
-            List<SQLiteAccess.ResultRow> buildingEntries = sqlite.executeStatement("SELECT id, name, height FROM " + TABLES.BUILDING).getRows();
-
-            // rework into objects
-            for (SQLiteAccess.ResultRow buildingEntry : buildingEntries) {
-                String id = buildingEntry.getString("id");
-                String name = buildingEntry.getString("name");
-                double height = buildingEntry.getDouble("height");
-
-                List<SQLiteAccess.ResultRow> cornerEntries = sqlite.executeStatement(
-                        "SELECT lat, lon FROM " + TABLES.BUILDING_CONSISTS_OF + " WHERE building_id = \"" + id + "\" ORDER BY sequence_number"
-                ).getRows();
-
-                final GeoPoint[] corners = new GeoPoint[cornerEntries.size()];
-                int i = 0;
-                for (SQLiteAccess.ResultRow cornerEntry : cornerEntries) {
-                    corners[i++] = GeoPoint.latLon(cornerEntry.getDouble("lat"), cornerEntry.getDouble("lon"));
+    private void loadBuildings(SQLiteAccess access, Database.Builder databaseBuilder) {
+        final List<GeoPoint> corners = new ArrayList<>();
+        final GroupedRows buildings = new GroupedRows("id") {
+
+            private String name;
+            private double height;
+
+            @Override
+            void startGroup(String id, SQLiteAccess.ResultRow buildingEntry) {
+                name = buildingEntry.getString("name");
+                height = buildingEntry.getDouble("height");
+            }
+
+            @Override
+            void addRow(SQLiteAccess.ResultRow buildingEntry) {
+                Double lat = buildingEntry.getDouble("lat", null);
+                Double lon = buildingEntry.getDouble("lon", null);
+                if (lat != null && lon != null) {
+                    corners.add(GeoPoint.latLon(lat, lon));
                 }
+            }
 
+            @Override
+            void finishGroup(String id) {
                 // create building and save to db
-                databaseBuilder.addBuilding(id, name, height, corners);
+                databaseBuilder.addBuilding(id, name, height, corners.toArray(new GeoPoint[0]));
+                corners.clear();
             }
-
+        };
+        try {
+            access.forEachRow("SELECT b.id, b.name, b.height, c.lat, c.lon FROM " + TABLES.BUILDING + " b"
+                    + " LEFT JOIN " + TABLES.BUILDING_CONSISTS_OF + " c ON c.building_id = b.id"
+                    + " ORDER BY b.id, c.sequence_number", buildings);
+            buildings.finish();
         } catch (SQLException e) {
             log.warn("Error loading buildings: {}. Skipping", e.getMessage());
         }
@@ -444,38 +537,74 @@ public class SQLiteReader {
      * @param databaseBuilder Database from which to load the routes.
      */
     private void loadRoutes(Database.Builder databaseBuilder) {
-        try {
-            List<SQLiteAccess.ResultRow> routes = sqlite.executeStatement(
-                    "SELECT id, connection_id FROM " + TABLES.ROUTE + " ORDER BY id, sequence_number"
-            ).getRows();
+        final GroupedRows routes = new GroupedRows("id") {
 
-            String lastId = null;
-            Database.RouteBuilder routeBuilder = null;
+            private Database.RouteBuilder routeBuilder;
 
-            // rework into objects
-            for (SQLiteAccess.ResultRow routeEntry : routes) {
+            @Override
+            void startGroup(String id, SQLiteAccess.ResultRow routeEntry) {
+                routeBuilder = databaseBuilder.addRoute(id);
+            }
 
-                // read files from entry, mind index order (see columns above)
-                String id = routeEntry.getString("id");
-                String connectionId = routeEntry.getString("connection_id");
-
-                // we need to group into our route object
-                if (!id.equals(lastId)) {
-                    if (routeBuilder != null) {
-                        routeBuilder.create();
-                    }
-                    routeBuilder = databaseBuilder.addRoute(id);
-                    lastId = id;
-                }
-                routeBuilder.addConnection(connectionId);
+            @Override
+            void addRow(SQLiteAccess.ResultRow routeEntry) {
+                routeBuilder.addConnection(routeEntry.getString("connection_id"));
             }
 
-            if (routeBuilder != null) {
+            @Override
+            void finishGroup(String id) {
                 routeBuilder.create();
             }
+        };
+        try {
+            sqlite.forEachRow("SELECT id, connection_id FROM " + TABLES.ROUTE + " ORDER BY id, sequence_number", routes);
+            routes.finish();
         } catch (SQLException e) {
             log.warn("Error loading routes: {}. Skipping", e.getMessage());
         }
     }
 
+    /**
+     * Groups consecutive rows of a result, which is ordered by the given id column, without
+     * holding more than the current row in memory.
+     */
+    private abstract static class GroupedRows implements Consumer<SQLiteAccess.ResultRow> {
+
+        private final String idColumn;
+        private String currentId;
+
+        private GroupedRows(String idColumn) {
+            this.idColumn = idColumn;
+        }
+
+        @Override
+        public void accept(SQLiteAccess.ResultRow row) {
+            String id = row.getString(idColumn);
+            if (!id.equals(currentId)) {
+                finish();
+                currentId = id;
+                startGroup(id, row);
+            }
+            addRow(row);
+        }
+
+        /**
+         * Finishes the last group. Must be called after all rows have been passed.
+         */
+        void finish() {
+            if (currentId != null) {
+                finishGroup(currentId);
+                currentId = null;
+            }
+        }
+
+        void startGroup(String id, SQLiteAccess.ResultRow firstRow) {
+            // nop by default
+        }
+
+        abstract void addRow(SQLiteAccess.ResultRow row);
+
+        abstract void finishGroup(String id);
+    }
+
 }
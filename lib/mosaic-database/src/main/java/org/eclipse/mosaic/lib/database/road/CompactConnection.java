@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+package org.eclipse.mosaic.lib.database.road;
+
+import java.util.Collection;
+import java.util.List;
+import javax.annotation.Nonnull;
+
+/**
+ * A read-only view of a connection of a {@link CompactRoadNetwork}.
+ */
+final class CompactConnection extends Connection {
+
+    private final CompactRoadNetwork network;
+    private final int index;
+
+    CompactConnection(CompactRoadNetwork network, int index) {
+        super(network.getConnectionId(index), new CompactWay(network, network.getConnectionWay(index)));
+        this.network = network;
+        this.index = index;
+    }
+
+    @Override
+    public Node getFrom() {
+        final int from = network.getConnectionFrom(index);
+        return from >= 0 ? new CompactNode(network, from) : null;
+    }
+
+    @Override
+    public Node getTo() {
+        final int to = network.getConnectionTo(index);
+        return to >= 0 ? new CompactNode(network, to) : null;
+    }
+
+    @Override
+    public int getLanes() {
+        return network.getConnectionLanes(index);
+    }
+
+    @Override
+    public double getLength() {
+        return network.getConnectionLength(index);
+    }
+
+    @Nonnull
+    @Override
+    public List<Node> getNodes() {
+        return network.nodeList(network.getConnectionNodes(), index);
+    }
+
+    @Nonnull
+    @Override
+    public Collection<Connection> getOutgoingConnections() {
+        return network.connectionList(network.getConnectionOutgoingConnections(), index);
+    }
+
+    @Nonnull
+    @Override
+    public Collection<Connection> getIncomingConnections() {
+        return network.connectionList(network.getConnectionIncomingConnections(), index);
+    }
+
+    @Override
+    public Connection setLength(double length) {
+        throw new UnsupportedOperationException("Connections of a compact road network are read-only");
+    }
+
+    @Override
+    public Connection setLanes(int lanes) {
+        throw new UnsupportedOperationException("Connections of a compact road network are read-only");
+    }
+
+    @Override
+    public void addNode(@Nonnull Node node) {
+        throw new UnsupportedOperationException("Connections of a compact road network are read-only");
+    }
+
+    @Override
+    public void addNodes(@Nonnull List<Node> node) {
+        throw new UnsupportedOperationException("Connections of a compact road network are read-only");
+    }
+
+    @Override
+    public void addOutgoingConnection(@Nonnull Connection connection) {
+        throw new UnsupportedOperationException("Connections of a compact road network are read-only");
+    }
+
+    @Override
+    public void addIncomingConnection(@Nonnull Connection connection) {
+        throw new UnsupportedOperationException("Connections of a compact road network are read-only");
+    }
+
+    @Override
+    public void applyTurnRestriction(@Nonnull Restriction.Type type, @Nonnull Connection target) {
+        throw new UnsupportedOperationException("Connections of a compact road network are read-only");
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        return obj instanceof CompactConnection other && other.network == network && other.index == index;
+    }
+
+    @Override
+    public int hashCode() {
+        return index;
+    }
+
+    @Override
+    public String toString() {
+        return "Connection{id='" + getId() + "'}";
+    }
+}
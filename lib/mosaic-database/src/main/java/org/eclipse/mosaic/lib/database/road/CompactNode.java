@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+package org.eclipse.mosaic.lib.database.road;
+
+import org.eclipse.mosaic.lib.geo.GeoPoint;
+
+import java.util.List;
+import javax.annotation.Nonnull;
+
+/**
+ * A read-only view of a node of a {@link CompactRoadNetwork}.
+ */
+final class CompactNode extends Node {
+
+    private final CompactRoadNetwork network;
+    private final int index;
+
+    CompactNode(CompactRoadNetwork network, int index) {
+        super(network.getNodeId(index), network.getPosition(index));
+        this.network = network;
+        this.index = index;
+    }
+
+    @Override
+    public double getElevation() {
+        return network.getElevation(index);
+    }
+
+    @Override
+    public boolean isGenerated() {
+        return network.isGenerated(index);
+    }
+
+    @Override
+    public boolean isIntersection() {
+        return network.isIntersection(index);
+    }
+
+    @Nonnull
+    @Override
+    public List<Connection> getIncomingConnections() {
+        return network.connectionList(network.getNodeIncomingConnections(), index);
+    }
+
+    @Nonnull
+    @Override
+    public List<Connection> getOutgoingConnections() {
+        return network.connectionList(network.getNodeOutgoingConnections(), index);
+    }
+
+    @Nonnull
+    @Override
+    public List<Connection> getPartOfConnections() {
+        return network.connectionList(network.getNodePartOfConnections(), index);
+    }
+
+    @Nonnull
+    @Override
+    public List<Way> getWays() {
+        return network.wayList(network.getNodeWays(), index);
+    }
+
+    @Override
+    public boolean isConnectionNode() {
+        return network.getNodeOutgoingConnections().size(index) > 0 || network.getNodePartOfConnections().size(index) > 0;
+    }
+
+    @Override
+    public void setElevation(double elevation) {
+        throw new UnsupportedOperationException("Nodes of a compact road network are read-only");
+    }
+
+    @Override
+    public void setPosition(GeoPoint position) {
+        throw new UnsupportedOperationException("Nodes of a compact road network are read-only");
+    }
+
+    @Override
+    public void setGenerated(boolean isGenerated) {
+        throw new UnsupportedOperationException("Nodes of a compact road network are read-only");
+    }
+
+    @Override
+    public void setIntersection(boolean isIntersection) {
+        throw new UnsupportedOperationException("Nodes of a compact road network are read-only");
+    }
+
+    @Override
+    public void addWay(@Nonnull Way way) {
+        throw new UnsupportedOperationException("Nodes of a compact road network are read-only");
+    }
+
+    @Override
+    public void removeWay(Way way) {
+        throw new UnsupportedOperationException("Nodes of a compact road network are read-only");
+    }
+
+    @Override
+    public void addConnection(@Nonnull Connection connection) {
+        throw new UnsupportedOperationException("Nodes of a compact road network are read-only");
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        return obj instanceof CompactNode other && other.network == network && other.index == index;
+    }
+
+    @Override
+    public int hashCode() {
+        return index;
+    }
+
+    @Override
+    public String toString() {
+        return "Node{"
+                + "id='" + getId() + '\''
+                + ", position=" + getPosition()
+                + ", intersection=" + isIntersection()
+                + '}';
+    }
+}
@@ -0,0 +1,899 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+package org.eclipse.mosaic.lib.database.road;
+
+import org.eclipse.mosaic.lib.database.Database;
+import org.eclipse.mosaic.lib.geo.GeoPoint;
+import org.eclipse.mosaic.lib.geo.GeoRectangle;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javax.annotation.Nonnull;
+
+/**
+ * An immutable, memory compact representation of the road network of a {@link Database}. Instead of one object
+ * per node, way, and connection, all elements are addressed by int indices and their properties are held in
+ * primitive arrays. String ids are only kept in sorted {@link IdDictionary}s, and all relations between elements,
+ * such as the nodes of a connection or the outgoing connections of a node, are stored in compressed sparse row
+ * (CSR) arrays. Turn restrictions are applied while building the network.
+ * <p>
+ * Callers which rely on the object model can still access {@link Node}, {@link Way}, and {@link Connection}
+ * objects. Those are lightweight read-only views which are created on each access, thus, they must be
+ * compared using {@code equals} instead of identity. Traffic light nodes are not represented by
+ * {@link TrafficLightNode} views, but can be identified by {@link #isTrafficLight(int)}.
+ */
+public final class CompactRoadNetwork {
+
+    private static final Logger log = LoggerFactory.getLogger(CompactRoadNetwork.class);
+
+    private static final byte FLAG_TRAFFIC_LIGHT = 1;
+    private static final byte FLAG_INTERSECTION = 1 << 1;
+    private static final byte FLAG_GENERATED = 1 << 2;
+
+    private final IdDictionary nodeIds;
+    private final double[] latitudes;
+    private final double[] longitudes;
+    private final double[] elevations;
+    private final byte[] nodeFlags;
+
+    private final IdDictionary wayIds;
+    private final String[] wayNames;
+    private final String[] wayTypes;
+    private final double[] wayMaxSpeeds;
+    private final short[] wayLanesForward;
+    private final short[] wayLanesBackward;
+    private final boolean[] wayOneway;
+
+    private final IdDictionary connectionIds;
+    private final int[] connectionWays;
+    private final short[] connectionLanes;
+    private final double[] connectionLengths;
+
+    private final Csr wayNodes;
+    private final Csr wayConnections;
+    private final Csr connectionNodes;
+    private final Csr nodeWays;
+    private final Csr nodeOutgoingConnections;
+    private final Csr nodeIncomingConnections;
+    private final Csr nodePartOfConnections;
+    private final Csr connectionOutgoingConnections;
+    private final Csr connectionIncomingConnections;
+
+    private final GeoRectangle boundingBox;
+
+    private CompactRoadNetwork(Builder builder) {
+        this.nodeIds = builder.nodeIds;
+        this.latitudes = builder.latitudes;
+        this.longitudes = builder.longitudes;
+        this.elevations = builder.elevations;
+        this.nodeFlags = builder.nodeFlags;
+        this.wayIds = builder.wayIds;
+        this.wayNames = builder.wayNames;
+        this.wayTypes = builder.wayTypes;
+        this.wayMaxSpeeds = builder.wayMaxSpeeds;
+        this.wayLanesForward = builder.wayLanesForward;
+        this.wayLanesBackward = builder.wayLanesBackward;
+        this.wayOneway = builder.wayOneway;
+        this.connectionIds = builder.connectionIds;
+        this.connectionWays = builder.connectionWays;
+        this.connectionLanes = builder.connectionLanes;
+        this.connectionLengths = builder.connectionLengths;
+
+        final int nodeCount = nodeIds.size();
+        final int connectionCount = connectionIds.size();
+        this.wayNodes = Csr.of(wayIds.size(), builder.wayNodePairs);
+        this.connectionNodes = Csr.of(connectionCount, builder.connectionNodePairs);
+        this.wayConnections = Csr.of(wayIds.size(), IntPairList.of(connectionWays));
+        this.nodeWays = Csr.of(nodeCount, collectNodeWays());
+
+        final IntPairList outgoing = new IntPairList();
+        final IntPairList incoming = new IntPairList();
+        final IntPairList partOf = new IntPairList();
+        collectNodeConnections(outgoing, incoming, partOf);
+        this.nodeOutgoingConnections = Csr.of(nodeCount, outgoing);
+        this.nodeIncomingConnections = Csr.of(nodeCount, incoming);
+        this.nodePartOfConnections = Csr.of(nodeCount, partOf);
+
+        final TurnRestrictions turnRestrictions = new TurnRestrictions(builder.restrictions);
+        this.connectionOutgoingConnections = Csr.of(connectionCount, collectTurns(turnRestrictions, true));
+        this.connectionIncomingConnections = Csr.of(connectionCount, collectTurns(turnRestrictions, false));
+
+        this.boundingBox = calculateBoundingBox();
+    }
+
+    /**
+     * Creates a compact road network from the nodes, ways, connections, and restrictions of the given database.
+     * Afterward, the database is not referenced anymore and can be released.
+     */
+    public static CompactRoadNetwork fromDatabase(Database database) {
+        final Builder builder = new Builder();
+        for (Node node : database.getNodes()) {
+            builder.addNode(node.getId(), node.getPosition().getLatitude(), node.getPosition().getLongitude(), node.getElevation(),
+                    node instanceof TrafficLightNode, node.isIntersection(), node.isGenerated());
+        }
+        for (Way way : database.getWays()) {
+            builder.addWay(way.getId(), way.getName(), way.getType(), way.getMaxSpeedInMs(),
+                    way.getNumberOfLanesForward(), way.getNumberOfLanesBackward(), way.isOneway());
+        }
+        for (Way way : database.getWays()) {
+            for (Node node : way.getNodes()) {
+                builder.addNodeToWay(way.getId(), node.getId());
+            }
+        }
+        for (Connection connection : database.getConnections()) {
+            builder.addConnection(connection.getId(), connection.getWay().getId(), connection.getLanes(), connection.getLength());
+        }
+        for (Connection connection : database.getConnections()) {
+            for (Node node : connection.getNodes()) {
+                builder.addNodeToConnection(connection.getId(), node.getId());
+            }
+        }
+        for (Restriction restriction : database.getRestrictions()) {
+            builder.addRestriction(restriction.getType(),
+                    restriction.getSource().getId(), restriction.getVia().getId(), restriction.getTarget().getId());
+        }
+        return builder.build();
+    }
+
+    public int getNodeCount() {
+        return nodeIds.size();
+    }
+
+    public int getWayCount() {
+        return wayIds.size();
+    }
+
+    public int getConnectionCount() {
+        return connectionIds.size();
+    }
+
+    public GeoRectangle getBoundingBox() {
+        return boundingBox;
+    }
+
+    // ---- index based access ----
+
+    /**
+     * Returns the index of the node with the given id.
+     *
+     * @return the index of the node, or {@code -1} if there is no such node
+     */
+    public int indexOfNode(String nodeId) {
+        return nodeIds.indexOf(nodeId);
+    }
+
+    public String getNodeId(int node) {
+        return nodeIds.getId(node);
+    }
+
+    public double getLatitude(int node) {
+        return latitudes[node];
+    }
+
+    public double getLongitude(int node) {
+        return longitudes[node];
+    }
+
+    public double getElevation(int node) {
+        return elevations[node];
+    }
+
+    public boolean isTrafficLight(int node) {
+        return (nodeFlags[node] & FLAG_TRAFFIC_LIGHT) != 0;
+    }
+
+    public boolean isIntersection(int node) {
+        return (nodeFlags[node] & FLAG_INTERSECTION) != 0;
+    }
+
+    public boolean isGenerated(int node) {
+        return (nodeFlags[node] & FLAG_GENERATED) != 0;
+    }
+
+    public int getOutgoingConnectionCount(int node) {
+        return nodeOutgoingConnections.size(node);
+    }
+
+    /**
+     * Returns the i-th connection starting at the given node.
+     */
+    public int getOutgoingConnection(int node, int i) {
+        return nodeOutgoingConnections.get(node, i);
+    }
+
+    public int getIncomingConnectionCount(int node) {
+        return nodeIncomingConnections.size(node);
+    }
+
+    /**
+     * Returns the i-th connection ending at the given node.
+     */
+    public int getIncomingConnection(int node, int i) {
+        return nodeIncomingConnections.get(node, i);
+    }
+
+    /**
+     * Returns the index of the way with the given id.
+     *
+     * @return the index of the way, or {@code -1} if there is no such way
+     */
+    public int indexOfWay(String wayId) {
+        return wayIds.indexOf(wayId);
+    }
+
+    public String getWayId(int way) {
+        return wayIds.getId(way);
+    }
+
+    public double getMaxSpeedInMs(int way) {
+        return wayMaxSpeeds[way];
+    }
+
+    /**
+     * Returns the index of the connection with the given id.
+     *
+     * @return the index of the connection, or {@code -1} if there is no such connection
+     */
+    public int indexOfConnection(String connectionId) {
+        return connectionIds.indexOf(connectionId);
+    }
+
+    public String getConnectionId(int connection) {
+        return connectionIds.getId(connection);
+    }
+
+    public int getConnectionWay(int connection) {
+        return connectionWays[connection];
+    }
+
+    public double getConnectionLength(int connection) {
+        return connectionLengths[connection];
+    }
+
+    public int getConnectionLanes(int connection) {
+        return connectionLanes[connection];
+    }
+
+    public int getConnectionNodeCount(int connection) {
+        return connectionNodes.size(connection);
+    }
+
+    /**
+     * Returns the i-th node along the given connection.
+     */
+    public int getConnectionNode(int connection, int i) {
+        return connectionNodes.get(connection, i);
+    }
+
+    /**
+     * Returns the first node of the given connection.
+     *
+     * @return the index of the node, or {@code -1} if the connection has no nodes
+     */
+    public int getConnectionFrom(int connection) {
+        return connectionNodes.size(connection) > 0 ? connectionNodes.get(connection, 0) : -1;
+    }
+
+    /**
+     * Returns the last node of the given connection.
+     *
+     * @return the index of the node, or {@code -1} if the connection has no nodes
+     */
+    public int getConnectionTo(int connection) {
+        final int size = connectionNodes.size(connection);
+        return size > 0 ? connectionNodes.get(connection, size - 1) : -1;
+    }
+
+    /**
+     * Returns the number of connections which can be reached from the given connection, considering turn restrictions.
+     */
+    public int getNextConnectionCount(int connection) {
+        return connectionOutgoingConnections.size(connection);
+    }
+
+    /**
+     * Returns the i-th connection which can be reached from the given connection, considering turn restrictions.
+     */
+    public int getNextConnection(int connection, int i) {
+        return connectionOutgoingConnections.get(connection, i);
+    }
+
+    // ---- object views ----
+
+    /**
+     * Returns a read-only view of the node with the given id.
+     *
+     * @return the node, or {@code null} if there is no such node
+     */
+    public Node getNode(String nodeId) {
+        final int index = nodeIds.indexOf(nodeId);
+        return index >= 0 ? new CompactNode(this, index) : null;
+    }
+
+    /**
+     * Returns a read-only view of the way with the given id.
+     *
+     * @return the way, or {@code null} if there is no such way
+     */
+    public Way getWay(String wayId) {
+        final int index = wayIds.indexOf(wayId);
+        return index >= 0 ? new CompactWay(this, index) : null;
+    }
+
+    /**
+     * Returns a read-only view of the connection with the given id.
+     *
+     * @return the connection, or {@code null} if there is no such connection
+     */
+    public Connection getConnection(String connectionId) {
+        final int index = connectionIds.indexOf(connectionId);
+        return index >= 0 ? new CompactConnection(this, index) : null;
+    }
+
+    /**
+     * Returns read-only views of all nodes, which are created on access.
+     */
+    public List<Node> getNodes() {
+        return new IndexList<>(nodeIds.size(), index -> new CompactNode(this, index));
+    }
+
+    /**
+     * Returns read-only views of all ways, which are created on access.
+     */
+    public List<Way> getWays() {
+        return new IndexList<>(wayIds.size(), index -> new CompactWay(this, index));
+    }
+
+    /**
+     * Returns read-only views of all connections, which are created on access.
+     */
+    public List<Connection> getConnections() {
+        return new IndexList<>(connectionIds.size(), index -> new CompactConnection(this, index));
+    }
+
+    GeoPoint getPosition(int node) {
+        return GeoPoint.lonLat(longitudes[node], latitudes[node], elevations[node]);
+    }
+
+    String getWayName(int way) {
+        return wayNames[way];
+    }
+
+    String getWayType(int way) {
+        return wayTypes[way];
+    }
+
+    int getLanesForward(int way) {
+        return wayLanesForward[way];
+    }
+
+    int getLanesBackward(int way) {
+        return wayLanesBackward[way];
+    }
+
+    boolean isOneway(int way) {
+        return wayOneway[way];
+    }
+
+    List<Node> nodeList(Csr csr, int index) {
+        return new IndexList<>(csr.size(index), i -> new CompactNode(this, csr.get(index, i)));
+    }
+
+    List<Way> wayList(Csr csr, int index) {
+        return new IndexList<>(csr.size(index), i -> new CompactWay(this, csr.get(index, i)));
+    }
+
+    List<Connection> connectionList(Csr csr, int index) {
+        return new IndexList<>(csr.size(index), i -> new CompactConnection(this, csr.get(index, i)));
+    }
+
+    Csr getWayNodes() {
+        return wayNodes;
+    }
+
+    Csr getWayConnections() {
+        return wayConnections;
+    }
+
+    Csr getConnectionNodes() {
+        return connectionNodes;
+    }
+
+    Csr getNodeWays() {
+        return nodeWays;
+    }
+
+    Csr getNodeOutgoingConnections() {
+        return nodeOutgoingConnections;
+    }
+
+    Csr getNodeIncomingConnections() {
+        return nodeIncomingConnections;
+    }
+
+    Csr getNodePartOfConnections() {
+        return nodePartOfConnections;
+    }
+
+    Csr getConnectionOutgoingConnections() {
+        return connectionOutgoingConnections;
+    }
+
+    Csr getConnectionIncomingConnections() {
+        return connectionIncomingConnections;
+    }
+
+    private IntPairList collectNodeWays() {
+        final IntPairList pairs = new IntPairList();
+        for (int way = 0; way < wayIds.size(); way++) {
+            for (int i = 0; i < wayNodes.size(way); i++) {
+                // nodes can be part of a way more than once (circles), but the way is added to the node only once
+                if (!wayNodes.containsBefore(way, i, wayNodes.get(way, i))) {
+                    pairs.add(wayNodes.get(way, i), way);
+                }
+            }
+        }
+        return pairs;
+    }
+
+    /**
+     * Assigns each connection to its nodes in the same way as {@link Node#addConnection}.
+     */
+    private void collectNodeConnections(IntPairList outgoing, IntPairList incoming, IntPairList partOf) {
+        for (int connection = 0; connection < connectionIds.size(); connection++) {
+            final int from = getConnectionFrom(connection);
+            final int to = getConnectionTo(connection);
+            for (int i = 0; i < connectionNodes.size(connection); i++) {
+                final int node = connectionNodes.get(connection, i);
+                if (connectionNodes.containsBefore(connection, i, node)) {
+                    continue;
+                }
+                if (node == from) {
+                    outgoing.add(node, connection);
+                } else if (node == to) {
+                    incoming.add(node, connection);
+                } else {
+                    partOf.add(node, connection);
+                }
+            }
+        }
+    }
+
+    private IntPairList collectTurns(TurnRestrictions turnRestrictions, boolean outgoing) {
+        final IntPairList pairs = new IntPairList();
+        for (int connection = 0; connection < connectionIds.size(); connection++) {
+            final int node = outgoing ? getConnectionTo(connection) : getConnectionFrom(connection);
+            if (node < 0) {
+                continue;
+            }
+            final Csr adjacent = outgoing ? nodeOutgoingConnections : nodeIncomingConnections;
+            for (int i = 0; i < adjacent.size(node); i++) {
+                final int other = adjacent.get(node, i);
+                if (outgoing ? turnRestrictions.isAllowed(connection, other) : turnRestrictions.isAllowed(other, connection)) {
+                    pairs.add(connection, other);
+                }
+            }
+        }
+        return pairs;
+    }
+
+    private GeoRectangle calculateBoundingBox() {
+        double minLatitude = 90;
+        double minLongitude = 180;
+        double maxLatitude = -90;
+        double maxLongitude = -180;
+        for (int node = 0; node < latitudes.length; node++) {
+            minLatitude = Math.min(minLatitude, latitudes[node]);
+            minLongitude = Math.min(minLongitude, longitudes[node]);
+            maxLatitude = Math.max(maxLatitude, latitudes[node]);
+            maxLongitude = Math.max(maxLongitude, longitudes[node]);
+        }
+        return new GeoRectangle(GeoPoint.latLon(minLatitude, minLongitude), GeoPoint.latLon(maxLatitude, maxLongitude));
+    }
+
+    /**
+     * The turn restrictions of the network, resolved to pairs of connections in the same way as
+     * {@link Restriction#applyRestriction()}.
+     */
+    private class TurnRestrictions {
+
+        private final Map<Integer, Integer> onlyTurns = new HashMap<>();
+        private final Set<Long> forbiddenTurns = new HashSet<>();
+
+        private TurnRestrictions(List<int[]> restrictions) {
+            for (int[] restriction : restrictions) {
+                final int from = findUniqueConnection(nodeIncomingConnections, restriction[2], restriction[1]);
+                final int to = findUniqueConnection(nodeOutgoingConnections, restriction[2], restriction[3]);
+                if (from < 0 || to < 0) {
+                    continue;
+                }
+                if (restriction[0] == Restriction.Type.Only.ordinal()) {
+                    onlyTurns.put(from, to);
+                } else {
+                    forbiddenTurns.add(toKey(from, to));
+                }
+            }
+        }
+
+        private int findUniqueConnection(Csr adjacent, int via, int way) {
+            int result = -1;
+            for (int i = 0; i < adjacent.size(via); i++) {
+                final int connection = adjacent.get(via, i);
+                if (connectionWays[connection] == way) {
+                    if (result >= 0) {
+                        log.error("the way ({}) referenced in a restriction does not start or end at the 'via' node ({}), please check OSM input",
+                                wayIds.getId(way), nodeIds.getId(via));
+                        return -1;
+                    }
+                    result = connection;
+                }
+            }
+            return result;
+        }
+
+        private boolean isAllowed(int from, int to) {
+            final Integer onlyTo = onlyTurns.get(from);
+            if (onlyTo != null) {
+                return onlyTo == to;
+            }
+            return !forbiddenTurns.contains(toKey(from, to));
+        }
+
+        private long toKey(int from, int to) {
+            return ((long) from << 32) | (to & 0xFFFFFFFFL);
+        }
+    }
+
+    /**
+     * Relations from one element to a sequence of other elements in compressed sparse row format.
+     */
+    static final class Csr {
+
+        private final int[] offsets;
+        private final int[] values;
+
+        private Csr(int[] offsets, int[] values) {
+            this.offsets = offsets;
+            this.values = values;
+        }
+
+        /**
+         * Creates the relations from the given pairs, keeping the order of values per key.
+         */
+        private static Csr of(int keys, IntPairList pairs) {
+            final int[] offsets = new int[keys + 1];
+            for (int i = 0; i < pairs.size; i++) {
+                offsets[pairs.keys[i] + 1]++;
+            }
+            for (int key = 0; key < keys; key++) {
+                offsets[key + 1] += offsets[key];
+            }
+            final int[] position = Arrays.copyOf(offsets, keys);
+            final int[] values = new int[pairs.size];
+            for (int i = 0; i < pairs.size; i++) {
+                values[position[pairs.keys[i]]++] = pairs.values[i];
+            }
+            return new Csr(offsets, values);
+        }
+
+        int size(int key) {
+            return offsets[key + 1] - offsets[key];
+        }
+
+        int get(int key, int i) {
+            return values[offsets[key] + i];
+        }
+
+        private boolean containsBefore(int key, int i, int value) {
+            for (int j = offsets[key]; j < offsets[key] + i; j++) {
+                if (values[j] == value) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    private static final class IntPairList {
+
+        private int[] keys = new int[16];
+        private int[] values = new int[16];
+        private int size = 0;
+
+        private static IntPairList of(int[] keys) {
+            final IntPairList pairs = new IntPairList();
+            for (int i = 0; i < keys.length; i++) {
+                pairs.add(keys[i], i);
+            }
+            return pairs;
+        }
+
+        private void add(int key, int value) {
+            if (size == keys.length) {
+                keys = Arrays.copyOf(keys, size * 2);
+                values = Arrays.copyOf(values, size * 2);
+            }
+            keys[size] = key;
+            values[size] = value;
+            size++;
+        }
+    }
+
+    private static final class IndexList<T> extends AbstractList<T> {
+
+        private final int size;
+        private final IndexFunction<T> function;
+
+        private IndexList(int size, IndexFunction<T> function) {
+            this.size = size;
+            this.function = function;
+        }
+
+        @Override
+        public T get(int index) {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException(index);
+            }
+            return function.apply(index);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+
+    private interface IndexFunction<T> {
+        T apply(int index);
+    }
+
+    /**
+     * Builds a {@link CompactRoadNetwork} from its elements, which must be added in the following order: nodes, ways,
+     * nodes of ways, connections, nodes of connections, and restrictions. This order allows to resolve the ids of each
+     * element type once all elements of this type are known, without requiring a map of all ids in the meantime.
+     */
+    public static class Builder {
+
+        private List<String> pendingIds = new ArrayList<>();
+        private int phase = 0;
+
+        private IdDictionary nodeIds;
+        private double[] latitudes = new double[16];
+        private double[] longitudes = new double[16];
+        private double[] elevations = new double[16];
+        private byte[] nodeFlags = new byte[16];
+
+        private IdDictionary wayIds;
+        private String[] wayNames = new String[16];
+        private String[] wayTypes = new String[16];
+        private double[] wayMaxSpeeds = new double[16];
+        private short[] wayLanesForward = new short[16];
+        private short[] wayLanesBackward = new short[16];
+        private boolean[] wayOneway = new boolean[16];
+        private final Map<String, String> internedStrings = new HashMap<>();
+        private final IntPairList wayNodePairs = new IntPairList();
+
+        private IdDictionary connectionIds;
+        private int[] connectionWays = new int[16];
+        private short[] connectionLanes = new short[16];
+        private double[] connectionLengths = new double[16];
+        private final IntPairList connectionNodePairs = new IntPairList();
+
+        private final List<int[]> restrictions = new ArrayList<>();
+
+        public Builder addNode(@Nonnull String id, double latitude, double longitude, double elevation,
+                               boolean isTrafficLight, boolean isIntersection, boolean isGenerated) {
+            enterPhase(0);
+            final int index = pendingIds.size();
+            if (index == latitudes.length) {
+                final int capacity = index * 2;
+                latitudes = Arrays.copyOf(latitudes, capacity);
+                longitudes = Arrays.copyOf(longitudes, capacity);
+                elevations = Arrays.copyOf(elevations, capacity);
+                nodeFlags = Arrays.copyOf(nodeFlags, capacity);
+            }
+            pendingIds.add(id);
+            latitudes[index] = latitude;
+            longitudes[index] = longitude;
+            elevations[index] = elevation;
+            nodeFlags[index] = (byte) ((isTrafficLight ? FLAG_TRAFFIC_LIGHT : 0)
+                    | (isIntersection ? FLAG_INTERSECTION : 0)
+                    | (isGenerated ? FLAG_GENERATED : 0));
+            return this;
+        }
+
+        public Builder addWay(@Nonnull String id, String name, @Nonnull String type, double maxSpeedInMs,
+                              int lanesForward, int lanesBackward, boolean oneway) {
+            enterPhase(1);
+            final int index = pendingIds.size();
+            if (index == wayNames.length) {
+                final int capacity = index * 2;
+                wayNames = Arrays.copyOf(wayNames, capacity);
+                wayTypes = Arrays.copyOf(wayTypes, capacity);
+                wayMaxSpeeds = Arrays.copyOf(wayMaxSpeeds, capacity);
+                wayLanesForward = Arrays.copyOf(wayLanesForward, capacity);
+                wayLanesBackward = Arrays.copyOf(wayLanesBackward, capacity);
+                wayOneway = Arrays.copyOf(wayOneway, capacity);
+            }
+            pendingIds.add(id);
+            // many ways share the same name or type
+            wayNames[index] = internedStrings.computeIfAbsent(name != null ? name : "", s -> s);
+            wayTypes[index] = internedStrings.computeIfAbsent(type, s -> s);
+            wayMaxSpeeds[index] = maxSpeedInMs;
+            wayLanesForward[index] = (short) lanesForward;
+            wayLanesBackward[index] = (short) lanesBackward;
+            wayOneway[index] = oneway;
+            return this;
+        }
+
+        /**
+         * Appends a node to the given way. Nodes must be added in the order they appear along the way.
+         */
+        public Builder addNodeToWay(String wayId, String nodeId) {
+            enterPhase(2);
+            wayNodePairs.add(indexOf(wayIds, wayId, "way"), indexOf(nodeIds, nodeId, "node"));
+            return this;
+        }
+
+        public Builder addConnection(@Nonnull String id, String wayId, int lanes, double length) {
+            enterPhase(3);
+            final int index = pendingIds.size();
+            if (index == connectionWays.length) {
+                final int capacity = index * 2;
+                connectionWays = Arrays.copyOf(connectionWays, capacity);
+                connectionLanes = Arrays.copyOf(connectionLanes, capacity);
+                connectionLengths = Arrays.copyOf(connectionLengths, capacity);
+            }
+            pendingIds.add(id);
+            connectionWays[index] = indexOf(wayIds, wayId, "way");
+            connectionLanes[index] = (short) lanes;
+            connectionLengths[index] = length;
+            return this;
+        }
+
+        /**
+         * Appends a node to the given connection. Nodes must be added in the order they appear along the connection.
+         */
+        public Builder addNodeToConnection(String connectionId, String nodeId) {
+            enterPhase(4);
+            connectionNodePairs.add(indexOf(connectionIds, connectionId, "connection"), indexOf(nodeIds, nodeId, "node"));
+            return this;
+        }
+
+        public Builder addRestriction(@Nonnull Restriction.Type type, String sourceWayId, String viaNodeId, String targetWayId) {
+            enterPhase(5);
+            restrictions.add(new int[]{
+                    type.ordinal(),
+                    indexOf(wayIds, sourceWayId, "way"),
+                    indexOf(nodeIds, viaNodeId, "node"),
+                    indexOf(wayIds, targetWayId, "way")
+            });
+            return this;
+        }
+
+        public CompactRoadNetwork build() {
+            enterPhase(6);
+            return new CompactRoadNetwork(this);
+        }
+
+        private static int indexOf(IdDictionary dictionary, String id, String type) {
+            final int index = dictionary.indexOf(id);
+            if (index < 0) {
+                throw new IllegalArgumentException("No such " + type + " with id " + id);
+            }
+            return index;
+        }
+
+        /**
+         * Completes all previous phases. Once a phase has been completed, no elements can be added to it anymore.
+         */
+        private void enterPhase(int nextPhase) {
+            if (nextPhase < phase) {
+                throw new IllegalStateException("Elements of the road network must be added in order: "
+                        + "nodes, ways, way nodes, connections, connection nodes, restrictions");
+            }
+            while (phase < nextPhase) {
+                switch (phase) {
+                    case 0 -> completeNodes();
+                    case 1 -> completeWays();
+                    case 3 -> completeConnections();
+                    default -> {
+                    }
+                }
+                phase++;
+            }
+        }
+
+        private void completeNodes() {
+            nodeIds = IdDictionary.of(pendingIds);
+            final int[] order = sortedOrder(nodeIds);
+            latitudes = reorder(latitudes, order);
+            longitudes = reorder(longitudes, order);
+            elevations = reorder(elevations, order);
+            final byte[] flags = new byte[order.length];
+            for (int i = 0; i < order.length; i++) {
+                flags[order[i]] = nodeFlags[i];
+            }
+            nodeFlags = flags;
+        }
+
+        private void completeWays() {
+            wayIds = IdDictionary.of(pendingIds);
+            final int[] order = sortedOrder(wayIds);
+            wayMaxSpeeds = reorder(wayMaxSpeeds, order);
+            final String[] names = new String[order.length];
+            final String[] types = new String[order.length];
+            final short[] lanesForward = new short[order.length];
+            final short[] lanesBackward = new short[order.length];
+            final boolean[] oneway = new boolean[order.length];
+            for (int i = 0; i < order.length; i++) {
+                names[order[i]] = wayNames[i];
+                types[order[i]] = wayTypes[i];
+                lanesForward[order[i]] = wayLanesForward[i];
+                lanesBackward[order[i]] = wayLanesBackward[i];
+                oneway[order[i]] = wayOneway[i];
+            }
+            wayNames = names;
+            wayTypes = types;
+            wayLanesForward = lanesForward;
+            wayLanesBackward = lanesBackward;
+            wayOneway = oneway;
+            internedStrings.clear();
+        }
+
+        private void completeConnections() {
+            connectionIds = IdDictionary.of(pendingIds);
+            final int[] order = sortedOrder(connectionIds);
+            connectionLengths = reorder(connectionLengths, order);
+            final int[] ways = new int[order.length];
+            final short[] lanes = new short[order.length];
+            for (int i = 0; i < order.length; i++) {
+                ways[order[i]] = connectionWays[i];
+                lanes[order[i]] = connectionLanes[i];
+            }
+            connectionWays = ways;
+            connectionLanes = lanes;
+        }
+
+        /**
+         * Returns the index in the dictionary for each pending id in the order they have been added, and clears them.
+         */
+        private int[] sortedOrder(IdDictionary dictionary) {
+            final int[] order = new int[pendingIds.size()];
+            for (int i = 0; i < order.length; i++) {
+                order[i] = dictionary.indexOf(pendingIds.get(i));
+            }
+            pendingIds = new ArrayList<>();
+            return order;
+        }
+
+        private static double[] reorder(double[] values, int[] order) {
+            final double[] result = new double[order.length];
+            for (int i = 0; i < order.length; i++) {
+                result[order[i]] = values[i];
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+package org.eclipse.mosaic.lib.database.road;
+
+import java.util.List;
+import javax.annotation.Nonnull;
+
+/**
+ * A read-only view of a way of a {@link CompactRoadNetwork}.
+ */
+final class CompactWay extends Way {
+
+    private final CompactRoadNetwork network;
+    private final int index;
+
+    CompactWay(CompactRoadNetwork network, int index) {
+        super(network.getWayId(index), network.getWayName(index), network.getWayType(index));
+        this.network = network;
+        this.index = index;
+    }
+
+    @Override
+    public double getMaxSpeedInMs() {
+        return network.getMaxSpeedInMs(index);
+    }
+
+    @Override
+    public double getMaxSpeedInKmh() {
+        return network.getMaxSpeedInMs(index) * 3.6;
+    }
+
+    @Override
+    public int getNumberOfLanesForward() {
+        return network.getLanesForward(index);
+    }
+
+    @Override
+    public int getNumberOfLanesBackward() {
+        return isOneway() ? 0 : network.getLanesBackward(index);
+    }
+
+    @Override
+    public boolean isOneway() {
+        return network.isOneway(index);
+    }
+
+    @Nonnull
+    @Override
+    public List<Node> getNodes() {
+        return network.nodeList(network.getWayNodes(), index);
+    }
+
+    @Nonnull
+    @Override
+    public List<Connection> getConnections() {
+        return network.connectionList(network.getWayConnections(), index);
+    }
+
+    @Override
+    public void setIsOneway(boolean oneway) {
+        throw new UnsupportedOperationException("Ways of a compact road network are read-only");
+    }
+
+    @Override
+    public void setMaxSpeedInKmh(double maxSpeedInKmh) {
+        throw new UnsupportedOperationException("Ways of a compact road network are read-only");
+    }
+
+    @Override
+    public void setMaxSpeedInMs(double maxSpeedInMs) {
+        throw new UnsupportedOperationException("Ways of a compact road network are read-only");
+    }
+
+    @Override
+    public void setLanes(int forward, int backward) {
+        throw new UnsupportedOperationException("Ways of a compact road network are read-only");
+    }
+
+    @Override
+    public void addNode(@Nonnull Node node) {
+        throw new UnsupportedOperationException("Ways of a compact road network are read-only");
+    }
+
+    @Override
+    public void addConnection(@Nonnull Connection connection) {
+        throw new UnsupportedOperationException("Ways of a compact road network are read-only");
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        return obj instanceof CompactWay other && other.network == network && other.index == index;
+    }
+
+    @Override
+    public int hashCode() {
+        return index;
+    }
+}
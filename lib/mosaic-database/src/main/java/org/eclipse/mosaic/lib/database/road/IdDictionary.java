@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+package org.eclipse.mosaic.lib.database.road;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * An immutable dictionary which maps string ids to consecutive int indices. The ids are sorted by their
+ * UTF-8 representation and stored in one contiguous byte array, thus they don't require one
+ * {@link String} object each. Lookups are done by binary search.
+ */
+final class IdDictionary {
+
+    private final byte[] data;
+    private final int[] offsets;
+
+    private IdDictionary(byte[] data, int[] offsets) {
+        this.data = data;
+        this.offsets = offsets;
+    }
+
+    /**
+     * Creates a dictionary of the given ids, which must be unique.
+     */
+    static IdDictionary of(Collection<String> ids) {
+        final byte[][] encoded = new byte[ids.size()][];
+        int i = 0;
+        long size = 0;
+        for (String id : ids) {
+            encoded[i] = id.getBytes(StandardCharsets.UTF_8);
+            size += encoded[i].length;
+            i++;
+        }
+        if (size > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Ids exceed maximum size of dictionary");
+        }
+        Arrays.parallelSort(encoded, Arrays::compareUnsigned);
+
+        final byte[] data = new byte[(int) size];
+        final int[] offsets = new int[encoded.length + 1];
+        for (i = 0; i < encoded.length; i++) {
+            if (i > 0 && Arrays.equals(encoded[i - 1], encoded[i])) {
+                throw new IllegalArgumentException("Duplicate id " + new String(encoded[i], StandardCharsets.UTF_8));
+            }
+            System.arraycopy(encoded[i], 0, data, offsets[i], encoded[i].length);
+            offsets[i + 1] = offsets[i] + encoded[i].length;
+        }
+        return new IdDictionary(data, offsets);
+    }
+
+    int size() {
+        return offsets.length - 1;
+    }
+
+    /**
+     * Returns the index of the given id.
+     *
+     * @return the index, or {@code -1} if the id is unknown
+     */
+    int indexOf(String id) {
+        if (id == null) {
+            return -1;
+        }
+        final byte[] key = id.getBytes(StandardCharsets.UTF_8);
+        int low = 0;
+        int high = size() - 1;
+        while (low <= high) {
+            final int mid = (low + high) >>> 1;
+            final int comparison = Arrays.compareUnsigned(data, offsets[mid], offsets[mid + 1], key, 0, key.length);
+            if (comparison < 0) {
+                low = mid + 1;
+            } else if (comparison > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    String getId(int index) {
+        return new String(data, offsets[index], offsets[index + 1] - offsets[index], StandardCharsets.UTF_8);
+    }
+
+    long getMemoryUsage() {
+        return data.length + 4L * offsets.length;
+    }
+}
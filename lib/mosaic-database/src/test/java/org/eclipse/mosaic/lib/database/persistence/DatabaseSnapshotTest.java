@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+package org.eclipse.mosaic.lib.database.persistence;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import org.eclipse.mosaic.lib.database.Database;
+import org.eclipse.mosaic.lib.database.building.Building;
+import org.eclipse.mosaic.lib.database.road.Connection;
+import org.eclipse.mosaic.lib.database.road.Node;
+import org.eclipse.mosaic.lib.database.road.Restriction;
+import org.eclipse.mosaic.lib.database.road.Way;
+import org.eclipse.mosaic.lib.database.route.Route;
+import org.eclipse.mosaic.lib.util.junit.TestFileRule;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+import java.io.File;
+import java.util.Collection;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+public class DatabaseSnapshotTest {
+
+    @Rule
+    public TestFileRule testFileRule = new TestFileRule()
+            .with("/butzbach.db")
+            .with("/kaiserdammPristine.db")
+            .with("/basicTest.db");
+
+    @Test
+    public void loadFromFile_snapshotCreatedAndUsed() throws Exception {
+        File databaseFile = testFileRule.get("butzbach.db");
+        File snapshotDirectory = new File(databaseFile.getParentFile(), "cache");
+        File snapshotFile = DatabaseSnapshot.getSnapshotFile(databaseFile, snapshotDirectory);
+        assertFalse(snapshotFile.exists());
+
+        Database.loadFromFile(databaseFile, snapshotDirectory);
+
+        assertTrue(snapshotFile.exists());
+        assertTrue(DatabaseSnapshot.isUpToDate(snapshotFile, databaseFile));
+        assertDatabaseEquals(
+                new SQLiteReader().loadFromFile(databaseFile.getAbsolutePath()).build(),
+                DatabaseSnapshot.read(snapshotFile).build()
+        );
+    }
+
+    @Test
+    public void loadFromFile_noSnapshotDirectory_noSnapshotCreated() {
+        File databaseFile = testFileRule.get("butzbach.db");
+
+        Database.loadFromFile(databaseFile);
+
+        File[] snapshotFiles = databaseFile.getParentFile().listFiles((directory, name) -> name.endsWith(DatabaseSnapshot.FILE_SUFFIX));
+        assertNotNull(snapshotFiles);
+        assertEquals(0, snapshotFiles.length);
+    }
+
+    @Test
+    public void isUpToDate_databaseChanged() {
+        File databaseFile = testFileRule.get("butzbach.db");
+        File snapshotDirectory = new File(databaseFile.getParentFile(), "cache");
+        File snapshotFile = DatabaseSnapshot.getSnapshotFile(databaseFile, snapshotDirectory);
+        Database.loadFromFile(databaseFile, snapshotDirectory);
+
+        assertTrue(databaseFile.setLastModified(databaseFile.lastModified() + 10_000));
+
+        assertFalse(DatabaseSnapshot.isUpToDate(snapshotFile, databaseFile));
+    }
+
+    @Test
+    public void writeAndRead_buildingsAndRestrictions() throws Exception {
+        for (String name : new String[]{"kaiserdammPristine.db", "basicTest.db"}) {
+            File databaseFile = testFileRule.get(name);
+            File snapshotFile = new File(databaseFile.getParentFile(), name + ".test");
+            Database expected = new SQLiteReader().loadFromFile(databaseFile.getAbsolutePath()).build();
+
+            DatabaseSnapshot.write(expected, databaseFile, snapshotFile);
+
+            assertDatabaseEquals(expected, DatabaseSnapshot.read(snapshotFile).build());
+        }
+    }
+
+    private static void assertDatabaseEquals(Database expected, Database actual) {
+        assertEquals(expected.getVersion(), actual.getVersion());
+        assertEquals(expected.getPropertyKeys(), actual.getPropertyKeys());
+        assertEquals(expected.getNodes().size(), actual.getNodes().size());
+        assertEquals(expected.getWays().size(), actual.getWays().size());
+        assertEquals(expected.getConnections().size(), actual.getConnections().size());
+        assertEquals(expected.getRoundabouts().size(), actual.getRoundabouts().size());
+        assertEquals(expected.getRestrictions().size(), actual.getRestrictions().size());
+        assertEquals(expected.getBuildings().size(), actual.getBuildings().size());
+        assertEquals(expected.getRoutes().size(), actual.getRoutes().size());
+
+        for (Node node : expected.getNodes()) {
+            Node other = actual.getNode(node.getId());
+            assertNotNull(other);
+            assertEquals(node.getPosition(), other.getPosition());
+            assertEquals(node.getClass(), other.getClass());
+            assertEquals(node.isIntersection(), other.isIntersection());
+            assertEquals(ids(node.getOutgoingConnections()), ids(other.getOutgoingConnections()));
+        }
+        for (Way way : expected.getWays()) {
+            Way other = actual.getWay(way.getId());
+            assertNotNull(other);
+            assertEquals(way.getName(), other.getName());
+            assertEquals(way.getMaxSpeedInMs(), other.getMaxSpeedInMs(), 0d);
+            assertEquals(way.getNodes().stream().map(Node::getId).toList(), other.getNodes().stream().map(Node::getId).toList());
+        }
+        for (Connection connection : expected.getConnections()) {
+            Connection other = actual.getConnection(connection.getId());
+            assertNotNull(other);
+            assertEquals(connection.getLength(), other.getLength(), 0d);
+            assertEquals(connection.getLanes(), other.getLanes());
+            assertEquals(connection.getNodes().stream().map(Node::getId).toList(), other.getNodes().stream().map(Node::getId).toList());
+            assertEquals(ids(connection.getOutgoingConnections()), ids(other.getOutgoingConnections()));
+        }
+        for (Restriction restriction : expected.getRestrictions()) {
+            Restriction other = actual.getRestriction(restriction.getId());
+            assertEquals(restriction.getType(), other.getType());
+            assertEquals(restriction.getVia().getId(), other.getVia().getId());
+        }
+        for (Building building : expected.getBuildings()) {
+            assertEquals(building, actual.getBuilding(building.getId()));
+        }
+        for (Route route : expected.getRoutes()) {
+            assertEquals(route.getConnectionIds(), actual.getRoute(route.getId()).getConnectionIds());
+        }
+    }
+
+    private static Set<String> ids(Collection<Connection> connections) {
+        return connections.stream().map(Connection::getId).collect(Collectors.toSet());
+    }
+}
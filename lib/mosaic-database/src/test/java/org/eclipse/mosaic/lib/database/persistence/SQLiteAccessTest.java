@@ -28,6 +28,9 @@ import org.junit.Test;
 
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 
 /**
  * This tests the access class for SQLite files. At least reading and writing needs to be checked.
@@ -98,4 +101,37 @@ public class SQLiteAccessTest {
         assertEquals("result content isn't valid", "nodes", testResult.getFirstRow().getString("name"));
     }
 
+    /**
+     * Test if the rows of a statement are passed one by one, and the connection is closed afterwards.
+     */
+    @Test
+    public void testForEachRow() throws SQLException {
+        // SETUP
+        final List<String> names = new ArrayList<>();
+
+        // RUN
+        testDb.forEachRow("SELECT name FROM sqlite_master WHERE type='table' and name IN ('nodes', 'ways') ORDER BY name;",
+                row -> names.add(row.getString("name"))
+        );
+
+        // ASSERT
+        assertEquals(Arrays.asList("nodes", "ways"), names);
+        assertTrue("connection wasn't closed", testDb.getConnection().isClosed());
+    }
+
+    /**
+     * Test if a read-only connection can read, but not modify the database.
+     */
+    @Test(expected = SQLException.class)
+    public void testReadOnlyConnection() throws SQLException {
+        // SETUP
+        SQLiteAccess readOnlyDb = new SQLiteAccess();
+        readOnlyDb.setReadOnly(true);
+        readOnlyDb.setDatabaseFile(testFileRule.get("butzbach_outdated.db").getAbsolutePath());
+
+        // RUN + ASSERT
+        assertEquals(1, readOnlyDb.executeStatement("SELECT name FROM sqlite_master WHERE name='nodes';").getRows().size());
+        readOnlyDb.executeStatement("DELETE FROM nodes;");
+    }
+
 }
@@ -53,6 +53,7 @@ public class SQLiteReaderTest {
         assertEquals("Wrong connections amount in the database", 46, result.getConnections().size());
         assertEquals("Wrong routes amount in the database", 3, result.getRoutes().size());
         assertEquals("Wrong roundabouts amount in the database", 1, result.getRoundabouts().size());
+        assertEquals("Wrong nodes amount for roundabout", 5, result.getRoundabouts().iterator().next().getNodes().size());
 
         // check consistency for nodes
         Node node = result.getNode("264506252");
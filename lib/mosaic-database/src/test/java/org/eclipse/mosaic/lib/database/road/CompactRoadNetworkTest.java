@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+package org.eclipse.mosaic.lib.database.road;
+
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.eclipse.mosaic.lib.database.Database;
+import org.eclipse.mosaic.lib.database.persistence.SQLiteReader;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.util.Collection;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+public class CompactRoadNetworkTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private File tiergartenFile;
+    private File basicFile;
+
+    @Before
+    public void setUp() throws Exception {
+        tiergartenFile = copyResource("tiergarten.db");
+        basicFile = copyResource("basicTest.db");
+    }
+
+    @Test
+    public void fromDatabase_sameNetworkAsDatabase() {
+        Database database = Database.loadFromFile(tiergartenFile);
+
+        CompactRoadNetwork network = CompactRoadNetwork.fromDatabase(database);
+
+        assertNetworkEquals(database, network);
+    }
+
+    @Test
+    public void loadRoadNetwork_sameNetworkAsDatabase() throws Exception {
+        Database database = Database.loadFromFile(tiergartenFile);
+
+        CompactRoadNetwork network = new SQLiteReader().loadRoadNetwork(tiergartenFile.getPath());
+
+        assertNetworkEquals(database, network);
+    }
+
+    @Test
+    public void loadRoadNetwork_turnRestrictionApplied() throws Exception {
+        Database database = Database.loadFromFile(basicFile);
+
+        CompactRoadNetwork network = new SQLiteReader().loadRoadNetwork(basicFile.getPath());
+
+        assertNetworkEquals(database, network);
+        // 2_4_2 may only turn into 1_2_1
+        assertEquals(Set.of("1_2_1"), ids(network.getConnection("2_4_2").getOutgoingConnections()));
+        int connection = network.indexOfConnection("2_4_2");
+        assertEquals(1, network.getNextConnectionCount(connection));
+        assertEquals("1_2_1", network.getConnectionId(network.getNextConnection(connection, 0)));
+    }
+
+    @Test
+    public void views_equalIfSameElement() {
+        CompactRoadNetwork network = CompactRoadNetwork.fromDatabase(Database.loadFromFile(basicFile));
+
+        Connection connection = network.getConnection("2_4_2");
+        assertEquals(connection, network.getConnection("2_4_2"));
+        assertEquals(connection.getTo(), network.getConnection("1_2_1").getFrom());
+        assertTrue(connection.getTo().getOutgoingConnections().contains(network.getConnection("1_2_1")));
+        assertNull(network.getConnection("unknown"));
+        assertEquals(-1, network.indexOfNode("unknown"));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void views_readOnly() {
+        CompactRoadNetwork network = CompactRoadNetwork.fromDatabase(Database.loadFromFile(basicFile));
+
+        network.getConnection("2_4_2").setLength(10);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void builder_wrongOrder() {
+        new CompactRoadNetwork.Builder()
+                .addWay("1", "", "primary", 10, 1, 1, false)
+                .addNode("1", 52.5, 13.4, 0, false, false, false);
+    }
+
+    private void assertNetworkEquals(Database database, CompactRoadNetwork network) {
+        assertEquals(database.getNodes().size(), network.getNodeCount());
+        assertEquals(database.getWays().size(), network.getWayCount());
+        assertEquals(database.getConnections().size(), network.getConnectionCount());
+
+        for (Node expected : database.getNodes()) {
+            Node actual = network.getNode(expected.getId());
+            assertNotNull(actual);
+            assertEquals(expected.getPosition(), actual.getPosition());
+            assertEquals(expected.isIntersection(), actual.isIntersection());
+            assertEquals(expected instanceof TrafficLightNode, network.isTrafficLight(network.indexOfNode(expected.getId())));
+            assertEquals(ids(expected.getOutgoingConnections()), ids(actual.getOutgoingConnections()));
+            assertEquals(ids(expected.getIncomingConnections()), ids(actual.getIncomingConnections()));
+            assertEquals(ids(expected.getPartOfConnections()), ids(actual.getPartOfConnections()));
+            assertEquals(
+                    expected.getWays().stream().map(Way::getId).collect(Collectors.toSet()),
+                    actual.getWays().stream().map(Way::getId).collect(Collectors.toSet())
+            );
+        }
+        for (Way expected : database.getWays()) {
+            Way actual = network.getWay(expected.getId());
+            assertNotNull(actual);
+            assertEquals(expected.getName(), actual.getName());
+            assertEquals(expected.getType(), actual.getType());
+            assertEquals(expected.getMaxSpeedInMs(), actual.getMaxSpeedInMs(), 0d);
+            assertEquals(expected.getNumberOfLanesForward(), actual.getNumberOfLanesForward());
+            assertEquals(expected.getNumberOfLanesBackward(), actual.getNumberOfLanesBackward());
+            assertEquals(expected.getNodes().stream().map(Node::getId).toList(), actual.getNodes().stream().map(Node::getId).toList());
+            assertEquals(ids(expected.getConnections()), ids(actual.getConnections()));
+        }
+        for (Connection expected : database.getConnections()) {
+            Connection actual = network.getConnection(expected.getId());
+            assertNotNull(actual);
+            assertEquals(expected.getWay().getId(), actual.getWay().getId());
+            assertEquals(expected.getLanes(), actual.getLanes());
+            assertEquals(expected.getLength(), actual.getLength(), 0d);
+            assertEquals(expected.getFrom().getId(), actual.getFrom().getId());
+            assertEquals(expected.getTo().getId(), actual.getTo().getId());
+            assertEquals(expected.getNodes().stream().map(Node::getId).toList(), actual.getNodes().stream().map(Node::getId).toList());
+            assertEquals(ids(expected.getOutgoingConnections()), ids(actual.getOutgoingConnections()));
+            assertEquals(ids(expected.getIncomingConnections()), ids(actual.getIncomingConnections()));
+        }
+    }
+
+    private static Set<String> ids(Collection<Connection> connections) {
+        return connections.stream().map(Connection::getId).collect(Collectors.toSet());
+    }
+
+    private File copyResource(String name) throws Exception {
+        File file = folder.newFile(name);
+        try (InputStream in = getClass().getResourceAsStream("/" + name)) {
+            Files.copy(in, file.toPath(), REPLACE_EXISTING);
+        }
+        return file;
+    }
+}
@@ -15,11 +15,14 @@
 
 package org.eclipse.mosaic.lib.math;
 
+import java.io.Serializable;
 import java.util.Collections;
 import java.util.List;
 import java.util.Random;
 
-public class DefaultRandomNumberGenerator implements RandomNumberGenerator {
+public class DefaultRandomNumberGenerator implements RandomNumberGenerator, Serializable {
+
+    private static final long serialVersionUID = 1L;
 
     private final Random random;
 
@@ -108,7 +108,7 @@ class QuadTreeTraversal {
                 int bestI = 0;
                 double minD = Double.MAX_VALUE;
                 for (int j = 0; j < 4; j++) {
-                    double childDist = node.childNodes[i].distanceSqrToPoint(center);
+                    double childDist = node.childNodes[j].distanceSqrToPoint(center);
                     if (childDist < minD && (childDist > prevChildDist || (childDist == prevChildDist && j > prevI))) {
                         minD = childDist;
                         bestI = j;
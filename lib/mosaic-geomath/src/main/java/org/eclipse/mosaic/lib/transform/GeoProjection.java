@@ -48,6 +48,14 @@ public abstract class GeoProjection {
         GeoProjection.instance = geoProjection;
     }
 
+    /**
+     * Removes the current projection, so that it can be initialized again by the next simulation
+     * which is executed within the same JVM.
+     */
+    public static void reset() {
+        GeoProjection.instance = null;
+    }
+
     private volatile GeoCalculator geoCalculator = null;
 
     public GeoProjection setGeoCalculator(GeoCalculator geoCalculator) {
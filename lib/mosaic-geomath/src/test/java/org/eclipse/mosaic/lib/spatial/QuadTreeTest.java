@@ -28,6 +28,7 @@ import org.mockito.junit.MockitoJUnitRunner;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Random;
 
 @RunWith(MockitoJUnitRunner.class)
 public class QuadTreeTest {
@@ -126,4 +127,29 @@ public class QuadTreeTest {
         assertTrue(tree.getRoot().isLeaf());
 
     }
+
+    @Test
+    public void getNearestObject_visitsNearestChildNodeFirst() {
+        // SETUP
+        Random random = new Random(1);
+        List<Vector3d> elements = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            Vector3d element = new Vector3d(random.nextDouble() * 100, 0, random.nextDouble() * 100);
+            elements.add(element);
+            tree.addItem(element);
+        }
+
+        for (int i = 0; i < 20; i++) {
+            Vector3d center = new Vector3d(random.nextDouble() * 100, 0, random.nextDouble() * 100);
+            Vector3d expected = elements.get(0);
+            for (Vector3d element : elements) {
+                if (element.distanceSqrTo(center) < expected.distanceSqrTo(center)) {
+                    expected = element;
+                }
+            }
+
+            // RUN + ASSERT
+            assertEquals(expected, tree.getNearestObject(center));
+        }
+    }
 }
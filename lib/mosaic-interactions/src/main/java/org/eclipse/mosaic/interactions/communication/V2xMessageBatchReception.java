@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.interactions.communication;
+
+import static org.apache.commons.lang3.builder.ToStringStyle.SHORT_PREFIX_STYLE;
+
+import org.eclipse.mosaic.lib.objects.v2x.V2xReceiverInformation;
+import org.eclipse.mosaic.rti.api.Interaction;
+
+import org.apache.commons.lang3.Validate;
+import org.apache.commons.lang3.builder.EqualsBuilder;
+import org.apache.commons.lang3.builder.HashCodeBuilder;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import javax.annotation.Nonnull;
+
+/**
+ * This extension of {@link Interaction} exchanges information about a V2X message which has been
+ * received by several nodes at the same time. It replaces one {@link V2xMessageReception} for each
+ * receiver, e.g., for a broadcast reaching all vehicles in the communication range of the sender.
+ */
+public class V2xMessageBatchReception extends Interaction {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * String identifying the type of this interaction.
+     */
+    public final static String TYPE_ID = createTypeIdentifier(V2xMessageBatchReception.class);
+
+    /**
+     * Int identifying the V2X messages.
+     */
+    private final int messageId;
+
+    /**
+     * Strings identifying the receiving nodes.
+     */
+    private final List<String> receiverNames;
+
+    /**
+     * Additional receiver information for each receiving node, in the same order as {@link #receiverNames}.
+     * An entry is {@code null} if no additional information is given for the respective receiver.
+     */
+    private final List<V2xReceiverInformation> receiverInformation;
+
+    /**
+     * Constructor using fields.
+     *
+     * @param time                Timestamp of this interaction, unit: [ns]
+     * @param msgId               Identifies the V2X message.
+     * @param receiverNames       Identifies the receiving nodes.
+     * @param receiverInformation Additional receiver information for each receiving node, in the same order
+     *                            as the receiver names. Entries are {@code null} if no additional information given.
+     */
+    public V2xMessageBatchReception(final long time, final int msgId, @Nonnull final List<String> receiverNames,
+                                    @Nonnull final List<V2xReceiverInformation> receiverInformation) {
+        super(time);
+        Validate.isTrue(receiverNames.size() == receiverInformation.size(),
+                "Expected receiver information for each of the %d receivers, but got %d", receiverNames.size(), receiverInformation.size()
+        );
+        this.messageId = msgId;
+        this.receiverNames = Collections.unmodifiableList(receiverNames);
+        this.receiverInformation = Collections.unmodifiableList(receiverInformation);
+    }
+
+    /**
+     * Constructor for receivers which share the same receiver information.
+     *
+     * @param time                Timestamp of this interaction, unit: [ns]
+     * @param msgId               Identifies the V2X message.
+     * @param receiverNames       Identifies the receiving nodes.
+     * @param receiverInformation Additional receiver information of all receiving nodes.
+     *                            {@code null} if no additional information given.
+     */
+    public V2xMessageBatchReception(final long time, final int msgId, @Nonnull final List<String> receiverNames,
+                                    final V2xReceiverInformation receiverInformation) {
+        this(time, msgId, receiverNames, Collections.nCopies(receiverNames.size(), receiverInformation));
+    }
+
+    public int getMessageId() {
+        return messageId;
+    }
+
+    @Nonnull
+    public List<String> getReceiverNames() {
+        return receiverNames;
+    }
+
+    @Nonnull
+    public List<V2xReceiverInformation> getReceiverInformation() {
+        return receiverInformation;
+    }
+
+    /**
+     * Returns the number of receivers of the message.
+     */
+    public int size() {
+        return receiverNames.size();
+    }
+
+    /**
+     * Splits this interaction into one {@link V2xMessageReception} for each receiver,
+     * e.g., for consumers which are not aware of batched receptions.
+     */
+    public List<V2xMessageReception> toReceptions() {
+        final List<V2xMessageReception> receptions = new ArrayList<>(receiverNames.size());
+        for (int i = 0; i < receiverNames.size(); i++) {
+            receptions.add(new V2xMessageReception(getTime(), receiverNames.get(i), messageId, receiverInformation.get(i)));
+        }
+        return receptions;
+    }
+
+    @Override
+    public int hashCode() {
+        return new HashCodeBuilder(7, 61)
+                .append(messageId)
+                .append(receiverNames)
+                .append(receiverInformation)
+                .toHashCode();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == null) {
+            return false;
+        }
+        if (obj == this) {
+            return true;
+        }
+        if (obj.getClass() != getClass()) {
+            return false;
+        }
+
+        V2xMessageBatchReception other = (V2xMessageBatchReception) obj;
+        return new EqualsBuilder()
+                .append(this.messageId, other.messageId)
+                .append(this.receiverNames, other.receiverNames)
+                .append(this.receiverInformation, other.receiverInformation)
+                .isEquals();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this, SHORT_PREFIX_STYLE)
+                .appendSuper(super.toString())
+                .append("messageId", messageId)
+                .append("receiverNames", receiverNames)
+                .append("receiverInformation", receiverInformation)
+                .toString();
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.interactions.communication;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import org.eclipse.mosaic.lib.objects.v2x.V2xReceiverInformation;
+
+import com.google.common.collect.Lists;
+import org.junit.Test;
+
+import java.util.List;
+
+public class V2xMessageBatchReceptionTest {
+
+    @Test
+    public void toReceptions() {
+        V2xReceiverInformation informationA = new V2xReceiverInformation(10).sendTime(5);
+        V2xMessageBatchReception batchReception = new V2xMessageBatchReception(
+                10, 42, Lists.newArrayList("veh_0", "veh_1"), Lists.newArrayList(informationA, null)
+        );
+
+        List<V2xMessageReception> receptions = batchReception.toReceptions();
+
+        assertEquals(V2xMessageBatchReception.TYPE_ID, batchReception.getTypeId());
+        assertEquals(2, batchReception.size());
+        assertEquals(2, receptions.size());
+        assertEquals(new V2xMessageReception(10, "veh_0", 42, informationA), receptions.get(0));
+        assertEquals("veh_1", receptions.get(1).getReceiverName());
+        assertEquals(10, receptions.get(1).getTime());
+        assertNull(receptions.get(1).getReceiverInformation());
+    }
+
+    @Test
+    public void sharedReceiverInformation() {
+        V2xReceiverInformation information = new V2xReceiverInformation(10);
+        V2xMessageBatchReception batchReception = new V2xMessageBatchReception(
+                10, 42, Lists.newArrayList("veh_0", "veh_1", "rsu_0"), information
+        );
+
+        assertEquals(Lists.newArrayList(information, information, information), batchReception.getReceiverInformation());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void missingReceiverInformation() {
+        new V2xMessageBatchReception(10, 42, Lists.newArrayList("veh_0", "veh_1"), Lists.newArrayList(new V2xReceiverInformation(10)));
+    }
+}
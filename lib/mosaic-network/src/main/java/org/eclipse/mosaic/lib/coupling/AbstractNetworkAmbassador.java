@@ -21,6 +21,7 @@ import org.eclipse.mosaic.rti.api.parameters.FederatePriority;
 import org.eclipse.mosaic.interactions.communication.AdHocCommunicationConfiguration;
 import org.eclipse.mosaic.interactions.communication.CellularCommunicationConfiguration;
 import org.eclipse.mosaic.interactions.communication.CommunicationConfiguration;
+import org.eclipse.mosaic.interactions.communication.V2xMessageBatchReception;
 import org.eclipse.mosaic.interactions.communication.V2xMessageReception;
 import org.eclipse.mosaic.interactions.communication.V2xMessageTransmission;
 import org.eclipse.mosaic.interactions.mapping.ChargingStationRegistration;
@@ -52,6 +53,7 @@ import org.eclipse.mosaic.lib.objects.mapping.RsuMapping;
 import org.eclipse.mosaic.lib.objects.mapping.ServerMapping;
 import org.eclipse.mosaic.lib.objects.mapping.TmcMapping;
 import org.eclipse.mosaic.lib.objects.mapping.TrafficLightMapping;
+import org.eclipse.mosaic.lib.objects.v2x.V2xReceiverInformation;
 import org.eclipse.mosaic.lib.objects.vehicle.VehicleData;
 import org.eclipse.mosaic.lib.util.objects.ObjectInstantiation;
 import org.eclipse.mosaic.rti.TIME;
@@ -70,6 +72,8 @@ import java.io.InputStream;
 import java.net.Inet4Address;
 import java.net.InetAddress;
 import java.net.UnknownHostException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.HashMap;
@@ -152,6 +156,20 @@ public abstract class AbstractNetworkAmbassador extends AbstractFederateAmbassad
      */
     protected CAbstractNetworkAmbassador config;
 
+    /**
+     * Decides which node positions are actually sent to the federate.
+     */
+    private PositionUpdateFilter positionUpdateFilter;
+
+    /**
+     * Receivers of the message reported last by the federate, which are passed to the RTI as one
+     * interaction as long as the federate reports further receptions of the same message at the same time.
+     */
+    private final List<String> pendingReceiverNames = new ArrayList<>();
+    private final List<V2xReceiverInformation> pendingReceiverInformation = new ArrayList<>();
+    private int pendingMessageId;
+    private long pendingReceptionTime;
+
     /**
      * A Set that contains all supported combinations of routing and address types that the federate supports
      */
@@ -194,13 +212,18 @@ public abstract class AbstractNetworkAmbassador extends AbstractFederateAmbassad
             log.warn("Problem when instantiating ambassador configuration from '{}'. Ignore file and try again with default config.", ambassadorParameter.configuration);
             config = new CAbstractNetworkAmbassador();
         }
+        if (config.positionUpdates.deadReckoning && !config.positionUpdates.packedEncoding) {
+            log.warn("Dead reckoning of node positions requires the packed encoding of position updates. Disable dead reckoning.");
+        }
+        positionUpdateFilter = new PositionUpdateFilter(config.positionUpdates);
     }
 
     @Override
     public void connectToFederate(String host, InputStream in, InputStream err) throws InternalFederateException {
         try {
             final Scanner outputScanner = new Scanner(in);
-            final String outPortPattern = "OutPort=\\d{1,5}";
+            final boolean sharedMemory = config.transport == CAbstractNetworkAmbassador.Transport.SHARED_MEMORY;
+            final String outPortPattern = sharedMemory ? "SharedMemory=\\S+" : "OutPort=\\d{1,5}";
             final String errorPattern = ".*Error:.*";
             String matchedOutPort;
             String matchedError = null;
@@ -214,9 +237,13 @@ public abstract class AbstractNetworkAmbassador extends AbstractFederateAmbassad
 
             if (matchedOutPort != null) {
                 log.debug("Found string \"{}\" in stdout", matchedOutPort);
-                int port = Integer.parseInt(matchedOutPort.split("=")[1]);
-                port = getHostPortFromDockerPort(port);
-                connectToFederate(host, port);
+                if (sharedMemory) {
+                    connectToFederate(getHostPathFromFederatePath(matchedOutPort.split("=", 2)[1]));
+                } else {
+                    int port = Integer.parseInt(matchedOutPort.split("=")[1]);
+                    port = getHostPortFromDockerPort(port);
+                    connectToFederate(host, port);
+                }
             } else {
                 log.error(matchedError);
                 throw new InternalFederateException("Found error message in federate output while connecting: \n" + matchedError);
@@ -254,11 +281,25 @@ public abstract class AbstractNetworkAmbassador extends AbstractFederateAmbassad
      * @param port port on which the federate is listening/speaking
      */
     private ClientServerChannel waitForClientServerChannel(InetAddress host, int port) {
+        return waitForClientServerChannel(() -> new ClientServerChannel(host, port, log));
+    }
+
+    /**
+     * Tries to establish a Channel _repeatedly_ within some timeout window.
+     *
+     * @param sharedMemoryBase base path of the shared memory files created by the federate
+     * @param channelNumber    number of the channel to open
+     */
+    private ClientServerChannel waitForClientServerChannel(Path sharedMemoryBase, int channelNumber) {
+        return waitForClientServerChannel(() -> new ClientServerChannel(sharedMemoryBase, channelNumber, log));
+    }
+
+    private ClientServerChannel waitForClientServerChannel(ChannelFactory channelFactory) {
         int tries = 0;
         RuntimeException lastException = null;
         while (tries++ < MAX_CONNECTION_TRIES) {
             try {
-                return new ClientServerChannel(host, port, log);
+                return channelFactory.create();
             } catch (IOException ex) {
                 lastException = new RuntimeException(ex);
             }
@@ -268,7 +309,7 @@ public abstract class AbstractNetworkAmbassador extends AbstractFederateAmbassad
                 //quiet
             }
         }
-        log.error("Failed to establish a socket connection within the last {}ms.", MAX_CONNECTION_TRIES * WAIT_BETWEEN_CONNECTION_TRIES);
+        log.error("Failed to establish a connection within the last {}ms.", MAX_CONNECTION_TRIES * WAIT_BETWEEN_CONNECTION_TRIES);
         log.error(lastException.toString());
         throw lastException;
     }
@@ -305,6 +346,51 @@ public abstract class AbstractNetworkAmbassador extends AbstractFederateAmbassad
         }
     }
 
+    /**
+     * Connects the incoming channel with the federate via shared memory, waits for INIT message and a channel number,
+     * and connects the outgoing channel with the received channel number. This follows the same handshake
+     * as {@link #connectToFederate(String, int)}, with the port number being replaced by the channel number.
+     *
+     * @param sharedMemoryBase base path of the shared memory files created by the federate
+     */
+    public void connectToFederate(Path sharedMemoryBase) {
+        // Connect to the network federate for reading
+        federateAmbassadorChannel = waitForClientServerChannel(sharedMemoryBase, 0);
+        log.info("Connected to {} for reading via shared memory {}", federateName, sharedMemoryBase);
+
+        try { // Read the initial command and the channel number to connect incoming channel
+            CommandType cmd = federateAmbassadorChannel.readCommand();
+            if (cmd == CommandType.INIT) {
+                int remoteChannel = federateAmbassadorChannel.readPortBody();
+                ambassadorFederateChannel = waitForClientServerChannel(sharedMemoryBase, remoteChannel);
+                log.info("Connected to {} for commands via shared memory channel {}", federateName, remoteChannel);
+            } else {
+                throw new RuntimeException("Could not connect to federate. Federate response is " + cmd);
+            }
+        } catch (Exception e) {
+            throw new RuntimeException("Could not connect " + ambassadorName + " to " + federateName, e);
+        }
+    }
+
+    /**
+     * Translates the shared memory path announced by the federate into a path on the host. Relative paths are
+     * resolved against the directory of the ambassador configuration. If the federate is running in a docker
+     * container, only the file name is used, as the configuration directory is mounted into the container.
+     *
+     * @param federatePath the path announced by the federate
+     * @return the path of the shared memory files on the host
+     */
+    private Path getHostPathFromFederatePath(String federatePath) {
+        Path path = Paths.get(federatePath);
+        if (path.isAbsolute() && dockerFederateExecutor == null) {
+            return path;
+        }
+        Path configurationDirectory = ambassadorParameter.configuration != null && ambassadorParameter.configuration.getParentFile() != null
+                ? ambassadorParameter.configuration.getParentFile().toPath()
+                : Paths.get(".");
+        return configurationDirectory.resolve(dockerFederateExecutor != null ? path.getFileName() : path);
+    }
+
     /**
      * Since docker requires a binding of ports between container and host, we need to translate the ports used in
      * the container to the ports provided by the docker engine.
@@ -386,6 +472,7 @@ public abstract class AbstractNetworkAmbassador extends AbstractFederateAmbassad
         while (nextInteraction != null) {
             rti.getMonitor().onProcessInteraction(getId(), nextInteraction);
             processInteraction(nextInteraction);
+            rti.getMonitor().onEndProcessInteraction(getId(), nextInteraction);
             nextInteraction = super.interactionQueue.getNextInteraction(time);
         }
         return processTimeAdvanceGrantPreemptable(time);
@@ -418,44 +505,35 @@ public abstract class AbstractNetworkAmbassador extends AbstractFederateAmbassad
                     case NEXT_EVENT: // The federate has scheduled an event
                         long nextTime = federateAmbassadorChannel.readTimeBody();
                         log.trace("Requested next_event at {} ", nextTime);
+                        flushReceptions();
                         this.rti.requestAdvanceTime(nextTime, 0, getPriority());
                         break;
                     case RECV_WIFI_MSG:
                         ReceiveWifiMessageRecord wifiRec = federateAmbassadorChannel.readReceiveWifiMessage(simulatedNodes);
                         // The receiver may have been removed from the simulation while message was on air
                         if (wifiRec.receiverName() != null) {
-                            V2xMessageReception msg = new V2xMessageReception(
-                                    wifiRec.time(),
-                                    wifiRec.receiverName(),
-                                    wifiRec.msgId(),
-                                    wifiRec.receiverInformation()
-                            );
-                            log.debug("Receive wifi V2xMessage : Id({}) on Node {} at Time={}", msg.getMessageId(), msg.getReceiverName(), TIME.format(msg.getTime()));
-                            this.rti.triggerInteraction(msg);
+                            log.debug("Receive wifi V2xMessage : Id({}) on Node {} at Time={}", wifiRec.msgId(), wifiRec.receiverName(), TIME.format(wifiRec.time()));
+                            addReception(wifiRec.time(), wifiRec.msgId(), wifiRec.receiverName(), wifiRec.receiverInformation());
                         }
                         break;
                     case RECV_CELL_MSG:
                         ReceiveCellMessageRecord cellRec = federateAmbassadorChannel.readReceiveCellMessage(simulatedNodes);
                         // The receiver may have been removed from the simulation while message was on air
                         if (cellRec.receiverName() != null) {
-                            V2xMessageReception msg = new V2xMessageReception(
-                                    cellRec.time(),
-                                    cellRec.receiverName(),
-                                    cellRec.msgId(),
-                                    null
-                            );
-                            log.debug("Receive cell V2xMessage : Id({}) on Node {} at Time={}", msg.getMessageId(), msg.getReceiverName(), TIME.format(msg.getTime()));
-                            this.rti.triggerInteraction(msg);
+                            log.debug("Receive cell V2xMessage : Id({}) on Node {} at Time={}", cellRec.msgId(), cellRec.receiverName(), TIME.format(cellRec.time()));
+                            addReception(cellRec.time(), cellRec.msgId(), cellRec.receiverName(), null);
                         }
                         break;
                     case END:       // The federate has terminated the current time advance -> we are done here
                         long termTime = federateAmbassadorChannel.readTimeBody();
                         log.trace("End ProcessTimeAdvanceGrant at: {}", termTime);
+                        flushReceptions();
                         break command_loop; // break out of the infinite loop
                     case PREEMPTED:
                         // federate did not proceed all time-grant
                         long t = federateAmbassadorChannel.readTimeBody();
                         log.trace("Preempt ProcessTimeAdvanceGrant at: {}", t);
+                        flushReceptions();
                         return false;
                     default:
                         throw new InternalFederateException("Unknown command from federate at processTimeAdvanceGrant");
@@ -467,6 +545,44 @@ public abstract class AbstractNetworkAmbassador extends AbstractFederateAmbassad
         return true;
     }
 
+    /**
+     * Collects the reception of a message by a single node. Consecutive receptions of the same message
+     * at the same time, e.g., of a broadcast, are combined into one {@link V2xMessageBatchReception}.
+     */
+    private void addReception(long time, int messageId, String receiverName, V2xReceiverInformation receiverInformation)
+            throws IllegalValueException, InternalFederateException {
+        if (!pendingReceiverNames.isEmpty() && (pendingReceptionTime != time || pendingMessageId != messageId)) {
+            flushReceptions();
+        }
+        pendingReceptionTime = time;
+        pendingMessageId = messageId;
+        pendingReceiverNames.add(receiverName);
+        pendingReceiverInformation.add(receiverInformation);
+    }
+
+    /**
+     * Passes all collected receptions to the RTI.
+     */
+    private void flushReceptions() throws IllegalValueException, InternalFederateException {
+        if (pendingReceiverNames.isEmpty()) {
+            return;
+        }
+        final Interaction reception;
+        if (pendingReceiverNames.size() == 1) {
+            reception = new V2xMessageReception(
+                    pendingReceptionTime, pendingReceiverNames.get(0), pendingMessageId, pendingReceiverInformation.get(0)
+            );
+        } else {
+            reception = new V2xMessageBatchReception(
+                    pendingReceptionTime, pendingMessageId,
+                    new ArrayList<>(pendingReceiverNames), new ArrayList<>(pendingReceiverInformation)
+            );
+        }
+        pendingReceiverNames.clear();
+        pendingReceiverInformation.clear();
+        this.rti.triggerInteraction(reception);
+    }
+
     @Override
     public void finishSimulation() throws InternalFederateException {
         try {
@@ -647,7 +763,17 @@ public abstract class AbstractNetworkAmbassador extends AbstractFederateAmbassad
                             log.trace("UpdateNode : ID: [int={}, ext={}] Pos: x({}) y({}) Geo: {}", vi.getName(), id,
                                     projectedPosition.getX(), projectedPosition.getY(), geoPosition);
                         }
-                        nodesToUpdate.add(new NodeDataContainer(id, projectedPosition));
+                        double velocityX = 0d;
+                        double velocityY = 0d;
+                        if (positionUpdateFilter.isDeadReckoning() && vi.getHeading() != null) {
+                            // heading is given in degrees from north clockwise, the y-axis points to north
+                            final double heading = Math.toRadians(vi.getHeading());
+                            velocityX = vi.getSpeed() * Math.sin(heading);
+                            velocityY = vi.getSpeed() * Math.cos(heading);
+                        }
+                        if (positionUpdateFilter.test(id, time, projectedPosition, velocityX, velocityY)) {
+                            nodesToUpdate.add(new NodeDataContainer(id, projectedPosition, velocityX, velocityY));
+                        }
                     } else if (registeredNodes.containsKey(vi.getName())) {
                         // Node was not yet added to simulation, so update its entry in the registered node list
                         registeredNodes.get(vi.getName()).position = projectedPosition;
@@ -659,7 +785,13 @@ public abstract class AbstractNetworkAmbassador extends AbstractFederateAmbassad
                         log.warn("Node ID[int={}] is not simulated", vi.getName());
                     }
                 }
-                if (CommandType.SUCCESS != ambassadorFederateChannel.writeUpdatePositionsMessage(time, nodesToUpdate)) {
+                if (nodesToUpdate.isEmpty()) {
+                    return;
+                }
+                final CommandType ack = config.positionUpdates.packedEncoding
+                        ? ambassadorFederateChannel.writePackedUpdatePositionsMessage(time, nodesToUpdate, positionUpdateFilter.isDeadReckoning())
+                        : ambassadorFederateChannel.writeUpdatePositionsMessage(time, nodesToUpdate);
+                if (CommandType.SUCCESS != ack) {
                     LoggerFactory.getLogger(this.getClass()).error("Could not update nodes.");
                     throw new InternalFederateException("Error in " + federateName + ": Could not update nodes");
                 }
@@ -862,6 +994,7 @@ public abstract class AbstractNetworkAmbassador extends AbstractFederateAmbassad
                     log.error("Could not add new node.");
                     throw new InternalFederateException("Error in " + federateName + ": Could not add new node");
                 }
+                positionUpdateFilter.reset(id, time, registeredNode.position);
                 log.info(
                         "Added Node ID[int={}, ext={}] at projected position={} time={}",
                         simulatedNodes.fromExternalId(id), id, registeredNode.position, TIME.format(time)
@@ -986,6 +1119,7 @@ public abstract class AbstractNetworkAmbassador extends AbstractFederateAmbassad
         if (nodeToRemove != null) {
             log.info("removeNode ID[int={}, ext={}] time={}", nodeId, nodeToRemove, TIME.format(time));
             simulatedNodes.removeUsingInternalId(nodeId); // remove the vehicle from our internal list
+            positionUpdateFilter.remove(nodeToRemove);
             removedNodes.add(nodeId);
             try {
                 if (CommandType.SUCCESS != ambassadorFederateChannel.writeRemoveNodeMessage(time, nodeToRemove)) {
@@ -1004,6 +1138,12 @@ public abstract class AbstractNetworkAmbassador extends AbstractFederateAmbassad
         }
     }
 
+    @FunctionalInterface
+    private interface ChannelFactory {
+
+        ClientServerChannel create() throws IOException;
+    }
+
     @Override
     public boolean isTimeConstrained() {
         return true;
@@ -17,8 +17,11 @@ package org.eclipse.mosaic.lib.coupling;
 
 import org.eclipse.mosaic.lib.geo.CartesianPoint;
 import org.eclipse.mosaic.lib.geo.GeoPoint;
+import org.eclipse.mosaic.lib.util.gson.TimeFieldAdapter;
+import org.eclipse.mosaic.lib.util.gson.UnitFieldAdapter;
 
 import com.google.gson.GsonBuilder;
+import com.google.gson.annotations.JsonAdapter;
 
 import java.io.Serializable;
 import java.util.ArrayList;
@@ -32,11 +35,22 @@ public final class CAbstractNetworkAmbassador {
      */
     public String federateConfigurationFile;
 
+    /**
+     * The transport used to communicate with the federate. {@link Transport#SHARED_MEMORY} requires
+     * the federate to run on the same host, or in a container sharing the configuration directory.
+     */
+    public Transport transport = Transport.TCP;
+
     /**
      * List of base stations and their properties.
      */
     public List<CBaseStationProperties> baseStations = new ArrayList<>();
 
+    /**
+     * Configuration of which node positions are sent to the federate.
+     */
+    public CPositionUpdates positionUpdates = new CPositionUpdates();
+
     @Override
     public String toString() {
         final StringBuilder builder = new StringBuilder();
@@ -46,6 +60,17 @@ public final class CAbstractNetworkAmbassador {
         return builder.toString();
     }
 
+    public enum Transport {
+        /**
+         * The federate is connected via TCP sockets.
+         */
+        TCP,
+        /**
+         * The federate is connected via ring buffers in memory-mapped files, announced by the federate.
+         */
+        SHARED_MEMORY
+    }
+
     /**
      * Configuration structure of one single base station.
      */
@@ -70,6 +95,39 @@ public final class CAbstractNetworkAmbassador {
         }
     }
 
+    /**
+     * Configuration of the position updates sent to the federate. By default, the
+     * position of every moving node is sent on every update.
+     */
+    public static class CPositionUpdates implements Serializable {
+
+        /**
+         * The maximum deviation between the actual position of a node and the position known to the federate
+         * before the position of the node is sent again. A value of 0 sends every position. Unit: [m].
+         */
+        @JsonAdapter(UnitFieldAdapter.DistanceMeters.class)
+        public double distanceThreshold = 0;
+
+        /**
+         * The maximum time between two position updates of a node, regardless of its deviation. Unit: [ns].
+         */
+        @JsonAdapter(TimeFieldAdapter.NanoSeconds.class)
+        public Long maximumInterval = null;
+
+        /**
+         * If {@code true}, the velocities of the nodes are sent along with their positions, and the deviation
+         * is measured against the position extrapolated from the last sent position and velocity. Requires
+         * {@link #packedEncoding} and a federate which extrapolates the positions accordingly.
+         */
+        public boolean deadReckoning = false;
+
+        /**
+         * If {@code true}, positions are sent as packed arrays of ids and coordinates, instead
+         * of one sub-message per node. Requires a federate supporting this encoding.
+         */
+        public boolean packedEncoding = false;
+    }
+
     static GsonBuilder createConfigBuilder() {
         return new GsonBuilder()
                 .setFieldNamingStrategy(f -> switch (f.getName()) {
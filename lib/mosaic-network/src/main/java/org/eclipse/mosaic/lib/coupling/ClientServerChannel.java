@@ -55,6 +55,7 @@ import java.net.Inet4Address;
 import java.net.InetAddress;
 import java.net.Socket;
 import java.nio.ByteBuffer;
+import java.nio.file.Path;
 import java.util.List;
 
 /**
@@ -66,10 +67,16 @@ public class ClientServerChannel {
     final static int PROTOCOL_VERSION = 3;
 
     /**
-     * Socket connected to the network federate.
+     * Socket connected to the network federate, {@code null} if the channel is based on shared memory.
      */
     public Socket socket;
 
+    /**
+     * Ring buffers shared with the network federate, {@code null} if the channel is based on a socket.
+     */
+    private final SharedMemoryRingBuffer inRingBuffer;
+    private final SharedMemoryRingBuffer outRingBuffer;
+
     /**
      * Input stream from network federate.
      */
@@ -96,14 +103,59 @@ public class ClientServerChannel {
         this.cin = CodedInputStream.newInstance(bin);
         this.cin.setSizeLimit(1 * 1024 * 1024); // guardrail: 1MB per message, adjust as needed
         this.out = new DataOutputStream(socket.getOutputStream());
+        this.inRingBuffer = null;
+        this.outRingBuffer = null;
         // TODO: use logger
     }
 
+    /**
+     * Constructor for a channel based on two memory-mapped ring buffers, which have been created by the federate
+     * in the files {@code <sharedMemoryBase>.<channelNumber>.f2a} (federate to ambassador) and
+     * {@code <sharedMemoryBase>.<channelNumber>.a2f} (ambassador to federate).
+     *
+     * @param sharedMemoryBase the base path of the shared memory files announced by the federate
+     * @param channelNumber    the number of the channel
+     * @param log              logger to log on
+     * @throws IOException if the shared memory files cannot be opened.
+     */
+    public ClientServerChannel(Path sharedMemoryBase, int channelNumber, Logger log) throws IOException {
+        this.socket = null;
+        this.inRingBuffer = SharedMemoryRingBuffer.open(sharedMemoryFile(sharedMemoryBase, channelNumber, true));
+        try {
+            this.outRingBuffer = SharedMemoryRingBuffer.open(sharedMemoryFile(sharedMemoryBase, channelNumber, false));
+        } catch (IOException e) {
+            inRingBuffer.close();
+            throw e;
+        }
+        this.cin = CodedInputStream.newInstance(inRingBuffer.getInputStream(), 64 * 1024);
+        this.cin.setSizeLimit(1 * 1024 * 1024); // guardrail: 1MB per message, adjust as needed
+        this.out = outRingBuffer.getOutputStream();
+    }
+
+    /**
+     * Returns the path of a shared memory file of a channel.
+     *
+     * @param sharedMemoryBase     the base path of the shared memory files announced by the federate
+     * @param channelNumber        the number of the channel
+     * @param federateToAmbassador {@code true} for the file carrying data from the federate to the ambassador
+     * @return the path of the shared memory file
+     */
+    static Path sharedMemoryFile(Path sharedMemoryBase, int channelNumber, boolean federateToAmbassador) {
+        return sharedMemoryBase.resolveSibling(
+                sharedMemoryBase.getFileName() + "." + channelNumber + (federateToAmbassador ? ".f2a" : ".a2f")
+        );
+    }
+
     /**
      * Closes the channel.
      */
     public void close() throws IOException {
-        this.socket.close();
+        if (socket != null) {
+            this.socket.close();
+        } else {
+            this.inRingBuffer.close();
+            this.outRingBuffer.close();
+        }
     }
 
     //####################################################################
@@ -251,6 +303,33 @@ public class ClientServerChannel {
         return readCommand();
     }
 
+    /**
+     * Command: Update nodes, using the packed encoding which transfers ids, positions, and
+     * optionally velocities as flat arrays instead of one sub-message per node.
+     *
+     * @param time           time at which the positions are updated
+     * @param nodes          a list of ids, positions, and velocities
+     * @param withVelocities {@code true}, if the velocities of the nodes should be transferred for dead reckoning
+     * @return command returned by the federate
+     */
+    public CommandType writePackedUpdatePositionsMessage(long time, List<NodeDataContainer> nodes, boolean withVelocities) throws IOException {
+        writeCommand(CommandType.UPDATE_NODE);
+        UpdateNode.Builder msg = UpdateNode.newBuilder();
+        msg.setTime(time);
+        for (NodeDataContainer node : nodes) {
+            msg.addPackedIds(node.id);
+            msg.addPackedPositions(node.pos.getX());
+            msg.addPackedPositions(node.pos.getY());
+            msg.addPackedPositions(node.pos.getZ());
+            if (withVelocities) {
+                msg.addPackedVelocities(node.velocityX);
+                msg.addPackedVelocities(node.velocityY);
+            }
+        }
+        msg.build().writeDelimitedTo(out);
+        return readCommand();
+    }
+
     /**
      * Command: Remove nodes.
      *
@@ -511,7 +590,12 @@ public class ClientServerChannel {
         };
     }
 
-    record NodeDataContainer(int id, CartesianPoint pos) {}
+    record NodeDataContainer(int id, CartesianPoint pos, double velocityX, double velocityY) {
+
+        NodeDataContainer(int id, CartesianPoint pos) {
+            this(id, pos, 0d, 0d);
+        }
+    }
 
     record ReceiveWifiMessageRecord(long time, String receiverName, int msgId, V2xReceiverInformation receiverInformation) {}
 
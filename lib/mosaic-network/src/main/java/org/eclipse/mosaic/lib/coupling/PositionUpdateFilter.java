@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.lib.coupling;
+
+import org.eclipse.mosaic.lib.geo.CartesianPoint;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Decides which node positions need to be sent to the network federate. The position of a node is only
+ * sent if the position assumed by the federate deviates from its actual position by more than the configured
+ * distance threshold, or if the last update of this node is older than the configured maximum interval.
+ * <br>
+ * Without dead reckoning, the federate is assumed to keep a node at its last sent position. With dead reckoning,
+ * the federate is assumed to extrapolate the position of a node linearly using the velocity sent along with its
+ * last update.
+ */
+public class PositionUpdateFilter {
+
+    private final static class SentState {
+
+        private long time;
+        private double x;
+        private double y;
+        private double z;
+        private double velocityX;
+        private double velocityY;
+    }
+
+    private final double distanceThresholdSq;
+
+    private final long maximumInterval;
+
+    private final boolean deadReckoning;
+
+    private final Map<Integer, SentState> sentStates = new HashMap<>();
+
+    /**
+     * Creates a new {@link PositionUpdateFilter}.
+     *
+     * @param distanceThreshold the maximum allowed deviation in meters, 0 to send every position
+     * @param maximumInterval   the maximum time in ns between two updates of a node, or {@code null} for no limit
+     * @param deadReckoning     {@code true}, if the federate extrapolates positions using the sent velocities
+     */
+    public PositionUpdateFilter(double distanceThreshold, Long maximumInterval, boolean deadReckoning) {
+        this.distanceThresholdSq = distanceThreshold * distanceThreshold;
+        this.maximumInterval = maximumInterval != null ? maximumInterval : Long.MAX_VALUE;
+        this.deadReckoning = deadReckoning;
+    }
+
+    /**
+     * Creates a new {@link PositionUpdateFilter} based on the given configuration.
+     *
+     * @param config the position update configuration
+     */
+    public PositionUpdateFilter(CAbstractNetworkAmbassador.CPositionUpdates config) {
+        this(config.distanceThreshold, config.maximumInterval, config.deadReckoning && config.packedEncoding);
+    }
+
+    /**
+     * Returns {@code true}, if velocities of nodes must be sent to the federate along with their positions.
+     */
+    public boolean isDeadReckoning() {
+        return deadReckoning;
+    }
+
+    /**
+     * Remembers the position of a node which has been sent to the federate without
+     * passing this filter, e.g. when the node has been added to the simulation.
+     *
+     * @param nodeId   the external id of the node
+     * @param time     the time at which the position has been sent
+     * @param position the sent position
+     */
+    public void reset(int nodeId, long time, CartesianPoint position) {
+        remember(sentStates.computeIfAbsent(nodeId, k -> new SentState()), time, position, 0d, 0d);
+    }
+
+    /**
+     * Decides if the given position of a node needs to be sent to the federate. If so, the position
+     * is remembered as the position known to the federate.
+     *
+     * @param nodeId    the external id of the node
+     * @param time      the current simulation time
+     * @param position  the actual position of the node
+     * @param velocityX the actual velocity of the node along the x-axis in m/s
+     * @param velocityY the actual velocity of the node along the y-axis in m/s
+     * @return {@code true}, if the position of the node must be sent to the federate
+     */
+    public boolean test(int nodeId, long time, CartesianPoint position, double velocityX, double velocityY) {
+        SentState state = sentStates.get(nodeId);
+        if (state == null) {
+            state = new SentState();
+            sentStates.put(nodeId, state);
+        } else if (time - state.time < maximumInterval) {
+            double expectedX = state.x;
+            double expectedY = state.y;
+            if (deadReckoning) {
+                double elapsedSeconds = (time - state.time) / 1e9;
+                expectedX += state.velocityX * elapsedSeconds;
+                expectedY += state.velocityY * elapsedSeconds;
+            }
+            final double dx = position.getX() - expectedX;
+            final double dy = position.getY() - expectedY;
+            final double dz = position.getZ() - state.z;
+            if (dx * dx + dy * dy + dz * dz < distanceThresholdSq) {
+                return false;
+            }
+        }
+        remember(state, time, position, velocityX, velocityY);
+        return true;
+    }
+
+    /**
+     * Forgets about the node with the given id, e.g. after it has been removed from the simulation.
+     *
+     * @param nodeId the external id of the node
+     */
+    public void remove(int nodeId) {
+        sentStates.remove(nodeId);
+    }
+
+    private void remember(SentState state, long time, CartesianPoint position, double velocityX, double velocityY) {
+        state.time = time;
+        state.x = position.getX();
+        state.y = position.getY();
+        state.z = position.getZ();
+        state.velocityX = velocityX;
+        state.velocityY = velocityY;
+    }
+}
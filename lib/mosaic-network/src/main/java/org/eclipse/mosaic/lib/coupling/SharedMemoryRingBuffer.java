@@ -0,0 +1,258 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.lib.coupling;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * A single-producer single-consumer byte ring buffer located in a memory-mapped file, which allows
+ * to exchange data between two processes on the same host without involving the network stack.
+ * <br>
+ * The file is structured as follows (all numbers little endian):
+ * <pre>
+ *   offset   0: int  magic number (0x4D525342)
+ *   offset   4: int  version (1)
+ *   offset   8: long capacity of the data section in bytes (power of two)
+ *   offset  64: long total number of bytes written (only updated by the producer)
+ *   offset 128: long total number of bytes read (only updated by the consumer)
+ *   offset 192: int  closed flag (1, if one side has closed the buffer)
+ *   offset 256: data section
+ * </pre>
+ * The producer publishes written data by updating the write position with release semantics,
+ * the consumer frees read data by updating the read position with release semantics.
+ */
+public class SharedMemoryRingBuffer implements Closeable {
+
+    static final int MAGIC = 0x4D525342;
+    static final int VERSION = 1;
+
+    private static final int OFFSET_MAGIC = 0;
+    private static final int OFFSET_VERSION = 4;
+    private static final int OFFSET_CAPACITY = 8;
+    private static final int OFFSET_WRITE_POSITION = 64;
+    private static final int OFFSET_READ_POSITION = 128;
+    private static final int OFFSET_CLOSED = 192;
+    private static final int OFFSET_DATA = 256;
+
+    private static final VarHandle LONG_VIEW = MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final VarHandle INT_VIEW = MethodHandles.byteBufferViewVarHandle(int[].class, ByteOrder.LITTLE_ENDIAN);
+
+    /**
+     * Number of busy-spins before the waiting thread starts to yield and park.
+     */
+    private static final int SPIN_TRIES = 10_000;
+
+    private static final long PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+    private final FileChannel fileChannel;
+    private final MappedByteBuffer buffer;
+    private final int capacity;
+    private final int mask;
+
+    private final InputStream inputStream = new RingBufferInputStream();
+    private final OutputStream outputStream = new RingBufferOutputStream();
+
+    private SharedMemoryRingBuffer(FileChannel fileChannel, MappedByteBuffer buffer, int capacity) {
+        this.fileChannel = fileChannel;
+        this.buffer = buffer;
+        this.capacity = capacity;
+        this.mask = capacity - 1;
+    }
+
+    /**
+     * Creates a new, empty ring buffer in the given file. An existing file will be overwritten.
+     *
+     * @param file     the file to map the ring buffer into
+     * @param capacity the capacity of the ring buffer in bytes, must be a power of two
+     * @return the created ring buffer
+     * @throws IOException if the file could not be created or mapped
+     */
+    public static SharedMemoryRingBuffer create(Path file, int capacity) throws IOException {
+        if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Capacity of ring buffer must be a power of two, but was " + capacity);
+        }
+        FileChannel fileChannel = FileChannel.open(file,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE
+        );
+        MappedByteBuffer buffer = fileChannel.map(FileChannel.MapMode.READ_WRITE, 0, OFFSET_DATA + capacity);
+        LONG_VIEW.setRelease(buffer, OFFSET_CAPACITY, (long) capacity);
+        LONG_VIEW.setRelease(buffer, OFFSET_WRITE_POSITION, 0L);
+        LONG_VIEW.setRelease(buffer, OFFSET_READ_POSITION, 0L);
+        INT_VIEW.setRelease(buffer, OFFSET_CLOSED, 0);
+        INT_VIEW.setRelease(buffer, OFFSET_VERSION, VERSION);
+        // the magic number is written last, it marks the buffer as fully initialized
+        INT_VIEW.setRelease(buffer, OFFSET_MAGIC, MAGIC);
+        return new SharedMemoryRingBuffer(fileChannel, buffer, capacity);
+    }
+
+    /**
+     * Opens an existing ring buffer which has been created by the other side of the connection.
+     *
+     * @param file the file containing the ring buffer
+     * @return the opened ring buffer
+     * @throws IOException if the file does not exist or does not contain an initialized ring buffer
+     */
+    public static SharedMemoryRingBuffer open(Path file) throws IOException {
+        if (!Files.exists(file)) {
+            throw new IOException("Shared memory file " + file + " does not exist.");
+        }
+        FileChannel fileChannel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            if (fileChannel.size() < OFFSET_DATA) {
+                throw new IOException("Shared memory file " + file + " is not initialized.");
+            }
+            MappedByteBuffer header = fileChannel.map(FileChannel.MapMode.READ_WRITE, 0, OFFSET_DATA);
+            if ((int) INT_VIEW.getAcquire(header, OFFSET_MAGIC) != MAGIC) {
+                throw new IOException("Shared memory file " + file + " is not initialized.");
+            }
+            if ((int) INT_VIEW.getAcquire(header, OFFSET_VERSION) != VERSION) {
+                throw new IOException("Shared memory file " + file + " has an unsupported version.");
+            }
+            int capacity = (int) (long) LONG_VIEW.getAcquire(header, OFFSET_CAPACITY);
+            MappedByteBuffer buffer = fileChannel.map(FileChannel.MapMode.READ_WRITE, 0, OFFSET_DATA + capacity);
+            return new SharedMemoryRingBuffer(fileChannel, buffer, capacity);
+        } catch (IOException | RuntimeException e) {
+            fileChannel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Returns a blocking {@link InputStream} which consumes the data of this ring buffer.
+     */
+    public InputStream getInputStream() {
+        return inputStream;
+    }
+
+    /**
+     * Returns a blocking {@link OutputStream} which produces data into this ring buffer.
+     */
+    public OutputStream getOutputStream() {
+        return outputStream;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Marks the ring buffer as closed for both sides and releases the file.
+     */
+    @Override
+    public void close() throws IOException {
+        INT_VIEW.setRelease(buffer, OFFSET_CLOSED, 1);
+        fileChannel.close();
+    }
+
+    private boolean isClosed() {
+        return (int) INT_VIEW.getAcquire(buffer, OFFSET_CLOSED) != 0;
+    }
+
+    private static void idle(int tries) {
+        if (tries < SPIN_TRIES) {
+            Thread.onSpinWait();
+        } else if (tries < SPIN_TRIES + 100) {
+            Thread.yield();
+        } else {
+            LockSupport.parkNanos(PARK_NANOS);
+        }
+    }
+
+    private class RingBufferOutputStream extends OutputStream {
+
+        private final byte[] single = new byte[1];
+
+        @Override
+        public void write(int b) throws IOException {
+            single[0] = (byte) b;
+            write(single, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) throws IOException {
+            long writePosition = (long) LONG_VIEW.getOpaque(buffer, OFFSET_WRITE_POSITION);
+            int tries = 0;
+            while (length > 0) {
+                if (isClosed()) {
+                    throw new IOException("Shared memory ring buffer has been closed.");
+                }
+                final long readPosition = (long) LONG_VIEW.getAcquire(buffer, OFFSET_READ_POSITION);
+                final int free = capacity - (int) (writePosition - readPosition);
+                if (free == 0) {
+                    idle(tries++);
+                    continue;
+                }
+                tries = 0;
+                final int index = (int) (writePosition & mask);
+                final int chunk = Math.min(length, Math.min(free, capacity - index));
+                buffer.put(OFFSET_DATA + index, bytes, offset, chunk);
+                writePosition += chunk;
+                offset += chunk;
+                length -= chunk;
+                LONG_VIEW.setRelease(buffer, OFFSET_WRITE_POSITION, writePosition);
+            }
+        }
+    }
+
+    private class RingBufferInputStream extends InputStream {
+
+        private final byte[] single = new byte[1];
+
+        @Override
+        public int read() throws IOException {
+            return read(single, 0, 1) < 0 ? -1 : single[0] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) throws IOException {
+            if (length == 0) {
+                return 0;
+            }
+            final long readPosition = (long) LONG_VIEW.getOpaque(buffer, OFFSET_READ_POSITION);
+            int tries = 0;
+            int available;
+            while ((available = (int) ((long) LONG_VIEW.getAcquire(buffer, OFFSET_WRITE_POSITION) - readPosition)) == 0) {
+                if (isClosed()) {
+                    return -1;
+                }
+                idle(tries++);
+            }
+            final int index = (int) (readPosition & mask);
+            final int chunk = Math.min(length, Math.min(available, capacity - index));
+            buffer.get(OFFSET_DATA + index, bytes, offset, chunk);
+            LONG_VIEW.setRelease(buffer, OFFSET_READ_POSITION, readPosition + chunk);
+            return chunk;
+        }
+
+        @Override
+        public int available() {
+            return (int) ((long) LONG_VIEW.getAcquire(buffer, OFFSET_WRITE_POSITION) - (long) LONG_VIEW.getOpaque(buffer, OFFSET_READ_POSITION));
+        }
+    }
+}
@@ -17,6 +17,7 @@ package org.eclipse.mosaic.lib.coupling;
 
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isA;
@@ -53,6 +54,7 @@ import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
+import java.io.File;
 import java.io.IOException;
 import java.net.Inet4Address;
 import java.net.InetAddress;
@@ -76,7 +78,11 @@ public class AbstractNetworkAmbassadorTest {
 
     @Before
     public void setup() throws IOException {
-        AmbassadorParameter ambassadorParameter = new AmbassadorParameter("testAmbassador", null);
+        setupAmbassador(null);
+    }
+
+    private void setupAmbassador(File configuration) throws IOException {
+        AmbassadorParameter ambassadorParameter = new AmbassadorParameter("testAmbassador", configuration);
         networkAmbassador = new AbstractNetworkAmbassador(ambassadorParameter, "Test Ambassador", "Test Federate") {
             @Override
             public void connectToFederate(String host, int port) {
@@ -235,10 +241,48 @@ public class AbstractNetworkAmbassadorTest {
         verify(ambassadorFederateChannelMock, times(1)).writeConfigureWifiRadio(eq(2 * TIME.SECOND), anyInt(), anyInt(), eq(adHocConfiguration));
     }
 
+    @Test
+    public void vehicleMovedWithinThreshold_noPositionUpdateSent() throws Exception {
+        // Setup
+        setupAmbassador(new File(getClass().getResource("/ns3_config_with_position_updates.json").getFile()));
+        when(ambassadorFederateChannelMock.writePackedUpdatePositionsMessage(anyLong(), anyList(), anyBoolean()))
+                .thenReturn(CommandType.SUCCESS);
+        networkAmbassador.initialize(0, 1000);
+
+        final AdHocConfiguration adHocConfiguration = new AdHocConfiguration.Builder("veh_0")
+                .addInterface(new InterfaceConfiguration.Builder(AdHocChannel.CCH).power(50d).ip(createDummyIp()).subnet(createDummyIp()).create())
+                .create();
+        networkAmbassador.processInteraction(new AdHocCommunicationConfiguration(2 * TIME.SECOND, adHocConfiguration));
+        networkAmbassador.processInteraction(new VehicleUpdates(
+                2 * TIME.SECOND, Lists.newArrayList(createVehicleInfo("veh_0")), Lists.newArrayList(), Lists.newArrayList()
+        ));
+
+        // Run
+        networkAmbassador.processInteraction(new VehicleUpdates(
+                3 * TIME.SECOND, Lists.newArrayList(), Lists.newArrayList(createVehicleInfo("veh_0", 11, 20)), Lists.newArrayList()
+        ));
+
+        // Assert
+        verify(ambassadorFederateChannelMock, never()).writePackedUpdatePositionsMessage(anyLong(), anyList(), anyBoolean());
+
+        // Run
+        networkAmbassador.processInteraction(new VehicleUpdates(
+                4 * TIME.SECOND, Lists.newArrayList(), Lists.newArrayList(createVehicleInfo("veh_0", 15, 20)), Lists.newArrayList()
+        ));
+
+        // Assert
+        verify(ambassadorFederateChannelMock, times(1)).writePackedUpdatePositionsMessage(eq(4 * TIME.SECOND), anyList(), eq(true));
+        verify(ambassadorFederateChannelMock, never()).writeUpdatePositionsMessage(anyLong(), anyList());
+    }
+
     private VehicleData createVehicleInfo(String string) {
+        return createVehicleInfo(string, 10, 20);
+    }
+
+    private VehicleData createVehicleInfo(String string, double x, double y) {
         VehicleData vehInfo = mock(VehicleData.class);
         when(vehInfo.getName()).thenReturn(string);
-        when(vehInfo.getProjectedPosition()).thenReturn(CartesianPoint.xy(10, 20));
+        when(vehInfo.getProjectedPosition()).thenReturn(CartesianPoint.xy(x, y));
         return vehInfo;
     }
 
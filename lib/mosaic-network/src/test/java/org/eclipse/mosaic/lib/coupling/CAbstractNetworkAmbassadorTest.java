@@ -16,8 +16,12 @@
 package org.eclipse.mosaic.lib.coupling;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 
 import org.eclipse.mosaic.lib.util.objects.ObjectInstantiation;
+import org.eclipse.mosaic.rti.TIME;
 
 import org.junit.Test;
 
@@ -49,4 +53,26 @@ public class CAbstractNetworkAmbassadorTest {
         assertEquals(719.3, config.baseStations.get(1).cartesianPosition.getX(), 0.1d);
         assertEquals(118.2, config.baseStations.get(1).cartesianPosition.getY(), 0.1d);
     }
+
+    @Test
+    public void withPositionUpdates() throws InstantiationException {
+        CAbstractNetworkAmbassador config = new ObjectInstantiation<>(CAbstractNetworkAmbassador.class).read(
+                getClass().getResourceAsStream("/ns3_config_with_position_updates.json"), CAbstractNetworkAmbassador.createConfigBuilder()
+        );
+        assertEquals(2.5, config.positionUpdates.distanceThreshold, 0.0001d);
+        assertEquals(5 * TIME.SECOND, config.positionUpdates.maximumInterval.longValue());
+        assertTrue(config.positionUpdates.deadReckoning);
+        assertTrue(config.positionUpdates.packedEncoding);
+    }
+
+    @Test
+    public void withoutPositionUpdates_defaults() throws InstantiationException {
+        CAbstractNetworkAmbassador config = new ObjectInstantiation<>(CAbstractNetworkAmbassador.class).read(
+                getClass().getResourceAsStream("/ns3_config_with_basestations.json"), CAbstractNetworkAmbassador.createConfigBuilder()
+        );
+        assertEquals(0, config.positionUpdates.distanceThreshold, 0.0001d);
+        assertNull(config.positionUpdates.maximumInterval);
+        assertFalse(config.positionUpdates.deadReckoning);
+        assertFalse(config.positionUpdates.packedEncoding);
+    }
 }
@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.lib.coupling;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.eclipse.mosaic.lib.geo.CartesianPoint;
+import org.eclipse.mosaic.rti.TIME;
+
+import org.junit.Test;
+
+public class PositionUpdateFilterTest {
+
+    @Test
+    public void noThreshold_everyPositionSent() {
+        PositionUpdateFilter filter = new PositionUpdateFilter(0, null, false);
+
+        assertTrue(filter.test(1, 0, CartesianPoint.xy(10, 10), 0, 0));
+        assertTrue(filter.test(1, TIME.SECOND, CartesianPoint.xy(10, 10), 0, 0));
+        assertTrue(filter.test(1, 2 * TIME.SECOND, CartesianPoint.xy(10.1, 10), 0, 0));
+    }
+
+    @Test
+    public void distanceThreshold_onlyExceedingPositionsSent() {
+        PositionUpdateFilter filter = new PositionUpdateFilter(1, null, false);
+
+        assertTrue(filter.test(1, 0, CartesianPoint.xy(10, 10), 0, 0));
+        assertFalse(filter.test(1, TIME.SECOND, CartesianPoint.xy(10.5, 10), 0, 0));
+        assertFalse(filter.test(1, 2 * TIME.SECOND, CartesianPoint.xy(10.9, 10), 0, 0));
+        assertTrue(filter.test(1, 3 * TIME.SECOND, CartesianPoint.xy(11.2, 10), 0, 0));
+        // deviation is measured against last sent position
+        assertFalse(filter.test(1, 4 * TIME.SECOND, CartesianPoint.xy(11.8, 10), 0, 0));
+    }
+
+    @Test
+    public void maximumInterval_positionSentAfterInterval() {
+        PositionUpdateFilter filter = new PositionUpdateFilter(5, 2 * TIME.SECOND, false);
+
+        assertTrue(filter.test(1, 0, CartesianPoint.xy(10, 10), 0, 0));
+        assertFalse(filter.test(1, TIME.SECOND, CartesianPoint.xy(10, 10), 0, 0));
+        assertTrue(filter.test(1, 2 * TIME.SECOND, CartesianPoint.xy(10, 10), 0, 0));
+        assertFalse(filter.test(1, 3 * TIME.SECOND, CartesianPoint.xy(10, 10), 0, 0));
+    }
+
+    @Test
+    public void deadReckoning_constantVelocityNotSent() {
+        PositionUpdateFilter filter = new PositionUpdateFilter(1, null, true);
+
+        assertTrue(filter.test(1, 0, CartesianPoint.xy(0, 0), 10, 0));
+        assertFalse(filter.test(1, TIME.SECOND, CartesianPoint.xy(10, 0), 10, 0));
+        assertFalse(filter.test(1, 2 * TIME.SECOND, CartesianPoint.xy(20, 0.5), 10, 0));
+        // vehicle turned, extrapolated position deviates
+        assertTrue(filter.test(1, 3 * TIME.SECOND, CartesianPoint.xy(25, 8), 0, 10));
+        assertFalse(filter.test(1, 4 * TIME.SECOND, CartesianPoint.xy(25, 18), 0, 10));
+    }
+
+    @Test
+    public void resetAndRemove() {
+        PositionUpdateFilter filter = new PositionUpdateFilter(1, null, false);
+
+        filter.reset(1, 0, CartesianPoint.xy(10, 10));
+        assertFalse(filter.test(1, TIME.SECOND, CartesianPoint.xy(10.5, 10), 0, 0));
+
+        filter.remove(1);
+        assertTrue(filter.test(1, 2 * TIME.SECOND, CartesianPoint.xy(10.5, 10), 0, 0));
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.lib.coupling;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.mock;
+
+import org.eclipse.mosaic.lib.coupling.ClientServerChannelProtos.CommandMessage;
+import org.eclipse.mosaic.lib.coupling.ClientServerChannelProtos.CommandMessage.CommandType;
+import org.eclipse.mosaic.lib.coupling.ClientServerChannelProtos.InitMessage;
+import org.eclipse.mosaic.lib.coupling.ClientServerChannelProtos.PortExchange;
+import org.eclipse.mosaic.lib.coupling.ClientServerChannelProtos.TimeMessage;
+import org.eclipse.mosaic.rti.TIME;
+import org.eclipse.mosaic.rti.api.parameters.AmbassadorParameter;
+import org.eclipse.mosaic.rti.api.parameters.FederateDescriptor;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Couples the {@link AbstractNetworkAmbassador} via shared memory with a minimal stand-in
+ * for a network federate, which runs in a separate thread.
+ */
+public class SharedMemoryCouplingTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test(timeout = 30000)
+    public void connectInitializeAdvanceAndShutdown() throws Exception {
+        // Setup
+        File configuration = temporaryFolder.newFile("network_config.json");
+        Files.writeString(configuration.toPath(), "{ \"transport\": \"SHARED_MEMORY\" }");
+
+        AbstractNetworkAmbassador networkAmbassador = new AbstractNetworkAmbassador(
+                new AmbassadorParameter("testAmbassador", configuration), "Test Ambassador", "Test Federate"
+        ) {};
+        networkAmbassador.setFederateDescriptor(mock(FederateDescriptor.class));
+
+        FederateStandIn federate = new FederateStandIn(temporaryFolder.getRoot().toPath().resolve("shm"));
+        CompletableFuture<List<CommandType>> federateTask = CompletableFuture.supplyAsync(federate::run);
+
+        // Run
+        InputStream federateOutput = new ByteArrayInputStream(
+                "Starting federate\nSharedMemory=shm\n".getBytes(StandardCharsets.UTF_8)
+        );
+        federate.awaitReady();
+        networkAmbassador.connectToFederate("localhost", federateOutput, null);
+        networkAmbassador.initialize(0, 10 * TIME.SECOND);
+        networkAmbassador.processTimeAdvanceGrant(TIME.SECOND);
+        networkAmbassador.finishSimulation();
+
+        // Assert
+        List<CommandType> receivedCommands = federateTask.get(10, TimeUnit.SECONDS);
+        assertEquals(List.of(CommandType.INIT, CommandType.ADVANCE_TIME, CommandType.SHUT_DOWN), receivedCommands);
+        assertEquals(TIME.SECOND, federate.lastAdvanceTime);
+    }
+
+    /**
+     * Imitates the federate side of the coupling protocol: creates the shared memory files,
+     * announces the command channel, acknowledges the initialization, and ends each time advance immediately.
+     */
+    private static class FederateStandIn {
+
+        private final Path sharedMemoryBase;
+        private final CompletableFuture<Void> ready = new CompletableFuture<>();
+        private long lastAdvanceTime = -1;
+
+        private FederateStandIn(Path sharedMemoryBase) {
+            this.sharedMemoryBase = sharedMemoryBase;
+        }
+
+        private void awaitReady() throws Exception {
+            ready.get(10, TimeUnit.SECONDS);
+        }
+
+        private List<CommandType> run() {
+            List<CommandType> receivedCommands = new ArrayList<>();
+            try (SharedMemoryRingBuffer readingChannelOut = create(0, true);
+                 SharedMemoryRingBuffer readingChannelIn = create(0, false);
+                 SharedMemoryRingBuffer commandChannelOut = create(1, true);
+                 SharedMemoryRingBuffer commandChannelIn = create(1, false)) {
+                ready.complete(null);
+
+                final OutputStream toAmbassador = readingChannelOut.getOutputStream();
+                writeCommand(toAmbassador, CommandType.INIT);
+                PortExchange.newBuilder().setPortNumber(1).build().writeDelimitedTo(toAmbassador);
+
+                final InputStream commands = commandChannelIn.getInputStream();
+                final OutputStream acknowledgements = commandChannelOut.getOutputStream();
+                while (true) {
+                    CommandType command = CommandMessage.parseDelimitedFrom(commands).getCommandType();
+                    receivedCommands.add(command);
+                    switch (command) {
+                        case INIT:
+                            InitMessage.parseDelimitedFrom(commands);
+                            writeCommand(acknowledgements, CommandType.SUCCESS);
+                            break;
+                        case ADVANCE_TIME:
+                            lastAdvanceTime = TimeMessage.parseDelimitedFrom(commands).getTime();
+                            writeCommand(toAmbassador, CommandType.END);
+                            TimeMessage.newBuilder().setTime(lastAdvanceTime).build().writeDelimitedTo(toAmbassador);
+                            break;
+                        case SHUT_DOWN:
+                            return receivedCommands;
+                        default:
+                            throw new IllegalStateException("Unexpected command " + command);
+                    }
+                }
+            } catch (IOException e) {
+                ready.completeExceptionally(e);
+                throw new RuntimeException(e);
+            }
+        }
+
+        private SharedMemoryRingBuffer create(int channel, boolean federateToAmbassador) throws IOException {
+            return SharedMemoryRingBuffer.create(
+                    ClientServerChannel.sharedMemoryFile(sharedMemoryBase, channel, federateToAmbassador), 64 * 1024
+            );
+        }
+
+        private static void writeCommand(OutputStream out, CommandType command) throws IOException {
+            CommandMessage.newBuilder().setCommandType(command).build().writeDelimitedTo(out);
+        }
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.lib.coupling;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+public class SharedMemoryRingBufferTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test(expected = IllegalArgumentException.class)
+    public void create_capacityNoPowerOfTwo() throws IOException {
+        SharedMemoryRingBuffer.create(temporaryFolder.getRoot().toPath().resolve("ring"), 1000);
+    }
+
+    @Test(expected = IOException.class)
+    public void open_notExisting() throws IOException {
+        SharedMemoryRingBuffer.open(temporaryFolder.getRoot().toPath().resolve("ring"));
+    }
+
+    @Test
+    public void writeAndRead() throws IOException {
+        Path file = temporaryFolder.getRoot().toPath().resolve("ring");
+        try (SharedMemoryRingBuffer producer = SharedMemoryRingBuffer.create(file, 1024);
+             SharedMemoryRingBuffer consumer = SharedMemoryRingBuffer.open(file)) {
+            assertEquals(1024, consumer.getCapacity());
+
+            producer.getOutputStream().write(new byte[]{1, 2, 3, 4});
+            assertEquals(4, consumer.getInputStream().available());
+
+            byte[] read = new byte[10];
+            assertEquals(4, consumer.getInputStream().read(read));
+            assertArrayEquals(new byte[]{1, 2, 3, 4}, Arrays.copyOf(read, 4));
+            assertEquals(0, consumer.getInputStream().available());
+        }
+    }
+
+    @Test
+    public void readAfterClose_endOfStream() throws IOException {
+        Path file = temporaryFolder.getRoot().toPath().resolve("ring");
+        SharedMemoryRingBuffer producer = SharedMemoryRingBuffer.create(file, 1024);
+        try (SharedMemoryRingBuffer consumer = SharedMemoryRingBuffer.open(file)) {
+            producer.getOutputStream().write(42);
+            producer.close();
+
+            assertEquals(42, consumer.getInputStream().read());
+            assertEquals(-1, consumer.getInputStream().read());
+        }
+    }
+
+    @Test(timeout = 20000)
+    public void concurrentProducer_wrapsAroundBuffer() throws Exception {
+        Path file = temporaryFolder.getRoot().toPath().resolve("ring");
+        byte[] data = new byte[1024 * 1024];
+        new Random(42).nextBytes(data);
+
+        try (SharedMemoryRingBuffer producer = SharedMemoryRingBuffer.create(file, 4096);
+             SharedMemoryRingBuffer consumer = SharedMemoryRingBuffer.open(file)) {
+            CompletableFuture<Void> producerTask = CompletableFuture.runAsync(() -> {
+                try {
+                    OutputStream out = producer.getOutputStream();
+                    Random random = new Random(7);
+                    int offset = 0;
+                    while (offset < data.length) {
+                        int length = Math.min(data.length - offset, 1 + random.nextInt(3000));
+                        out.write(data, offset, length);
+                        offset += length;
+                    }
+                } catch (IOException e) {
+                    throw new RuntimeException(e);
+                }
+            });
+
+            InputStream in = consumer.getInputStream();
+            ByteArrayOutputStream received = new ByteArrayOutputStream();
+            byte[] chunk = new byte[1500];
+            while (received.size() < data.length) {
+                int read = in.read(chunk);
+                received.write(chunk, 0, read);
+            }
+            producerTask.get(10, TimeUnit.SECONDS);
+
+            assertArrayEquals(data, received.toByteArray());
+        }
+    }
+}
@@ -57,6 +57,14 @@ public final class IpResolver implements Serializable {
         singleton = ipResolver;
     }
 
+    /**
+     * Removes the IPResolver singleton, so that it can be set again by the next simulation
+     * which is executed within the same JVM.
+     */
+    public static void reset() {
+        singleton = null;
+    }
+
     /**
      * Returns the {@link IpResolver} singleton.
      */
@@ -22,30 +22,63 @@ import org.apache.commons.lang3.builder.EqualsBuilder;
 import org.apache.commons.lang3.builder.HashCodeBuilder;
 
 import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
 import java.io.DataInput;
 import java.io.DataInputStream;
-import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.io.Serializable;
-import java.lang.reflect.Constructor;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 import java.util.Objects;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
+/**
+ * The payload of a {@link V2xMessage}. The encoded bytes can be read via {@link #getByteBuffer()} without copying them.
+ * Contents encoded from a {@link ToDataOutput} are stored in slices of larger, shared chunks, and are decoded
+ * only once by {@link #decodePayload()}, since all receivers of a message share the same payload instance.
+ */
 @SuppressWarnings(value = "EI_EXPOSE_REP2", justification = "Exposing encoded array is not dangerous here.")
 public final class EncodedPayload implements Serializable {
 
-    private static final long serialVersionUID = 1L;
+    private static final long serialVersionUID = 2L;
 
     public final static EncodedPayload EMPTY_PAYLOAD = new EncodedPayload(0L);
 
+    /**
+     * The constructors of all content classes taking a {@link DataInput}, resolved once per class.
+     */
+    private final static ClassValue<MethodHandle> DECODERS = new ClassValue<>() {
+        @Override
+        protected MethodHandle computeValue(Class<?> contentClass) {
+            try {
+                return MethodHandles.publicLookup()
+                        .findConstructor(contentClass, MethodType.methodType(void.class, DataInput.class))
+                        .asType(MethodType.methodType(ToDataOutput.class, DataInput.class));
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException("No public constructor taking a DataInput found in " + contentClass, e);
+            }
+        }
+    };
+
     private final String contentClassName;
 
     /**
-     * Contains the actual message payload, which can be empty if not needed.
+     * The class of the encoded content, which is only known within the simulator which encoded the content.
      */
-    private final byte[] bytes;
+    private final transient Class<? extends ToDataOutput> contentClass;
+
+    /**
+     * Contains the actual message payload within the range of {@link #offset} and {@link #length},
+     * which can be {@code null} if not needed. The array may be shared with other payloads.
+     */
+    private transient byte[] buffer;
+    private transient int offset;
+    private transient int length;
 
     /**
      * The actual length of this message payload [in bytes].
@@ -57,6 +90,11 @@ public final class EncodedPayload implements Serializable {
      */
     private final long minimalLength;
 
+    /**
+     * The content decoded by the first call of {@link #decodePayload()}.
+     */
+    private transient volatile ToDataOutput decodedContent;
+
     /**
      * Creates a new payload which encodes the given {@link ToDataOutput} into an byte array beforehand.
      * <b>Warning,</b> this constructor should be only used if you want to
@@ -66,12 +104,15 @@ public final class EncodedPayload implements Serializable {
      * <b>This method can cause a high memory consumption.</b>
      */
     public EncodedPayload(@Nonnull ToDataOutput content, long minimalLength) {
-        try (final ByteArrayOutputStream baos = new ByteArrayOutputStream(1024); final DataOutputStream dos = new DataOutputStream(baos)) {
-            content.toDataOutput(dos);
+        try {
+            final PayloadArena.Slice slice = PayloadArena.encode(content);
 
-            this.bytes = Objects.requireNonNull(baos.toByteArray());
-            this.contentClassName = content.getClass().getCanonicalName();
-            this.lengthInBytes = bytes.length;
+            this.buffer = slice.array();
+            this.offset = slice.offset();
+            this.length = slice.length();
+            this.contentClass = content.getClass();
+            this.contentClassName = contentClass.getCanonicalName();
+            this.lengthInBytes = length;
             this.minimalLength = minimalLength;
 
         } catch (Exception e) {
@@ -85,7 +126,8 @@ public final class EncodedPayload implements Serializable {
      * @param lengthInBytes Unit: [bytes].
      */
     public EncodedPayload(long lengthInBytes) {
-        this.bytes = null;
+        this.buffer = null;
+        this.contentClass = null;
         this.contentClassName = null;
         this.lengthInBytes = lengthInBytes;
         this.minimalLength = 0;
@@ -104,7 +146,10 @@ public final class EncodedPayload implements Serializable {
      * @param minimalLength Unit: [bytes].
      */
     public EncodedPayload(@Nonnull byte[] bytes, long minimalLength) {
-        this.bytes = Objects.requireNonNull(bytes);
+        this.buffer = Objects.requireNonNull(bytes);
+        this.offset = 0;
+        this.length = bytes.length;
+        this.contentClass = null;
         this.contentClassName = null;
         this.lengthInBytes = bytes.length;
         this.minimalLength = minimalLength;
@@ -118,23 +163,38 @@ public final class EncodedPayload implements Serializable {
      * @param minimalLength the minimal assumed length of the message's payload. Unit: [bytes].
      */
     public EncodedPayload(long lengthInBytes, long minimalLength) {
-        this.bytes = null;
+        this.buffer = null;
+        this.contentClass = null;
         this.contentClassName = null;
         this.lengthInBytes = lengthInBytes;
         this.minimalLength = minimalLength;
     }
 
     /**
-     * Return a copy of the byte array, if a byte array exist.
+     * Return a copy of the byte array, if a byte array exist. Please prefer {@link #getByteBuffer()},
+     * which does not copy the bytes.
      *
      * @return the encoded bytes of the payload
      */
     @Nonnull
     public byte[] getBytes() {
-        if (bytes == null) {
+        if (buffer == null) {
             return new byte[0];
         }
-        return bytes.clone();
+        return Arrays.copyOfRange(buffer, offset, offset + length);
+    }
+
+    /**
+     * Returns a read-only view on the encoded bytes, which is empty if no bytes exist.
+     *
+     * @return the encoded bytes of the payload, from position 0 to its limit
+     */
+    @Nonnull
+    public ByteBuffer getByteBuffer() {
+        if (buffer == null) {
+            return ByteBuffer.allocate(0).asReadOnlyBuffer();
+        }
+        return ByteBuffer.wrap(buffer, offset, length).slice().asReadOnlyBuffer();
     }
 
     /**
@@ -164,6 +224,8 @@ public final class EncodedPayload implements Serializable {
     /**
      * Tries to decode the payload byte array into the original object. This
      * only works if this object has been initialized with a implementation of {@link ToDataOutput}.
+     * The payload is decoded only once, all subsequent calls return the same object,
+     * which therefore must not be modified.
      *
      * @param <T> the object type to decode the byte array to
      * @return the decoded object of type {@code T}.
@@ -171,22 +233,56 @@ public final class EncodedPayload implements Serializable {
      */
     @SuppressWarnings("unchecked")
     public final <T extends ToDataOutput> T decodePayload() throws IllegalStateException {
-        if (contentClassName != null && getBytes() != null && getBytes().length > 0) {
+        if (contentClassName == null || buffer == null || length == 0) {
+            return null;
+        }
+        ToDataOutput content = decodedContent;
+        if (content == null) {
             try {
-                Class<?> contentClass = Class.forName(contentClassName);
-                Constructor<?> constructorDataInput = contentClass.getConstructor(DataInput.class);
-                return (T) constructorDataInput.newInstance(new DataInputStream(new ByteArrayInputStream(getBytes())));
-            } catch (Exception e) {
+                final Class<?> decodedClass = contentClass != null ? contentClass : Class.forName(contentClassName);
+                content = (ToDataOutput) DECODERS.get(decodedClass)
+                        .invokeExact((DataInput) new DataInputStream(new ByteArrayInputStream(buffer, offset, length)));
+            } catch (IllegalStateException | Error e) {
+                throw e;
+            } catch (Throwable e) {
                 throw new IllegalStateException(e);
             }
+            decodedContent = content;
+        }
+        return (T) content;
+    }
+
+    @Nullable
+    private ByteBuffer view() {
+        return buffer != null ? ByteBuffer.wrap(buffer, offset, length) : null;
+    }
+
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        out.defaultWriteObject();
+        if (buffer == null) {
+            out.writeInt(-1);
+        } else {
+            // only the slice of this payload is written, not the whole shared chunk
+            out.writeInt(length);
+            out.write(buffer, offset, length);
+        }
+    }
+
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        final int bufferLength = in.readInt();
+        if (bufferLength >= 0) {
+            buffer = new byte[bufferLength];
+            in.readFully(buffer);
+            offset = 0;
+            length = bufferLength;
         }
-        return null;
     }
 
     @Override
     public int hashCode() {
         return new HashCodeBuilder(3, 67)
-                .append(bytes)
+                .append(view())
                 .append(contentClassName)
                 .append(lengthInBytes)
                 .append(minimalLength)
@@ -207,7 +303,7 @@ public final class EncodedPayload implements Serializable {
 
         EncodedPayload other = (EncodedPayload) obj;
         return new EqualsBuilder()
-                .append(this.bytes, other.bytes)
+                .append(this.view(), other.view())
                 .append(this.contentClassName, other.contentClassName)
                 .append(this.lengthInBytes, other.lengthInBytes)
                 .append(this.minimalLength, other.minimalLength)
@@ -217,7 +313,7 @@ public final class EncodedPayload implements Serializable {
     @Override
     public String toString() {
         return "EncodedPayload{"
-                + "bytes=" + Arrays.toString(bytes)
+                + "bytes=" + (buffer != null ? Arrays.toString(getBytes()) : "null")
                 + ", contentClassName=" + contentClassName
                 + ", lengthInBytes=" + lengthInBytes
                 + ", minimalLength=" + minimalLength
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.lib.objects.v2x;
+
+import org.eclipse.mosaic.lib.objects.ToDataOutput;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Encodes the content of payloads into slices of larger chunks, which are shared by many payloads. This
+ * avoids creating new streams and an exactly sized array for each encoded message. Each thread encodes
+ * into its own chunk, thus no synchronization is required. A chunk is freed by the garbage collector as soon as
+ * no payload refers to it anymore.
+ */
+final class PayloadArena {
+
+    /**
+     * The size of a chunk [in bytes].
+     */
+    static final int CHUNK_SIZE = 16 * 1024;
+
+    /**
+     * Larger contents are copied into their own array, so that they don't waste the remaining space of a chunk.
+     */
+    private static final int MAX_SLICE_SIZE = CHUNK_SIZE / 4;
+
+    private static final ThreadLocal<PayloadArena> ARENA = ThreadLocal.withInitial(PayloadArena::new);
+
+    private final ScratchOutputStream scratch = new ScratchOutputStream();
+    private final DataOutputStream output = new DataOutputStream(scratch);
+
+    private byte[] chunk = new byte[CHUNK_SIZE];
+    private int position = 0;
+    private boolean encoding = false;
+
+    /**
+     * Encodes the given content into a slice of the chunk of the calling thread.
+     */
+    static Slice encode(ToDataOutput content) throws IOException {
+        final PayloadArena arena = ARENA.get();
+        if (arena.encoding) {
+            // the content encodes another payload itself, which must not overwrite the scratch buffer
+            return new PayloadArena().encodeContent(content);
+        }
+        return arena.encodeContent(content);
+    }
+
+    private Slice encodeContent(ToDataOutput content) throws IOException {
+        encoding = true;
+        try {
+            scratch.reset();
+            content.toDataOutput(output);
+            output.flush();
+
+            final int length = scratch.size();
+            if (length > MAX_SLICE_SIZE) {
+                return new Slice(Arrays.copyOf(scratch.buffer(), length), 0, length);
+            }
+            if (position + length > chunk.length) {
+                chunk = new byte[CHUNK_SIZE];
+                position = 0;
+            }
+            System.arraycopy(scratch.buffer(), 0, chunk, position, length);
+            final Slice slice = new Slice(chunk, position, length);
+            position += length;
+            return slice;
+        } finally {
+            encoding = false;
+        }
+    }
+
+    /**
+     * A range of bytes within an array.
+     */
+    record Slice(byte[] array, int offset, int length) {
+    }
+
+    /**
+     * Keeps its buffer when reset, and exposes it to avoid copying.
+     */
+    private static class ScratchOutputStream extends ByteArrayOutputStream {
+
+        private ScratchOutputStream() {
+            super(1024);
+        }
+
+        private byte[] buffer() {
+            return buf;
+        }
+    }
+}
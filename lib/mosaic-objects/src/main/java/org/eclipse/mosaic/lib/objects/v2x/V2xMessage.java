@@ -76,6 +76,21 @@ public abstract class V2xMessage implements Serializable, Identifiable {
         this.id = id;
     }
 
+    /**
+     * Returns the id which will be assigned to the next created message.
+     */
+    public static int getNextMessageId() {
+        return idGenerator.get();
+    }
+
+    /**
+     * Explicitly sets the id which will be assigned to the next created message, e.g. to
+     * continue with the ids of a restored simulation.
+     */
+    public static void setNextMessageId(final int nextId) {
+        idGenerator.set(nextId);
+    }
+
     /**
      * Returns the {@link EncodedPayload}.
      *
@@ -44,6 +44,14 @@ public class EtsiPayloadConfiguration {
         }
         EtsiPayloadConfiguration.globalConfiguration = payloadConfiguration;
     }
+
+    /**
+     * Removes the global configuration, so that it can be set again by the next simulation
+     * which is executed within the same JVM.
+     */
+    public static void reset() {
+        EtsiPayloadConfiguration.globalConfiguration = null;
+    }
 }
 
 
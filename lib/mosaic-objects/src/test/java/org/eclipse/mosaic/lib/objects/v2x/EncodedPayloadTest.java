@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.lib.objects.v2x;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.eclipse.mosaic.lib.objects.v2x.etsi.ivim.Advice;
+
+import org.apache.commons.lang3.SerializationUtils;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+
+public class EncodedPayloadTest {
+
+    @Test
+    public void decodePayload_decodedOnlyOnce() {
+        EncodedPayload payload = new EncodedPayload(new Advice().setSpeedAdvice(13.9).setGap(2.5), 200);
+
+        Advice decoded = payload.decodePayload();
+
+        assertEquals(13.9, decoded.getSpeedAdvice(), 0.0001d);
+        assertEquals(2.5, decoded.getGap(), 0.0001d);
+        assertSame(decoded, payload.decodePayload());
+    }
+
+    @Test
+    public void getByteBuffer_readOnlySliceOfPayload() {
+        EncodedPayload payloadA = new EncodedPayload(new Advice().setSpeedAdvice(10), 0);
+        EncodedPayload payloadB = new EncodedPayload(new Advice().setSpeedAdvice(20), 0);
+
+        ByteBuffer buffer = payloadB.getByteBuffer();
+
+        assertTrue(buffer.isReadOnly());
+        assertEquals(0, buffer.position());
+        assertEquals(payloadB.getActualLength(), buffer.remaining());
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.get(bytes);
+        assertArrayEquals(payloadB.getBytes(), bytes);
+
+        assertNotEquals(payloadA, payloadB);
+        assertEquals(payloadB, new EncodedPayload(new Advice().setSpeedAdvice(20), 0));
+        assertEquals(20, payloadB.<Advice>decodePayload().getSpeedAdvice(), 0.0001d);
+    }
+
+    @Test
+    public void emptyPayload() {
+        EncodedPayload payload = new EncodedPayload(100, 200);
+
+        assertEquals(0, payload.getBytes().length);
+        assertEquals(0, payload.getByteBuffer().remaining());
+        assertEquals(200, payload.getEffectiveLength());
+        assertNull(payload.decodePayload());
+    }
+
+    @Test
+    public void serialization_onlySliceIsWritten() {
+        EncodedPayload payload = new EncodedPayload(new Advice().setSpeedAdvice(13.9), 200);
+
+        byte[] serialized = SerializationUtils.serialize(payload);
+        EncodedPayload deserialized = SerializationUtils.deserialize(serialized);
+
+        assertTrue(serialized.length < PayloadArena.CHUNK_SIZE);
+        assertEquals(payload, deserialized);
+        assertEquals(13.9, deserialized.<Advice>decodePayload().getSpeedAdvice(), 0.0001d);
+    }
+}
@@ -36,6 +36,16 @@ public interface EdgeProperties {
      */
     double getSpeed();
 
+    /**
+     * Returns the speed currently observed on the edge in [m/s], e.g., the mean speed of vehicles which recently
+     * passed this edge. If no live traffic information is available, the speed limit is returned.
+     *
+     * @return the currently observed speed on the edge in [m/s]
+     */
+    default double getCurrentSpeed() {
+        return getSpeed();
+    }
+
     /**
      * Returns the complete geometry of the edge as a list of geo points with elevation data.
      * Be aware that this is an expensive operation which should not be called too often.
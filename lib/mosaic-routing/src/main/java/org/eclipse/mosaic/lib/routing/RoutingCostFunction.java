@@ -16,9 +16,10 @@
 package org.eclipse.mosaic.lib.routing;
 
 /**
- * Interface to calculate a cost function for the edges in order to find the best route. It provides two options:
+ * Interface to calculate a cost function for the edges in order to find the best route. It provides three options:
  * 1. Shortest: Shortest route to the destination.
  * 2. Fastest: Fastest route to the destination.
+ * 3. LiveTraffic: Fastest route to the destination, considering the currently observed speeds on the roads.
  */
 public interface RoutingCostFunction {
 
@@ -63,6 +64,24 @@ public interface RoutingCostFunction {
 
     };
 
+    RoutingCostFunction LiveTraffic = new RoutingCostFunction() {
+
+        @Override
+        public double calculateCosts(final EdgeProperties edgeProperties) {
+            final double speed = edgeProperties.getCurrentSpeed();
+            if (speed <= 0d) {
+                return Double.POSITIVE_INFINITY;
+            }
+            return edgeProperties.getLength() / speed;
+        }
+
+        @Override
+        public String getCostFunctionName() {
+            return "LiveTraffic";
+        }
+
+    };
+
     RoutingCostFunction Default = RoutingCostFunction.Fastest;
 
 }
@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.lib.routing;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Holds the travel time and length of the best routes from each of several sources to each of several targets.
+ * If no route exists between a source and a target, its costs are {@link Double#NaN}.
+ */
+public class RoutingCostMatrix {
+
+    private final List<RoutingPosition> sources;
+    private final List<RoutingPosition> targets;
+    private final double[] times;
+    private final double[] lengths;
+
+    public RoutingCostMatrix(List<RoutingPosition> sources, List<RoutingPosition> targets) {
+        this.sources = new ArrayList<>(sources);
+        this.targets = new ArrayList<>(targets);
+        this.times = new double[sources.size() * targets.size()];
+        this.lengths = new double[sources.size() * targets.size()];
+        Arrays.fill(times, Double.NaN);
+        Arrays.fill(lengths, Double.NaN);
+    }
+
+    /**
+     * Creates the cost matrix from the responses of routing requests for all pairs of sources and targets.
+     *
+     * @param sources   the source positions
+     * @param targets   the target positions
+     * @param responses the responses, ordered by source first and target second
+     */
+    public static RoutingCostMatrix fromResponses(List<RoutingPosition> sources, List<RoutingPosition> targets, List<RoutingResponse> responses) {
+        if (responses.size() != sources.size() * targets.size()) {
+            throw new IllegalArgumentException("Expected " + sources.size() * targets.size() + " responses, but got " + responses.size());
+        }
+        final RoutingCostMatrix matrix = new RoutingCostMatrix(sources, targets);
+        for (int source = 0; source < sources.size(); source++) {
+            for (int target = 0; target < targets.size(); target++) {
+                final RoutingResponse response = responses.get(source * targets.size() + target);
+                if (response != null && response.getBestRoute() != null) {
+                    matrix.set(source, target, response.getBestRoute().getTime(), response.getBestRoute().getLength());
+                }
+            }
+        }
+        return matrix;
+    }
+
+    /**
+     * Creates a routing request for each pair of source and target, ordered by source first and target second.
+     */
+    public static List<RoutingRequest> createRequests(List<RoutingPosition> sources, List<RoutingPosition> targets, RoutingParameters routingParameters) {
+        final List<RoutingRequest> requests = new ArrayList<>(sources.size() * targets.size());
+        for (RoutingPosition source : sources) {
+            for (RoutingPosition target : targets) {
+                requests.add(new RoutingRequest(source, target, routingParameters));
+            }
+        }
+        return requests;
+    }
+
+    public void set(int source, int target, double time, double length) {
+        times[index(source, target)] = time;
+        lengths[index(source, target)] = length;
+    }
+
+    /**
+     * Returns the travel time in seconds of the best route from the given source to the given target.
+     *
+     * @param source the index of the source
+     * @param target the index of the target
+     * @return the travel time in seconds, or {@link Double#NaN} if there is no route
+     */
+    public double getTime(int source, int target) {
+        return times[index(source, target)];
+    }
+
+    /**
+     * Returns the length in meters of the best route from the given source to the given target.
+     *
+     * @param source the index of the source
+     * @param target the index of the target
+     * @return the length in meters, or {@link Double#NaN} if there is no route
+     */
+    public double getLength(int source, int target) {
+        return lengths[index(source, target)];
+    }
+
+    public List<RoutingPosition> getSources() {
+        return sources;
+    }
+
+    public List<RoutingPosition> getTargets() {
+        return targets;
+    }
+
+    private int index(int source, int target) {
+        if (source < 0 || source >= sources.size() || target < 0 || target >= targets.size()) {
+            throw new IndexOutOfBoundsException("No entry for source " + source + " and target " + target);
+        }
+        return source * targets.size() + target;
+    }
+}
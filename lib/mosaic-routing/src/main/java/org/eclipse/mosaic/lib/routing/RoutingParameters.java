@@ -33,6 +33,18 @@ public class RoutingParameters {
 
     private VehicleClass vehicleClass = VehicleClass.Car;
 
+    /**
+     * Creates a copy of the given routing parameters, which can be adjusted without affecting the original ones.
+     */
+    public static RoutingParameters copyOf(RoutingParameters routingParameters) {
+        return new RoutingParameters()
+                .alternativeRoutes(routingParameters.numAlternativeRoutes)
+                .costFunction(routingParameters.routingCostFunction)
+                .considerTurnCosts(routingParameters.considerTurnCosts)
+                .costsForTurnRestriction(routingParameters.restrictionCosts)
+                .vehicleClass(routingParameters.vehicleClass);
+    }
+
     public int getNumAlternativeRoutes() {
         return numAlternativeRoutes;
     }
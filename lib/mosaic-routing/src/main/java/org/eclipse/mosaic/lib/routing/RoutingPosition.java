@@ -17,6 +17,8 @@ package org.eclipse.mosaic.lib.routing;
 
 import org.eclipse.mosaic.lib.geo.GeoPoint;
 
+import java.util.Objects;
+
 /**
  * Class containing parameters for determining the routing position.
  */
@@ -54,6 +56,25 @@ public class RoutingPosition {
         return connectionId;
     }
 
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        RoutingPosition that = (RoutingPosition) o;
+        return Objects.equals(position, that.position)
+                && Objects.equals(connectionId, that.connectionId)
+                && Objects.equals(heading, that.heading);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(position, connectionId, heading);
+    }
+
     @Override
     public String toString() {
         return "RoutingPosition [position=" + position + ", connectionID=" + connectionId + ", heading=" + heading + "]";
@@ -25,6 +25,8 @@ import org.eclipse.mosaic.lib.routing.config.CVehicleRouting;
 import org.eclipse.mosaic.rti.api.InternalFederateException;
 
 import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -44,6 +46,48 @@ public interface VehicleRouting {
      */
     RoutingResponse findRoutes(RoutingRequest routingRequest);
 
+    /**
+     * Finds routes for several routing requests at once. Implementations may share work between
+     * requests with the same source, and may process the requests in parallel.
+     *
+     * @param routingRequests the routing requests
+     * @return the responses to the routing requests, in the same order as the requests
+     */
+    default List<RoutingResponse> findRoutes(List<RoutingRequest> routingRequests) {
+        final List<RoutingResponse> responses = new ArrayList<>(routingRequests.size());
+        for (RoutingRequest routingRequest : routingRequests) {
+            responses.add(findRoutes(routingRequest));
+        }
+        return responses;
+    }
+
+    /**
+     * Calculates the travel times and lengths of the best routes from each source to each target.
+     *
+     * @param sources           the source positions
+     * @param targets           the target positions
+     * @param routingParameters the parameters used for all routes, alternative routes are ignored
+     * @return the matrix containing the costs of the best route for each pair of source and target
+     */
+    default RoutingCostMatrix calculateCostMatrix(List<RoutingPosition> sources, List<RoutingPosition> targets,
+                                                  RoutingParameters routingParameters) {
+        final RoutingParameters parameters = RoutingParameters.copyOf(routingParameters).alternativeRoutes(0);
+        final List<RoutingResponse> responses = findRoutes(RoutingCostMatrix.createRequests(sources, targets, parameters));
+        return RoutingCostMatrix.fromResponses(sources, targets, responses);
+    }
+
+    /**
+     * Updates the speeds currently observed on the given connections, which can be considered during
+     * route calculation, e.g., by {@link RoutingCostFunction#LiveTraffic}. Implementations without
+     * support for live traffic ignore these updates.
+     *
+     * @param time             the current simulation time
+     * @param connectionSpeeds the observed speeds in [m/s] by connection id
+     */
+    default void updateConnectionSpeeds(long time, Map<String, Double> connectionSpeeds) {
+        // live traffic is not considered by default
+    }
+
     /**
      * Build a new route out of a list with node ID's. The route gets a new ID
      * and can be stored in the database.
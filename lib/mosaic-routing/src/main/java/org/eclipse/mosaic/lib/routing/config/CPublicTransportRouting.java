@@ -15,6 +15,11 @@
 
 package org.eclipse.mosaic.lib.routing.config;
 
+import org.eclipse.mosaic.lib.util.gson.TimeFieldAdapter;
+import org.eclipse.mosaic.rti.TIME;
+
+import com.google.gson.annotations.JsonAdapter;
+
 import java.io.Serializable;
 
 public class CPublicTransportRouting implements Serializable {
@@ -46,4 +51,23 @@ public class CPublicTransportRouting implements Serializable {
      * The time zone of the location where the PT system is implemented.
      */
     public String timeZone = "ECT";
+
+    /**
+     * The number of threads used to calculate public transport routes concurrently.
+     * If set to {@code 0}, the number of available processors is used.
+     */
+    public int routingThreads = 0;
+
+    /**
+     * The maximum number of public transport routes which are cached, so that agents requesting a route between the
+     * same positions at a similar time don't need to calculate it again. If set to {@code 0}, no routes are cached.
+     */
+    public int routeCacheSize = 0;
+
+    /**
+     * Routes are cached for requests within the same departure interval of this length.
+     * A cached route is only reused if the first public transport leg can still be reached. Unit: [ns].
+     */
+    @JsonAdapter(TimeFieldAdapter.NanoSeconds.class)
+    public long routeCacheInterval = 5 * TIME.MINUTE;
 }
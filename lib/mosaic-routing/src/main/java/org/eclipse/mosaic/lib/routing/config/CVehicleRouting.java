@@ -27,4 +27,47 @@ public class CVehicleRouting implements Serializable {
      */
     public String source = null;
 
+    /**
+     * The speed-up technique used to prepare the routing graph for static cost functions (Fastest, Shortest).
+     * Routing requests with custom cost functions, turn costs (with contraction hierarchies), or alternative
+     * routes are still calculated without speed-up.
+     */
+    public SpeedUpTechnique speedUp = SpeedUpTechnique.NONE;
+
+    /**
+     * Path to a directory in which prepared routing graphs and snapshots of the database are cached, so that subsequent
+     * simulations using the same database and settings don't need to load the database and prepare the graph again.
+     * If not set, no cache is used.
+     */
+    public String graphCache = null;
+
+    /**
+     * The maximum number of routing requests whose calculated routes are cached, so that repeated requests
+     * with the same source, target, and parameters don't need to be calculated again. Cached routes are
+     * invalidated if the costs of their connections change. If set to 0, no routes are cached.
+     */
+    public int routeCacheSize = 0;
+
+    /**
+     * If enabled, the speeds of all vehicles are collected per connection and provided to the routing,
+     * where they are considered by the {@link org.eclipse.mosaic.lib.routing.RoutingCostFunction#LiveTraffic}
+     * cost function. Otherwise, this cost function uses the speed limits only.
+     */
+    public boolean liveTraffic = false;
+
+    public enum SpeedUpTechnique {
+        /**
+         * No preparation, all routes are calculated using the default algorithm.
+         */
+        NONE,
+        /**
+         * Contraction hierarchies, which result in the fastest queries, but require the longest preparation.
+         */
+        CONTRACTION_HIERARCHIES,
+        /**
+         * Landmarks (ALT), which are prepared faster and can also be used if turn costs are considered.
+         */
+        LANDMARKS
+    }
+
 }
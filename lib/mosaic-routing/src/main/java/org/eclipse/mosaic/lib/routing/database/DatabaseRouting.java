@@ -37,7 +37,10 @@ import org.eclipse.mosaic.lib.routing.RoutingRequest;
 import org.eclipse.mosaic.lib.routing.RoutingResponse;
 import org.eclipse.mosaic.lib.routing.VehicleRouting;
 import org.eclipse.mosaic.lib.routing.config.CVehicleRouting;
+import org.eclipse.mosaic.lib.routing.config.CVehicleRouting.SpeedUpTechnique;
 import org.eclipse.mosaic.lib.routing.graphhopper.GraphHopperRouting;
+import org.eclipse.mosaic.lib.routing.graphhopper.util.RoutingGraphCache;
+import org.eclipse.mosaic.lib.routing.util.RouteCache;
 import org.eclipse.mosaic.rti.api.InternalFederateException;
 
 import com.google.common.collect.Iterables;
@@ -47,6 +50,7 @@ import org.slf4j.LoggerFactory;
 
 import java.io.File;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 
@@ -65,6 +69,8 @@ public class DatabaseRouting implements VehicleRouting {
 
     private GraphHopperRouting routing;
 
+    private RouteCache routeCache;
+
     @Override
     public void initialize(final CVehicleRouting configuration, final File baseDirectory) throws InternalFederateException {
 
@@ -77,17 +83,43 @@ public class DatabaseRouting implements VehicleRouting {
                     ? new File(configuration.source)
                     : new File(baseDirectory, configuration.source);
         }
-        log.trace("loading database '" + dbFile.getAbsolutePath() + "'");
+        File cacheDirectory = null;
+        if (configuration != null && configuration.graphCache != null) {
+            cacheDirectory = new File(configuration.graphCache);
+            if (!cacheDirectory.isAbsolute()) {
+                cacheDirectory = new File(baseDirectory, configuration.graphCache);
+            }
+        }
+        final SpeedUpTechnique speedUp = configuration != null ? configuration.speedUp : null;
+
+        // reuse database and graph, if they have been loaded by a previous simulation within the same JVM already
+        final String sharedGraphKey = SharedRoutingGraphs.createKey(dbFile, speedUp, cacheDirectory);
+        final GraphHopperRouting sharedRouting = SharedRoutingGraphs.get(sharedGraphKey);
+        if (sharedRouting != null) {
+            log.info("Using routing graph of previous simulation run for database '{}'", dbFile.getAbsolutePath());
+            this.scenarioDatabase = sharedRouting.getDatabase();
+            this.routing = sharedRouting;
+        } else {
+            log.trace("loading database '" + dbFile.getAbsolutePath() + "'");
 
-        // actually try to load
-        try {
-            this.scenarioDatabase = Database.loadFromFile(dbFile);
-        } catch (RuntimeException re) {
-            throw new InternalFederateException("Could not load database file! Invalid type or outdated?", re);
+            // actually try to load, using a snapshot of the database in the graph cache if available
+            try {
+                this.scenarioDatabase = Database.loadFromFile(dbFile, cacheDirectory);
+            } catch (RuntimeException re) {
+                throw new InternalFederateException("Could not load database file! Invalid type or outdated?", re);
+            }
+
+            final RoutingGraphCache graphCache = cacheDirectory != null ? new RoutingGraphCache(cacheDirectory, dbFile) : null;
+
+            //creates an implementation of IRoutingGraph according to the configuration
+            final GraphHopperRouting preparedRouting = new GraphHopperRouting(scenarioDatabase, speedUp, graphCache);
+            SharedRoutingGraphs.put(sharedGraphKey, preparedRouting);
+            this.routing = preparedRouting.withSharedGraph();
         }
 
-        //creates an implementation of IRoutingGraph according to the configuration
-        this.routing = new GraphHopperRouting(scenarioDatabase);
+        if (configuration != null && configuration.routeCacheSize > 0) {
+            this.routeCache = new RouteCache(configuration.routeCacheSize);
+        }
 
         this.routeManager = new RouteManager(this.scenarioDatabase);
     }
@@ -134,7 +166,66 @@ public class DatabaseRouting implements VehicleRouting {
      */
     @Override
     public RoutingResponse findRoutes(RoutingRequest routingRequest) {
-        final List<CandidateRoute> candidateRoutes = this.routing.findRoutes(routingRequest);
+        if (routeCache == null) {
+            return toRoutingResponse(this.routing.findRoutes(routingRequest));
+        }
+        List<CandidateRoute> candidateRoutes = routeCache.get(routingRequest);
+        if (candidateRoutes == null) {
+            candidateRoutes = this.routing.findRoutes(routingRequest);
+            routeCache.put(routingRequest, candidateRoutes);
+        }
+        return toRoutingResponse(candidateRoutes);
+    }
+
+    /**
+     * Finds routes for several routing requests at once. Requests with the same source and routing parameters
+     * are calculated by a single one-to-many search, and all searches are executed in parallel.
+     *
+     * @param routingRequests Information for the routing requests.
+     * @return Responses to the routing requests, in the same order as the requests.
+     */
+    @Override
+    public List<RoutingResponse> findRoutes(List<RoutingRequest> routingRequests) {
+        final List<List<CandidateRoute>> candidateRoutes = new ArrayList<>(routingRequests.size());
+        final List<RoutingRequest> uncachedRequests = new ArrayList<>();
+        for (RoutingRequest routingRequest : routingRequests) {
+            final List<CandidateRoute> cachedRoutes = routeCache != null ? routeCache.get(routingRequest) : null;
+            if (cachedRoutes == null) {
+                uncachedRequests.add(routingRequest);
+            }
+            candidateRoutes.add(cachedRoutes);
+        }
+
+        final Iterator<List<CandidateRoute>> calculatedRoutes = this.routing.findRoutes(uncachedRequests).iterator();
+        final List<RoutingResponse> responses = new ArrayList<>(candidateRoutes.size());
+        for (int i = 0; i < routingRequests.size(); i++) {
+            List<CandidateRoute> routes = candidateRoutes.get(i);
+            if (routes == null) {
+                routes = calculatedRoutes.next();
+                if (routeCache != null) {
+                    routeCache.put(routingRequests.get(i), routes);
+                }
+            }
+            responses.add(toRoutingResponse(routes));
+        }
+        return responses;
+    }
+
+    @Override
+    public void updateConnectionSpeeds(long time, Map<String, Double> connectionSpeeds) {
+        this.routing.updateConnectionSpeeds(time, connectionSpeeds);
+    }
+
+    /**
+     * Returns the cache for calculated routes, e.g., to read its hit and miss statistics.
+     *
+     * @return the route cache, or {@code null} if route caching is disabled
+     */
+    public RouteCache getRouteCache() {
+        return routeCache;
+    }
+
+    private static RoutingResponse toRoutingResponse(List<CandidateRoute> candidateRoutes) {
         final CandidateRoute bestRoute = Iterables.getFirst(candidateRoutes, null);
         final List<CandidateRoute> alternatives;
         if (candidateRoutes.size() > 1) {
@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.lib.routing.database;
+
+import org.eclipse.mosaic.lib.routing.config.CVehicleRouting.SpeedUpTechnique;
+import org.eclipse.mosaic.lib.routing.graphhopper.GraphHopperRouting;
+
+import java.io.File;
+import java.lang.ref.SoftReference;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Keeps the routing graphs, and the databases they were created from, which have been loaded by previous
+ * simulations within the same JVM, e.g. during a parameter sweep. Both are only read during a simulation, thus
+ * subsequent simulations using the same database file can reuse them, instead of loading and preparing them once more.
+ * The graphs are referenced softly only, hence they are released if memory becomes scarce.
+ */
+final class SharedRoutingGraphs {
+
+    private static final Map<String, SoftReference<GraphHopperRouting>> GRAPHS = new HashMap<>();
+
+    private SharedRoutingGraphs() {
+        // static methods only
+    }
+
+    /**
+     * Describes the database file and all settings the graph is prepared with. A modified database
+     * file results in a different key, hence graphs of outdated database files are not reused.
+     */
+    static String createKey(File databaseFile, SpeedUpTechnique speedUp, File graphCacheDirectory) {
+        final File file = databaseFile.getAbsoluteFile();
+        return file.getPath() + "|" + file.length() + "|" + file.lastModified() + "|" + speedUp + "|" + graphCacheDirectory;
+    }
+
+    /**
+     * @return a routing instance sharing the graph stored for the given key, or {@code null} if there is none
+     */
+    static synchronized GraphHopperRouting get(String key) {
+        final SoftReference<GraphHopperRouting> reference = GRAPHS.get(key);
+        final GraphHopperRouting routing = reference != null ? reference.get() : null;
+        if (reference != null && routing == null) {
+            GRAPHS.remove(key);
+        }
+        return routing != null ? routing.withSharedGraph() : null;
+    }
+
+    static synchronized void put(String key, GraphHopperRouting routing) {
+        GRAPHS.put(key, new SoftReference<>(routing));
+    }
+}
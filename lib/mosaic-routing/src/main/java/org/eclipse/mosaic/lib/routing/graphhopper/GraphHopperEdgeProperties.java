@@ -20,12 +20,15 @@ import org.eclipse.mosaic.lib.geo.GeoPoint;
 import org.eclipse.mosaic.lib.routing.EdgeProperties;
 import org.eclipse.mosaic.lib.routing.RoutingCostFunction;
 import org.eclipse.mosaic.lib.routing.graphhopper.util.GraphhopperToDatabaseMapper;
+import org.eclipse.mosaic.lib.routing.graphhopper.util.LiveTrafficSpeeds;
 import org.eclipse.mosaic.lib.routing.graphhopper.util.VehicleEncoding;
 import org.eclipse.mosaic.lib.routing.graphhopper.util.WayTypeEncoder;
 
 import com.google.common.collect.Iterables;
+import com.graphhopper.routing.querygraph.VirtualEdgeIteratorState;
 import com.graphhopper.util.EdgeIteratorState;
 import com.graphhopper.util.FetchMode;
+import com.graphhopper.util.GHUtility;
 import org.apache.commons.lang3.Validate;
 
 import java.util.Optional;
@@ -33,6 +36,7 @@ import java.util.Optional;
 /**
  * Provides properties from the current {@link EdgeIteratorState} or
  * its belonging {@link Connection} to be used by an {@link RoutingCostFunction}.
+ * Instances are not thread-safe and must only be used by a single routing query at a time.
  */
 public class GraphHopperEdgeProperties implements EdgeProperties {
 
@@ -42,6 +46,7 @@ public class GraphHopperEdgeProperties implements EdgeProperties {
 
     private EdgeIteratorState currentEdgeIterator;
     private boolean reverseRequests;
+    private LiveTrafficSpeeds.Snapshot trafficSpeeds;
 
     GraphHopperEdgeProperties(VehicleEncoding encoding, WayTypeEncoder wayTypeEncoder, GraphhopperToDatabaseMapper graphMapper) {
         this.encoding = encoding;
@@ -50,9 +55,10 @@ public class GraphHopperEdgeProperties implements EdgeProperties {
     }
 
 
-    void setCurrentEdgeIterator(EdgeIteratorState currentEdgeIterator, boolean reverseRequests) {
+    void setCurrentEdgeIterator(EdgeIteratorState currentEdgeIterator, boolean reverseRequests, LiveTrafficSpeeds.Snapshot trafficSpeeds) {
         this.currentEdgeIterator = currentEdgeIterator;
         this.reverseRequests = reverseRequests;
+        this.trafficSpeeds = trafficSpeeds;
     }
 
     @Override
@@ -63,6 +69,24 @@ public class GraphHopperEdgeProperties implements EdgeProperties {
                 : currentEdgeIterator.get(encoding.speed()) / 3.6;
     }
 
+    /**
+     * Returns the observed speed of the edge from the live traffic snapshot of the current query. Speeds are
+     * observed per connection, which is always traversed in forward direction of its edge.
+     */
+    @Override
+    public double getCurrentSpeed() {
+        Validate.notNull(currentEdgeIterator, "Edge iterator is null");
+        if (trafficSpeeds == null || reverseRequests) {
+            return getSpeed();
+        }
+        // virtual edges of the query graph cover a part of an original edge, which has the same speed
+        final int edge = currentEdgeIterator instanceof VirtualEdgeIteratorState virtualEdge
+                ? GHUtility.getEdgeFromEdgeKey(virtualEdge.getOriginalEdgeKey())
+                : currentEdgeIterator.getEdge();
+        final double speed = trafficSpeeds.getSpeed(edge);
+        return Double.isNaN(speed) ? getSpeed() : speed;
+    }
+
     @Override
     public double getLength() {
         Validate.notNull(currentEdgeIterator, "Edge iterator is null");
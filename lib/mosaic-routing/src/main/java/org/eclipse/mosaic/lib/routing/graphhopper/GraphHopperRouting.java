@@ -15,6 +15,7 @@
 
 package org.eclipse.mosaic.lib.routing.graphhopper;
 
+import static com.graphhopper.routing.weighting.TurnCostProvider.NO_TURN_COST_PROVIDER;
 import static java.util.Objects.requireNonNull;
 
 import org.eclipse.mosaic.lib.database.Database;
@@ -26,19 +27,27 @@ import org.eclipse.mosaic.lib.geo.GeoPoint;
 import org.eclipse.mosaic.lib.geo.GeoUtils;
 import org.eclipse.mosaic.lib.routing.CandidateRoute;
 import org.eclipse.mosaic.lib.routing.RoutingCostFunction;
+import org.eclipse.mosaic.lib.routing.RoutingParameters;
 import org.eclipse.mosaic.lib.routing.RoutingPosition;
 import org.eclipse.mosaic.lib.routing.RoutingRequest;
+import org.eclipse.mosaic.lib.routing.config.CVehicleRouting.SpeedUpTechnique;
+import org.eclipse.mosaic.lib.routing.graphhopper.algorithm.OneToManyDijkstra;
 import org.eclipse.mosaic.lib.routing.graphhopper.algorithm.RoutingAlgorithmFactory;
+import org.eclipse.mosaic.lib.routing.graphhopper.algorithm.SpeedUpPreparation;
 import org.eclipse.mosaic.lib.routing.graphhopper.profile.BikeProfile;
 import org.eclipse.mosaic.lib.routing.graphhopper.profile.CarProfile;
 import org.eclipse.mosaic.lib.routing.graphhopper.profile.RoutingProfile;
 import org.eclipse.mosaic.lib.routing.graphhopper.util.DatabaseGraphLoader;
 import org.eclipse.mosaic.lib.routing.graphhopper.util.GraphhopperToDatabaseMapper;
+import org.eclipse.mosaic.lib.routing.graphhopper.util.LiveTrafficSpeeds;
 import org.eclipse.mosaic.lib.routing.graphhopper.util.OptionalTurnCostProvider;
+import org.eclipse.mosaic.lib.routing.graphhopper.util.RoutingGraphCache;
 import org.eclipse.mosaic.lib.routing.graphhopper.util.RoutingProfileManager;
 import org.eclipse.mosaic.lib.routing.graphhopper.util.VehicleEncoding;
 import org.eclipse.mosaic.lib.routing.graphhopper.util.WayTypeEncoder;
 
+import com.carrotsearch.hppc.IntDoubleHashMap;
+import com.carrotsearch.hppc.IntDoubleMap;
 import com.google.common.collect.Iterables;
 import com.google.common.collect.Lists;
 import com.graphhopper.routing.Path;
@@ -49,14 +58,17 @@ import com.graphhopper.routing.querygraph.VirtualEdgeIteratorState;
 import com.graphhopper.routing.subnetwork.PrepareRoutingSubnetworks;
 import com.graphhopper.routing.util.AccessFilter;
 import com.graphhopper.routing.util.EdgeFilter;
+import com.graphhopper.routing.util.TraversalMode;
 import com.graphhopper.routing.weighting.Weighting;
 import com.graphhopper.storage.BaseGraph;
+import com.graphhopper.storage.Directory;
 import com.graphhopper.storage.Graph;
+import com.graphhopper.storage.MMapDirectory;
 import com.graphhopper.storage.NodeAccess;
 import com.graphhopper.storage.RAMDirectory;
-import com.graphhopper.storage.index.LocationIndex;
 import com.graphhopper.storage.index.LocationIndexTree;
 import com.graphhopper.storage.index.Snap;
+import com.graphhopper.util.Constants;
 import com.graphhopper.util.DistanceCalc;
 import com.graphhopper.util.DistancePlaneProjection;
 import com.graphhopper.util.EdgeIteratorState;
@@ -65,16 +77,24 @@ import com.graphhopper.util.Parameters;
 import com.graphhopper.util.PointList;
 import com.graphhopper.util.shapes.GHPoint;
 import edu.umd.cs.findbugs.annotations.SuppressWarnings;
+import org.apache.commons.io.FileUtils;
 import org.apache.commons.lang3.ObjectUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.File;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.function.Supplier;
 
@@ -136,35 +156,168 @@ public class GraphHopperRouting {
      */
     private static final double MAX_DISTANCE_TO_TARGET = 500d;
 
+    /**
+     * Subnetworks with fewer nodes are not used for routing.
+     */
+    private static final int MIN_NETWORK_SIZE = 200;
+
+    /**
+     * Must be increased whenever the content of the cached routing graph changes, e.g., if the graph is loaded
+     * differently from the database, or if the weighting used for preparing the speed-up is changed.
+     */
+    private static final int GRAPH_CACHE_VERSION = 1;
+
+    private static final String MAPPING_FILE = "mapping";
+
     private final DistanceCalc distanceCalculation = new DistancePlaneProjection();
 
-    private final GraphhopperToDatabaseMapper graphMapper;
     private final Database db;
     private final RoutingProfileManager profileManager;
-    private final BaseGraph graph;
-    private final LocationIndex locationIndex;
+    private final WayTypeEncoder wayTypeEncoder;
+    private GraphhopperToDatabaseMapper graphMapper;
+    private BaseGraph graph;
+    private LocationIndexTree locationIndex;
+    private SpeedUpPreparation speedUpPreparation;
+    private volatile LiveTrafficSpeeds liveTrafficSpeeds;
 
     public GraphHopperRouting(Database db) {
+        this(db, SpeedUpTechnique.NONE);
+    }
+
+    public GraphHopperRouting(Database db, SpeedUpTechnique speedUp) {
+        this(db, speedUp, null);
+    }
+
+    /**
+     * Creates the routing graph from the given database and prepares it using the given speed-up technique
+     * for the static cost functions {@link RoutingCostFunction#Fastest} and {@link RoutingCostFunction#Shortest}.
+     * If a graph cache is given, a graph which has been prepared previously for the same database and settings
+     * is memory mapped from the cache instead. Otherwise, the newly prepared graph is added to the cache.
+     *
+     * @param db         the database containing the road network
+     * @param speedUp    the speed-up technique to prepare the graph with
+     * @param graphCache the cache to load the prepared graph from or to store it into, may be {@code null}
+     */
+    public GraphHopperRouting(Database db, SpeedUpTechnique speedUp, RoutingGraphCache graphCache) {
         this.db = db;
 
-        graphMapper = new GraphhopperToDatabaseMapper();
         profileManager = new RoutingProfileManager(PROFILES);
+        wayTypeEncoder = profileManager.getEncodingManager().getEncodedValue(WayTypeEncoder.KEY, WayTypeEncoder.class);
+
+        final SpeedUpTechnique speedUpTechnique = ObjectUtils.defaultIfNull(speedUp, SpeedUpTechnique.NONE);
+        if (graphCache == null) {
+            createGraph(new RAMDirectory(), speedUpTechnique, null);
+            return;
+        }
 
-        graph = createGraphFromDatabase(db);
+        final String configuration = createCacheConfiguration(speedUpTechnique);
+        final File cachedGraph = graphCache.getCachedGraph(configuration);
+        if (cachedGraph != null && loadGraph(cachedGraph, speedUpTechnique)) {
+            LOG.info("Loaded routing graph from cache {}", cachedGraph);
+            return;
+        }
+
+        File stagingDirectory = null;
+        try {
+            stagingDirectory = graphCache.createStagingDirectory();
+        } catch (IOException e) {
+            LOG.warn("Could not create directory for routing graph cache", e);
+        }
+        if (stagingDirectory == null) {
+            createGraph(new RAMDirectory(), speedUpTechnique, null);
+            return;
+        }
+        createGraph(new RAMDirectory(stagingDirectory.getPath(), true), speedUpTechnique, stagingDirectory);
+        try {
+            graph.flush();
+            graphMapper.writeTo(new File(stagingDirectory, MAPPING_FILE), graph.getNodes(), graph.getEdges());
+            graphCache.commit(stagingDirectory, configuration);
+        } catch (IOException e) {
+            LOG.warn("Could not store routing graph in cache", e);
+            FileUtils.deleteQuietly(stagingDirectory);
+        }
+    }
+
+    private GraphHopperRouting(GraphHopperRouting other) {
+        this.db = other.db;
+        this.profileManager = other.profileManager;
+        this.wayTypeEncoder = other.wayTypeEncoder;
+        this.graphMapper = other.graphMapper;
+        this.graph = other.graph;
+        this.locationIndex = other.locationIndex;
+        this.speedUpPreparation = other.speedUpPreparation;
+    }
+
+    /**
+     * Creates a new routing instance which uses the same prepared graph as this instance, but has its own
+     * live traffic speeds. Since the graph is only read during routing, several simulations executed within
+     * the same JVM can share one graph this way, instead of creating and preparing it for each simulation run.
+     */
+    public GraphHopperRouting withSharedGraph() {
+        return new GraphHopperRouting(this);
+    }
+
+    public Database getDatabase() {
+        return db;
+    }
+
+    private void createGraph(Directory directory, SpeedUpTechnique speedUp, File storageDirectory) {
+        graphMapper = new GraphhopperToDatabaseMapper();
+        graph = createGraphFromDatabase(db, directory);
         locationIndex = createLocationIndex();
         cleanUpGraph();
 
         graph.flush();
+
+        speedUpPreparation = prepareSpeedUp(speedUp, storageDirectory);
+    }
+
+    private boolean loadGraph(File cachedGraph, SpeedUpTechnique speedUp) {
+        try {
+            graph = createBaseGraph(new MMapDirectory(cachedGraph.getPath()));
+            if (!graph.loadExisting()) {
+                return false;
+            }
+            // the location index is not cached, since its grid depends on the exact bounds of the graph,
+            // which are stored with lower precision. It is created from the loaded graph instead.
+            locationIndex = createLocationIndex();
+            graphMapper = GraphhopperToDatabaseMapper.readFrom(new File(cachedGraph, MAPPING_FILE), db);
+            speedUpPreparation = loadSpeedUp(speedUp, cachedGraph);
+            return speedUp == SpeedUpTechnique.NONE || speedUpPreparation != null;
+        } catch (IOException | RuntimeException e) {
+            LOG.warn("Could not load routing graph from cache {}", cachedGraph, e);
+            return false;
+        }
+    }
+
+    /**
+     * Describes all settings which influence the prepared graph, apart from the database itself.
+     */
+    private String createCacheConfiguration(SpeedUpTechnique speedUp) {
+        final List<String> profileNames = new ArrayList<>();
+        for (RoutingProfile profile : profileManager.getAllProfiles()) {
+            profileNames.add(profile.getName());
+        }
+        return "version=" + GRAPH_CACHE_VERSION + "\n"
+                + "graphhopper=" + Constants.getVersions() + "\n"
+                + "encodedValues=" + profileManager.getEncodingManager().toEncodedValuesAsString() + "\n"
+                + "profiles=" + String.join(",", profileNames) + "\n"
+                + "minNetworkSize=" + MIN_NETWORK_SIZE + "\n"
+                + "speedUp=" + speedUp;
     }
 
-    private BaseGraph createGraphFromDatabase(Database db) {
-        final BaseGraph graph = new BaseGraph
+    private BaseGraph createBaseGraph(Directory directory) {
+        return new BaseGraph
                 .Builder(profileManager.getEncodingManager())
-                .setDir(new RAMDirectory())
+                .setDir(directory)
                 .set3D(true)
                 .withTurnCosts(profileManager.getEncodingManager().needsTurnCostsSupport())
                 .setSegmentSize(-1)
                 .build();
+    }
+
+    private BaseGraph createGraphFromDatabase(Database db, Directory directory) {
+        final BaseGraph graph = createBaseGraph(directory);
 
         final DatabaseGraphLoader reader = new DatabaseGraphLoader(db);
         reader.initialize(graph, profileManager, graphMapper);
@@ -173,20 +326,60 @@ public class GraphHopperRouting {
         return graph;
     }
 
-    private LocationIndex createLocationIndex() {
-        return new LocationIndexTree(graph, graph.getDirectory())
+    private LocationIndexTree createLocationIndex() {
+        final LocationIndexTree locationIndex = new LocationIndexTree(graph, new RAMDirectory())
                 .setMinResolutionInMeter(300)
-                .setMaxRegionSearch(4)
-                .prepareIndex();
+                .setMaxRegionSearch(4);
+        locationIndex.prepareIndex();
+        return locationIndex;
     }
 
     protected void cleanUpGraph() {
         new PrepareRoutingSubnetworks(graph, buildSubnetworkRemovalJobs())
-                .setMinNetworkSize(200)
+                .setMinNetworkSize(MIN_NETWORK_SIZE)
                 .setThreads(1)
                 .doWork();
     }
 
+    private SpeedUpPreparation prepareSpeedUp(SpeedUpTechnique speedUp, File storageDirectory) {
+        if (speedUp == SpeedUpTechnique.NONE) {
+            return null;
+        }
+        graph.freeze();
+        final SpeedUpPreparation preparation = new SpeedUpPreparation(graph, profileManager.getEncodingManager(), speedUp, storageDirectory);
+        for (RoutingProfile profile : profileManager.getAllProfiles()) {
+            for (RoutingCostFunction costFunction : List.of(RoutingCostFunction.Fastest, RoutingCostFunction.Shortest)) {
+                preparation.prepare(profile.getName(),
+                        createWeighting(profile, costFunction, false),
+                        createWeightingWithoutTurns(profile, costFunction)
+                );
+            }
+        }
+        return preparation;
+    }
+
+    private SpeedUpPreparation loadSpeedUp(SpeedUpTechnique speedUp, File storageDirectory) {
+        if (speedUp == SpeedUpTechnique.NONE) {
+            return null;
+        }
+        final SpeedUpPreparation preparation = new SpeedUpPreparation(graph, profileManager.getEncodingManager(), speedUp, storageDirectory);
+        for (RoutingProfile profile : profileManager.getAllProfiles()) {
+            for (RoutingCostFunction costFunction : List.of(RoutingCostFunction.Fastest, RoutingCostFunction.Shortest)) {
+                if (!preparation.load(profile.getName(),
+                        createWeighting(profile, costFunction, false),
+                        createWeightingWithoutTurns(profile, costFunction))) {
+                    return null;
+                }
+            }
+        }
+        return preparation;
+    }
+
+    private Weighting createWeightingWithoutTurns(RoutingProfile profile, RoutingCostFunction costFunction) {
+        return new GraphHopperWeighting(profile.getVehicleEncoding(), wayTypeEncoder, NO_TURN_COST_PROVIDER, graphMapper)
+                .setRoutingCostFunction(costFunction);
+    }
+
     private List<PrepareRoutingSubnetworks.PrepareJob> buildSubnetworkRemovalJobs() {
         List<PrepareRoutingSubnetworks.PrepareJob> jobs = new ArrayList<>();
         for (RoutingProfile profile : profileManager.getAllProfiles()) {
@@ -196,17 +389,20 @@ public class GraphHopperRouting {
         return jobs;
     }
 
+    /**
+     * Calculates the best route, and alternative routes if requested, for the given request. Once the graph
+     * has been loaded, this method can be called concurrently, as each call works on its own
+     * {@link QueryGraph} and {@link GraphHopperWeighting}, and the graph itself is only read.
+     *
+     * @param routingRequest the request containing source, target, and routing parameters
+     * @return a list of routes, with the best route at first position
+     */
     public List<CandidateRoute> findRoutes(RoutingRequest routingRequest) {
         if (graph == null) {
             throw new IllegalStateException("Load database at first");
         }
 
-        final RoutingProfile profile;
-        if (routingRequest.getRoutingParameters().getVehicleClass() == VehicleClass.Bicycle) {
-            profile = profileManager.getRoutingProfile(BikeProfile.NAME);
-        } else {
-            profile = profileManager.getRoutingProfile(CarProfile.NAME);
-        }
+        final RoutingProfile profile = getRoutingProfile(routingRequest.getRoutingParameters());
         final VehicleEncoding vehicleEncoding = profile.getVehicleEncoding();
 
         final RoutingPosition source = routingRequest.getSource();
@@ -229,17 +425,173 @@ public class GraphHopperRouting {
             algoHints.putObject(Parameters.Algorithms.AltRoute.MAX_PATHS, Math.max(numberOfAlternatives, NUM_ALTERNATIVE_PATHS) + 1);
         }
 
-        final Weighting weighting = createWeighting(profile,
-                routingRequest.getRoutingParameters().getRoutingCostFunction(),
-                routingRequest.getRoutingParameters().isConsiderTurnCosts()
+        final RoutingCostFunction costFunction = ObjectUtils.defaultIfNull(
+                routingRequest.getRoutingParameters().getRoutingCostFunction(), RoutingCostFunction.Default
         );
+        final boolean considerTurnCosts = routingRequest.getRoutingParameters().isConsiderTurnCosts();
+        final Weighting weighting = createWeighting(profile, costFunction, considerTurnCosts);
 
-        final RoutingAlgorithm algo = RoutingAlgorithmFactory.DEFAULT.createAlgorithm(
-                queryGraph, queryGraph.wrapWeighting(weighting), algoHints
-        );
+        RoutingAlgorithm algo = null;
+        if (speedUpPreparation != null && numberOfAlternatives == 0 && isPreparedCostFunction(costFunction)) {
+            algo = speedUpPreparation.createAlgorithm(queryGraph, profile.getName(), weighting, considerTurnCosts);
+        }
+        if (algo == null) {
+            algo = RoutingAlgorithmFactory.DEFAULT.createAlgorithm(
+                    queryGraph, queryGraph.wrapWeighting(weighting), algoHints
+            );
+        }
 
         final List<Path> paths = algo.calcPaths(snapSource.getClosestNode(), snapTarget.getClosestNode());
+        return convertPaths(queryGraph, paths, source, target, numberOfAlternatives);
+    }
+
+    /**
+     * Calculates the best routes for several requests at once. Requests with the same source and the same
+     * routing parameters are calculated together by a single one-to-many search, for which the source is snapped
+     * onto the graph only once. Requests for alternative routes, and requests which can be answered faster
+     * using contraction hierarchies, are calculated one by one. All searches are distributed over the available cores.
+     *
+     * @param routingRequests the routing requests
+     * @return the routes for each request in the same order as the requests, with the best route at first position
+     */
+    public List<List<CandidateRoute>> findRoutes(List<RoutingRequest> routingRequests) {
+        if (graph == null) {
+            throw new IllegalStateException("Load database at first");
+        }
+
+        final List<List<Integer>> searches = new ArrayList<>();
+        final Map<OneToManySearch, List<Integer>> oneToManySearches = new LinkedHashMap<>();
+        for (int i = 0; i < routingRequests.size(); i++) {
+            final RoutingRequest routingRequest = routingRequests.get(i);
+            final RoutingParameters parameters = routingRequest.getRoutingParameters();
+            final RoutingCostFunction costFunction = ObjectUtils.defaultIfNull(parameters.getRoutingCostFunction(), RoutingCostFunction.Default);
+            final boolean contractionHierarchies = speedUpPreparation != null
+                    && speedUpPreparation.getTechnique() == SpeedUpTechnique.CONTRACTION_HIERARCHIES
+                    && isPreparedCostFunction(costFunction) && !parameters.isConsiderTurnCosts();
+            if (parameters.getNumAlternativeRoutes() > 0 || contractionHierarchies) {
+                searches.add(List.of(i));
+            } else {
+                oneToManySearches.computeIfAbsent(new OneToManySearch(
+                        routingRequest.getSource(), getRoutingProfile(parameters), costFunction, parameters.isConsiderTurnCosts()
+                ), k -> new ArrayList<>()).add(i);
+            }
+        }
+        searches.addAll(oneToManySearches.values());
+
+        final List<List<CandidateRoute>> results = new ArrayList<>(Collections.nCopies(routingRequests.size(), null));
+        searches.parallelStream().forEach(requestIndices -> {
+            if (requestIndices.size() == 1) {
+                results.set(requestIndices.get(0), findRoutes(routingRequests.get(requestIndices.get(0))));
+            } else {
+                findRoutesOneToMany(routingRequests, requestIndices, results);
+            }
+        });
+        return results;
+    }
+
+    private void findRoutesOneToMany(List<RoutingRequest> routingRequests, List<Integer> requestIndices, List<List<CandidateRoute>> results) {
+        final RoutingRequest firstRequest = routingRequests.get(requestIndices.get(0));
+        final RoutingPosition source = firstRequest.getSource();
+        final RoutingProfile profile = getRoutingProfile(firstRequest.getRoutingParameters());
+        final BooleanEncodedValue accessEnc = profile.getVehicleEncoding().access();
+
+        final Snap snapSource = createQueryForSource(source, accessEnc);
+        if (snapSource.getClosestEdge() == null) {
+            LOG.warn("Could not find a route from {}", source);
+            for (int requestIndex : requestIndices) {
+                results.set(requestIndex, Lists.newArrayList());
+            }
+            return;
+        }
+
+        // equal targets are snapped only once
+        final List<Snap> snaps = new ArrayList<>();
+        snaps.add(snapSource);
+        final Map<RoutingPosition, Snap> targetSnaps = new HashMap<>();
+        for (int requestIndex : requestIndices) {
+            targetSnaps.computeIfAbsent(routingRequests.get(requestIndex).getTarget(), target -> {
+                final Snap snapTarget = createQueryForTarget(target, accessEnc);
+                if (snapTarget.getClosestEdge() != null) {
+                    snaps.add(snapTarget);
+                }
+                return snapTarget;
+            });
+        }
+
+        final QueryGraph queryGraph = QueryGraph.create(graph, snaps);
+        final int[] targetNodes = new int[snaps.size() - 1];
+        for (int i = 1; i < snaps.size(); i++) {
+            targetNodes[i - 1] = snaps.get(i).getClosestNode();
+        }
 
+        final RoutingCostFunction costFunction = ObjectUtils.defaultIfNull(
+                firstRequest.getRoutingParameters().getRoutingCostFunction(), RoutingCostFunction.Default
+        );
+        final Weighting weighting = createWeighting(profile, costFunction, firstRequest.getRoutingParameters().isConsiderTurnCosts());
+        final List<Path> paths = new OneToManyDijkstra(queryGraph, queryGraph.wrapWeighting(weighting), TraversalMode.EDGE_BASED)
+                .calcPaths(snapSource.getClosestNode(), targetNodes);
+
+        final Map<Snap, Path> pathsByTarget = new IdentityHashMap<>();
+        for (int i = 1; i < snaps.size(); i++) {
+            pathsByTarget.put(snaps.get(i), paths.get(i - 1));
+        }
+        for (int requestIndex : requestIndices) {
+            final RoutingPosition target = routingRequests.get(requestIndex).getTarget();
+            final Path path = pathsByTarget.get(targetSnaps.get(target));
+            if (path == null) {
+                LOG.warn("Could not find a route from {} to {}", source, target);
+                results.set(requestIndex, Lists.newArrayList());
+            } else {
+                results.set(requestIndex, convertPaths(queryGraph, List.of(path), source, target, 0));
+            }
+        }
+    }
+
+    private RoutingProfile getRoutingProfile(RoutingParameters routingParameters) {
+        if (routingParameters.getVehicleClass() == VehicleClass.Bicycle) {
+            return profileManager.getRoutingProfile(BikeProfile.NAME);
+        } else {
+            return profileManager.getRoutingProfile(CarProfile.NAME);
+        }
+    }
+
+    /**
+     * Updates the live traffic speeds of the given connections, which are considered by cost functions using
+     * {@link org.eclipse.mosaic.lib.routing.EdgeProperties#getCurrentSpeed()}, such as {@link RoutingCostFunction#LiveTraffic}.
+     * Routing queries which are running concurrently are not affected by this update.
+     *
+     * @param time             the current simulation time
+     * @param connectionSpeeds the observed speeds in [m/s] by connection id
+     */
+    public void updateConnectionSpeeds(long time, Map<String, Double> connectionSpeeds) {
+        if (graph == null) {
+            throw new IllegalStateException("Load database at first");
+        }
+        final IntDoubleMap edgeSpeeds = new IntDoubleHashMap(connectionSpeeds.size());
+        for (Map.Entry<String, Double> connectionSpeed : connectionSpeeds.entrySet()) {
+            final Connection connection = db.getConnection(connectionSpeed.getKey());
+            final int edge = connection != null ? graphMapper.fromConnection(connection) : -1;
+            if (edge >= 0) {
+                edgeSpeeds.put(edge, connectionSpeed.getValue());
+            }
+        }
+        synchronized (this) {
+            if (liveTrafficSpeeds == null) {
+                liveTrafficSpeeds = new LiveTrafficSpeeds(graph.getEdges());
+            }
+        }
+        liveTrafficSpeeds.update(time, edgeSpeeds);
+    }
+
+    /**
+     * Returns {@code true}, if the graph is prepared with a speed-up technique for the given cost function.
+     */
+    private boolean isPreparedCostFunction(RoutingCostFunction costFunction) {
+        return costFunction == RoutingCostFunction.Fastest || costFunction == RoutingCostFunction.Shortest;
+    }
+
+    private List<CandidateRoute> convertPaths(Graph queryGraph, List<Path> paths, RoutingPosition source, RoutingPosition target,
+                                              int numberOfAlternatives) {
         final Set<String> duplicateSet = new HashSet<>();
         final List<CandidateRoute> result = new ArrayList<>();
 
@@ -268,9 +620,10 @@ public class GraphHopperRouting {
         if (!withTurnCosts) {
             turnCostProvider.disableTurnCosts();
         }
-        WayTypeEncoder wayTypeEncoder = profileManager.getEncodingManager().getEncodedValue(WayTypeEncoder.KEY, WayTypeEncoder.class);
+        final LiveTrafficSpeeds trafficSpeeds = liveTrafficSpeeds;
         return new GraphHopperWeighting(vehicleEncoding, wayTypeEncoder, turnCostProvider, graphMapper)
-                .setRoutingCostFunction(ObjectUtils.defaultIfNull(costFunction, RoutingCostFunction.Default));
+                .setRoutingCostFunction(ObjectUtils.defaultIfNull(costFunction, RoutingCostFunction.Default))
+                .setTrafficSpeeds(trafficSpeeds != null ? trafficSpeeds.getSnapshot() : null);
     }
 
     private Snap createQueryForTarget(RoutingPosition target, BooleanEncodedValue accessEnc) {
@@ -488,4 +841,10 @@ public class GraphHopperRouting {
             }
         }
     }
+
+    /**
+     * Routing requests sharing the same source and routing parameters, which are calculated by a single search.
+     */
+    private record OneToManySearch(RoutingPosition source, RoutingProfile profile, RoutingCostFunction costFunction, boolean considerTurnCosts) {
+    }
 }
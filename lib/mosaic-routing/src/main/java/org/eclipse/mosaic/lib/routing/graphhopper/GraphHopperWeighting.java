@@ -19,6 +19,7 @@ import static com.graphhopper.routing.weighting.TurnCostProvider.NO_TURN_COST_PR
 
 import org.eclipse.mosaic.lib.routing.RoutingCostFunction;
 import org.eclipse.mosaic.lib.routing.graphhopper.util.GraphhopperToDatabaseMapper;
+import org.eclipse.mosaic.lib.routing.graphhopper.util.LiveTrafficSpeeds;
 import org.eclipse.mosaic.lib.routing.graphhopper.util.VehicleEncoding;
 import org.eclipse.mosaic.lib.routing.graphhopper.util.WayTypeEncoder;
 
@@ -35,6 +36,10 @@ import java.util.Objects;
  * on an edge is known, then this travel time will be used to weight
  * during routing. Otherwise, the minimum travel time will be used
  * to weight an edge.
+ * <p>
+ * A new weighting is created for each routing query, and must not be used by several queries
+ * concurrently. Live traffic speeds are read from a single {@link LiveTrafficSpeeds.Snapshot},
+ * so that all edges of a query are weighted consistently.
  */
 public class GraphHopperWeighting implements Weighting {
 
@@ -45,6 +50,8 @@ public class GraphHopperWeighting implements Weighting {
     private final double maxSpeed;
 
     private RoutingCostFunction routingCostFunction;
+    private RoutingCostFunction effectiveCostFunction = RoutingCostFunction.Fastest;
+    private LiveTrafficSpeeds.Snapshot trafficSpeeds;
 
     public GraphHopperWeighting(VehicleEncoding vehicleEncoding, WayTypeEncoder wayTypeEncoder, TurnCostProvider turnCostProvider, GraphhopperToDatabaseMapper graphMapper) {
         this.accessEnc = vehicleEncoding.access();
@@ -57,6 +64,17 @@ public class GraphHopperWeighting implements Weighting {
 
     public GraphHopperWeighting setRoutingCostFunction(RoutingCostFunction routingCostFunction) {
         this.routingCostFunction = routingCostFunction;
+        this.effectiveCostFunction = Objects.requireNonNullElse(routingCostFunction, RoutingCostFunction.Fastest);
+        return this;
+    }
+
+    /**
+     * Sets the snapshot of live traffic speeds which is provided to the {@link RoutingCostFunction}.
+     *
+     * @param trafficSpeeds the observed speeds, or {@code null} if no live traffic information is available
+     */
+    public GraphHopperWeighting setTrafficSpeeds(LiveTrafficSpeeds.Snapshot trafficSpeeds) {
+        this.trafficSpeeds = trafficSpeeds;
         return this;
     }
 
@@ -65,11 +83,8 @@ public class GraphHopperWeighting implements Weighting {
         if (reverse ? !edge.getReverse(accessEnc) : !edge.get(accessEnc)) {
             return Double.POSITIVE_INFINITY;
         }
-        synchronized (edgePropertiesState) {
-            edgePropertiesState.setCurrentEdgeIterator(edge, reverse);
-            return Objects.requireNonNullElse(routingCostFunction, RoutingCostFunction.Fastest)
-                    .calculateCosts(edgePropertiesState);
-        }
+        edgePropertiesState.setCurrentEdgeIterator(edge, reverse, trafficSpeeds);
+        return effectiveCostFunction.calculateCosts(edgePropertiesState);
     }
 
     @Override
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.lib.routing.graphhopper.algorithm;
+
+import com.carrotsearch.hppc.IntHashSet;
+import com.carrotsearch.hppc.IntObjectHashMap;
+import com.carrotsearch.hppc.IntObjectMap;
+import com.graphhopper.routing.Dijkstra;
+import com.graphhopper.routing.Path;
+import com.graphhopper.routing.PathExtractor;
+import com.graphhopper.routing.SPTEntry;
+import com.graphhopper.routing.util.TraversalMode;
+import com.graphhopper.routing.weighting.Weighting;
+import com.graphhopper.storage.Graph;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Dijkstra search which calculates the best paths from one source node to several target nodes
+ * using a single shortest path tree. The search stops as soon as all targets have been settled.
+ */
+public class OneToManyDijkstra extends Dijkstra {
+
+    private final IntHashSet remainingTargets = new IntHashSet();
+    private final IntObjectMap<SPTEntry> targetEntries = new IntObjectHashMap<>();
+
+    public OneToManyDijkstra(Graph graph, Weighting weighting, TraversalMode traversalMode) {
+        super(graph, weighting, traversalMode);
+    }
+
+    /**
+     * Calculates the best paths from the source node to each of the given target nodes.
+     *
+     * @param from    the source node
+     * @param targets the target nodes
+     * @return the paths in the order of the given targets, a path is not found if the target cannot be reached
+     */
+    public List<Path> calcPaths(int from, int[] targets) {
+        remainingTargets.addAll(targets);
+        calcPath(from, -1);
+
+        final List<Path> paths = new ArrayList<>(targets.length);
+        for (int target : targets) {
+            final SPTEntry entry = targetEntries.get(target);
+            paths.add(entry != null ? PathExtractor.extractPath(graph, weighting, entry) : createEmptyPath());
+        }
+        return paths;
+    }
+
+    @Override
+    protected boolean finished() {
+        // the first entry polled for a node holds the lowest weight for reaching it, also when searching edge-based
+        if (remainingTargets.remove(currEdge.adjNode)) {
+            targetEntries.put(currEdge.adjNode, currEdge);
+        }
+        return remainingTargets.isEmpty();
+    }
+
+    @Override
+    public String getName() {
+        return "dijkstra_one_to_many";
+    }
+}
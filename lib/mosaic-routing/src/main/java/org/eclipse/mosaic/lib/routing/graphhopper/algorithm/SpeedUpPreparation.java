@@ -0,0 +1,225 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.lib.routing.graphhopper.algorithm;
+
+import org.eclipse.mosaic.lib.routing.config.CVehicleRouting.SpeedUpTechnique;
+
+import com.graphhopper.routing.AlgorithmOptions;
+import com.graphhopper.routing.RoutingAlgorithm;
+import com.graphhopper.routing.ch.CHRoutingAlgorithmFactory;
+import com.graphhopper.routing.ch.PrepareContractionHierarchies;
+import com.graphhopper.routing.ev.EncodedValueLookup;
+import com.graphhopper.routing.lm.LMConfig;
+import com.graphhopper.routing.lm.LMRoutingAlgorithmFactory;
+import com.graphhopper.routing.lm.LandmarkStorage;
+import com.graphhopper.routing.lm.PrepareLandmarks;
+import com.graphhopper.routing.querygraph.QueryGraph;
+import com.graphhopper.routing.util.TraversalMode;
+import com.graphhopper.routing.weighting.Weighting;
+import com.graphhopper.storage.BaseGraph;
+import com.graphhopper.storage.CHConfig;
+import com.graphhopper.storage.CHStorage;
+import com.graphhopper.storage.Directory;
+import com.graphhopper.storage.MMapDirectory;
+import com.graphhopper.storage.RAMDirectory;
+import com.graphhopper.storage.RoutingCHGraph;
+import com.graphhopper.storage.RoutingCHGraphImpl;
+import com.graphhopper.util.PMap;
+import com.graphhopper.util.Parameters;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Prepares the routing graph with contraction hierarchies or landmarks for a set of static weightings, and
+ * creates the accelerated routing algorithms for queries using one of these weightings. Contraction hierarchies
+ * are prepared edge-based with turn restrictions only, thus they cannot be used if turn costs are requested.
+ * Landmarks only provide lower bounds for the A* search, therefore, they can be used with and without turn costs.
+ * <p>
+ * If a storage directory is given, all preparations are written to disk, and can be loaded from there again
+ * by {@link #load} instead of preparing them once more. Contraction hierarchies are stored in the directory of
+ * the graph itself, landmarks in a separate sub-directory of the storage directory.
+ * <p>
+ * After preparation, algorithms can be created concurrently. The prepared contraction hierarchies are
+ * combined with the weighting of each query, so that no weighting instance is shared between queries.
+ */
+public class SpeedUpPreparation {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SpeedUpPreparation.class);
+
+    /**
+     * The number of landmarks to prepare for each weighting.
+     */
+    private static final int NUM_LANDMARKS = 16;
+
+    /**
+     * The number of landmarks used during a query.
+     */
+    private static final int NUM_ACTIVE_LANDMARKS = 8;
+
+    /**
+     * Subnetworks with fewer nodes do not get own landmarks.
+     */
+    private static final int MAX_LANDMARK_MINIMUM_NODES = 10_000;
+
+    private final BaseGraph graph;
+    private final EncodedValueLookup encodedValueLookup;
+    private final SpeedUpTechnique technique;
+    private final File storageDirectory;
+
+    private final Map<String, CHStorage> chStorages = new HashMap<>();
+    private final Map<String, LandmarkStorage> landmarks = new HashMap<>();
+
+    public SpeedUpPreparation(BaseGraph graph, EncodedValueLookup encodedValueLookup, SpeedUpTechnique technique) {
+        this(graph, encodedValueLookup, technique, null);
+    }
+
+    /**
+     * @param storageDirectory the directory to store and load the preparations, or {@code null} to keep them in memory only
+     */
+    public SpeedUpPreparation(BaseGraph graph, EncodedValueLookup encodedValueLookup, SpeedUpTechnique technique, File storageDirectory) {
+        this.graph = graph;
+        this.encodedValueLookup = encodedValueLookup;
+        this.technique = technique;
+        this.storageDirectory = storageDirectory;
+    }
+
+    public SpeedUpTechnique getTechnique() {
+        return technique;
+    }
+
+    /**
+     * Prepares the graph for the given weighting. The graph must have been frozen before.
+     *
+     * @param profileName           the name of the routing profile (e.g. "car"), which must match the name of its subnetwork encoding
+     * @param weighting             the weighting used for queries, considering turn restrictions but no turn costs
+     * @param weightingWithoutTurns the same weighting without any turn restrictions, required for preparing landmarks
+     */
+    public void prepare(String profileName, Weighting weighting, Weighting weightingWithoutTurns) {
+        final String key = toKey(profileName, weighting);
+        final long start = System.currentTimeMillis();
+        switch (technique) {
+            case CONTRACTION_HIERARCHIES -> {
+                final PrepareContractionHierarchies preparation = PrepareContractionHierarchies
+                        .fromGraph(graph, CHConfig.edgeBased(key, weighting));
+                final PrepareContractionHierarchies.Result result = preparation.doWork();
+                if (storageDirectory != null) {
+                    result.getCHStorage().flush();
+                }
+                chStorages.put(key, result.getCHStorage());
+            }
+            case LANDMARKS -> {
+                // the name of the LMConfig must match the subnetwork encoding of the profile, therefore separate directories are used
+                final PrepareLandmarks preparation = new PrepareLandmarks(
+                        storageDirectory != null ? new RAMDirectory(getLandmarkDirectory(key), true) : new RAMDirectory(),
+                        graph, encodedValueLookup, new LMConfig(profileName, weightingWithoutTurns), NUM_LANDMARKS
+                );
+                preparation.setMinimumNodes(Math.max(2, Math.min(graph.getNodes() / 2, MAX_LANDMARK_MINIMUM_NODES)));
+                preparation.doWork();
+                if (storageDirectory != null) {
+                    preparation.getLandmarkStorage().flush();
+                }
+                landmarks.put(key, preparation.getLandmarkStorage());
+            }
+            default -> {
+                return;
+            }
+        }
+        LOG.info("Prepared {} for {} in {} ms", technique, key, System.currentTimeMillis() - start);
+    }
+
+    /**
+     * Loads the preparation for the given weighting, which has been stored by {@link #prepare} previously
+     * using the same storage directory. The files are memory mapped, thus they are not copied onto the heap.
+     *
+     * @return {@code true}, if the preparation could be loaded
+     */
+    public boolean load(String profileName, Weighting weighting, Weighting weightingWithoutTurns) {
+        if (storageDirectory == null) {
+            return false;
+        }
+        final String key = toKey(profileName, weighting);
+        switch (technique) {
+            case CONTRACTION_HIERARCHIES -> {
+                final CHConfig chConfig = CHConfig.edgeBased(key, weighting);
+                final CHStorage chStorage = new CHStorage(graph.getDirectory(), key, graph.getSegmentSize(), chConfig.isEdgeBased());
+                if (!chStorage.loadExisting()) {
+                    return false;
+                }
+                chStorages.put(key, chStorage);
+            }
+            case LANDMARKS -> {
+                final Directory directory = new MMapDirectory(getLandmarkDirectory(key));
+                final PrepareLandmarks preparation = new PrepareLandmarks(
+                        directory, graph, encodedValueLookup, new LMConfig(profileName, weightingWithoutTurns), NUM_LANDMARKS
+                );
+                if (!preparation.loadExisting()) {
+                    return false;
+                }
+                landmarks.put(key, preparation.getLandmarkStorage());
+            }
+            default -> {
+                return true;
+            }
+        }
+        LOG.info("Loaded {} for {}", technique, key);
+        return true;
+    }
+
+    /**
+     * Creates an accelerated routing algorithm for the given query.
+     *
+     * @param queryGraph    the query graph containing the snapped source and target
+     * @param profileName   the name of the routing profile
+     * @param weighting     the weighting of the query, not wrapped by the query graph
+     * @param withTurnCosts {@code true}, if turn costs are considered by the weighting
+     * @return the routing algorithm, or {@code null} if no preparation is available for this query
+     */
+    public RoutingAlgorithm createAlgorithm(QueryGraph queryGraph, String profileName, Weighting weighting, boolean withTurnCosts) {
+        final String key = toKey(profileName, weighting);
+        final CHStorage chStorage = chStorages.get(key);
+        if (chStorage != null && !withTurnCosts) {
+            // original edges are weighted by the given weighting, which equals the weighting used for the preparation
+            final RoutingCHGraph chGraph = new RoutingCHGraphImpl(graph, chStorage, weighting);
+            return new CHRoutingAlgorithmFactory(chGraph, queryGraph).createAlgo(new PMap());
+        }
+        final LandmarkStorage landmarkStorage = landmarks.get(key);
+        if (landmarkStorage != null) {
+            return new LMRoutingAlgorithmFactory(landmarkStorage)
+                    .setDefaultActiveLandmarks(NUM_ACTIVE_LANDMARKS)
+                    .createAlgo(queryGraph, weighting, new AlgorithmOptions()
+                            .setAlgorithm(Parameters.Algorithms.ASTAR_BI)
+                            .setTraversalMode(TraversalMode.EDGE_BASED)
+                    );
+        }
+        return null;
+    }
+
+    private String getLandmarkDirectory(String key) {
+        final File directory = new File(storageDirectory, "landmarks_" + key);
+        if (!directory.exists() && !directory.mkdirs()) {
+            LOG.warn("Could not create directory {}", directory);
+        }
+        return directory.getPath();
+    }
+
+    private static String toKey(String profileName, Weighting weighting) {
+        return profileName + "_" + weighting.getName();
+    }
+}
@@ -15,6 +15,7 @@
 
 package org.eclipse.mosaic.lib.routing.graphhopper.util;
 
+import org.eclipse.mosaic.lib.database.Database;
 import org.eclipse.mosaic.lib.database.road.Connection;
 import org.eclipse.mosaic.lib.database.road.Node;
 
@@ -23,6 +24,15 @@ import com.carrotsearch.hppc.IntObjectMap;
 import com.carrotsearch.hppc.ObjectIntHashMap;
 import com.carrotsearch.hppc.ObjectIntMap;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+
 public class GraphhopperToDatabaseMapper {
 
     private IntObjectMap<Connection> graphToDbConnectionMap;
@@ -62,6 +72,64 @@ public class GraphhopperToDatabaseMapper {
         getGraphToDbNodeMap().put(nodeId, node);
     }
 
+    /**
+     * Writes the mapping of all graph nodes and edges to the ids of their nodes and connections in the database.
+     *
+     * @param file  the file to write to
+     * @param nodes the number of nodes in the graph
+     * @param edges the number of edges in the graph
+     */
+    public void writeTo(File file, int nodes, int edges) throws IOException {
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)))) {
+            out.writeInt(nodes);
+            for (int i = 0; i < nodes; i++) {
+                final Node node = toNode(i);
+                out.writeUTF(node != null ? node.getId() : "");
+            }
+            out.writeInt(edges);
+            for (int i = 0; i < edges; i++) {
+                final Connection connection = toConnection(i);
+                out.writeUTF(connection != null ? connection.getId() : "");
+            }
+        }
+    }
+
+    /**
+     * Reads a mapping written by {@link #writeTo} and resolves all ids using the given database.
+     *
+     * @param file     the file to read from
+     * @param database the database the mapping has been created for
+     * @return the mapping
+     */
+    public static GraphhopperToDatabaseMapper readFrom(File file, Database database) throws IOException {
+        final GraphhopperToDatabaseMapper mapper = new GraphhopperToDatabaseMapper();
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+            final int nodes = in.readInt();
+            for (int i = 0; i < nodes; i++) {
+                final String nodeId = in.readUTF();
+                if (!nodeId.isEmpty()) {
+                    final Node node = database.getNode(nodeId);
+                    if (node == null) {
+                        throw new IOException("Unknown node " + nodeId + " in graph mapping");
+                    }
+                    mapper.setNode(node, i);
+                }
+            }
+            final int edges = in.readInt();
+            for (int i = 0; i < edges; i++) {
+                final String connectionId = in.readUTF();
+                if (!connectionId.isEmpty()) {
+                    final Connection connection = database.getConnection(connectionId);
+                    if (connection == null) {
+                        throw new IOException("Unknown connection " + connectionId + " in graph mapping");
+                    }
+                    mapper.setConnection(connection, i);
+                }
+            }
+        }
+        return mapper;
+    }
+
     private ObjectIntMap<Connection> getDbToGraphConnectionMap() {
         if (dbToGraphConnectionMap == null) {
             dbToGraphConnectionMap = new ObjectIntHashMap<>();
@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.lib.routing.graphhopper.util;
+
+import org.eclipse.mosaic.rti.TIME;
+
+import com.carrotsearch.hppc.IntDoubleMap;
+import com.carrotsearch.hppc.cursors.IntDoubleCursor;
+
+import java.util.Arrays;
+
+/**
+ * Holds the currently observed speeds on the edges of the routing graph in a primitive array indexed by the
+ * edge id. Updates never modify the array of the current {@link Snapshot}, but publish a new snapshot with
+ * an increased epoch instead (copy-on-write). Thus, routing queries can read the speeds without any locking,
+ * and each query sees a consistent state if it keeps using the snapshot it has started with.
+ */
+public class LiveTrafficSpeeds {
+
+    /**
+     * Observed speeds are not lower than this value in [m/s], so that vehicles waiting
+     * at traffic lights don't make an edge impassable.
+     */
+    private static final double MIN_SPEED = 1.0;
+
+    /**
+     * The weight of a new observation compared to the speed known so far.
+     */
+    private static final double SMOOTHING_FACTOR = 0.5;
+
+    /**
+     * Observed speeds are discarded if the edge has not been observed again within this time.
+     */
+    private static final long EXPIRY_TIME = 5 * TIME.MINUTE;
+
+    private volatile Snapshot snapshot;
+
+    /**
+     * The time of the last observation of each edge, only accessed by the writing thread.
+     */
+    private final long[] observationTimes;
+
+    public LiveTrafficSpeeds(int edges) {
+        final float[] speeds = new float[edges];
+        Arrays.fill(speeds, Float.NaN);
+        this.snapshot = new Snapshot(0, speeds);
+        this.observationTimes = new long[edges];
+    }
+
+    /**
+     * Returns the current snapshot of all observed speeds.
+     */
+    public Snapshot getSnapshot() {
+        return snapshot;
+    }
+
+    /**
+     * Adds new speed observations and publishes a new snapshot. Speeds of edges which have not been
+     * observed for a longer time are discarded.
+     *
+     * @param time           the current simulation time
+     * @param observedSpeeds the observed speeds in [m/s] by edge id
+     */
+    public synchronized void update(long time, IntDoubleMap observedSpeeds) {
+        final Snapshot current = snapshot;
+        final float[] speeds = current.speeds.clone();
+        for (int edge = 0; edge < speeds.length; edge++) {
+            if (!Float.isNaN(speeds[edge]) && time - observationTimes[edge] > EXPIRY_TIME) {
+                speeds[edge] = Float.NaN;
+            }
+        }
+        for (IntDoubleCursor observation : observedSpeeds) {
+            final int edge = observation.key;
+            if (edge < 0 || edge >= speeds.length) {
+                continue;
+            }
+            final double observedSpeed = Math.max(MIN_SPEED, observation.value);
+            speeds[edge] = Float.isNaN(speeds[edge])
+                    ? (float) observedSpeed
+                    : (float) (speeds[edge] + SMOOTHING_FACTOR * (observedSpeed - speeds[edge]));
+            observationTimes[edge] = time;
+        }
+        snapshot = new Snapshot(current.epoch + 1, speeds);
+    }
+
+    /**
+     * An immutable state of the observed speeds.
+     */
+    public static final class Snapshot {
+
+        private final long epoch;
+        private final float[] speeds;
+
+        private Snapshot(long epoch, float[] speeds) {
+            this.epoch = epoch;
+            this.speeds = speeds;
+        }
+
+        /**
+         * Returns the number of updates which led to this snapshot.
+         */
+        public long getEpoch() {
+            return epoch;
+        }
+
+        /**
+         * Returns the observed speed on the given edge in [m/s].
+         *
+         * @return the observed speed, or {@link Double#NaN} if no speed has been observed recently
+         */
+        public double getSpeed(int edge) {
+            return edge >= 0 && edge < speeds.length ? speeds[edge] : Double.NaN;
+        }
+    }
+}
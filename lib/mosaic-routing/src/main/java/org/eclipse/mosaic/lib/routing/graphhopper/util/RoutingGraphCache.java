@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.lib.routing.graphhopper.util;
+
+import com.google.common.hash.Hashing;
+import com.google.common.io.Files;
+import org.apache.commons.io.FileUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardCopyOption;
+import java.util.UUID;
+
+/**
+ * Stores prepared routing graphs in a cache directory, so that they don't need to be created again
+ * from the same database in subsequent simulation runs. Each cached graph is kept in its own sub-directory,
+ * named by a hash of the content of the database file and of the configuration used to prepare the graph.
+ * New graphs are written into a staging directory first, which is moved to its final location afterward, thus
+ * several simulations can share the same cache directory.
+ */
+public class RoutingGraphCache {
+
+    private static final Logger LOG = LoggerFactory.getLogger(RoutingGraphCache.class);
+
+    /**
+     * This file is written last, indicating that the cached graph is complete.
+     */
+    private static final String COMPLETE_MARKER = "complete";
+
+    private final File cacheDirectory;
+    private final File databaseFile;
+
+    private String databaseHash;
+
+    public RoutingGraphCache(File cacheDirectory, File databaseFile) {
+        this.cacheDirectory = cacheDirectory;
+        this.databaseFile = databaseFile;
+    }
+
+    /**
+     * Returns the directory of a previously cached graph.
+     *
+     * @param configuration a description of all settings which influence the prepared graph
+     * @return the directory containing the cached graph, or {@code null} if no complete graph is cached
+     */
+    public File getCachedGraph(String configuration) {
+        try {
+            final File directory = new File(cacheDirectory, createKey(configuration));
+            if (new File(directory, COMPLETE_MARKER).exists()) {
+                return directory;
+            }
+        } catch (IOException e) {
+            LOG.warn("Could not read database file {} for routing graph cache", databaseFile, e);
+        }
+        return null;
+    }
+
+    /**
+     * Creates a new empty directory to write a prepared graph into, which is added to the cache
+     * afterward by calling {@link #commit}.
+     */
+    public File createStagingDirectory() throws IOException {
+        final File directory = new File(cacheDirectory, "staging-" + UUID.randomUUID());
+        if (!directory.mkdirs()) {
+            throw new IOException("Could not create directory " + directory);
+        }
+        return directory;
+    }
+
+    /**
+     * Adds the graph written into the staging directory to the cache.
+     *
+     * @param stagingDirectory the directory returned by {@link #createStagingDirectory()}
+     * @param configuration    a description of all settings which influence the prepared graph
+     */
+    public void commit(File stagingDirectory, String configuration) {
+        try {
+            final File directory = new File(cacheDirectory, createKey(configuration));
+            Files.write(configuration.getBytes(StandardCharsets.UTF_8), new File(stagingDirectory, COMPLETE_MARKER));
+            try {
+                java.nio.file.Files.move(stagingDirectory.toPath(), directory.toPath(), StandardCopyOption.ATOMIC_MOVE);
+                LOG.info("Stored routing graph in cache {}", directory);
+            } catch (IOException e) {
+                if (!new File(directory, COMPLETE_MARKER).exists()) {
+                    throw e;
+                }
+                // the same graph has been cached by another simulation in the meantime
+                FileUtils.deleteQuietly(stagingDirectory);
+            }
+        } catch (IOException e) {
+            LOG.warn("Could not store routing graph in cache {}", cacheDirectory, e);
+            FileUtils.deleteQuietly(stagingDirectory);
+        }
+    }
+
+    private String createKey(String configuration) throws IOException {
+        if (databaseHash == null) {
+            databaseHash = Files.asByteSource(databaseFile).hash(Hashing.sha256()).toString();
+        }
+        return Hashing.sha256().newHasher()
+                .putString(databaseHash, StandardCharsets.UTF_8)
+                .putString(configuration, StandardCharsets.UTF_8)
+                .hash().toString();
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.lib.routing.pt;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Caches public transport routes per origin, destination, walking speed, and departure interval, evicting the least
+ * recently used routes if the maximum size is exceeded. A cached route is reused for later requests within the same
+ * departure interval by shifting its initial walking leg to the new request time, as long as the first public
+ * transport leg can still be reached. Thereby, agents never receive a route which starts before their request time.
+ */
+class PtRouteCache {
+
+    private final int maximumSize;
+    private final long departureInterval;
+    private final Map<Key, Entry> routes;
+
+    private long hits = 0;
+    private long misses = 0;
+
+    /**
+     * @param maximumSize       the maximum number of cached routes
+     * @param departureInterval the length of the departure intervals in [ns]
+     */
+    PtRouteCache(int maximumSize, long departureInterval) {
+        this.maximumSize = maximumSize;
+        this.departureInterval = Math.max(1, departureInterval);
+        this.routes = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+                return size() > PtRouteCache.this.maximumSize;
+            }
+        };
+    }
+
+    /**
+     * Returns a cached route for the given request, adjusted to the request time.
+     *
+     * @return the cached route, or {@code null} if no route is cached which can be used for this request
+     */
+    synchronized PtRoute get(PtRoutingRequest request) {
+        final Entry entry = routes.get(new Key(request, departureInterval));
+        final PtRoute route = entry != null && request.getRequestTime() >= entry.requestTime
+                ? shiftToRequestTime(entry.route, request.getRequestTime())
+                : null;
+        if (route != null) {
+            hits++;
+        } else {
+            misses++;
+        }
+        return route;
+    }
+
+    synchronized void put(PtRoutingRequest request, PtRoute route) {
+        routes.put(new Key(request, departureInterval), new Entry(request.getRequestTime(), new PtRoute(route.getLegs())));
+    }
+
+    synchronized long getHits() {
+        return hits;
+    }
+
+    synchronized long getMisses() {
+        return misses;
+    }
+
+    /**
+     * Lets the given route start at the given request time by delaying its initial walking leg. If the route starts
+     * with a public transport leg, it can be used unchanged as long as this leg has not departed yet.
+     *
+     * @return the adjusted route, or {@code null} if the first public transport leg would be missed
+     */
+    static PtRoute shiftToRequestTime(PtRoute route, long requestTime) {
+        // the legs of cached routes are copied, since the list of legs is mutable
+        final List<PtRoute.Leg> legs = route.getLegs();
+        if (legs.isEmpty()) {
+            return new PtRoute(legs);
+        }
+        final PtRoute.Leg firstLeg = legs.get(0);
+        if (!(firstLeg instanceof PtRoute.WalkLeg walkLeg)) {
+            return firstLeg.getDepartureTime() >= requestTime ? new PtRoute(legs) : null;
+        }
+        if (walkLeg.getDepartureTime() >= requestTime) {
+            return new PtRoute(legs);
+        }
+        final long arrivalTime = requestTime + (walkLeg.getArrivalTime() - walkLeg.getDepartureTime());
+        if (legs.size() > 1 && arrivalTime > legs.get(1).getDepartureTime()) {
+            return null;
+        }
+        final List<PtRoute.Leg> shiftedLegs = new ArrayList<>(legs.size());
+        shiftedLegs.add(new PtRoute.WalkLeg(requestTime, arrivalTime, walkLeg.getWaypoints()));
+        shiftedLegs.addAll(legs.subList(1, legs.size()));
+        return new PtRoute(shiftedLegs);
+    }
+
+    private record Key(
+            double originLatitude,
+            double originLongitude,
+            double destinationLatitude,
+            double destinationLongitude,
+            Double walkingSpeed,
+            long departureInterval
+    ) {
+
+        private Key(PtRoutingRequest request, long departureInterval) {
+            this(request.getOrigin().getLatitude(), request.getOrigin().getLongitude(),
+                    request.getDestination().getLatitude(), request.getDestination().getLongitude(),
+                    request.getRoutingParameters().getWalkingSpeedMps(), request.getRequestTime() / departureInterval);
+        }
+    }
+
+    private record Entry(long requestTime, PtRoute route) {
+    }
+}
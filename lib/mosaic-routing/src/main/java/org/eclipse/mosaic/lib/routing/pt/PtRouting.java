@@ -55,24 +55,34 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Date;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
 /**
  * Implementation of Public Transport Routing based on GraphHopper GTFS.
  * Uses a GTFS file for public transport schedule and an OSM file for walking paths to get access to public transport stations.
+ * Routes are calculated concurrently by a pool of worker threads, which share the same {@link PtRouter}, as it only
+ * reads the graph and keeps the state of each query separately.
  */
 public class PtRouting {
 
     private static final Logger LOG = LoggerFactory.getLogger(PtRouting.class);
 
-    private final ExecutorService routingExecution = Executors.newSingleThreadExecutor();
+    /**
+     * Maximum time to wait for the calculation of a route in seconds.
+     */
+    private static final long ROUTING_TIMEOUT = 30;
+
+    private ExecutorService routingExecution;
+    private PtRouteCache routeCache;
 
     private PtRouter ptRouter;
     private GraphHopperGtfs graphHopperGtfs;
@@ -127,14 +137,47 @@ public class PtRouting {
                 graphHopperGtfs.getGtfsStorage()
         ).createWithoutRealtimeFeed();
 
-        LOG.info("Initialized Public Transport Router. Took {} ms.", sw.getMillis());
+        final int routingThreads = routingConfiguration.routingThreads > 0
+                ? routingConfiguration.routingThreads
+                : Runtime.getRuntime().availableProcessors();
+        final AtomicInteger threadNumber = new AtomicInteger();
+        routingExecution = Executors.newFixedThreadPool(routingThreads, runnable -> {
+            final Thread thread = new Thread(runnable, "pt-routing-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        if (routingConfiguration.routeCacheSize > 0) {
+            routeCache = new PtRouteCache(routingConfiguration.routeCacheSize, routingConfiguration.routeCacheInterval);
+        }
+
+        LOG.info("Initialized Public Transport Router with {} threads. Took {} ms.", routingThreads, sw.getMillis());
     }
 
     /**
      * Calculates a public transport route according to the given request.
      * The request must contain a valid start and target position, as well as valid request time.
+     * Blocks until the route has been calculated, see {@link #findPtRouteAsync} for the non-blocking variant.
      */
     public PtRoutingResponse findPtRoute(PtRoutingRequest request) {
+        final CompletableFuture<PtRoutingResponse> responseFuture = findPtRouteAsync(request);
+        try {
+            return responseFuture.get(ROUTING_TIMEOUT, TimeUnit.SECONDS);
+        } catch (TimeoutException e) {
+            responseFuture.cancel(true);
+            throw new RuntimeException("Could not finish route calculation. Exceeded timeout.");
+        } catch (InterruptedException | ExecutionException e) {
+            throw new RuntimeException("Could not finish route calculation.", e.getCause() != null ? e.getCause() : e);
+        }
+    }
+
+    /**
+     * Calculates a public transport route according to the given request asynchronously. Several routes
+     * are calculated in parallel, depending on the number of configured routing threads.
+     * The request must contain a valid start and target position, as well as valid request time.
+     *
+     * @return a future which is completed with the response, once the route has been calculated
+     */
+    public CompletableFuture<PtRoutingResponse> findPtRouteAsync(PtRoutingRequest request) {
         if (ptRouter == null) {
             throw new IllegalStateException("PT Routing is not available. Must be enabled in application_config.json.");
         }
@@ -144,6 +187,13 @@ public class PtRouting {
         Validate.isTrue(request.getRequestTime() >= 0, "Invalid request time.");
         Validate.isTrue(request.getRoutingParameters().getWalkingSpeedMps() > 0, "Walking speed must be greater than 0.");
 
+        if (routeCache != null) {
+            final PtRoute cachedRoute = routeCache.get(request);
+            if (cachedRoute != null) {
+                return CompletableFuture.completedFuture(new PtRoutingResponse(cachedRoute));
+            }
+        }
+
         final Instant departureTime = toScheduleTime(request.getRequestTime());
 
         final Request ghRequest = new Request(
@@ -155,23 +205,35 @@ public class PtRouting {
         ghRequest.setEarliestDepartureTime(departureTime);
         ghRequest.setWalkSpeedKmH(SpeedUtils.ms2kmh(request.getRoutingParameters().getWalkingSpeedMps()));
 
-        final Future<GHResponse> responseFuture = routingExecution.submit(() -> ptRouter.route(ghRequest));
-        final GHResponse route;
-        try {
-            final StopWatch sw = new StopWatch();
-            sw.start();
-            route = responseFuture.get(30, TimeUnit.SECONDS);
-            sw.stop();
-            LOG.debug("Took {} ms to calculate public transport route.", sw.getMillis());
-        } catch (TimeoutException e) {
-            responseFuture.cancel(true);
-            throw new RuntimeException("Could not finish route calculation. Exceeded timeout.");
-        } catch (InterruptedException | ExecutionException e) {
-            throw new RuntimeException("Could not finish route calculation.", e);
-        }
+        final CompletableFuture<PtRoutingResponse> responseFuture = new CompletableFuture<>();
+        final Future<?> routingTask = routingExecution.submit(() -> {
+            try {
+                responseFuture.complete(calculatePtRoute(request, ghRequest));
+            } catch (RuntimeException e) {
+                responseFuture.completeExceptionally(e);
+            }
+        });
+        // cancelling the CompletableFuture does not interrupt the worker, therefore the task is cancelled
+        // as well, if the response is cancelled or has timed out, which frees the routing thread
+        responseFuture.whenComplete((response, e) -> {
+            if (e != null) {
+                routingTask.cancel(true);
+            }
+        });
+        return responseFuture.orTimeout(ROUTING_TIMEOUT, TimeUnit.SECONDS);
+    }
 
-        final PtRoute ptRoute = convertToPtRoute(route.getBest());
+    private PtRoutingResponse calculatePtRoute(PtRoutingRequest request, Request ghRequest) {
+        final StopWatch sw = new StopWatch();
+        sw.start();
+        final GHResponse route = ptRouter.route(ghRequest);
+        sw.stop();
+        LOG.debug("Took {} ms to calculate public transport route.", sw.getMillis());
 
+        final PtRoute ptRoute = convertToPtRoute(route.getBest());
+        if (routeCache != null) {
+            routeCache.put(request, ptRoute);
+        }
         return new PtRoutingResponse(ptRoute);
     }
 
@@ -254,6 +316,12 @@ public class PtRouting {
     }
 
     public void close() {
+        if (routingExecution != null) {
+            routingExecution.shutdownNow();
+        }
+        if (routeCache != null) {
+            LOG.info("Public transport route cache: {} hits, {} misses", routeCache.getHits(), routeCache.getMisses());
+        }
         if (graphHopperGtfs != null) {
             graphHopperGtfs.close();
         }
@@ -18,23 +18,27 @@ package org.eclipse.mosaic.lib.routing.util;
 import org.eclipse.mosaic.lib.routing.EdgeProperties;
 import org.eclipse.mosaic.lib.routing.RoutingCostFunction;
 
-import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
 
 /**
  * A route cost function which uses driving time on roads for the costs. The driving
  * time on the connections need to to be updated with travel times or speeds from
- * the simulation.
+ * the simulation. The cost function may be updated while routes are calculated concurrently.
+ * Each update is reported to the registered {@link CostChangeListener}s, e.g. to invalidate cached routes.
  *
  * @see #setConnectionSpeedMS(String, double)
  * @see #setConnectionTravelTime(String, long)
  */
 public class ReRouteSpecificConnectionsCostFunction implements RoutingCostFunction {
 
-    private final Map<String, Double> affectedConnectionSpeeds = new HashMap<>();
-    private final Map<String, Long> affectedConnectionTravelTimes = new HashMap<>();
+    private final Map<String, Double> affectedConnectionSpeeds = new ConcurrentHashMap<>();
+    private final Map<String, Long> affectedConnectionTravelTimes = new ConcurrentHashMap<>();
+    private final Set<CostChangeListener> listeners = new CopyOnWriteArraySet<>();
 
-    private double penalty;
+    private volatile double penalty;
 
     public ReRouteSpecificConnectionsCostFunction() {
         setAdditionalPenalty(2);
@@ -44,15 +48,19 @@ public class ReRouteSpecificConnectionsCostFunction implements RoutingCostFuncti
     public double calculateCosts(final EdgeProperties edgeProperties) {
         String connectionId = edgeProperties.getConnectionId();
 
-        if (connectionId != null && affectedConnectionSpeeds.containsKey(connectionId)) {
-            double speed = affectedConnectionSpeeds.get(connectionId);
+        if (connectionId == null) {
+            return RoutingCostFunction.Fastest.calculateCosts(edgeProperties);
+        }
+        final Double speed = affectedConnectionSpeeds.get(connectionId);
+        if (speed != null) {
             if (speed <= 0d) {
                 return Double.POSITIVE_INFINITY;
             }
             return (edgeProperties.getLength() / speed) * penalty;
         }
-        if (connectionId != null && affectedConnectionTravelTimes.containsKey(connectionId)) {
-            return affectedConnectionTravelTimes.get(connectionId) * penalty;
+        final Long travelTime = affectedConnectionTravelTimes.get(connectionId);
+        if (travelTime != null) {
+            return travelTime * penalty;
         }
         return RoutingCostFunction.Fastest.calculateCosts(edgeProperties);
     }
@@ -69,7 +77,8 @@ public class ReRouteSpecificConnectionsCostFunction implements RoutingCostFuncti
      * @param connectionSpeedMeterPerSecond the speed in m/s
      */
     public void setConnectionSpeedMS(String connectionId, double connectionSpeedMeterPerSecond) {
-        affectedConnectionSpeeds.put(connectionId, connectionSpeedMeterPerSecond);
+        final Double previousSpeed = affectedConnectionSpeeds.put(connectionId, connectionSpeedMeterPerSecond);
+        notifyListeners(connectionId, previousSpeed != null && connectionSpeedMeterPerSecond <= previousSpeed);
     }
 
 
@@ -80,7 +89,10 @@ public class ReRouteSpecificConnectionsCostFunction implements RoutingCostFuncti
      * @param travelTimeSeconds the speed in m/s
      */
     public void setConnectionTravelTime(String connectionId, long travelTimeSeconds) {
-        affectedConnectionTravelTimes.put(connectionId, travelTimeSeconds);
+        final Long previousTravelTime = affectedConnectionTravelTimes.put(connectionId, travelTimeSeconds);
+        // the travel time is ignored anyway if a speed is set for this connection
+        notifyListeners(connectionId, affectedConnectionSpeeds.containsKey(connectionId)
+                || previousTravelTime != null && travelTimeSeconds >= previousTravelTime);
     }
 
     /**
@@ -90,7 +102,43 @@ public class ReRouteSpecificConnectionsCostFunction implements RoutingCostFuncti
      * @param penalty the new penalty to use during cost calculation
      */
     public ReRouteSpecificConnectionsCostFunction setAdditionalPenalty(double penalty) {
+        final double previousPenalty = this.penalty;
         this.penalty = penalty;
+        notifyListeners(null, penalty >= previousPenalty);
         return this;
     }
+
+    /**
+     * Registers a listener which is informed whenever the costs of this cost function change.
+     * Registering the same listener several times has no effect.
+     */
+    public void addCostChangeListener(CostChangeListener listener) {
+        listeners.add(listener);
+    }
+
+    public void removeCostChangeListener(CostChangeListener listener) {
+        listeners.remove(listener);
+    }
+
+    private void notifyListeners(String connectionId, boolean costsIncreasedOnly) {
+        for (CostChangeListener listener : listeners) {
+            listener.onCostsChanged(this, connectionId, costsIncreasedOnly);
+        }
+    }
+
+    /**
+     * Listener for changes of the costs of a {@link RoutingCostFunction}.
+     */
+    public interface CostChangeListener {
+
+        /**
+         * Called after the costs of one or all connections have changed.
+         *
+         * @param costFunction       the cost function which has changed
+         * @param connectionId       the id of the changed connection, or {@code null} if the costs of all connections may have changed
+         * @param costsIncreasedOnly {@code true}, if the costs did not decrease, thus only routes passing the
+         *                           changed connections may become outdated
+         */
+        void onCostsChanged(RoutingCostFunction costFunction, String connectionId, boolean costsIncreasedOnly);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.lib.routing.util;
+
+import org.eclipse.mosaic.lib.enums.VehicleClass;
+import org.eclipse.mosaic.lib.routing.CandidateRoute;
+import org.eclipse.mosaic.lib.routing.RoutingCostFunction;
+import org.eclipse.mosaic.lib.routing.RoutingParameters;
+import org.eclipse.mosaic.lib.routing.RoutingPosition;
+import org.eclipse.mosaic.lib.routing.RoutingRequest;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A bounded cache for calculated routes, which evicts the least recently used routes if the maximum size is exceeded.
+ * Routes are cached per source, target, and routing parameters. Only routes calculated with cost functions whose
+ * costs are known to be static ({@link RoutingCostFunction#Fastest}, {@link RoutingCostFunction#Shortest}), or which
+ * notify about changes ({@link ReRouteSpecificConnectionsCostFunction}), are cached. If the costs of a connection
+ * increase, all cached routes passing this connection are invalidated. If the costs of a connection may have
+ * decreased, all routes calculated with this cost function are invalidated, as any of them could be outdated.
+ */
+public class RouteCache implements ReRouteSpecificConnectionsCostFunction.CostChangeListener {
+
+    private final int maximumSize;
+    private final Map<Key, List<CandidateRoute>> routes;
+
+    private long hits = 0;
+    private long misses = 0;
+    private long evictions = 0;
+    private long invalidations = 0;
+
+    /**
+     * @param maximumSize the maximum number of routing requests to keep the routes for
+     */
+    public RouteCache(int maximumSize) {
+        this.maximumSize = maximumSize;
+        this.routes = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, List<CandidateRoute>> eldest) {
+                if (size() > RouteCache.this.maximumSize) {
+                    evictions++;
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Returns the cached routes for the given request.
+     *
+     * @return the routes previously calculated for the same request, or {@code null} if no routes are cached
+     */
+    public synchronized List<CandidateRoute> get(RoutingRequest routingRequest) {
+        final List<CandidateRoute> cached = isCacheable(routingRequest) ? routes.get(new Key(routingRequest)) : null;
+        if (cached != null) {
+            hits++;
+        } else {
+            misses++;
+        }
+        return cached;
+    }
+
+    /**
+     * Adds the routes calculated for the given request to the cache, if the cost function of the request allows it.
+     */
+    public synchronized void put(RoutingRequest routingRequest, List<CandidateRoute> candidateRoutes) {
+        if (!isCacheable(routingRequest)) {
+            return;
+        }
+        if (routingRequest.getRoutingParameters().getRoutingCostFunction() instanceof ReRouteSpecificConnectionsCostFunction costFunction) {
+            costFunction.addCostChangeListener(this);
+        }
+        routes.put(new Key(routingRequest), List.copyOf(candidateRoutes));
+    }
+
+    @Override
+    public synchronized void onCostsChanged(RoutingCostFunction costFunction, String connectionId, boolean costsIncreasedOnly) {
+        final Iterator<Map.Entry<Key, List<CandidateRoute>>> entries = routes.entrySet().iterator();
+        while (entries.hasNext()) {
+            final Map.Entry<Key, List<CandidateRoute>> entry = entries.next();
+            if (entry.getKey().costFunction() != costFunction) {
+                continue;
+            }
+            if (connectionId == null || !costsIncreasedOnly || containsConnection(entry.getValue(), connectionId)) {
+                entries.remove();
+                invalidations++;
+            }
+        }
+    }
+
+    /**
+     * Removes all cached routes.
+     */
+    public synchronized void clear() {
+        invalidations += routes.size();
+        routes.clear();
+    }
+
+    public synchronized int size() {
+        return routes.size();
+    }
+
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    public synchronized long getMisses() {
+        return misses;
+    }
+
+    public synchronized long getEvictions() {
+        return evictions;
+    }
+
+    public synchronized long getInvalidations() {
+        return invalidations;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "RouteCache [size=" + routes.size() + ", hits=" + hits + ", misses=" + misses
+                + ", evictions=" + evictions + ", invalidations=" + invalidations + "]";
+    }
+
+    private static boolean isCacheable(RoutingRequest routingRequest) {
+        final RoutingCostFunction costFunction = routingRequest.getRoutingParameters().getRoutingCostFunction();
+        return costFunction == RoutingCostFunction.Fastest
+                || costFunction == RoutingCostFunction.Shortest
+                || costFunction instanceof ReRouteSpecificConnectionsCostFunction;
+    }
+
+    private static boolean containsConnection(List<CandidateRoute> candidateRoutes, String connectionId) {
+        for (CandidateRoute candidateRoute : candidateRoutes) {
+            if (candidateRoute.getConnectionIds().contains(connectionId)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private record Key(
+            RoutingPosition source,
+            RoutingPosition target,
+            RoutingCostFunction costFunction,
+            VehicleClass vehicleClass,
+            boolean considerTurnCosts,
+            double restrictionCosts,
+            int numAlternativeRoutes
+    ) {
+
+        private Key(RoutingRequest routingRequest) {
+            this(routingRequest.getSource(), routingRequest.getTarget(), routingRequest.getRoutingParameters());
+        }
+
+        private Key(RoutingPosition source, RoutingPosition target, RoutingParameters parameters) {
+            this(source, target, parameters.getRoutingCostFunction(), parameters.getVehicleClass(),
+                    parameters.isConsiderTurnCosts(), parameters.getRestrictionCosts(), parameters.getNumAlternativeRoutes());
+        }
+    }
+}
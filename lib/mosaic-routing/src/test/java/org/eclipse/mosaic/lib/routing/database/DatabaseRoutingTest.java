@@ -17,6 +17,7 @@ package org.eclipse.mosaic.lib.routing.database;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
 
 import org.eclipse.mosaic.lib.database.Database;
 import org.eclipse.mosaic.lib.database.road.Connection;
@@ -28,11 +29,13 @@ import org.eclipse.mosaic.lib.objects.vehicle.VehicleRoute;
 import org.eclipse.mosaic.lib.routing.CandidateRoute;
 import org.eclipse.mosaic.lib.routing.IllegalRouteException;
 import org.eclipse.mosaic.lib.routing.RoutingCostFunction;
+import org.eclipse.mosaic.lib.routing.RoutingCostMatrix;
 import org.eclipse.mosaic.lib.routing.RoutingParameters;
 import org.eclipse.mosaic.lib.routing.RoutingPosition;
 import org.eclipse.mosaic.lib.routing.RoutingRequest;
 import org.eclipse.mosaic.lib.routing.RoutingResponse;
 import org.eclipse.mosaic.lib.routing.config.CVehicleRouting;
+import org.eclipse.mosaic.lib.routing.util.ReRouteSpecificConnectionsCostFunction;
 import org.eclipse.mosaic.rti.api.InternalFederateException;
 
 import com.google.common.collect.Lists;
@@ -110,6 +113,21 @@ public class DatabaseRoutingTest {
         assertEquals(1, databaseRouting.getRoutesFromDatabaseForMessage().size());
     }
 
+    @Test
+    public void initialize_sameDatabaseTwice_databaseIsShared() throws InternalFederateException {
+        //PREPARE
+        configuration.source = "tiergarten.db";
+        databaseRouting.initialize(configuration, cfgDir);
+
+        //RUN
+        DatabaseRouting secondRouting = new DatabaseRouting();
+        secondRouting.initialize(configuration, cfgDir);
+
+        //ASSERT
+        assertSame(databaseRouting.getScenarioDatabase(), secondRouting.getScenarioDatabase());
+        assertEquals(1, secondRouting.getRoutesFromDatabaseForMessage().size());
+    }
+
     @Test(expected = InternalFederateException.class)
     public void initialize_locateDatabase_error() throws InternalFederateException {
         //PREPARE
@@ -240,6 +258,74 @@ public class DatabaseRoutingTest {
                 response.getBestRoute().getConnectionIds());
     }
 
+    @Test
+    public void calculateCostMatrix_sameCostsAsSingleRequests() throws InternalFederateException {
+        //PREPARE
+        configuration.source = "tiergarten.db";
+        databaseRouting.initialize(configuration, cfgDir);
+
+        final RoutingParameters routingParameters = new RoutingParameters()
+                .costFunction(RoutingCostFunction.Fastest);
+        final List<RoutingPosition> sources = Arrays.asList(
+                new RoutingPosition(databaseRouting.getNode("26704482").getPosition()),
+                new RoutingPosition(databaseRouting.getNode("27537749").getPosition())
+        );
+        final List<RoutingPosition> targets = Arrays.asList(
+                new RoutingPosition(databaseRouting.getNode("26704584").getPosition()),
+                new RoutingPosition(databaseRouting.getNode("252864802").getPosition()),
+                new RoutingPosition(databaseRouting.getNode("415838100").getPosition())
+        );
+
+        //RUN
+        final RoutingCostMatrix matrix = databaseRouting.calculateCostMatrix(sources, targets, routingParameters);
+
+        //ASSERT
+        for (int source = 0; source < sources.size(); source++) {
+            for (int target = 0; target < targets.size(); target++) {
+                final RoutingResponse response = databaseRouting.findRoutes(
+                        new RoutingRequest(sources.get(source), targets.get(target), routingParameters)
+                );
+                assertNotNull(response.getBestRoute());
+                assertEquals(response.getBestRoute().getTime(), matrix.getTime(source, target), 0.01d);
+                assertEquals(response.getBestRoute().getLength(), matrix.getLength(source, target), 0.01d);
+            }
+        }
+    }
+
+    @Test
+    public void findRoutes_routeCache_invalidatedWhenConnectionCostsChange() throws InternalFederateException {
+        //PREPARE
+        configuration.source = "tiergarten.db";
+        configuration.routeCacheSize = 10;
+        databaseRouting.initialize(configuration, cfgDir);
+
+        final ReRouteSpecificConnectionsCostFunction costFunction = new ReRouteSpecificConnectionsCostFunction();
+        final RoutingRequest request = new RoutingRequest(
+                new RoutingPosition(databaseRouting.getNode("26704482").getPosition()),
+                new RoutingPosition(databaseRouting.getNode("26873454").getPosition()),
+                new RoutingParameters().costFunction(costFunction)
+        );
+
+        //RUN
+        final CandidateRoute firstRoute = databaseRouting.findRoutes(request).getBestRoute();
+        final CandidateRoute cachedRoute = databaseRouting.findRoutes(request).getBestRoute();
+
+        //ASSERT
+        assertEquals(firstRoute.getConnectionIds(), cachedRoute.getConnectionIds());
+        assertEquals(1, databaseRouting.getRouteCache().getHits());
+        assertEquals(1, databaseRouting.getRouteCache().getMisses());
+
+        //RUN
+        final String routeConnection = firstRoute.getConnectionIds().get(firstRoute.getConnectionIds().size() / 2);
+        costFunction.setConnectionTravelTime(routeConnection, 3600);
+        final CandidateRoute newRoute = databaseRouting.findRoutes(request).getBestRoute();
+
+        //ASSERT
+        assertEquals(1, databaseRouting.getRouteCache().getInvalidations());
+        assertEquals(2, databaseRouting.getRouteCache().getMisses());
+        assertNotNull(newRoute);
+    }
+
     @Test(expected = IllegalArgumentException.class)
     public void getPositionOfNode_noSuchNode() throws InternalFederateException {
         //PREPARE
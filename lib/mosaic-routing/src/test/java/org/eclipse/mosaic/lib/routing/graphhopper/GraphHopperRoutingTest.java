@@ -16,17 +16,30 @@
 package org.eclipse.mosaic.lib.routing.graphhopper;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
 
 import org.eclipse.mosaic.lib.database.Database;
 import org.eclipse.mosaic.lib.database.road.Connection;
 import org.eclipse.mosaic.lib.database.road.Node;
+import org.eclipse.mosaic.lib.enums.VehicleClass;
 import org.eclipse.mosaic.lib.geo.GeoPoint;
 import org.eclipse.mosaic.lib.junit.GeoProjectionRule;
 import org.eclipse.mosaic.lib.routing.CandidateRoute;
+import org.eclipse.mosaic.lib.routing.RoutingCostFunction;
 import org.eclipse.mosaic.lib.routing.RoutingParameters;
 import org.eclipse.mosaic.lib.routing.RoutingPosition;
 import org.eclipse.mosaic.lib.routing.RoutingRequest;
+import org.eclipse.mosaic.lib.routing.config.CVehicleRouting.SpeedUpTechnique;
+import org.eclipse.mosaic.lib.routing.graphhopper.util.RoutingGraphCache;
+import org.eclipse.mosaic.rti.TIME;
 
 import org.apache.commons.io.FileUtils;
 import org.junit.Before;
@@ -36,8 +49,14 @@ import org.junit.rules.TemporaryFolder;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 public class GraphHopperRoutingTest {
 
@@ -49,12 +68,13 @@ public class GraphHopperRoutingTest {
     @Rule
     public TemporaryFolder folder = new TemporaryFolder();
 
+    private File dbFileCopy;
     private Database database;
     private GraphHopperRouting routing;
 
     @Before
     public void setUp() throws IOException {
-        final File dbFileCopy = folder.newFile("tiergarten.db");
+        dbFileCopy = folder.newFile("tiergarten.db");
 
         FileUtils.copyInputStreamToFile(getClass().getResourceAsStream(dbFile), dbFileCopy);
 
@@ -92,6 +112,157 @@ public class GraphHopperRoutingTest {
         assertValidRoute(result.get(0));
     }
 
+    @Test
+    public void findRoutes_contractionHierarchies_sameRoutesAsWithoutSpeedUp() {
+        assertSameRoutes(new GraphHopperRouting(database, SpeedUpTechnique.CONTRACTION_HIERARCHIES));
+    }
+
+    @Test
+    public void findRoutes_landmarks_sameRoutesAsWithoutSpeedUp() {
+        assertSameRoutes(new GraphHopperRouting(database, SpeedUpTechnique.LANDMARKS));
+    }
+
+    @Test
+    public void findRoutes_graphCache_sameRoutesWithCachedGraph() throws IOException {
+        final File cacheDirectory = folder.newFolder("graph-cache");
+        for (SpeedUpTechnique speedUp : SpeedUpTechnique.values()) {
+            // first run prepares the graph and stores it in the cache
+            assertSameRoutes(new GraphHopperRouting(database, speedUp, new RoutingGraphCache(cacheDirectory, dbFileCopy)));
+            // second run loads the graph from the cache, without preparing and storing it again
+            final RoutingGraphCache graphCache = spy(new RoutingGraphCache(cacheDirectory, dbFileCopy));
+            assertSameRoutes(new GraphHopperRouting(database, speedUp, graphCache));
+            verify(graphCache).getCachedGraph(anyString());
+            verify(graphCache, never()).createStagingDirectory();
+            verify(graphCache, never()).commit(any(), anyString());
+        }
+
+        final File[] cachedGraphs = cacheDirectory.listFiles();
+        assertNotNull(cachedGraphs);
+        assertEquals(SpeedUpTechnique.values().length, cachedGraphs.length);
+        for (File cachedGraph : cachedGraphs) {
+            assertFalse(cachedGraph.getName().startsWith("staging"));
+            assertTrue(new File(cachedGraph, "complete").exists());
+        }
+    }
+
+    private void assertSameRoutes(GraphHopperRouting preparedRouting) {
+        final List<String[]> queries = List.of(
+                new String[]{"27537749", "252864802"},
+                new String[]{"21487169", "415838100"},
+                new String[]{"415838100", "21487169"}
+        );
+        for (String[] query : queries) {
+            for (RoutingParameters parameters : List.of(
+                    new RoutingParameters(),
+                    new RoutingParameters().costFunction(RoutingCostFunction.Shortest),
+                    new RoutingParameters().considerTurnCosts(true))
+            ) {
+                final RoutingRequest request = new RoutingRequest(
+                        new RoutingPosition(database.getNode(query[0]).getPosition()),
+                        new RoutingPosition(database.getNode(query[1]).getPosition()),
+                        parameters
+                );
+                final List<CandidateRoute> expected = routing.findRoutes(request);
+                final List<CandidateRoute> actual = preparedRouting.findRoutes(request);
+                assertEquals(1, actual.size());
+                assertEquals(expected.get(0).getConnectionIds(), actual.get(0).getConnectionIds());
+                assertEquals(expected.get(0).getTime(), actual.get(0).getTime(), 0.01d);
+                assertValidRoute(actual.get(0));
+            }
+        }
+    }
+
+    @Test
+    public void findRoutes_batch_sameRoutesAsSingleRequests() {
+        final List<RoutingRequest> requests = new ArrayList<>();
+        for (RoutingParameters parameters : List.of(
+                new RoutingParameters(),
+                new RoutingParameters().costFunction(RoutingCostFunction.Shortest).considerTurnCosts(true),
+                new RoutingParameters().vehicleClass(VehicleClass.Bicycle),
+                new RoutingParameters().alternativeRoutes(1))
+        ) {
+            for (String source : List.of("27537749", "21487169")) {
+                for (String target : List.of("252864802", "415838100", "21487169", "26704584")) {
+                    requests.add(new RoutingRequest(
+                            new RoutingPosition(database.getNode(source).getPosition()),
+                            new RoutingPosition(database.getNode(target).getPosition()),
+                            parameters
+                    ));
+                }
+            }
+        }
+
+        final List<List<CandidateRoute>> results = routing.findRoutes(requests);
+
+        assertEquals(requests.size(), results.size());
+        for (int i = 0; i < requests.size(); i++) {
+            final List<CandidateRoute> expected = routing.findRoutes(requests.get(i));
+            final List<CandidateRoute> actual = results.get(i);
+            assertEquals(expected.isEmpty(), actual.isEmpty());
+            if (!expected.isEmpty()) {
+                assertEquals(expected.get(0).getConnectionIds(), actual.get(0).getConnectionIds());
+                assertEquals(expected.get(0).getTime(), actual.get(0).getTime(), 0.01d);
+            }
+        }
+    }
+
+    @Test
+    public void findRoutes_concurrently() throws Exception {
+        final RoutingRequest request = new RoutingRequest(
+                new RoutingPosition(database.getNode("21487169").getPosition()),
+                new RoutingPosition(database.getNode("415838100").getPosition()),
+                new RoutingParameters().alternativeRoutes(2)
+        );
+        final List<CandidateRoute> expected = routing.findRoutes(request);
+
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final List<Future<List<CandidateRoute>>> results = new ArrayList<>();
+            for (int i = 0; i < 64; i++) {
+                results.add(executor.submit(() -> routing.findRoutes(request)));
+            }
+            for (Future<List<CandidateRoute>> result : results) {
+                final List<CandidateRoute> actual = result.get();
+                assertEquals(expected.size(), actual.size());
+                for (int i = 0; i < expected.size(); i++) {
+                    assertEquals(expected.get(i).getConnectionIds(), actual.get(i).getConnectionIds());
+                    assertEquals(expected.get(i).getTime(), actual.get(i).getTime(), 0.01d);
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void findRoutes_liveTraffic_avoidsSlowConnections() {
+        final RoutingRequest request = new RoutingRequest(
+                new RoutingPosition(database.getNode("21487169").getPosition()),
+                new RoutingPosition(database.getNode("415838100").getPosition()),
+                new RoutingParameters().costFunction(RoutingCostFunction.LiveTraffic)
+        );
+        final List<String> freeFlowRoute = routing.findRoutes(request).get(0).getConnectionIds();
+        final Map<String, Double> connectionSpeeds = new HashMap<>();
+        for (String connectionId : freeFlowRoute.subList(1, freeFlowRoute.size() - 1)) {
+            connectionSpeeds.put(connectionId, 1.0);
+        }
+
+        // RUN
+        routing.updateConnectionSpeeds(10 * TIME.SECOND, connectionSpeeds);
+        final List<CandidateRoute> congestedRoutes = routing.findRoutes(request);
+
+        // ASSERT
+        assertEquals(1, congestedRoutes.size());
+        assertNotEquals(freeFlowRoute, congestedRoutes.get(0).getConnectionIds());
+        assertValidRoute(congestedRoutes.get(0));
+
+        // RUN, speeds have expired
+        routing.updateConnectionSpeeds(10 * TIME.MINUTE, Map.of());
+
+        // ASSERT
+        assertEquals(freeFlowRoute, routing.findRoutes(request).get(0).getConnectionIds());
+    }
+
     private void assertValidRoute(CandidateRoute candidateRoute) {
         Connection currentConnection;
         Connection previousConnection = null;
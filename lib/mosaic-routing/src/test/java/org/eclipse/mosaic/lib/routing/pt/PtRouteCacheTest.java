@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+package org.eclipse.mosaic.lib.routing.pt;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import org.eclipse.mosaic.lib.geo.GeoPoint;
+import org.eclipse.mosaic.rti.TIME;
+
+import org.junit.Test;
+
+import java.util.List;
+
+public class PtRouteCacheTest {
+
+    private final GeoPoint a = GeoPoint.latLon(52.51, 13.31);
+    private final GeoPoint b = GeoPoint.latLon(52.52, 13.32);
+
+    private final PtRoute.PtLeg ptLeg = new PtRoute.PtLeg(10 * TIME.MINUTE, 20 * TIME.MINUTE, null);
+
+    @Test
+    public void get_laterRequestWithinInterval_walkLegShifted() {
+        PtRouteCache cache = new PtRouteCache(10, 15 * TIME.MINUTE);
+        cache.put(request(0), new PtRoute(List.of(walkLeg(0, 5 * TIME.MINUTE), ptLeg)));
+
+        PtRoute route = cache.get(request(3 * TIME.MINUTE));
+
+        assertNotNull(route);
+        assertEquals(3 * TIME.MINUTE, route.getLegs().get(0).getDepartureTime());
+        assertEquals(8 * TIME.MINUTE, route.getLegs().get(0).getArrivalTime());
+        assertSame(ptLeg, route.getLegs().get(1));
+        assertEquals(1, cache.getHits());
+    }
+
+    @Test
+    public void get_firstPtLegMissed_noRoute() {
+        PtRouteCache cache = new PtRouteCache(10, 15 * TIME.MINUTE);
+        cache.put(request(0), new PtRoute(List.of(walkLeg(0, 5 * TIME.MINUTE), ptLeg)));
+
+        assertNull(cache.get(request(6 * TIME.MINUTE)));
+        assertEquals(1, cache.getMisses());
+    }
+
+    @Test
+    public void get_otherIntervalOrEarlierRequest_noRoute() {
+        PtRouteCache cache = new PtRouteCache(10, 15 * TIME.MINUTE);
+        cache.put(request(2 * TIME.MINUTE), new PtRoute(List.of(walkLeg(2 * TIME.MINUTE, 5 * TIME.MINUTE), ptLeg)));
+
+        assertNull(cache.get(request(TIME.MINUTE)));
+        assertNull(cache.get(request(16 * TIME.MINUTE)));
+        assertEquals(2, cache.getMisses());
+    }
+
+    @Test
+    public void get_startingWithPtLeg_reusedUntilDeparture() {
+        PtRouteCache cache = new PtRouteCache(10, 15 * TIME.MINUTE);
+        cache.put(request(0), new PtRoute(List.of(ptLeg)));
+
+        assertNotNull(cache.get(request(10 * TIME.MINUTE)));
+        assertNull(cache.get(request(11 * TIME.MINUTE)));
+    }
+
+    @Test
+    public void put_maximumSizeExceeded_leastRecentlyUsedEvicted() {
+        PtRouteCache cache = new PtRouteCache(1, 15 * TIME.MINUTE);
+        cache.put(request(0), new PtRoute(List.of(ptLeg)));
+        cache.put(new PtRoutingRequest(0, b, a), new PtRoute(List.of(ptLeg)));
+
+        assertNull(cache.get(request(0)));
+        assertNotNull(cache.get(new PtRoutingRequest(0, b, a)));
+    }
+
+    private PtRoutingRequest request(long requestTime) {
+        return new PtRoutingRequest(requestTime, a, b);
+    }
+
+    private PtRoute.WalkLeg walkLeg(long departureTime, long arrivalTime) {
+        return new PtRoute.WalkLeg(departureTime, arrivalTime, List.of(a));
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.lib.routing.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import org.eclipse.mosaic.lib.geo.GeoPoint;
+import org.eclipse.mosaic.lib.routing.CandidateRoute;
+import org.eclipse.mosaic.lib.routing.EdgeProperties;
+import org.eclipse.mosaic.lib.routing.RoutingCostFunction;
+import org.eclipse.mosaic.lib.routing.RoutingParameters;
+import org.eclipse.mosaic.lib.routing.RoutingPosition;
+import org.eclipse.mosaic.lib.routing.RoutingRequest;
+
+import org.junit.Test;
+
+import java.util.List;
+
+public class RouteCacheTest {
+
+    private final RoutingPosition a = new RoutingPosition(GeoPoint.latLon(52.51, 13.31));
+    private final RoutingPosition b = new RoutingPosition(GeoPoint.latLon(52.52, 13.32));
+    private final RoutingPosition c = new RoutingPosition(GeoPoint.latLon(52.53, 13.33));
+
+    @Test
+    public void get_sameRequest_hit() {
+        RouteCache cache = new RouteCache(10);
+        cache.put(request(a, b, RoutingCostFunction.Fastest), routes("1", "2"));
+
+        assertNotNull(cache.get(request(a, b, RoutingCostFunction.Fastest)));
+        assertNull(cache.get(request(a, b, RoutingCostFunction.Shortest)));
+        assertNull(cache.get(request(a, c, RoutingCostFunction.Fastest)));
+
+        assertEquals(1, cache.getHits());
+        assertEquals(2, cache.getMisses());
+    }
+
+    @Test
+    public void put_maximumSizeExceeded_leastRecentlyUsedEvicted() {
+        RouteCache cache = new RouteCache(2);
+        cache.put(request(a, b, RoutingCostFunction.Fastest), routes("1"));
+        cache.put(request(a, c, RoutingCostFunction.Fastest), routes("2"));
+        cache.get(request(a, b, RoutingCostFunction.Fastest));
+
+        cache.put(request(b, c, RoutingCostFunction.Fastest), routes("3"));
+
+        assertEquals(2, cache.size());
+        assertEquals(1, cache.getEvictions());
+        assertNotNull(cache.get(request(a, b, RoutingCostFunction.Fastest)));
+        assertNull(cache.get(request(a, c, RoutingCostFunction.Fastest)));
+    }
+
+    @Test
+    public void put_customCostFunction_notCached() {
+        RouteCache cache = new RouteCache(10);
+        RoutingCostFunction costFunction = new RoutingCostFunction() {
+            @Override
+            public double calculateCosts(EdgeProperties edgeProperties) {
+                return 1;
+            }
+
+            @Override
+            public String getCostFunctionName() {
+                return "Custom";
+            }
+        };
+        cache.put(request(a, b, costFunction), routes("1"));
+
+        assertEquals(0, cache.size());
+        assertNull(cache.get(request(a, b, costFunction)));
+    }
+
+    @Test
+    public void costsIncreased_onlyRoutesPassingConnectionInvalidated() {
+        RouteCache cache = new RouteCache(10);
+        ReRouteSpecificConnectionsCostFunction costFunction = new ReRouteSpecificConnectionsCostFunction();
+        costFunction.setConnectionTravelTime("2", 10);
+        cache.put(request(a, b, costFunction), routes("1", "2"));
+        cache.put(request(a, c, costFunction), routes("1", "3"));
+        cache.put(request(a, b, RoutingCostFunction.Fastest), routes("1", "2"));
+
+        costFunction.setConnectionTravelTime("2", 20);
+
+        assertNull(cache.get(request(a, b, costFunction)));
+        assertNotNull(cache.get(request(a, c, costFunction)));
+        assertNotNull(cache.get(request(a, b, RoutingCostFunction.Fastest)));
+        assertEquals(1, cache.getInvalidations());
+    }
+
+    @Test
+    public void costsDecreased_allRoutesOfCostFunctionInvalidated() {
+        RouteCache cache = new RouteCache(10);
+        ReRouteSpecificConnectionsCostFunction costFunction = new ReRouteSpecificConnectionsCostFunction();
+        costFunction.setConnectionTravelTime("2", 10);
+        cache.put(request(a, b, costFunction), routes("1", "2"));
+        cache.put(request(a, c, costFunction), routes("1", "3"));
+        cache.put(request(a, b, RoutingCostFunction.Fastest), routes("1", "2"));
+
+        costFunction.setConnectionTravelTime("2", 5);
+
+        assertNull(cache.get(request(a, b, costFunction)));
+        assertNull(cache.get(request(a, c, costFunction)));
+        assertNotNull(cache.get(request(a, b, RoutingCostFunction.Fastest)));
+        assertEquals(2, cache.getInvalidations());
+    }
+
+    private static RoutingRequest request(RoutingPosition source, RoutingPosition target, RoutingCostFunction costFunction) {
+        return new RoutingRequest(source, target, new RoutingParameters().costFunction(costFunction));
+    }
+
+    private static List<CandidateRoute> routes(String... connectionIds) {
+        return List.of(new CandidateRoute(List.of(connectionIds), 100, 10));
+    }
+}
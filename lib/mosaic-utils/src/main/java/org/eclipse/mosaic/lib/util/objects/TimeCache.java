@@ -23,6 +23,7 @@ import java.util.Iterator;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import javax.annotation.concurrent.NotThreadSafe;
@@ -66,6 +67,14 @@ public class TimeCache<T extends Identifiable> implements Serializable {
         cache.put(object.getId(), Pair.of(time, object));
     }
     
+    /**
+     * Performs the given action for each cached object.
+     * @param action the action receiving the time the object is associated with, and the object itself
+     */
+    public final void forEachItem(final BiConsumer<Long, T> action) {
+        cache.values().forEach(pair -> action.accept(pair.getLeft(), pair.getRight()));
+    }
+
     /**
      * Clean the cache until the given time.
      * @param time the time until the cache is valid.
@@ -40,6 +40,11 @@ public class DefaultEventScheduler implements EventScheduler {
      */
     protected long scheduledTime = Long.MIN_VALUE;
 
+    /**
+     * Observes the execution of events, {@code null} if execution is not observed.
+     */
+    protected EventBatchObserver batchObserver;
+
     @Override
     public void addEvent(@Nonnull final Event event) {
         if (event.getTime() < getScheduledTime()) {
@@ -67,9 +72,17 @@ public class DefaultEventScheduler implements EventScheduler {
         return scheduledTime;
     }
 
+    @Override
+    public void setBatchObserver(EventBatchObserver observer) {
+        this.batchObserver = observer;
+    }
+
     @Override
     @Nonnull
     public int scheduleEvents(final long time) {
+        if (batchObserver != null) {
+            return scheduleEventsObserved(time);
+        }
         int processedEvents = 0;
         scheduledTime = time;
         while (true) {
@@ -91,6 +104,39 @@ public class DefaultEventScheduler implements EventScheduler {
         }
     }
 
+    /**
+     * Same as {@link #scheduleEvents}, but measures the execution time of each batch of events
+     * with the same niceness and reports it to the {@link #batchObserver}.
+     */
+    private int scheduleEventsObserved(final long time) {
+        int processedEvents = 0;
+        scheduledTime = time;
+        long batchNice = 0;
+        int batchEvents = 0;
+        long batchStart = 0;
+        while (true) {
+            final Event nextEvent = eventQueue.peek();
+            if (nextEvent != null && nextEvent.getTime() < time) {
+                throw new RuntimeException("Scheduled event lies in the past.");
+            }
+            final boolean due = nextEvent != null && nextEvent.getTime() == time;
+            if (batchEvents > 0 && (!due || nextEvent.getNice() != batchNice)) {
+                batchObserver.onEventBatch(time, batchNice, batchEvents, System.nanoTime() - batchStart);
+                batchEvents = 0;
+            }
+            if (!due) {
+                return processedEvents;
+            }
+            if (batchEvents == 0) {
+                batchNice = nextEvent.getNice();
+                batchStart = System.nanoTime();
+            }
+            eventQueue.remove(); // remove the head of the queue
+            processedEvents += nextEvent.execute();
+            batchEvents++;
+        }
+    }
+
     @Override
     @Nonnull
     public Set<Event> getAllEvents() {
@@ -0,0 +1,34 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.lib.util.scheduling;
+
+/**
+ * Observes the execution of events by an {@link EventScheduler}, e.g. for profiling. Events are
+ * executed in batches of events having the same time and the same niceness.
+ */
+@FunctionalInterface
+public interface EventBatchObserver {
+
+    /**
+     * Called after all events of a batch have been executed.
+     *
+     * @param time           the time of the executed events in nanoseconds
+     * @param nice           the niceness of the executed events
+     * @param numberOfEvents the number of executed events
+     * @param durationNs     the wall clock time it took to execute the events in nanoseconds
+     */
+    void onEventBatch(long time, long nice, int numberOfEvents, long durationNs);
+}
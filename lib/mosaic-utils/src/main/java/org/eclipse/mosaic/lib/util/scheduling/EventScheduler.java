@@ -55,4 +55,15 @@ public interface EventScheduler extends EventManager {
      */
     @Nonnull
     Set<Event> getAllEvents();
+
+    /**
+     * Sets an observer which is notified about each batch of executed events. Observing
+     * the execution adds a small overhead, thus no observer is set by default. Schedulers which
+     * do not support observing their execution ignore the observer.
+     *
+     * @param observer the observer, or {@code null} to remove the current observer
+     */
+    default void setBatchObserver(EventBatchObserver observer) {
+        // nop by default
+    }
 }
@@ -51,7 +51,7 @@ public class MultiThreadedEventScheduler extends DefaultEventScheduler {
         while (true) {
             final Event nextEvent = super.eventQueue.peek();
             if (nextEvent == null) {
-                processedEvents += executeEvents(executables);
+                processedEvents += executeEvents(executables, time, nice);
                 return processedEvents;
             }
 
@@ -63,7 +63,7 @@ public class MultiThreadedEventScheduler extends DefaultEventScheduler {
             } else if (nextEvent.getTime() == time) {
                 super.eventQueue.remove(); // remove the head of the queue
                 // same time, but different nice value
-                processedEvents += executeEvents(executables);
+                processedEvents += executeEvents(executables, time, nice);
                 executables.clear();
 
                 nice = nextEvent.getNice();
@@ -71,7 +71,7 @@ public class MultiThreadedEventScheduler extends DefaultEventScheduler {
             } else {
                 // else case: nextEvent.getTime() > time
                 // do not schedule this event, push it back to the queue
-                processedEvents += executeEvents(executables);
+                processedEvents += executeEvents(executables, time, nice);
                 return processedEvents;
             }
         }
@@ -90,8 +90,9 @@ public class MultiThreadedEventScheduler extends DefaultEventScheduler {
      * @param executables to process
      * @return the total of processed events by all threads.
      */
-    private int executeEvents(List<Callable<Integer>> executables) {
+    private int executeEvents(List<Callable<Integer>> executables, long time, long nice) {
         int processedEvents = 0;
+        final long start = batchObserver != null ? System.nanoTime() : 0;
 
         try {
             List<Future<Integer>> futures = executorService.invokeAll(executables);
@@ -101,6 +102,9 @@ public class MultiThreadedEventScheduler extends DefaultEventScheduler {
         } catch (InterruptedException | ExecutionException e) {
             throw new RuntimeException(e);
         }
+        if (batchObserver != null && !executables.isEmpty()) {
+            batchObserver.onEventBatch(time, nice, executables.size(), System.nanoTime() - start);
+        }
         return processedEvents;
     }
 }
@@ -15,6 +15,7 @@
 
 package org.eclipse.mosaic.lib.util.scheduling;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
@@ -221,6 +222,26 @@ public class EventSchedulerTest {
         assertEquals("a", processedEvents.get(5).getResource());
     }
 
+    @Test
+    public void testScheduleEvents_batchObserver_oneBatchPerNiceValue() {
+        //SETUP
+        final List<long[]> batches = new ArrayList<>();
+        eventScheduler.setBatchObserver((time, nice, numberOfEvents, durationNs) -> batches.add(new long[]{time, nice, numberOfEvents}));
+        eventScheduler.addEvent(new Event(0, processor, "a", 20));
+        eventScheduler.addEvent(new Event(0, processor, "b", 10));
+        eventScheduler.addEvent(new Event(0, processor, "c", 10));
+
+        //RUN
+        int totalProcessedEvents = eventScheduler.scheduleEvents(0);
+
+        //ASSERT
+        assertEquals(4, totalProcessedEvents);
+        assertEquals(3, batches.size());
+        assertArrayEquals(new long[]{0, 0, 1}, batches.get(0));
+        assertArrayEquals(new long[]{0, 10, 2}, batches.get(1));
+        assertArrayEquals(new long[]{0, 20, 1}, batches.get(2));
+    }
+
     /**
      * A test event producer that schedules events in the future.
      * Stores all the processed events into a list.
@@ -25,6 +25,9 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.PriorityBlockingQueue;
 import javax.annotation.Nonnull;
 
@@ -105,6 +108,7 @@ public abstract class AbstractFederateAmbassador implements FederateAmbassador {
         while (nextInteraction != null) {
             rti.getMonitor().onProcessInteraction(getId(), nextInteraction);
             processInteraction(nextInteraction);
+            rti.getMonitor().onEndProcessInteraction(getId(), nextInteraction);
             nextInteraction = interactionQueue.getNextInteraction(time);
         }
         processTimeAdvanceGrant(time);
@@ -132,6 +136,7 @@ public abstract class AbstractFederateAmbassador implements FederateAmbassador {
                 // not time constrained --> doesn't care about timestamps
                 rti.getMonitor().onProcessInteraction(getId(), interaction);
                 processInteraction(interaction);
+                rti.getMonitor().onEndProcessInteraction(getId(), interaction);
                 // if fed is time regulating but not time constrained,
                 // it would have to request advance time before it may send
                 // any interaction to other federates
@@ -155,6 +160,29 @@ public abstract class AbstractFederateAmbassador implements FederateAmbassador {
         rti.requestAdvanceTime(time, lookahead, descriptor.getPriority());
     }
 
+    /**
+     * Returns all received interactions which have not been processed yet, in order of their time.
+     * Used to store these interactions in a checkpoint.
+     *
+     * @return a copy of the queue of unprocessed interactions
+     */
+    public List<Interaction> getPendingInteractions() {
+        final List<Interaction> pendingInteractions = new ArrayList<>(interactionQueue);
+        Collections.sort(pendingInteractions);
+        return pendingInteractions;
+    }
+
+    /**
+     * Adds interactions, which had not been processed when a checkpoint was stored, to the queue of
+     * unprocessed interactions again. Other than {@link #receiveInteraction}, no time advance is requested,
+     * since the time management restores all time advance requests which were pending at the checkpoint.
+     *
+     * @param interactions the interactions restored from a checkpoint
+     */
+    public void addPendingInteractions(List<Interaction> interactions) {
+        interactionQueue.addAll(interactions);
+    }
+
     @Override
     public final void setRtiAmbassador(@Nonnull RtiAmbassador rti) {
         log.trace("setRtiAmbassador(RtiAmbassador rti)");
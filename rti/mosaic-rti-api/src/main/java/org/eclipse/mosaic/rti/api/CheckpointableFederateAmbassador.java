@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.rti.api;
+
+import java.io.File;
+import java.util.List;
+
+/**
+ * A federate ambassador which is able to store its state into a checkpoint, and to continue
+ * a later simulation run from such a checkpoint instead of simulating from the beginning, e.g. to skip
+ * the warm-up phase of the traffic. A simulation can only be started from a checkpoint, if all federates
+ * of the federation implement this interface.
+ */
+public interface CheckpointableFederateAmbassador extends FederateAmbassador {
+
+    /**
+     * Stores the state of this federate. Called by the time management after all events until the given
+     * time have been processed by all federates.
+     *
+     * @param time      the simulation time of the checkpoint in nanoseconds
+     * @param directory an empty directory exclusively used by this federate to write its state into
+     * @throws InternalFederateException if the state could not be stored
+     */
+    void saveCheckpoint(long time, File directory) throws InternalFederateException;
+
+    /**
+     * Restores the state of this federate previously stored by {@link #saveCheckpoint}. Called by the
+     * time management before {@link #initialize}, which then receives the time of the checkpoint as start time.
+     *
+     * @param time      the simulation time of the checkpoint in nanoseconds
+     * @param directory the directory this federate has written its state into
+     * @throws InternalFederateException if the state could not be restored
+     */
+    void restoreCheckpoint(long time, File directory) throws InternalFederateException;
+
+    /**
+     * Returns all interactions which have been received by this federate, but not processed yet, since they
+     * are scheduled after the time of the checkpoint. These are stored by the time management along with the
+     * pending time advance requests. Implemented by {@link AbstractFederateAmbassador#getPendingInteractions}.
+     *
+     * @return the unprocessed interactions in order of their time
+     */
+    List<Interaction> getPendingInteractions();
+
+    /**
+     * Adds the interactions returned by {@link #getPendingInteractions} when the checkpoint was stored.
+     * Called by the time management after {@link #restoreCheckpoint}. Implemented by
+     * {@link AbstractFederateAmbassador#addPendingInteractions}.
+     *
+     * @param interactions the unprocessed interactions restored from the checkpoint
+     */
+    void addPendingInteractions(List<Interaction> interactions);
+}
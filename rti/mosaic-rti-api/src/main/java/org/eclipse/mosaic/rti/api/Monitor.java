@@ -31,6 +31,13 @@ public interface Monitor {
         // nop
     }
 
+    /**
+     * Called after the federate with the given id has processed the interaction announced by {@link #onProcessInteraction}.
+     */
+    default void onEndProcessInteraction(String id, Interaction interaction) {
+        // nop
+    }
+
     default void onBeginSimulation(FederationManagement federationManagement, TimeManagement timeManagement, int numberOfThreads) {
         // nop
     }
@@ -50,4 +57,33 @@ public interface Monitor {
     default void onScheduling(int id, FederateEvent event) {
         // nop
     }
+
+    /**
+     * Called by the time management each time an event has been removed from its queue.
+     *
+     * @param numberOfEvents the number of events remaining in the queue
+     */
+    default void onPendingEvents(int numberOfEvents) {
+        // nop
+    }
+
+    /**
+     * Called by federates after they have executed a batch of internal events, e.g. all events of a certain type
+     * scheduled for the same time. Only called if {@link #isProfilingEnabled()} returns {@code true}.
+     *
+     * @param federateId     the id of the federate
+     * @param eventType      the type of the executed events
+     * @param numberOfEvents the number of executed events
+     * @param durationNs     the wall clock time it took to execute the events in nanoseconds
+     */
+    default void onEventBatch(String federateId, String eventType, int numberOfEvents, long durationNs) {
+        // nop
+    }
+
+    /**
+     * Returns {@code true}, if federates should report additional information for profiling, such as {@link #onEventBatch}.
+     */
+    default boolean isProfilingEnabled() {
+        return false;
+    }
 }
@@ -15,6 +15,8 @@
 
 package org.eclipse.mosaic.rti;
 
+import java.io.File;
+
 public class MosaicComponentParameters {
 
     /**
@@ -42,6 +44,26 @@ public class MosaicComponentParameters {
      */
     private int numberOfThreads = 1;
 
+    /**
+     * The simulation time at which the state of all federates is stored into a checkpoint, or {@code -1} if no checkpoint is stored.
+     */
+    private long checkpointTime = -1;
+
+    /**
+     * The directory to store the checkpoint into, or to restore the simulation from.
+     */
+    private File checkpointDirectory;
+
+    /**
+     * If {@code true}, the simulation is continued from the checkpoint in {@link #checkpointDirectory}.
+     */
+    private boolean restoreCheckpoint = false;
+
+    /**
+     * The file to write the profiling results into, or {@code null} if the simulation should not be profiled.
+     */
+    private File profilingFile;
+
     public String getFederationId() {
         return federationId;
     }
@@ -87,4 +109,39 @@ public class MosaicComponentParameters {
         return this;
     }
 
+    public long getCheckpointTime() {
+        return checkpointTime;
+    }
+
+    public MosaicComponentParameters setCheckpointTime(long checkpointTime) {
+        this.checkpointTime = checkpointTime;
+        return this;
+    }
+
+    public File getCheckpointDirectory() {
+        return checkpointDirectory;
+    }
+
+    public MosaicComponentParameters setCheckpointDirectory(File checkpointDirectory) {
+        this.checkpointDirectory = checkpointDirectory;
+        return this;
+    }
+
+    public boolean isRestoreCheckpoint() {
+        return restoreCheckpoint;
+    }
+
+    public MosaicComponentParameters setRestoreCheckpoint(boolean restoreCheckpoint) {
+        this.restoreCheckpoint = restoreCheckpoint;
+        return this;
+    }
+
+    public File getProfilingFile() {
+        return profilingFile;
+    }
+
+    public MosaicComponentParameters setProfilingFile(File profilingFile) {
+        this.profilingFile = profilingFile;
+        return this;
+    }
 }
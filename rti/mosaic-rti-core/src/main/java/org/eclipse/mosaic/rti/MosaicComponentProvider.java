@@ -27,6 +27,7 @@ import org.eclipse.mosaic.rti.federation.DistributedFederationManagement;
 import org.eclipse.mosaic.rti.federation.LocalFederationManagement;
 import org.eclipse.mosaic.rti.interaction.TypeBasedInteractionManagement;
 import org.eclipse.mosaic.rti.monitor.ActivityLoggingMonitor;
+import org.eclipse.mosaic.rti.monitor.ProfilingMonitor;
 import org.eclipse.mosaic.rti.time.MultiThreadedTimeManagement;
 import org.eclipse.mosaic.rti.time.SequentialTimeManagement;
 
@@ -90,12 +91,17 @@ public class MosaicComponentProvider implements ComponentProvider {
     }
 
     protected Monitor createMonitor(MosaicComponentParameters componentParameters) {
+        final Monitor monitor;
         Logger activityLog = LoggerFactory.getLogger("activities");
         if (activityLog != null && activityLog.isInfoEnabled()) {
-            return new ActivityLoggingMonitor(activityLog);
+            monitor = new ActivityLoggingMonitor(activityLog);
         } else {
-            return new Monitor() {};
+            monitor = new Monitor() {};
         }
+        if (componentParameters.getProfilingFile() != null) {
+            return new ProfilingMonitor(monitor, componentParameters.getProfilingFile());
+        }
+        return monitor;
     }
 
     @Nonnull
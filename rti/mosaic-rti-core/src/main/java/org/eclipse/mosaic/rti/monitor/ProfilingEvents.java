@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.rti.monitor;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * Custom events for the Java Flight Recorder emitted by the {@link ProfilingMonitor}. The events
+ * are only recorded if a flight recording is active, e.g. by starting the JVM with {@code -XX:StartFlightRecording}.
+ */
+final class ProfilingEvents {
+
+    private ProfilingEvents() {
+        // static container
+    }
+
+    @Name("org.eclipse.mosaic.AdvanceTime")
+    @Label("Advance Time")
+    @Description("A federate advances to the granted simulation time")
+    @Category({"Eclipse MOSAIC", "RTI"})
+    @StackTrace(false)
+    static class AdvanceTime extends Event {
+
+        @Label("Federate")
+        String federate;
+
+        @Label("Simulation Time")
+        @Timespan(Timespan.NANOSECONDS)
+        long simulationTime;
+    }
+
+    @Name("org.eclipse.mosaic.ProcessInteraction")
+    @Label("Process Interaction")
+    @Description("A federate processes an interaction")
+    @Category({"Eclipse MOSAIC", "RTI"})
+    @StackTrace(false)
+    static class ProcessInteraction extends Event {
+
+        @Label("Federate")
+        String federate;
+
+        @Label("Interaction Type")
+        String interactionType;
+    }
+
+    @Name("org.eclipse.mosaic.EventBatch")
+    @Label("Event Batch")
+    @Description("A federate executes a batch of internal events of the same type")
+    @Category({"Eclipse MOSAIC", "Federate"})
+    @StackTrace(false)
+    static class EventBatch extends Event {
+
+        @Label("Federate")
+        String federate;
+
+        @Label("Event Type")
+        String eventType;
+
+        @Label("Number of Events")
+        int numberOfEvents;
+
+        @Label("Execution Time")
+        @Timespan(Timespan.NANOSECONDS)
+        long executionTime;
+    }
+}
@@ -0,0 +1,269 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.rti.monitor;
+
+import org.eclipse.mosaic.rti.api.FederateAmbassador;
+import org.eclipse.mosaic.rti.api.FederationManagement;
+import org.eclipse.mosaic.rti.api.Interaction;
+import org.eclipse.mosaic.rti.api.Monitor;
+import org.eclipse.mosaic.rti.api.TimeManagement;
+import org.eclipse.mosaic.rti.api.time.FederateEvent;
+
+import jdk.jfr.Event;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Profiles the simulation run by measuring the wall clock time of the time advances of each federate, of the
+ * processing of interactions per interaction type and receiving federate, and of batches of internal events
+ * reported by the federates. Each measurement is recorded in a {@link LatencyHistogram}. Additionally, the number
+ * of pending events in the queue of the time management is sampled, and the idle time of each federate is
+ * derived from its busy time. The results are written into a compact, semicolon separated file at the end of the
+ * simulation. If a Java Flight Recording is active, all measurements are emitted as JFR events as well.
+ * <p>
+ * All calls are forwarded to a delegate monitor.
+ */
+public class ProfilingMonitor implements Monitor {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ProfilingMonitor.class);
+
+    private static final String ADVANCE_TIME = "advanceTime:";
+    private static final String INTERACTION = "interaction:";
+    private static final String EVENT_BATCH = "eventBatch:";
+
+    private final Monitor delegate;
+    private final File outputFile;
+
+    private final Map<String, LatencyHistogram> latencies = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> busyTimes = new ConcurrentHashMap<>();
+    private final LatencyHistogram pendingEvents = new LatencyHistogram();
+
+    /**
+     * Activities and interactions are nested, e.g. interactions are processed during the time advance of
+     * a federate, and federates may advance concurrently, hence each thread keeps its own stack of measurements.
+     */
+    private final ThreadLocal<Deque<Measurement>> measurements = ThreadLocal.withInitial(ArrayDeque::new);
+
+    private volatile long simulationStart = System.nanoTime();
+
+    public ProfilingMonitor(Monitor delegate, File outputFile) {
+        this.delegate = delegate;
+        this.outputFile = outputFile;
+    }
+
+    @Override
+    public boolean isProfilingEnabled() {
+        return true;
+    }
+
+    @Override
+    public void onBeginSimulation(FederationManagement federationManagement, TimeManagement timeManagement, int numberOfThreads) {
+        simulationStart = System.nanoTime();
+        for (FederateAmbassador ambassador : federationManagement.getAmbassadors()) {
+            busyTimes.computeIfAbsent(ambassador.getId(), k -> new LongAdder());
+        }
+        delegate.onBeginSimulation(federationManagement, timeManagement, numberOfThreads);
+    }
+
+    @Override
+    public void onEndSimulation(FederationManagement federationManagement, TimeManagement timeManagement, long durationInMs, int statusCode) {
+        delegate.onEndSimulation(federationManagement, timeManagement, durationInMs, statusCode);
+        try {
+            writeResults(System.nanoTime() - simulationStart);
+            LOG.info("Wrote profiling results to {}", outputFile);
+        } catch (IOException e) {
+            LOG.warn("Could not write profiling results to {}", outputFile, e);
+        }
+    }
+
+    @Override
+    public void onBeginActivity(FederateEvent event) {
+        delegate.onBeginActivity(event);
+        final ProfilingEvents.AdvanceTime jfrEvent = new ProfilingEvents.AdvanceTime();
+        if (jfrEvent.isEnabled()) {
+            jfrEvent.federate = event.getFederateId();
+            jfrEvent.simulationTime = event.getRequestedTime();
+            jfrEvent.begin();
+        }
+        measurements.get().push(new Measurement(event.getFederateId(), jfrEvent));
+    }
+
+    @Override
+    public void onEndActivity(FederateEvent event, long duration) {
+        final Measurement measurement = pop(event.getFederateId());
+        if (measurement != null) {
+            final long durationNs = measurement.finish();
+            getHistogram(ADVANCE_TIME + event.getFederateId()).record(durationNs);
+            busyTimes.computeIfAbsent(event.getFederateId(), k -> new LongAdder()).add(durationNs);
+        }
+        delegate.onEndActivity(event, duration);
+    }
+
+    @Override
+    public void onProcessInteraction(String id, Interaction interaction) {
+        delegate.onProcessInteraction(id, interaction);
+        final ProfilingEvents.ProcessInteraction jfrEvent = new ProfilingEvents.ProcessInteraction();
+        if (jfrEvent.isEnabled()) {
+            jfrEvent.federate = id;
+            jfrEvent.interactionType = interaction.getTypeId();
+            jfrEvent.begin();
+        }
+        measurements.get().push(new Measurement(id, jfrEvent));
+    }
+
+    @Override
+    public void onEndProcessInteraction(String id, Interaction interaction) {
+        final Measurement measurement = pop(id);
+        if (measurement != null) {
+            getHistogram(INTERACTION + interaction.getTypeId() + ">" + id).record(measurement.finish());
+        }
+        delegate.onEndProcessInteraction(id, interaction);
+    }
+
+    @Override
+    public void onEventBatch(String federateId, String eventType, int numberOfEvents, long durationNs) {
+        getHistogram(EVENT_BATCH + federateId + "/" + eventType).record(durationNs);
+        final ProfilingEvents.EventBatch jfrEvent = new ProfilingEvents.EventBatch();
+        if (jfrEvent.isEnabled()) {
+            jfrEvent.federate = federateId;
+            jfrEvent.eventType = eventType;
+            jfrEvent.numberOfEvents = numberOfEvents;
+            jfrEvent.executionTime = durationNs;
+            jfrEvent.commit();
+        }
+        delegate.onEventBatch(federateId, eventType, numberOfEvents, durationNs);
+    }
+
+    @Override
+    public void onPendingEvents(int numberOfEvents) {
+        pendingEvents.record(numberOfEvents);
+        delegate.onPendingEvents(numberOfEvents);
+    }
+
+    @Override
+    public void onInteraction(Interaction interaction) {
+        delegate.onInteraction(interaction);
+    }
+
+    @Override
+    public void onReceiveInteraction(String id, Interaction interaction) {
+        delegate.onReceiveInteraction(id, interaction);
+    }
+
+    @Override
+    public void onScheduling(int id, FederateEvent event) {
+        delegate.onScheduling(id, event);
+    }
+
+    private Measurement pop(String federateId) {
+        final Deque<Measurement> stack = measurements.get();
+        final Measurement measurement = stack.poll();
+        if (measurement == null || !measurement.federateId.equals(federateId)) {
+            // unbalanced calls, e.g. after an exception during the time advance, are discarded
+            stack.clear();
+            return null;
+        }
+        return measurement;
+    }
+
+    private LatencyHistogram getHistogram(String name) {
+        return latencies.computeIfAbsent(name, k -> new LatencyHistogram());
+    }
+
+    /**
+     * Writes the results into three sections: latencies of all measurements in microseconds, busy and idle
+     * times of each federate in milliseconds, and the distribution of the number of pending events.
+     */
+    void writeResults(long wallTimeNs) throws IOException {
+        final File parent = outputFile.getAbsoluteFile().getParentFile();
+        if (parent != null && !parent.exists() && !parent.mkdirs()) {
+            throw new IOException("Could not create directory " + parent);
+        }
+        try (PrintWriter writer = new PrintWriter(outputFile, StandardCharsets.UTF_8)) {
+            writer.println("[latency]");
+            writer.println("name;count;total_ms;mean_us;p50_us;p90_us;p99_us;max_us");
+            for (Map.Entry<String, LatencyHistogram> entry : new TreeMap<>(latencies).entrySet()) {
+                final LatencyHistogram histogram = entry.getValue();
+                writer.println(String.format(Locale.ENGLISH, "%s;%d;%.3f;%.1f;%.1f;%.1f;%.1f;%.1f",
+                        entry.getKey(),
+                        histogram.getCount(),
+                        histogram.getTotal() / 1e6,
+                        histogram.getMean() / 1e3,
+                        histogram.getPercentile(50) / 1e3,
+                        histogram.getPercentile(90) / 1e3,
+                        histogram.getPercentile(99) / 1e3,
+                        histogram.getMax() / 1e3
+                ));
+            }
+
+            writer.println("[federates]");
+            writer.println("federate;busy_ms;idle_ms;idle_percent");
+            for (Map.Entry<String, LongAdder> entry : new TreeMap<>(busyTimes).entrySet()) {
+                final long busy = Math.min(entry.getValue().sum(), wallTimeNs);
+                final long idle = wallTimeNs - busy;
+                writer.println(String.format(Locale.ENGLISH, "%s;%.3f;%.3f;%.1f",
+                        entry.getKey(),
+                        busy / 1e6,
+                        idle / 1e6,
+                        wallTimeNs > 0 ? 100d * idle / wallTimeNs : 0
+                ));
+            }
+
+            writer.println("[queue]");
+            writer.println("samples;mean;p50;p90;p99;max");
+            writer.println(String.format(Locale.ENGLISH, "%d;%.1f;%d;%d;%d;%d",
+                    pendingEvents.getCount(),
+                    pendingEvents.getMean(),
+                    pendingEvents.getPercentile(50),
+                    pendingEvents.getPercentile(90),
+                    pendingEvents.getPercentile(99),
+                    pendingEvents.getMax()
+            ));
+        }
+    }
+
+    private static class Measurement {
+
+        private final String federateId;
+        private final Event jfrEvent;
+        private final long start = System.nanoTime();
+
+        private Measurement(String federateId, Event jfrEvent) {
+            this.federateId = federateId;
+            this.jfrEvent = jfrEvent;
+        }
+
+        private long finish() {
+            final long duration = System.nanoTime() - start;
+            if (jfrEvent.isEnabled()) {
+                jfrEvent.commit();
+            }
+            return duration;
+        }
+    }
+}
@@ -21,6 +21,7 @@ import org.eclipse.mosaic.rti.ExternalWatchDog;
 import org.eclipse.mosaic.rti.MosaicComponentParameters;
 import org.eclipse.mosaic.rti.TIME;
 import org.eclipse.mosaic.rti.WatchDogThread;
+import org.eclipse.mosaic.rti.api.CheckpointableFederateAmbassador;
 import org.eclipse.mosaic.rti.api.ComponentProvider;
 import org.eclipse.mosaic.rti.api.FederateAmbassador;
 import org.eclipse.mosaic.rti.api.IllegalValueException;
@@ -33,11 +34,15 @@ import org.apache.commons.lang3.time.DurationFormatUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.File;
+import java.io.IOException;
 import java.text.DecimalFormat;
 import java.text.DecimalFormatSymbols;
 import java.text.SimpleDateFormat;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Date;
+import java.util.List;
 import java.util.Locale;
 import java.util.Observable;
 import java.util.Queue;
@@ -80,11 +85,25 @@ public abstract class AbstractTimeManagement extends Observable implements TimeM
 
     protected final ComponentProvider federation;
 
+    /**
+     * Records which federates hold back the global time, reported at the end of the simulation.
+     */
+    protected final CriticalPathAnalysis criticalPath;
+
     /**
      * The end time of the simulation.
      */
     private final long endTime;
 
+    /**
+     * The simulation time at which a checkpoint is stored, or {@code -1} if no (further) checkpoint is to be stored.
+     */
+    private long checkpointTime;
+
+    private final File checkpointDirectory;
+
+    private final boolean restoreCheckpoint;
+
     /**
      * The current simulation time of the federation in nanoseconds.
      */
@@ -98,7 +117,12 @@ public abstract class AbstractTimeManagement extends Observable implements TimeM
         this.logger = LoggerFactory.getLogger(getClass());
         this.events = new EfficientPriorityQueue<>();
         this.federation = federation;
+        this.criticalPath = new CriticalPathAnalysis(Math.max(1, componentParameters.getNumberOfThreads()));
         this.endTime = componentParameters.getEndTime();
+        this.checkpointDirectory = componentParameters.getCheckpointDirectory();
+        this.restoreCheckpoint = componentParameters.isRestoreCheckpoint();
+        // a restored simulation must not overwrite the checkpoint it has been started from
+        this.checkpointTime = restoreCheckpoint ? -1 : componentParameters.getCheckpointTime();
     }
 
     @Override
@@ -143,15 +167,112 @@ public abstract class AbstractTimeManagement extends Observable implements TimeM
         // advance to start time
         this.time = 0;
 
-        // schedule start event for each federate
         Collection<FederateAmbassador> ambassadors = federation.getFederationManagement().getAmbassadors();
+        if (restoreCheckpoint) {
+            this.time = restoreCheckpoint(ambassadors);
+        }
+
+        // schedule start event for each federate
         for (FederateAmbassador fed : ambassadors) {
-            fed.initialize(0, getEndTime());
+            fed.initialize(this.time, getEndTime());
         }
 
         simStartRealtimeNs = System.nanoTime();
     }
 
+    /**
+     * Restores the state of all federates from the configured checkpoint, and schedules all time advance requests
+     * which were pending when the checkpoint was stored.
+     *
+     * @return the simulation time of the checkpoint
+     */
+    private long restoreCheckpoint(Collection<FederateAmbassador> ambassadors) throws InternalFederateException {
+        final Checkpoint checkpoint;
+        try {
+            checkpoint = Checkpoint.read(checkpointDirectory);
+        } catch (IOException e) {
+            throw new InternalFederateException("Could not read checkpoint", e);
+        }
+        if (checkpoint.getTime() > getEndTime()) {
+            throw new InternalFederateException(String.format(
+                    "Checkpoint at %s is after the end of the simulation", TIME.format(checkpoint.getTime())
+            ));
+        }
+        for (FederateAmbassador fed : ambassadors) {
+            if (!(fed instanceof CheckpointableFederateAmbassador checkpointable)) {
+                throw new InternalFederateException(String.format(
+                        "Cannot restore simulation from checkpoint, as the federate '%s' does not support checkpoints", fed.getId()
+                ));
+            }
+            if (!checkpoint.getFederateIds().contains(fed.getId())) {
+                throw new InternalFederateException(String.format(
+                        "Cannot restore simulation from checkpoint, as it does not contain the state of federate '%s'", fed.getId()
+                ));
+            }
+            checkpointable.restoreCheckpoint(checkpoint.getTime(), Checkpoint.getFederateDirectory(checkpointDirectory, fed.getId()));
+            try {
+                checkpointable.addPendingInteractions(Checkpoint.readPendingInteractions(checkpointDirectory, fed.getId()));
+            } catch (IOException e) {
+                throw new InternalFederateException("Could not restore pending interactions of federate " + fed.getId(), e);
+            }
+        }
+        synchronized (this.events) {
+            for (FederateEvent event : checkpoint.getEvents()) {
+                if (!this.events.contains(event)) {
+                    this.events.add(event);
+                }
+            }
+        }
+        logger.info("Restored simulation from checkpoint at {}", TIME.format(checkpoint.getTime()));
+        return checkpoint.getTime();
+    }
+
+    /**
+     * Stores the state of all checkpointable federates, if the next event is the first event after the configured checkpoint time.
+     * Must be called before the next event is removed from the queue, when all previous events have been processed completely.
+     */
+    protected void saveCheckpointIfDue() throws InternalFederateException {
+        if (checkpointTime < 0) {
+            return;
+        }
+        final List<FederateEvent> pendingEvents;
+        synchronized (this.events) {
+            final FederateEvent nextEvent = this.events.peek();
+            if (nextEvent != null && nextEvent.getRequestedTime() <= checkpointTime) {
+                return;
+            }
+            pendingEvents = new ArrayList<>(this.events);
+        }
+        final long time = checkpointTime;
+        checkpointTime = -1;
+
+        final List<String> federateIds = new ArrayList<>();
+        for (FederateAmbassador fed : federation.getFederationManagement().getAmbassadors()) {
+            if (fed instanceof CheckpointableFederateAmbassador checkpointable) {
+                final File directory = Checkpoint.getFederateDirectory(checkpointDirectory, fed.getId());
+                if (!directory.isDirectory() && !directory.mkdirs()) {
+                    throw new InternalFederateException("Could not create checkpoint directory " + directory);
+                }
+                checkpointable.saveCheckpoint(time, directory);
+                try {
+                    // interactions scheduled after the checkpoint are queued by time constrained federates
+                    Checkpoint.writePendingInteractions(checkpointDirectory, fed.getId(), checkpointable.getPendingInteractions());
+                } catch (IOException e) {
+                    throw new InternalFederateException("Could not store pending interactions of federate " + fed.getId(), e);
+                }
+                federateIds.add(fed.getId());
+            } else {
+                logger.warn("Federate '{}' does not support checkpoints, the simulation can not be restored from this checkpoint.", fed.getId());
+            }
+        }
+        try {
+            new Checkpoint(time, federateIds, pendingEvents).write(checkpointDirectory);
+        } catch (IOException e) {
+            throw new InternalFederateException("Could not write checkpoint", e);
+        }
+        logger.info("Stored checkpoint at {} in {}", TIME.format(time), checkpointDirectory);
+    }
+
     @Override
     public void finishSimulationRun(int statusCode) throws InternalFederateException {
         long durationMs = simStartRealtimeNs > 0
@@ -164,6 +285,7 @@ public abstract class AbstractTimeManagement extends Observable implements TimeM
                 fed.finishSimulation();
             }
         } finally {
+            criticalPath.logReport(logger);
             PerformanceMonitor.getInstance().logSummary(logger);
             // always print simulation finished even if federate throws exception on finishing
             printSimulationFinished(durationMs, statusCode);
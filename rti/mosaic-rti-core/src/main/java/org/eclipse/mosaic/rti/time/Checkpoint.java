@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.rti.time;
+
+import org.eclipse.mosaic.lib.util.SerializationUtils;
+import org.eclipse.mosaic.rti.api.Interaction;
+import org.eclipse.mosaic.rti.api.time.FederateEvent;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Properties;
+
+/**
+ * Describes a checkpoint of a simulation run, consisting of the simulation time, the participating
+ * federates, and all time advance requests which were pending at the time of the checkpoint. The
+ * state of each federate is stored in a sub-directory of the checkpoint directory named by the federate id.
+ * Interactions received but not processed by a federate are stored next to this sub-directory.
+ */
+class Checkpoint {
+
+    private static final String MANIFEST_FILE = "checkpoint.properties";
+
+    private static final String KEY_TIME = "time";
+    private static final String KEY_FEDERATES = "federates";
+    private static final String KEY_EVENTS = "events";
+    private static final String KEY_EVENT_PREFIX = "event.";
+
+    private static final String PENDING_INTERACTIONS_SUFFIX = ".interactions";
+
+    private final long time;
+    private final List<String> federateIds;
+    private final List<FederateEvent> events;
+
+    Checkpoint(long time, List<String> federateIds, List<FederateEvent> events) {
+        this.time = time;
+        this.federateIds = federateIds;
+        this.events = events;
+    }
+
+    long getTime() {
+        return time;
+    }
+
+    List<String> getFederateIds() {
+        return federateIds;
+    }
+
+    List<FederateEvent> getEvents() {
+        return events;
+    }
+
+    /**
+     * Returns the directory in which the given federate stores its state.
+     */
+    static File getFederateDirectory(File checkpointDirectory, String federateId) {
+        return new File(checkpointDirectory, federateId);
+    }
+
+    /**
+     * Writes the interactions which have been received by the given federate, but not processed yet.
+     *
+     * @throws IOException if the interactions could not be written, e.g. if one of them is not serializable
+     */
+    static void writePendingInteractions(File checkpointDirectory, String federateId, List<Interaction> interactions) throws IOException {
+        final byte[] bytes = new SerializationUtils<ArrayList<Interaction>>().toBytes(new ArrayList<>(interactions));
+        Files.write(new File(checkpointDirectory, federateId + PENDING_INTERACTIONS_SUFFIX).toPath(), bytes);
+    }
+
+    /**
+     * Reads the interactions which had been received by the given federate, but not processed yet.
+     *
+     * @throws IOException if the interactions could not be read
+     */
+    static List<Interaction> readPendingInteractions(File checkpointDirectory, String federateId) throws IOException {
+        final File file = new File(checkpointDirectory, federateId + PENDING_INTERACTIONS_SUFFIX);
+        if (!file.exists()) {
+            throw new IOException("No pending interactions of federate " + federateId + " found in " + checkpointDirectory);
+        }
+        try {
+            return new SerializationUtils<ArrayList<Interaction>>().fromBytes(Files.readAllBytes(file.toPath()));
+        } catch (ClassNotFoundException e) {
+            throw new IOException("Could not read pending interactions of federate " + federateId, e);
+        }
+    }
+
+    /**
+     * Writes the description of this checkpoint into the given directory.
+     */
+    void write(File checkpointDirectory) throws IOException {
+        final Properties properties = new Properties();
+        properties.setProperty(KEY_TIME, Long.toString(time));
+        properties.setProperty(KEY_FEDERATES, String.join(",", federateIds));
+        properties.setProperty(KEY_EVENTS, Integer.toString(events.size()));
+        int i = 0;
+        for (FederateEvent event : events) {
+            properties.setProperty(KEY_EVENT_PREFIX + i++, String.join(",",
+                    event.getFederateId(),
+                    Long.toString(event.getRequestedTime()),
+                    Long.toString(event.getLookahead()),
+                    Byte.toString(event.getPriority())
+            ));
+        }
+        try (Writer writer = Files.newBufferedWriter(new File(checkpointDirectory, MANIFEST_FILE).toPath(), StandardCharsets.UTF_8)) {
+            properties.store(writer, "Eclipse MOSAIC simulation checkpoint");
+        }
+    }
+
+    /**
+     * Reads the description of a checkpoint previously written into the given directory.
+     *
+     * @throws IOException if the directory does not contain a valid checkpoint
+     */
+    static Checkpoint read(File checkpointDirectory) throws IOException {
+        final File manifest = new File(checkpointDirectory, MANIFEST_FILE);
+        if (!manifest.exists()) {
+            throw new IOException("No checkpoint found in " + checkpointDirectory);
+        }
+        final Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(manifest.toPath(), StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        }
+        try {
+            final long time = Long.parseLong(properties.getProperty(KEY_TIME));
+            final String federates = properties.getProperty(KEY_FEDERATES, "");
+            final List<String> federateIds = federates.isEmpty() ? List.of() : Arrays.asList(federates.split(","));
+            final int numberOfEvents = Integer.parseInt(properties.getProperty(KEY_EVENTS, "0"));
+            final List<FederateEvent> events = new ArrayList<>(numberOfEvents);
+            for (int i = 0; i < numberOfEvents; i++) {
+                final String[] event = properties.getProperty(KEY_EVENT_PREFIX + i).split(",");
+                events.add(new FederateEvent(event[0], Long.parseLong(event[1]), Long.parseLong(event[2]), Byte.parseByte(event[3])));
+            }
+            return new Checkpoint(time, federateIds, events);
+        } catch (RuntimeException e) {
+            throw new IOException("Invalid checkpoint description in " + manifest, e);
+        }
+    }
+}
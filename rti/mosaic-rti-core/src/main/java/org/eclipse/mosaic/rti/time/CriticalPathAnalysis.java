@@ -0,0 +1,235 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.rti.time;
+
+import org.eclipse.mosaic.rti.TIME;
+import org.eclipse.mosaic.rti.api.time.FederateEvent;
+
+import org.slf4j.Logger;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Analyzes which federates lie on the critical path of the simulation. The time management advances the
+ * federation in steps, each consisting of one or more time advances of federates which are executed in parallel, if
+ * possible. The next step can only begin after all time advances of the current step have finished, thus the federate
+ * with the longest time advance of a step holds back the global time, while all other federates are idle.
+ * <p>
+ * For each step, the federate holding back the global time, the time other federates waited for it, the number of
+ * federates executed in the step, and the reason why no further federates could be executed in parallel is recorded.
+ * At the end of the simulation, these records are summarized per federate, which helps to tune the number of threads,
+ * the priorities and the lookahead values of the federates.
+ */
+class CriticalPathAnalysis {
+
+    /**
+     * The reason why a step was executed the way it was.
+     */
+    enum StepLimit {
+        /**
+         * Several federates were advanced in parallel.
+         */
+        PARALLEL,
+        /**
+         * The next federate could have been advanced in parallel, but only one thread is available.
+         */
+        THREADS,
+        /**
+         * The next federate requested a time beyond the lookahead of the current federate.
+         */
+        LOOKAHEAD,
+        /**
+         * The next federate has a different priority than the current federate.
+         */
+        PRIORITY,
+        /**
+         * No further event was scheduled.
+         */
+        NONE
+    }
+
+    private final int numberOfThreads;
+
+    private final Map<String, FederateStatistics> federates = new TreeMap<>();
+    private final Map<StepLimit, Long> stepLimits = new EnumMap<>(StepLimit.class);
+
+    private final List<String> stepFederates = new ArrayList<>();
+    private final List<Long> stepDurations = new ArrayList<>();
+    private long stepStart;
+
+    private long steps = 0;
+    private long totalStepNs = 0;
+    private long totalBusyNs = 0;
+    private long totalActivities = 0;
+
+    CriticalPathAnalysis(int numberOfThreads) {
+        this.numberOfThreads = numberOfThreads;
+    }
+
+    /**
+     * Determines why the given event could not be executed in parallel with the next event in the queue.
+     *
+     * @param event    the event to be executed
+     * @param next     the next event in the queue, or {@code null} if the queue is empty
+     * @param parallel {@code true}, if several federates are advanced in parallel by the time management
+     */
+    static StepLimit classify(FederateEvent event, FederateEvent next, boolean parallel) {
+        if (next == null) {
+            return StepLimit.NONE;
+        }
+        if (next.getPriority() != event.getPriority()) {
+            return StepLimit.PRIORITY;
+        }
+        if (event.getRequestedTime() + event.getLookahead() < next.getRequestedTime()) {
+            return StepLimit.LOOKAHEAD;
+        }
+        return parallel ? StepLimit.PARALLEL : StepLimit.THREADS;
+    }
+
+    /**
+     * Begins a new step, right after the first event of the step has been removed from the queue.
+     */
+    synchronized void beginStep() {
+        stepFederates.clear();
+        stepDurations.clear();
+        stepStart = System.nanoTime();
+    }
+
+    /**
+     * Records the time advance of a federate within the current step. May be called concurrently.
+     *
+     * @param federateId the id of the federate
+     * @param durationNs the wall clock time of the time advance
+     */
+    synchronized void recordActivity(String federateId, long durationNs) {
+        stepFederates.add(federateId);
+        stepDurations.add(durationNs);
+    }
+
+    /**
+     * Ends the current step after all time advances have finished.
+     *
+     * @param limit     the reason why no further federates were advanced in this step
+     * @param limitedBy the event which could not be executed in parallel with the next event, used for
+     *                  reporting insufficient lookahead values, or {@code null}
+     * @param next      the next event in the queue, or {@code null}
+     */
+    synchronized void endStep(StepLimit limit, FederateEvent limitedBy, FederateEvent next) {
+        final long stepNs = System.nanoTime() - stepStart;
+        steps++;
+        totalStepNs += stepNs;
+        stepLimits.merge(limit, 1L, Long::sum);
+
+        FederateStatistics critical = null;
+        long criticalDuration = -1;
+        for (int i = 0; i < stepFederates.size(); i++) {
+            final FederateStatistics statistics = getStatistics(stepFederates.get(i));
+            final long duration = stepDurations.get(i);
+            statistics.activities++;
+            statistics.busyNs += duration;
+            statistics.waitNs += Math.max(0, stepNs - duration);
+            totalBusyNs += duration;
+            totalActivities++;
+            if (duration > criticalDuration) {
+                critical = statistics;
+                criticalDuration = duration;
+            }
+        }
+        if (critical != null) {
+            critical.criticalSteps++;
+            critical.criticalNs += stepNs;
+        }
+        if (limit == StepLimit.LOOKAHEAD && limitedBy != null && next != null) {
+            final FederateStatistics statistics = getStatistics(limitedBy.getFederateId());
+            statistics.lookaheadLimitedSteps++;
+            statistics.missingLookaheadNs += next.getRequestedTime() - limitedBy.getRequestedTime() - limitedBy.getLookahead();
+        }
+    }
+
+    private FederateStatistics getStatistics(String federateId) {
+        return federates.computeIfAbsent(federateId, k -> new FederateStatistics());
+    }
+
+    /**
+     * Creates the report of the critical path, consisting of a summary and one semicolon separated line per federate.
+     */
+    synchronized List<String> createReport() {
+        final List<String> lines = new ArrayList<>();
+        if (steps == 0 || totalStepNs == 0) {
+            return lines;
+        }
+        lines.add(String.format(Locale.ENGLISH, "Critical path: %d steps, %.1f ms, %d thread(s)",
+                steps, totalStepNs / 1e6, numberOfThreads
+        ));
+        // at most one federate per thread can be advanced at the same time
+        final int availableParallelism = Math.min(numberOfThreads, federates.size());
+        lines.add(String.format(Locale.ENGLISH, "Parallelism: %d available, %.2f federates advanced per step, %.2f effective",
+                availableParallelism, totalActivities / (double) steps, totalBusyNs / (double) totalStepNs
+        ));
+        final StringBuilder limits = new StringBuilder("Steps by limit:");
+        for (StepLimit limit : StepLimit.values()) {
+            limits.append(String.format(Locale.ENGLISH, " %s=%.1f%%",
+                    limit.name().toLowerCase(Locale.ENGLISH), 100d * stepLimits.getOrDefault(limit, 0L) / steps
+            ));
+        }
+        lines.add(limits.toString());
+        lines.add("federate;advances;busy_ms;idle_ms;wait_ms;critical_steps;critical_ms;critical_percent;"
+                + "lookahead_limited_steps;mean_missing_lookahead_ms");
+        for (Map.Entry<String, FederateStatistics> entry : federates.entrySet()) {
+            final FederateStatistics statistics = entry.getValue();
+            lines.add(String.format(Locale.ENGLISH, "%s;%d;%.1f;%.1f;%.1f;%d;%.1f;%.1f;%d;%s",
+                    entry.getKey(),
+                    statistics.activities,
+                    statistics.busyNs / 1e6,
+                    Math.max(0, totalStepNs - statistics.busyNs) / 1e6,
+                    statistics.waitNs / 1e6,
+                    statistics.criticalSteps,
+                    statistics.criticalNs / 1e6,
+                    100d * statistics.criticalNs / totalStepNs,
+                    statistics.lookaheadLimitedSteps,
+                    statistics.lookaheadLimitedSteps > 0
+                            ? String.format(Locale.ENGLISH, "%.3f", statistics.missingLookaheadNs / (double) statistics.lookaheadLimitedSteps / TIME.MILLI_SECOND)
+                            : "-"
+            ));
+        }
+        return lines;
+    }
+
+    void logReport(Logger logger) {
+        for (String line : createReport()) {
+            logger.info(line);
+        }
+    }
+
+    private static class FederateStatistics {
+
+        private long activities;
+        private long busyNs;
+        /**
+         * The time this federate waited for other federates within the steps it was advanced in.
+         */
+        private long waitNs;
+        private long criticalSteps;
+        private long criticalNs;
+        private long lookaheadLimitedSteps;
+        private long missingLookaheadNs;
+    }
+}
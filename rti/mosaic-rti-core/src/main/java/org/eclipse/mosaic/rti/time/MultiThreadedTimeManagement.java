@@ -38,7 +38,7 @@ public class MultiThreadedTimeManagement extends AbstractTimeManagement {
 
     public MultiThreadedTimeManagement(ComponentProvider federation, MosaicComponentParameters componentParameters) {
         super(federation, componentParameters);
-        this.threadPool = new ThreadPool(federation, componentParameters.getNumberOfThreads());
+        this.threadPool = new ThreadPool(federation, componentParameters.getNumberOfThreads(), criticalPath);
         this.scheduledEvents = new ScheduledEvents();
     }
 
@@ -72,6 +72,7 @@ public class MultiThreadedTimeManagement extends AbstractTimeManagement {
 
         FederateAmbassador ambassador;
         FederateEvent event;
+        FederateEvent nextEvent;
         byte priority;
 
         if (federation.getFederationManagement().getAmbassadors().stream()
@@ -82,9 +83,12 @@ public class MultiThreadedTimeManagement extends AbstractTimeManagement {
         // run while events are available
         while (!this.events.isEmpty() && this.time < getEndTime()) {
 
+            saveCheckpointIfDue();
+
             // remove first event of queue
             synchronized (this.events) {
                 event = this.events.poll();
+                federation.getMonitor().onPendingEvents(this.events.size());
             }
 
             if (event != null) {
@@ -95,13 +99,15 @@ public class MultiThreadedTimeManagement extends AbstractTimeManagement {
                 break;
             }
             priority = event.getPriority();
+            nextEvent = this.events.peek();
+            criticalPath.beginStep();
 
             this.logger.trace("New minimum valid simulation time: {}", event.getRequestedTime());
 
             // check if other federates can be scheduled in parallel
-            if (this.events.peek() != null
-                    && priority == this.events.peek().getPriority()
-                    && event.getRequestedTime() + event.getLookahead() >= this.events.peek().getRequestedTime()
+            if (nextEvent != null
+                    && priority == nextEvent.getPriority()
+                    && event.getRequestedTime() + event.getLookahead() >= nextEvent.getRequestedTime()
             ) {
                 try {
                     ambassadorRunningSemaphore.acquire();
@@ -138,6 +144,7 @@ public class MultiThreadedTimeManagement extends AbstractTimeManagement {
                     }
                 }
                 ambassadorRunningSemaphore.release();
+                criticalPath.endStep(CriticalPathAnalysis.StepLimit.PARALLEL, null, null);
             } else {
                 // call ambassador associated with the scheduled event to
                 // process until the next globally scheduled event
@@ -156,14 +163,17 @@ public class MultiThreadedTimeManagement extends AbstractTimeManagement {
                     }
                     federation.getMonitor().onBeginActivity(event);
                     long startTime = System.currentTimeMillis();
+                    long startTimeNs = System.nanoTime();
 
                     ambassador.advanceTime(event.getRequestedTime());
 
+                    criticalPath.recordActivity(event.getFederateId(), System.nanoTime() - startTimeNs);
                     ambassadorRunningSemaphore.release();
                     federation.getMonitor().onEndActivity(event, System.currentTimeMillis() - startTime);
 
                     updateWatchDog();
                 }
+                criticalPath.endStep(CriticalPathAnalysis.classify(event, nextEvent, true), event, nextEvent);
             }
             // check if an exception was thrown
             if (this.threadPool.hasException()) {
@@ -64,7 +64,9 @@ public class SequentialTimeManagement extends AbstractTimeManagement {
 
         long currentRealtimeNs;
         FederateEvent event;
+        FederateEvent nextEvent;
         FederateAmbassador ambassador;
+        long startTimeNs;
 
         // privileged federate w/ preemptive execution
         long lastTimestamp = 0;
@@ -88,20 +90,27 @@ public class SequentialTimeManagement extends AbstractTimeManagement {
                 realtimeSync.sync(this.time);
             }
 
+            saveCheckpointIfDue();
+
             // read the next event
             synchronized (this.events) {
                 if (this.events.isEmpty()) break;
                 event = this.events.poll();
+                federation.getMonitor().onPendingEvents(this.events.size());
                 if (event == null || event.getRequestedTime() > getEndTime()) {
                     this.time = getEndTime();
                     break;
                 }
+                nextEvent = this.events.peek();
             }
+            criticalPath.beginStep();
 
             // always let run privileged federate first, then all others (yea, double execution for new-time privileged-federate events)
             if (privilegedAmbassador != null) {
                 if (event.getRequestedTime() > lastTimestamp) {
+                    startTimeNs = System.nanoTime();
                     boolean success = privilegedAmbassador.advanceTimePreemptable(event.getRequestedTime());
+                    criticalPath.recordActivity(privilegedAmbassador.getId(), System.nanoTime() - startTimeNs);
                     if (success) {
                         lastTimestamp = event.getRequestedTime();
                         lastRunDidAbort = false;
@@ -121,9 +130,12 @@ public class SequentialTimeManagement extends AbstractTimeManagement {
             if (ambassador != null) {
                 federation.getMonitor().onBeginActivity(event);
                 long startTime = System.currentTimeMillis();
+                startTimeNs = System.nanoTime();
                 ambassador.advanceTime(event.getRequestedTime());
+                criticalPath.recordActivity(event.getFederateId(), System.nanoTime() - startTimeNs);
                 federation.getMonitor().onEndActivity(event, System.currentTimeMillis() - startTime);
             }
+            criticalPath.endStep(CriticalPathAnalysis.classify(event, nextEvent, false), event, nextEvent);
 
             // advance global time
             this.time = event.getRequestedTime();
@@ -30,6 +30,7 @@ class ThreadPool {
 
     private final Worker[] workers;
     private final ComponentProvider federation;
+    private final CriticalPathAnalysis criticalPath;
     private boolean running = false;
 
     private ScheduledEvents queue = null;
@@ -37,9 +38,10 @@ class ThreadPool {
 
     private InternalFederateException exceptionInThread = null;
 
-    ThreadPool(ComponentProvider federation, int numberOfThreads) {
+    ThreadPool(ComponentProvider federation, int numberOfThreads, CriticalPathAnalysis criticalPath) {
         this.workers = new Worker[numberOfThreads];
         this.federation = federation;
+        this.criticalPath = criticalPath;
     }
 
     void setEventQueue(ScheduledEvents events) {
@@ -150,7 +152,9 @@ class ThreadPool {
                 if (ambassador != null) {
                     federation.getMonitor().onBeginActivity(ev);
                     long startTime = System.currentTimeMillis();
+                    long startTimeNs = System.nanoTime();
                     ambassador.advanceTime(ev.getRequestedTime());
+                    criticalPath.recordActivity(ev.getFederateId(), System.nanoTime() - startTimeNs);
                     federation.getMonitor().onEndActivity(ev, System.currentTimeMillis() - startTime);
                 }
             } catch (InternalFederateException iex) {
@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.rti.monitor;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.eclipse.mosaic.rti.api.FederateAmbassador;
+import org.eclipse.mosaic.rti.api.FederationManagement;
+import org.eclipse.mosaic.rti.api.Interaction;
+import org.eclipse.mosaic.rti.api.Monitor;
+import org.eclipse.mosaic.rti.api.TimeManagement;
+import org.eclipse.mosaic.rti.api.time.FederateEvent;
+import org.eclipse.mosaic.rti.junit.TestDummyInteraction;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+
+public class ProfilingMonitorTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void writeProfile() throws Exception {
+        //SETUP
+        final File outputFile = new File(temporaryFolder.getRoot(), "profile.csv");
+        final Monitor delegate = mock(Monitor.class);
+        final ProfilingMonitor monitor = new ProfilingMonitor(delegate, outputFile);
+
+        final FederateAmbassador ambassador = mock(FederateAmbassador.class);
+        when(ambassador.getId()).thenReturn("fed1");
+        final FederationManagement federationManagement = mock(FederationManagement.class);
+        when(federationManagement.getAmbassadors()).thenReturn(List.of(ambassador));
+        final TimeManagement timeManagement = mock(TimeManagement.class);
+
+        final FederateEvent event = new FederateEvent("fed1", 1000, 0, (byte) 0);
+        final Interaction interaction = new TestDummyInteraction(1000, "TestInteraction");
+
+        //RUN
+        monitor.onBeginSimulation(federationManagement, timeManagement, 1);
+        monitor.onPendingEvents(3);
+        monitor.onBeginActivity(event);
+        monitor.onProcessInteraction("fed1", interaction);
+        monitor.onEndProcessInteraction("fed1", interaction);
+        monitor.onEventBatch("fed1", "Navigation", 5, 20_000);
+        monitor.onEndActivity(event, 0);
+        monitor.onEndSimulation(federationManagement, timeManagement, 0, 0);
+
+        //ASSERT
+        verify(delegate).onBeginActivity(event);
+        verify(delegate).onEndProcessInteraction("fed1", interaction);
+        verify(delegate).onEventBatch("fed1", "Navigation", 5, 20_000);
+
+        final List<String> lines = Files.readAllLines(outputFile.toPath(), StandardCharsets.UTF_8);
+        assertEquals("[latency]", lines.get(0));
+        assertTrue(lines.get(2).startsWith("advanceTime:fed1;1;"));
+        assertEquals("eventBatch:fed1/Navigation;1;0.020;20.0;20.0;20.0;20.0;20.0", lines.get(3));
+        assertTrue(lines.get(4).startsWith("interaction:TestInteraction>fed1;1;"));
+        assertEquals("[federates]", lines.get(5));
+        assertTrue(lines.get(7).startsWith("fed1;"));
+        assertEquals("[queue]", lines.get(8));
+        assertEquals("1;3.0;3;3;3;3", lines.get(10));
+    }
+
+    @Test
+    public void unbalancedCallsAreDiscarded() throws Exception {
+        //SETUP
+        final File outputFile = new File(temporaryFolder.getRoot(), "profile.csv");
+        final ProfilingMonitor monitor = new ProfilingMonitor(mock(Monitor.class), outputFile);
+        final FederateEvent event = new FederateEvent("fed1", 1000, 0, (byte) 0);
+
+        //RUN
+        monitor.onBeginActivity(new FederateEvent("fed2", 1000, 0, (byte) 0));
+        monitor.onEndActivity(event, 0);
+        monitor.writeResults(1000);
+
+        //ASSERT
+        final List<String> lines = Files.readAllLines(outputFile.toPath(), StandardCharsets.UTF_8);
+        assertEquals("[federates]", lines.get(2));
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.rti.time;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.eclipse.mosaic.rti.TIME;
+import org.eclipse.mosaic.rti.api.time.FederateEvent;
+import org.eclipse.mosaic.rti.time.CriticalPathAnalysis.StepLimit;
+
+import org.junit.Test;
+
+import java.util.List;
+
+public class CriticalPathAnalysisTest {
+
+    @Test
+    public void classifySteps() {
+        final FederateEvent event = new FederateEvent("fed1", TIME.SECOND, 100 * TIME.MILLI_SECOND, (byte) 0);
+
+        assertEquals(StepLimit.NONE, CriticalPathAnalysis.classify(event, null, true));
+        assertEquals(StepLimit.PRIORITY, CriticalPathAnalysis.classify(event, new FederateEvent("fed2", TIME.SECOND, 0, (byte) 1), true));
+        assertEquals(StepLimit.LOOKAHEAD, CriticalPathAnalysis.classify(event, new FederateEvent("fed2", 2 * TIME.SECOND, 0, (byte) 0), true));
+        assertEquals(StepLimit.PARALLEL, CriticalPathAnalysis.classify(event, new FederateEvent("fed2", TIME.SECOND, 0, (byte) 0), true));
+        assertEquals(StepLimit.THREADS, CriticalPathAnalysis.classify(event, new FederateEvent("fed2", TIME.SECOND, 0, (byte) 0), false));
+    }
+
+    @Test
+    public void reportCriticalFederates() {
+        //SETUP
+        final CriticalPathAnalysis analysis = new CriticalPathAnalysis(2);
+        final FederateEvent event = new FederateEvent("fed2", TIME.SECOND, 0, (byte) 0);
+        final FederateEvent next = new FederateEvent("fed1", TIME.SECOND + 20 * TIME.MILLI_SECOND, 0, (byte) 0);
+
+        //RUN
+        analysis.beginStep();
+        analysis.recordActivity("fed1", 5 * TIME.MILLI_SECOND);
+        analysis.recordActivity("fed2", 10 * TIME.MILLI_SECOND);
+        analysis.endStep(StepLimit.PARALLEL, null, null);
+
+        analysis.beginStep();
+        analysis.recordActivity("fed2", 10 * TIME.MILLI_SECOND);
+        analysis.endStep(StepLimit.LOOKAHEAD, event, next);
+
+        //ASSERT
+        final List<String> report = analysis.createReport();
+        assertEquals(6, report.size());
+        assertTrue(report.get(0).startsWith("Critical path: 2 steps"));
+        assertTrue(report.get(1).startsWith("Parallelism: 2 available, 1.50 federates advanced per step, "));
+        assertTrue(report.get(2).contains("parallel=50.0%") && report.get(2).contains("lookahead=50.0%"));
+        assertTrue(report.get(4).startsWith("fed1;1;5.0;"));
+        assertTrue(report.get(4).endsWith(";0;0.0;0.0;0;-"));
+        assertTrue(report.get(5).startsWith("fed2;2;20.0;"));
+        assertTrue(report.get(5).contains(";2;"));
+        assertTrue(report.get(5).endsWith(";100.0;1;20.000"));
+    }
+
+    @Test
+    public void emptyReport() {
+        assertTrue(new CriticalPathAnalysis(1).createReport().isEmpty());
+    }
+}
@@ -15,7 +15,10 @@
 
 package org.eclipse.mosaic.rti.time;
 
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
@@ -23,18 +26,29 @@ import static org.mockito.Mockito.when;
 
 import org.eclipse.mosaic.rti.MosaicComponentParameters;
 import org.eclipse.mosaic.rti.TIME;
+import org.eclipse.mosaic.rti.api.CheckpointableFederateAmbassador;
 import org.eclipse.mosaic.rti.api.ComponentProvider;
 import org.eclipse.mosaic.rti.api.FederateAmbassador;
+import org.eclipse.mosaic.rti.api.FederationManagement;
+import org.eclipse.mosaic.rti.api.Interaction;
+import org.eclipse.mosaic.rti.api.InternalFederateException;
 import org.eclipse.mosaic.rti.api.TimeManagement;
 import org.eclipse.mosaic.rti.junit.FederationManagementRule;
+import org.eclipse.mosaic.rti.junit.TestDummyInteraction;
 import org.eclipse.mosaic.rti.monitor.ActivityLoggingMonitor;
 
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.Mockito;
 import org.slf4j.Logger;
 
+import java.io.File;
+import java.util.List;
+
 
 /**
  * Test which checks {@link SequentialTimeManagement}
@@ -44,6 +58,9 @@ public class SequentialTimeManagementTest {
     @Rule
     public FederationManagementRule fedManagement = new FederationManagementRule("ambassador1", "ambassador2");
 
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
     private TimeManagement timeManagement;
 
     @Before
@@ -97,4 +114,139 @@ public class SequentialTimeManagementTest {
         verify(ambassadorMock2).finishSimulation();
     }
 
+    /**
+     * A checkpoint is stored after all events until the checkpoint time have been processed. A second simulation
+     * run is restored from this checkpoint and continues with the time advance requests pending at the checkpoint.
+     */
+    @Test
+    public void checkpoint_saveAndRestore() throws Exception {
+        //SETUP
+        final File checkpointDirectory = temporaryFolder.newFolder("checkpoint");
+        final CheckpointableFederateAmbassador ambassador = createCheckpointableAmbassador();
+        final TimeManagement savingTimeManagement = createCheckpointTimeManagement(ambassador, new MosaicComponentParameters()
+                .setEndTime(20 * TIME.SECOND)
+                .setCheckpointTime(5 * TIME.SECOND)
+                .setCheckpointDirectory(checkpointDirectory)
+        );
+        savingTimeManagement.requestAdvanceTime("checkpointable", 0, 0, (byte) 1);
+        savingTimeManagement.requestAdvanceTime("checkpointable", 5 * TIME.SECOND, 0, (byte) 1);
+        savingTimeManagement.requestAdvanceTime("checkpointable", 10 * TIME.SECOND, 0, (byte) 1);
+
+        //RUN
+        savingTimeManagement.runSimulation();
+
+        //ASSERT
+        final InOrder inOrder = inOrder(ambassador);
+        inOrder.verify(ambassador).advanceTime(eq(5 * TIME.SECOND));
+        inOrder.verify(ambassador).saveCheckpoint(eq(5 * TIME.SECOND), eq(new File(checkpointDirectory, "checkpointable")));
+        inOrder.verify(ambassador).advanceTime(eq(10 * TIME.SECOND));
+
+        //SETUP
+        final CheckpointableFederateAmbassador restoredAmbassador = createCheckpointableAmbassador();
+        final TimeManagement restoringTimeManagement = createCheckpointTimeManagement(restoredAmbassador, new MosaicComponentParameters()
+                .setEndTime(20 * TIME.SECOND)
+                .setCheckpointDirectory(checkpointDirectory)
+                .setRestoreCheckpoint(true)
+        );
+
+        //RUN
+        restoringTimeManagement.runSimulation();
+
+        //ASSERT
+        final InOrder restoredInOrder = inOrder(restoredAmbassador);
+        restoredInOrder.verify(restoredAmbassador).restoreCheckpoint(eq(5 * TIME.SECOND), eq(new File(checkpointDirectory, "checkpointable")));
+        restoredInOrder.verify(restoredAmbassador).initialize(eq(5 * TIME.SECOND), eq(20 * TIME.SECOND));
+        restoredInOrder.verify(restoredAmbassador).advanceTime(eq(10 * TIME.SECOND));
+        verify(restoredAmbassador, never()).advanceTime(eq(5 * TIME.SECOND));
+        verify(restoredAmbassador, never()).saveCheckpoint(anyLong(), Mockito.any());
+    }
+
+    /**
+     * Interactions which have been received but not processed at the checkpoint are stored along with the checkpoint,
+     * and are added to the federate again when the simulation is restored.
+     */
+    @Test
+    public void checkpoint_pendingInteractionsRestored() throws Exception {
+        //SETUP
+        final File checkpointDirectory = temporaryFolder.newFolder("checkpoint");
+        final CheckpointableFederateAmbassador ambassador = createCheckpointableAmbassador();
+        when(ambassador.getPendingInteractions()).thenReturn(List.of(new TestDummyInteraction(10 * TIME.SECOND, "pending")));
+        final TimeManagement savingTimeManagement = createCheckpointTimeManagement(ambassador, new MosaicComponentParameters()
+                .setEndTime(20 * TIME.SECOND)
+                .setCheckpointTime(5 * TIME.SECOND)
+                .setCheckpointDirectory(checkpointDirectory)
+        );
+        savingTimeManagement.requestAdvanceTime("checkpointable", 5 * TIME.SECOND, 0, (byte) 1);
+        savingTimeManagement.requestAdvanceTime("checkpointable", 10 * TIME.SECOND, 0, (byte) 1);
+        savingTimeManagement.runSimulation();
+
+        final CheckpointableFederateAmbassador restoredAmbassador = createCheckpointableAmbassador();
+        final TimeManagement restoringTimeManagement = createCheckpointTimeManagement(restoredAmbassador, new MosaicComponentParameters()
+                .setEndTime(20 * TIME.SECOND)
+                .setCheckpointDirectory(checkpointDirectory)
+                .setRestoreCheckpoint(true)
+        );
+
+        //RUN
+        restoringTimeManagement.runSimulation();
+
+        //ASSERT
+        final ArgumentCaptor<List<Interaction>> restoredInteractions = ArgumentCaptor.captor();
+        final InOrder restoredInOrder = inOrder(restoredAmbassador);
+        restoredInOrder.verify(restoredAmbassador).restoreCheckpoint(eq(5 * TIME.SECOND), eq(new File(checkpointDirectory, "checkpointable")));
+        restoredInOrder.verify(restoredAmbassador).addPendingInteractions(restoredInteractions.capture());
+        restoredInOrder.verify(restoredAmbassador).initialize(eq(5 * TIME.SECOND), eq(20 * TIME.SECOND));
+        restoredInOrder.verify(restoredAmbassador).advanceTime(eq(10 * TIME.SECOND));
+
+        assertEquals(1, restoredInteractions.getValue().size());
+        assertEquals(10 * TIME.SECOND, restoredInteractions.getValue().get(0).getTime());
+        assertEquals("pending", restoredInteractions.getValue().get(0).getTypeId());
+    }
+
+    /**
+     * A checkpoint cannot be stored if a pending interaction cannot be serialized, since the restored simulation would miss it.
+     */
+    @Test(expected = InternalFederateException.class)
+    public void checkpoint_pendingInteractionNotSerializable() throws Exception {
+        //SETUP
+        final CheckpointableFederateAmbassador ambassador = createCheckpointableAmbassador();
+        when(ambassador.getPendingInteractions()).thenReturn(List.of(new NotSerializableInteraction(10 * TIME.SECOND)));
+        final TimeManagement timeManagement = createCheckpointTimeManagement(ambassador, new MosaicComponentParameters()
+                .setEndTime(20 * TIME.SECOND)
+                .setCheckpointTime(5 * TIME.SECOND)
+                .setCheckpointDirectory(temporaryFolder.newFolder("checkpoint"))
+        );
+        timeManagement.requestAdvanceTime("checkpointable", 10 * TIME.SECOND, 0, (byte) 1);
+
+        //RUN
+        timeManagement.runSimulation();
+    }
+
+    private CheckpointableFederateAmbassador createCheckpointableAmbassador() {
+        final CheckpointableFederateAmbassador ambassador = mock(CheckpointableFederateAmbassador.class);
+        when(ambassador.getId()).thenReturn("checkpointable");
+        return ambassador;
+    }
+
+    private static class NotSerializableInteraction extends Interaction {
+
+        private static final long serialVersionUID = 1L;
+
+        @SuppressWarnings("unused")
+        private final Object content = new Object();
+
+        private NotSerializableInteraction(long time) {
+            super(time);
+        }
+    }
+
+    private TimeManagement createCheckpointTimeManagement(FederateAmbassador ambassador, MosaicComponentParameters parameters) {
+        final FederationManagement federationManagement = mock(FederationManagement.class);
+        when(federationManagement.getAmbassadors()).thenReturn(List.of(ambassador));
+        when(federationManagement.getAmbassador(eq(ambassador.getId()))).thenReturn(ambassador);
+        final ComponentProvider componentProvider = mock(ComponentProvider.class);
+        when(componentProvider.getMonitor()).thenReturn(new ActivityLoggingMonitor(mock(Logger.class)));
+        when(componentProvider.getFederationManagement()).thenReturn(federationManagement);
+        return new SequentialTimeManagement(componentProvider, parameters);
+    }
 }
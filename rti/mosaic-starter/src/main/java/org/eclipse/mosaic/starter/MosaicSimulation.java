@@ -19,6 +19,7 @@ import org.eclipse.mosaic.lib.geo.UtmPoint;
 import org.eclipse.mosaic.lib.geo.UtmZone;
 import org.eclipse.mosaic.lib.objects.UnitNameGenerator;
 import org.eclipse.mosaic.lib.objects.addressing.IpResolver;
+import org.eclipse.mosaic.lib.objects.v2x.etsi.EtsiPayloadConfiguration;
 import org.eclipse.mosaic.lib.transform.GeoProjection;
 import org.eclipse.mosaic.lib.transform.UtmGeoCalculator;
 import org.eclipse.mosaic.lib.transform.Wgs84Projection;
@@ -73,6 +74,7 @@ import java.util.Calendar;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 
 public class MosaicSimulation {
@@ -81,6 +83,12 @@ public class MosaicSimulation {
 
     private static final Path FEDERATE_DIRECTORY = Paths.get("bin", "fed");
 
+    /**
+     * Whether the shutdown hook for flushing the logs has been added already, as several
+     * simulations may be executed one after another within the same JVM.
+     */
+    private static final AtomicBoolean LOGGING_SHUTDOWN_HOOK_ADDED = new AtomicBoolean(false);
+
     private ComponentProviderFactory componentProviderFactory = MosaicComponentProvider::new;
     private CRuntime runtimeConfiguration;
     private CHosts hostsConfiguration;
@@ -91,6 +99,7 @@ public class MosaicSimulation {
     private double realtimeBrake = 0;
     private int watchdogInterval = 0;
     private int externalWatchdogPort = 0;
+    private boolean profiling = false;
 
     private Logger log = null;
     private ClassLoader classLoader = ClassLoader.getSystemClassLoader();
@@ -128,6 +137,14 @@ public class MosaicSimulation {
         return this;
     }
 
+    /**
+     * Enables profiling of the simulation, which writes its results into the file {@code profile.csv} in the log directory.
+     */
+    public MosaicSimulation setProfiling(boolean profiling) {
+        this.profiling = profiling;
+        return this;
+    }
+
     public MosaicSimulation setComponentProviderFactory(ComponentProviderFactory componentProviderFactory) {
         this.componentProviderFactory = componentProviderFactory;
         return this;
@@ -174,7 +191,7 @@ public class MosaicSimulation {
             prepareLogging(simulationId);
             printMosaicVersion();
 
-            final MosaicComponentParameters simParams = readSimulationParameters(scenarioConfiguration)
+            final MosaicComponentParameters simParams = readSimulationParameters(scenarioDirectory, scenarioConfiguration)
                     .setNumberOfThreads(runtimeConfiguration.threads);
 
             initializeSingletons(scenarioConfiguration);
@@ -208,7 +225,15 @@ public class MosaicSimulation {
         return simulationResult;
     }
 
+    /**
+     * Initializes all singletons which are shared between the federates of this simulation. Singletons left over
+     * from a previous simulation within the same JVM are replaced.
+     */
     private void initializeSingletons(CScenario scenarioConfiguration) {
+        GeoProjection.reset();
+        IpResolver.reset();
+        EtsiPayloadConfiguration.reset();
+
         GeoProjection.initialize(createTransformation(scenarioConfiguration));
         GeoProjection.getInstance().setGeoCalculator(new UtmGeoCalculator());
         IpResolver.setSingleton(createIpResolver(scenarioConfiguration));
@@ -232,17 +257,33 @@ public class MosaicSimulation {
      * @param scenarioConfiguration the scenario configuration
      * @throws IllegalArgumentException if wrong parameters have been passed
      */
-    private MosaicComponentParameters readSimulationParameters(CScenario scenarioConfiguration) throws IllegalArgumentException {
+    private MosaicComponentParameters readSimulationParameters(Path scenarioDirectory, CScenario scenarioConfiguration)
+            throws IllegalArgumentException {
 
         Validate.notNull(scenarioConfiguration.simulation, "Missing tag <simulation> in configuration file");
         Validate.notNull(scenarioConfiguration.simulation.id, "Missing simulation.id in configuration file");
         Validate.isTrue(scenarioConfiguration.simulation.duration > 0, "Missing end time in configuration file.");
 
-        return new MosaicComponentParameters()
+        final MosaicComponentParameters parameters = new MosaicComponentParameters()
                 .setRealTimeBreak(realtimeBrake)
                 .setFederationId(federationId)
                 .setEndTime(scenarioConfiguration.simulation.duration * TIME.SECOND)
                 .setRandomSeed(scenarioConfiguration.simulation.randomSeed);
+
+        final CScenario.Checkpoint checkpoint = scenarioConfiguration.simulation.checkpoint;
+        if (checkpoint != null) {
+            Validate.notNull(checkpoint.directory, "Missing simulation.checkpoint.directory in configuration file");
+            Validate.isTrue(checkpoint.restore || checkpoint.time >= 0, "Missing simulation.checkpoint.time in configuration file");
+            parameters
+                    .setCheckpointDirectory(scenarioDirectory.resolve(checkpoint.directory).toFile())
+                    .setCheckpointTime(checkpoint.time)
+                    .setRestoreCheckpoint(checkpoint.restore);
+        }
+        if (profiling) {
+            final String logDirectory = ((LoggerContext) LoggerFactory.getILoggerFactory()).getProperty("logDirectory");
+            parameters.setProfilingFile(Paths.get(logDirectory != null ? logDirectory : ".", "profile.csv").toFile());
+        }
+        return parameters;
     }
 
     private GeoProjection createTransformation(CScenario scenarioConfiguration) {
@@ -548,7 +589,7 @@ public class MosaicSimulation {
         // initialize logger first after everything was prepared
         log = LoggerFactory.getLogger("MosaicStarter");
 
-        if (mosaicAppender == null) {
+        if (mosaicAppender == null || !LOGGING_SHUTDOWN_HOOK_ADDED.compareAndSet(false, true)) {
             return;
         }
         // try to avoid a race condition between the exit of the JVM and logbacks attempt to log
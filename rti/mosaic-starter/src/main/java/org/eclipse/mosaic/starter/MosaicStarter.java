@@ -46,6 +46,8 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Map;
+import java.util.function.Supplier;
 
 /**
  * This class contains a main method that configures a Eclipse MOSAIC simulation based
@@ -106,19 +108,25 @@ public class MosaicStarter {
         final Path hostConfigurationFile = params.hostsConfiguration != null ? Paths.get(params.hostsConfiguration) : HOSTS_CONFIG;
         final CHosts hostsConfiguration = loadHostsConfiguration(hostConfigurationFile);
 
-        final MosaicSimulation simulation = createSimulation()
-                .setRuntimeConfiguration(runtimeConfiguration)
-                .setHostsConfiguration(hostsConfiguration)
-                .setRealtimeBrake(params.realtimeBrake != null ? params.realtimeBrake : 0.0)
-                .setLogbackConfigurationFile(params.loggerConfiguration != null ? Paths.get(params.loggerConfiguration) : LOGBACK_CONFIG)
-                .setLogLevelOverride(params.logLevel)
-                .setComponentProviderFactory(createComponentProviderFactory(runtimeConfiguration, classLoader))
-                .setClassLoader(classLoader)
-                .setWatchdogInterval(params.watchdogInterval);
-
-        if (params.externalWatchDog != null) {
-            simulation.setExternalWatchdogPort(params.externalWatchDog);
-        }
+        final MosaicSimulation.ComponentProviderFactory componentProviderFactory =
+                createComponentProviderFactory(runtimeConfiguration, classLoader);
+        final Supplier<MosaicSimulation> simulationFactory = () -> {
+            final MosaicSimulation simulation = createSimulation()
+                    .setRuntimeConfiguration(runtimeConfiguration)
+                    .setHostsConfiguration(hostsConfiguration)
+                    .setRealtimeBrake(params.realtimeBrake != null ? params.realtimeBrake : 0.0)
+                    .setLogbackConfigurationFile(params.loggerConfiguration != null ? Paths.get(params.loggerConfiguration) : LOGBACK_CONFIG)
+                    .setLogLevelOverride(params.logLevel)
+                    .setComponentProviderFactory(componentProviderFactory)
+                    .setClassLoader(classLoader)
+                    .setWatchdogInterval(params.watchdogInterval)
+                    .setProfiling(params.profile);
+
+            if (params.externalWatchDog != null) {
+                simulation.setExternalWatchdogPort(params.externalWatchDog);
+            }
+            return simulation;
+        };
 
         final CScenario scenarioConfiguration = loadJsonConfiguration(scenarioConfigurationFile, CScenario.class);
 
@@ -130,6 +138,12 @@ public class MosaicStarter {
             startVisualizerInBrowser();
         }
 
+        if (params.numberOfRuns != null && params.numberOfRuns > 1) {
+            executeSweep(simulationFactory, scenarioDirectory, scenarioConfigurationFile, params);
+            return;
+        }
+
+        final MosaicSimulation simulation = simulationFactory.get();
         final MosaicSimulation.SimulationResult result = simulation.runSimulation(scenarioDirectory, scenarioConfiguration);
 
         if (!result.success) {
@@ -138,6 +152,35 @@ public class MosaicStarter {
         }
     }
 
+    /**
+     * Executes the scenario several times within the same JVM, each run with another random seed.
+     */
+    private void executeSweep(Supplier<MosaicSimulation> simulationFactory, Path scenarioDirectory,
+                              Path scenarioConfigurationFile, MosaicParameters params) throws ExecutionException {
+        final SimulationSweep sweep = new SimulationSweep(simulationFactory)
+                .addRandomSeedVariants(params.randomSeed, params.numberOfRuns);
+
+        final Map<String, MosaicSimulation.SimulationResult> results = sweep.run(scenarioDirectory, () -> {
+            try {
+                return loadJsonConfiguration(scenarioConfigurationFile, CScenario.class);
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("Could not load scenario configuration " + scenarioConfigurationFile, e);
+            }
+        });
+
+        boolean failed = false;
+        for (Map.Entry<String, MosaicSimulation.SimulationResult> result : results.entrySet()) {
+            if (!result.getValue().success) {
+                printAndLog("Simulation run " + result.getKey() + " failed.");
+                printErrorInformation(getLogger(), result.getValue().exception);
+                failed = true;
+            }
+        }
+        if (failed) {
+            throw new ExecutionException();
+        }
+    }
+
     protected MosaicSimulation createSimulation() {
         return new MosaicSimulation();
     }
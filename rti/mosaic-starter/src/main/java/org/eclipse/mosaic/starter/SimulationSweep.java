@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.starter;
+
+import org.eclipse.mosaic.starter.config.CScenario;
+
+import org.apache.commons.lang3.Validate;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Executes several variants of a scenario one after another within the same JVM, e.g. for parameter sweeps or
+ * Monte-Carlo studies consisting of many short simulation runs. Compared to starting a new process for each run,
+ * classes are loaded and compiled only once, and read-only assets, such as the scenario database and the
+ * routing graph, are shared between the runs.
+ * <p>
+ * The runs are not executed concurrently, since several federates keep the state of the running simulation
+ * in static singletons, which are initialized at the beginning and reset at the end of each run.
+ */
+public class SimulationSweep {
+
+    private final Supplier<MosaicSimulation> simulationFactory;
+
+    private final List<Variant> variants = new ArrayList<>();
+
+    /**
+     * @param simulationFactory creates a new, fully configured {@link MosaicSimulation} for each run
+     */
+    public SimulationSweep(Supplier<MosaicSimulation> simulationFactory) {
+        this.simulationFactory = simulationFactory;
+    }
+
+    /**
+     * Adds a variant of the scenario to the sweep.
+     *
+     * @param name                     the name of the variant, which is appended to the simulation id of the run
+     * @param configurationManipulator changes the scenario configuration of this variant
+     */
+    public SimulationSweep addVariant(String name, Consumer<CScenario> configurationManipulator) {
+        Validate.notBlank(name, "The name of a variant must not be blank.");
+        variants.add(new Variant(name, configurationManipulator));
+        return this;
+    }
+
+    /**
+     * Adds variants which only differ in their random seed. The seeds are incremented by one for each run,
+     * starting with the given seed. If no seed is given, the seed of the scenario configuration is used as the first seed.
+     *
+     * @param firstSeed    the random seed of the first run, or {@code null} to use the seed of the scenario configuration
+     * @param numberOfRuns the number of runs to add
+     */
+    public SimulationSweep addRandomSeedVariants(Long firstSeed, int numberOfRuns) {
+        for (int i = 0; i < numberOfRuns; i++) {
+            final int run = i;
+            addVariant("run" + run, scenario -> {
+                final Long seed = firstSeed != null ? firstSeed : scenario.simulation.randomSeed;
+                if (seed != null) {
+                    scenario.simulation.randomSeed = seed + run;
+                }
+            });
+        }
+        return this;
+    }
+
+    public int getNumberOfVariants() {
+        return variants.size();
+    }
+
+    /**
+     * Executes all variants one after another. A failing run does not stop the sweep.
+     *
+     * @param scenarioDirectory     the directory of the scenario files
+     * @param scenarioConfiguration provides a new instance of the scenario configuration for each run, as it is changed by the variants
+     * @return the result of each run by the name of its variant, in the order the variants have been added
+     */
+    public Map<String, MosaicSimulation.SimulationResult> run(Path scenarioDirectory, Supplier<CScenario> scenarioConfiguration) {
+        final Map<String, MosaicSimulation.SimulationResult> results = new LinkedHashMap<>();
+        for (Variant variant : variants) {
+            final CScenario configuration = scenarioConfiguration.get();
+            variant.configurationManipulator.accept(configuration);
+            if (configuration.simulation.id != null) {
+                configuration.simulation.id = configuration.simulation.id + "-" + variant.name;
+            }
+
+            results.put(variant.name, simulationFactory.get().runSimulation(scenarioDirectory, configuration));
+        }
+        return results;
+    }
+
+    private record Variant(String name, Consumer<CScenario> configurationManipulator) {
+    }
+}
@@ -40,6 +40,9 @@ public class MosaicParameters implements Serializable {
     @CliOption(shortOption = "r", longOption = "random-seed", valueHint = "SEED", description = "Overrides the random seed which is given in the scenario configuration file.")
     public Long randomSeed = null;
 
+    @CliOption(longOption = "runs", valueHint = "NUMBER", description = "Executes the scenario NUMBER times one after another within the same JVM, incrementing the random seed by one for each run.")
+    public Integer numberOfRuns = null;
+
     @CliOption(shortOption = "v", longOption = "start-visualizer", description = "Opens the 2D web visualizer in the default browser.")
     public boolean startVisualizer = false;
 
@@ -61,5 +64,8 @@ public class MosaicParameters implements Serializable {
     @CliOption(shortOption = "e", longOption = "external-watchdog", valueHint = "PORT", description = "Specific external watchdog port number")
     public Integer externalWatchDog = null;
 
+    @CliOption(longOption = "profile", description = "Profiles the simulation and writes latency histograms and idle times of all federates into profile.csv in the log directory.")
+    public boolean profile = false;
+
 }
 
@@ -83,6 +83,33 @@ public class CScenario {
          */
         @SerializedName("network")
         public CIpResolver networkConfig = new CIpResolver();
+
+        /**
+         * The configuration for storing the state of all federates into a checkpoint, or for
+         * continuing the simulation from such a checkpoint. Optional.
+         */
+        @Nullable
+        public Checkpoint checkpoint;
+    }
+
+    public static class Checkpoint {
+
+        /**
+         * The directory of the checkpoint, relative to the scenario directory.
+         */
+        public String directory = "checkpoint";
+
+        /**
+         * The simulation time at which the checkpoint is stored, e.g. at the end of the warm-up phase.
+         */
+        @JsonAdapter(TimeFieldAdapter.NanoSeconds.class)
+        public long time = -1;
+
+        /**
+         * If {@code true}, the simulation is continued from the checkpoint stored previously
+         * in {@link #directory}, instead of storing a new checkpoint.
+         */
+        public boolean restore = false;
     }
 
 }
@@ -20,19 +20,27 @@ import static junit.framework.TestCase.assertNotNull;
 import static junit.framework.TestCase.assertTrue;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import org.eclipse.mosaic.fed.cell.ambassador.CellAmbassador;
+import org.eclipse.mosaic.fed.cell.data.SimulationData;
 import org.eclipse.mosaic.lib.geo.CartesianPoint;
 import org.eclipse.mosaic.lib.geo.GeoPoint;
+import org.eclipse.mosaic.lib.math.DefaultRandomNumberGenerator;
 import org.eclipse.mosaic.lib.objects.addressing.IpResolver;
 import org.eclipse.mosaic.lib.transform.GeoProjection;
 import org.eclipse.mosaic.lib.util.junit.TestUtils;
 import org.eclipse.mosaic.rti.api.ComponentProvider;
 import org.eclipse.mosaic.rti.api.FederationManagement;
+import org.eclipse.mosaic.rti.api.FederateAmbassador;
 import org.eclipse.mosaic.rti.api.InteractionManagement;
+import org.eclipse.mosaic.rti.api.RtiAmbassador;
 import org.eclipse.mosaic.rti.api.TimeManagement;
 import org.eclipse.mosaic.rti.api.parameters.FederateDescriptor;
 import org.eclipse.mosaic.rti.api.parameters.InteractionDescriptor;
@@ -51,7 +59,9 @@ import org.mockito.ArgumentCaptor;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 public class MosaicSimulationTest {
 
@@ -146,6 +156,80 @@ public class MosaicSimulationTest {
         assertTrue(descriptor.getAmbassador() instanceof TestFederate);
     }
 
+    @Test
+    public void sweep_severalRunsWithinSameJvm() throws Exception {
+        // SETUP
+        Path scenario = temporaryFolder.newFolder("scenario").toPath();
+        SimulationSweep sweep = new SimulationSweep(this::createValidSimulation)
+                .addRandomSeedVariants(100L, 3);
+
+        // RUN
+        Map<String, MosaicSimulation.SimulationResult> results = sweep.run(scenario, this::createValidConfiguration);
+
+        // VERIFY
+        assertEquals(List.of("run0", "run1", "run2"), List.copyOf(results.keySet()));
+        for (MosaicSimulation.SimulationResult result : results.values()) {
+            if (!result.success) {
+                result.exception.printStackTrace();
+                fail(result.exception.getMessage());
+            }
+        }
+        verify(timeManagementMock, times(3)).runSimulation();
+        verify(timeManagementMock).startWatchDog(eq("MyScenario-run0"), eq(20));
+        verify(timeManagementMock).startWatchDog(eq("MyScenario-run2"), eq(20));
+    }
+
+    @Test
+    public void sweep_severalRunsWithinSameJvm_cellEnabled() throws Exception {
+        // SETUP
+        Path scenario = Paths.get(getClass().getResource("/cell-scenario").toURI());
+
+        CRuntime.CFederate cellFederate = new CRuntime.CFederate();
+        cellFederate.id = "cell";
+        cellFederate.configuration = "cell_config.json";
+        cellFederate.classname = CellAmbassador.class.getCanonicalName();
+        runtimeConfiguration.federates.add(cellFederate);
+
+        final List<FederateAmbassador> ambassadors = new ArrayList<>();
+        doAnswer(invocation -> ambassadors.add(invocation.<FederateDescriptor>getArgument(0).getAmbassador()))
+                .when(federationManagementMock).addFederate(any());
+
+        final RtiAmbassador rtiMock = mock(RtiAmbassador.class);
+        when(rtiMock.createRandomNumberGenerator()).thenReturn(new DefaultRandomNumberGenerator(0L));
+
+        final List<Integer> nodesAfterInitialization = new ArrayList<>();
+        doAnswer(invocation -> {
+            FederateAmbassador cellAmbassador = ambassadors.get(ambassadors.size() - 1);
+            cellAmbassador.setRtiAmbassador(rtiMock);
+            cellAmbassador.initialize(0, 100);
+            nodesAfterInitialization.add(SimulationData.INSTANCE.getAllNodesInSimulation().size());
+            // nodes known in the cell federate at the end of the run
+            SimulationData.INSTANCE.setPositionOfNode("veh_0", CartesianPoint.xy(10, 10));
+            return null;
+        }).when(timeManagementMock).runSimulation();
+
+        SimulationSweep sweep = new SimulationSweep(this::createValidSimulation)
+                .addRandomSeedVariants(100L, 2);
+
+        // RUN
+        Map<String, MosaicSimulation.SimulationResult> results = sweep.run(scenario, () -> {
+            CScenario scenarioConfiguration = createValidConfiguration();
+            scenarioConfiguration.federates.put("cell", true);
+            return scenarioConfiguration;
+        });
+
+        // VERIFY
+        for (MosaicSimulation.SimulationResult result : results.values()) {
+            if (!result.success) {
+                result.exception.printStackTrace();
+                fail(result.exception.getMessage());
+            }
+        }
+        verify(timeManagementMock, times(2)).runSimulation();
+        assertEquals(2, ambassadors.stream().filter(a -> a instanceof CellAmbassador).count());
+        assertEquals(List.of(0, 0), nodesAfterInitialization);
+    }
+
     @Test
     public void failSimulation_noEndTimeGiven() throws Exception {
         // SETUP
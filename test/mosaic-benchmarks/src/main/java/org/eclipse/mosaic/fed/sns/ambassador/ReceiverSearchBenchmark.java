@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.fed.sns.ambassador;
+
+import org.eclipse.mosaic.lib.geo.CartesianCircle;
+import org.eclipse.mosaic.lib.geo.CartesianPoint;
+import org.eclipse.mosaic.test.benchmark.SyntheticData;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the search for receivers of a broadcast by {@link TransmissionSimulator#getEntitiesInArea}, which is done
+ * by the SNS for each sent ad hoc message. Each invocation searches the receivers around the next of a fixed set of
+ * random senders. This benchmark resides in the package of the SNS to access its simulation entities.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReceiverSearchBenchmark {
+
+    private static final int SENDERS = 1024;
+
+    @Param("42")
+    public long seed;
+
+    /**
+     * The number of online nodes.
+     */
+    @Param({"1000", "10000"})
+    public int nodes;
+
+    /**
+     * The edge length of the square area containing all nodes in m.
+     */
+    @Param("10000")
+    public double areaSize;
+
+    /**
+     * The communication range of each node in m.
+     */
+    @Param({"200", "1000"})
+    public double range;
+
+    private Map<String, SimulationNode> onlineNodes;
+    private List<CartesianPoint> senders;
+    private int nextSender = 0;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        final Random random = new Random(seed);
+        SimulationEntities.INSTANCE.reset();
+        int index = 0;
+        for (CartesianPoint position : SyntheticData.createCartesianPoints(random, nodes, areaSize)) {
+            SimulationEntities.INSTANCE.createOnlineNode("veh_" + index++, position, range);
+        }
+        onlineNodes = SimulationEntities.INSTANCE.getAllOnlineNodes();
+        senders = SyntheticData.createCartesianPoints(random, SENDERS, areaSize);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        SimulationEntities.INSTANCE.reset();
+    }
+
+    @Benchmark
+    public int getEntitiesInArea() {
+        nextSender = (nextSender + 1) % SENDERS;
+        return TransmissionSimulator.getEntitiesInArea(onlineNodes, new CartesianCircle(senders.get(nextSender), range)).size();
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.test.benchmark;
+
+import org.eclipse.mosaic.lib.enums.EnvironmentEventCause;
+import org.eclipse.mosaic.lib.geo.GeoPoint;
+import org.eclipse.mosaic.lib.objects.v2x.EncodedPayload;
+import org.eclipse.mosaic.lib.objects.v2x.etsi.DenmContent;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures encoding message contents into an {@link EncodedPayload}, and decoding them again, using
+ * random {@link DenmContent}s. A new payload decodes its content once, thus decoding is measured together with encoding.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EncodedPayloadBenchmark {
+
+    private static final int CONTENTS = 1024;
+
+    @Param("42")
+    public long seed;
+
+    private List<DenmContent> contents;
+    private int nextContent = 0;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        final Random random = new Random(seed);
+        final EnvironmentEventCause[] causes = EnvironmentEventCause.values();
+        contents = new ArrayList<>(CONTENTS);
+        for (GeoPoint position : SyntheticData.createGeoPoints(random, CONTENTS, 10000)) {
+            contents.add(new DenmContent(
+                    random.nextInt(1000) * TimeUnit.SECONDS.toNanos(1),
+                    position,
+                    "road_" + random.nextInt(1000),
+                    causes[random.nextInt(causes.length)],
+                    random.nextFloat() * 30,
+                    random.nextFloat() * 5
+            ));
+        }
+    }
+
+    private DenmContent nextContent() {
+        nextContent = (nextContent + 1) % CONTENTS;
+        return contents.get(nextContent);
+    }
+
+    @Benchmark
+    public EncodedPayload encode() {
+        return new EncodedPayload(nextContent(), 200);
+    }
+
+    @Benchmark
+    public DenmContent encodeAndDecode() {
+        return new EncodedPayload(nextContent(), 200).decodePayload();
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.test.benchmark;
+
+import org.eclipse.mosaic.lib.util.scheduling.DefaultEventScheduler;
+import org.eclipse.mosaic.lib.util.scheduling.Event;
+import org.eclipse.mosaic.lib.util.scheduling.EventProcessor;
+import org.eclipse.mosaic.lib.util.scheduling.EventScheduler;
+import org.eclipse.mosaic.lib.util.scheduling.MultiThreadedEventScheduler;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures adding and processing events by the {@link DefaultEventScheduler} and the {@link MultiThreadedEventScheduler}.
+ * The events are spread randomly over one simulated second, and each event does a small amount of work.
+ * Each invocation adds all events and processes them in order of time, as done during a simulation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EventSchedulerBenchmark {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Param("42")
+    public long seed;
+
+    @Param({"1000", "100000"})
+    public int events;
+
+    /**
+     * The number of threads of the scheduler, 0 to use the {@link DefaultEventScheduler}.
+     */
+    @Param({"0", "4"})
+    public int threads;
+
+    private long[] times;
+    private long[] nices;
+    private EventScheduler scheduler;
+    private EventProcessor processor;
+
+    /**
+     * The results of the processed events are summed up separately for each thread of the scheduler,
+     * so that the threads don't share one consumer.
+     */
+    private final List<Sink> sinks = new CopyOnWriteArrayList<>();
+    private final ThreadLocal<Sink> threadSink = ThreadLocal.withInitial(() -> {
+        final Sink sink = new Sink();
+        sinks.add(sink);
+        return sink;
+    });
+
+    @Setup(Level.Trial)
+    public void setup() {
+        final Random random = new Random(seed);
+        // events are often scheduled at the same time, e.g. at the beginning of a simulation step
+        times = SyntheticData.createStepTimes(random, events, SECOND, 100);
+        nices = SyntheticData.createValues(random, events, 3);
+        processor = event -> threadSink.get().value += Math.sqrt(event.getTime());
+        scheduler = threads > 0 ? new MultiThreadedEventScheduler(threads) : new DefaultEventScheduler();
+    }
+
+    @Benchmark
+    public int scheduleEvents(Blackhole blackhole) {
+        // the scheduler is reused, thus events are added after all events of the previous invocation
+        final long offset = Math.max(0, scheduler.getScheduledTime() + SECOND);
+        for (int i = 0; i < events; i++) {
+            scheduler.addEvent(new Event(offset + times[i], processor, null, nices[i]));
+        }
+        int processedEvents = 0;
+        while (!scheduler.isEmpty()) {
+            processedEvents += scheduler.scheduleEvents(scheduler.getNextEventTime());
+        }
+        for (Sink sink : sinks) {
+            blackhole.consume(sink.value);
+        }
+        return processedEvents;
+    }
+
+    private static class Sink {
+        private double value;
+    }
+}
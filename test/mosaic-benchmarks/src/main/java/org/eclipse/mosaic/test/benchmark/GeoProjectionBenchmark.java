@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.test.benchmark;
+
+import org.eclipse.mosaic.lib.geo.CartesianPoint;
+import org.eclipse.mosaic.lib.geo.GeoPoint;
+import org.eclipse.mosaic.lib.geo.MutableCartesianPoint;
+import org.eclipse.mosaic.lib.geo.MutableGeoPoint;
+import org.eclipse.mosaic.lib.transform.GeoProjection;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures conversions between geographic and cartesian coordinates by the {@link GeoProjection}, which
+ * are done for each position update of each unit. The conversions write into reused mutable points,
+ * as done by the federates, so that only the conversion itself is measured.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GeoProjectionBenchmark {
+
+    private static final int POINTS = 1024;
+
+    @Param("42")
+    public long seed;
+
+    /**
+     * The edge length of the square area containing all points in m.
+     */
+    @Param({"1000", "50000"})
+    public double areaSize;
+
+    private GeoProjection projection;
+    private List<GeoPoint> geoPoints;
+    private List<CartesianPoint> cartesianPoints;
+    private int nextPoint = 0;
+
+    private final MutableCartesianPoint cartesianResult = new MutableCartesianPoint();
+    private final MutableGeoPoint geoResult = new MutableGeoPoint();
+
+    @Setup(Level.Trial)
+    public void setup() {
+        SyntheticData.initializeProjection();
+        projection = GeoProjection.getInstance();
+
+        final Random random = new Random(seed);
+        geoPoints = SyntheticData.createGeoPoints(random, POINTS, areaSize);
+        cartesianPoints = SyntheticData.createCartesianPoints(random, POINTS, areaSize);
+    }
+
+    @Benchmark
+    public MutableCartesianPoint geographicToCartesian() {
+        nextPoint = (nextPoint + 1) % POINTS;
+        return projection.geographicToCartesian(geoPoints.get(nextPoint), cartesianResult);
+    }
+
+    @Benchmark
+    public MutableGeoPoint cartesianToGeographic() {
+        nextPoint = (nextPoint + 1) % POINTS;
+        return projection.cartesianToGeographic(cartesianPoints.get(nextPoint), geoResult);
+    }
+}
@@ -0,0 +1,186 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.test.benchmark;
+
+import org.eclipse.mosaic.lib.geo.CartesianPoint;
+import org.eclipse.mosaic.lib.math.DefaultRandomNumberGenerator;
+import org.eclipse.mosaic.lib.math.RandomNumberGenerator;
+import org.eclipse.mosaic.lib.math.Vector3d;
+import org.eclipse.mosaic.lib.perception.PerceptionEgo;
+import org.eclipse.mosaic.lib.perception.PerceptionModifier;
+import org.eclipse.mosaic.lib.perception.modifier.BoundingBoxOcclusion;
+import org.eclipse.mosaic.lib.perception.modifier.DimensionsModifier;
+import org.eclipse.mosaic.lib.perception.modifier.DistanceFilter;
+import org.eclipse.mosaic.lib.perception.modifier.HeadingModifier;
+import org.eclipse.mosaic.lib.perception.modifier.PositionModifier;
+import org.eclipse.mosaic.lib.perception.modifier.SimpleOcclusion;
+import org.eclipse.mosaic.lib.perception.modifier.WallOcclusion;
+import org.eclipse.mosaic.lib.perception.objects.BuildingWall;
+import org.eclipse.mosaic.lib.perception.objects.VehicleObject;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the application of a chain of {@link PerceptionModifier}s onto the vehicles perceived by an ego vehicle.
+ * As the modifiers change the perceived objects, each invocation works on fresh copies of the same random vehicles,
+ * thus the time for copying is included in the results.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PerceptionModifierBenchmark {
+
+    private static final double VIEWING_RANGE = 200;
+
+    @Param("42")
+    public long seed;
+
+    /**
+     * The number of vehicles within the viewing range of the ego vehicle.
+     */
+    @Param({"10", "100"})
+    public int vehicles;
+
+    /**
+     * The number of building walls surrounding the ego vehicle.
+     */
+    @Param("100")
+    public int walls;
+
+    /**
+     * The modifiers to apply, in this order.
+     */
+    @Param({"noise", "simpleOcclusion", "boundingBoxOcclusion", "wallOcclusion", "all"})
+    public String chain;
+
+    private PerceptionEgo ego;
+    private List<VehicleObject> perceivedVehicles;
+    private List<PerceptionModifier> modifiers;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        final Random random = new Random(seed);
+        final RandomNumberGenerator rng = new DefaultRandomNumberGenerator(seed);
+
+        perceivedVehicles = new ArrayList<>(vehicles);
+        int index = 0;
+        for (CartesianPoint position : SyntheticData.createCartesianPoints(random, vehicles, VIEWING_RANGE)) {
+            perceivedVehicles.add(new VehicleObject("veh_" + index++)
+                    .setPosition(position)
+                    .setHeading(random.nextDouble() * 360)
+                    .setDimensions(5, 2.5, 1.5));
+        }
+
+        final List<BuildingWall> buildingWalls = new ArrayList<>(walls);
+        final List<Vector3d> corners = SyntheticData.createPoints(random, walls, 2 * VIEWING_RANGE);
+        for (Vector3d corner : corners) {
+            final double angle = random.nextDouble() * 2 * Math.PI;
+            buildingWalls.add(new BuildingWall(corner, new Vector3d(corner.x + 20 * Math.cos(angle), 0, corner.z + 20 * Math.sin(angle))));
+        }
+        ego = new SyntheticEgo(buildingWalls);
+
+        modifiers = new ArrayList<>();
+        if ("noise".equals(chain) || "all".equals(chain)) {
+            modifiers.add(new PositionModifier(rng, 1, 1));
+            modifiers.add(new HeadingModifier(rng, 10, 0));
+            modifiers.add(new DimensionsModifier(rng, 1, 0, 0));
+        }
+        if ("simpleOcclusion".equals(chain) || "all".equals(chain)) {
+            modifiers.add(new SimpleOcclusion(3, 10));
+        }
+        if ("boundingBoxOcclusion".equals(chain) || "all".equals(chain)) {
+            modifiers.add(new BoundingBoxOcclusion());
+        }
+        if ("wallOcclusion".equals(chain) || "all".equals(chain)) {
+            modifiers.add(new WallOcclusion());
+        }
+        if ("all".equals(chain)) {
+            modifiers.add(new DistanceFilter(rng, 0));
+        }
+        if (modifiers.isEmpty()) {
+            throw new IllegalArgumentException("Unknown modifier chain " + chain);
+        }
+    }
+
+    @Benchmark
+    public int applyModifiers() {
+        List<VehicleObject> objects = new ArrayList<>(perceivedVehicles.size());
+        for (VehicleObject vehicle : perceivedVehicles) {
+            objects.add(vehicle.copy());
+        }
+        for (PerceptionModifier modifier : modifiers) {
+            objects = modifier.apply(ego, objects);
+        }
+        return objects.size();
+    }
+
+    /**
+     * An ego vehicle placed at the origin heading north.
+     */
+    private static class SyntheticEgo implements PerceptionEgo {
+
+        private final Collection<BuildingWall> walls;
+
+        private SyntheticEgo(Collection<BuildingWall> walls) {
+            this.walls = walls;
+        }
+
+        @Override
+        public String getId() {
+            return "ego";
+        }
+
+        @Override
+        public CartesianPoint getProjectedPosition() {
+            return CartesianPoint.ORIGO;
+        }
+
+        @Override
+        public double getHeading() {
+            return 0;
+        }
+
+        @Override
+        public double getViewingRange() {
+            return VIEWING_RANGE;
+        }
+
+        @Override
+        public Collection<BuildingWall> getSurroundingWalls() {
+            return walls;
+        }
+    }
+}
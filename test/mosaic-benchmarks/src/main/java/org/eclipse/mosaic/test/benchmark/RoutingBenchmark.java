@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.test.benchmark;
+
+import org.eclipse.mosaic.lib.database.Database;
+import org.eclipse.mosaic.lib.routing.RoutingParameters;
+import org.eclipse.mosaic.lib.routing.RoutingPosition;
+import org.eclipse.mosaic.lib.routing.RoutingRequest;
+import org.eclipse.mosaic.lib.routing.config.CVehicleRouting.SpeedUpTechnique;
+import org.eclipse.mosaic.lib.routing.graphhopper.GraphHopperRouting;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures route calculation by {@link GraphHopperRouting#findRoutes} on a synthetic grid network,
+ * using the available speed-up techniques. Each invocation calculates a route between the next
+ * of a fixed set of random pairs of junctions.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class RoutingBenchmark {
+
+    private static final int REQUESTS = 256;
+
+    @Param("42")
+    public long seed;
+
+    /**
+     * The number of junctions along each side of the grid network.
+     */
+    @Param({"20", "60"})
+    public int gridSize;
+
+    @Param({"NONE", "CONTRACTION_HIERARCHIES", "LANDMARKS"})
+    public SpeedUpTechnique speedUp;
+
+    @Param({"0", "2"})
+    public int alternativeRoutes;
+
+    private GraphHopperRouting routing;
+    private List<RoutingRequest> requests;
+    private int nextRequest = 0;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        SyntheticData.initializeProjection();
+
+        final Random random = new Random(seed);
+        final Database database = SyntheticData.createGridNetwork(random, gridSize, 200);
+        routing = new GraphHopperRouting(database, speedUp);
+
+        requests = new ArrayList<>(REQUESTS);
+        for (int i = 0; i < REQUESTS; i++) {
+            requests.add(new RoutingRequest(
+                    new RoutingPosition(SyntheticData.randomNode(random, database, gridSize).getPosition()),
+                    new RoutingPosition(SyntheticData.randomNode(random, database, gridSize).getPosition()),
+                    new RoutingParameters().alternativeRoutes(alternativeRoutes)
+            ));
+        }
+    }
+
+    @Benchmark
+    public int findRoutes() {
+        nextRequest = (nextRequest + 1) % REQUESTS;
+        return routing.findRoutes(requests.get(nextRequest)).size();
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.test.benchmark;
+
+import org.eclipse.mosaic.lib.math.Vector3d;
+import org.eclipse.mosaic.lib.spatial.BoundingBox;
+import org.eclipse.mosaic.lib.spatial.Grid;
+import org.eclipse.mosaic.lib.spatial.KdTree;
+import org.eclipse.mosaic.lib.spatial.QuadTree;
+import org.eclipse.mosaic.lib.spatial.SpatialItemAdapter;
+import org.eclipse.mosaic.lib.spatial.SpatialTreeTraverser;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures range and nearest neighbor queries on the spatial indexes {@link Grid}, {@link QuadTree} and {@link KdTree},
+ * which all contain the same randomly distributed points. Each invocation performs one query around the next
+ * of a fixed set of random query centers.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SpatialIndexBenchmark {
+
+    private static final int QUERY_CENTERS = 1024;
+
+    @Param("42")
+    public long seed;
+
+    @Param({"1000", "100000"})
+    public int items;
+
+    /**
+     * The edge length of the square area containing all items in m.
+     */
+    @Param("10000")
+    public double areaSize;
+
+    /**
+     * The radius of range queries in m.
+     */
+    @Param({"100", "500"})
+    public double radius;
+
+    private final SpatialItemAdapter<Vector3d> adapter = new SpatialItemAdapter.PointAdapter<>();
+
+    private Grid<Vector3d> grid;
+    private QuadTree<Vector3d> quadTree;
+    private KdTree<Vector3d> kdTree;
+
+    private final SpatialTreeTraverser.InRadius<Vector3d> inRadius = new SpatialTreeTraverser.InRadius<>();
+    private final SpatialTreeTraverser.Nearest<Vector3d> nearest = new SpatialTreeTraverser.Nearest<>();
+
+    private List<Vector3d> centers;
+    private final List<Vector3d> result = new ArrayList<>();
+    private final BoundingBox area = new BoundingBox();
+    private int nextCenter = 0;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        final Random random = new Random(seed);
+        final List<Vector3d> points = SyntheticData.createPoints(random, items, areaSize);
+        centers = SyntheticData.createPoints(random, QUERY_CENTERS, areaSize);
+
+        final double half = areaSize / 2;
+        grid = new Grid<>(adapter, radius, radius, -half, half, -half, half);
+        quadTree = new QuadTree<>(adapter, -half, half, -half, half);
+        for (Vector3d point : points) {
+            grid.addItem(point);
+            quadTree.addItem(point);
+        }
+        kdTree = new KdTree<>(adapter, points);
+    }
+
+    private Vector3d nextCenter() {
+        nextCenter = (nextCenter + 1) % QUERY_CENTERS;
+        return centers.get(nextCenter);
+    }
+
+    @Benchmark
+    public int gridInRadius() {
+        final Vector3d center = nextCenter();
+        area.clear();
+        area.add(new Vector3d(center.x - radius, 0, center.z - radius), new Vector3d(center.x + radius, 0, center.z + radius));
+        result.clear();
+        final double radiusSqr = radius * radius;
+        return grid.getItemsInBoundingArea(area, item -> item.distanceSqrTo(center) <= radiusSqr, result).size();
+    }
+
+    @Benchmark
+    public int quadTreeInRadius() {
+        result.clear();
+        return quadTree.getObjectsInRadius(nextCenter(), radius, result).size();
+    }
+
+    @Benchmark
+    public int kdTreeInRadius() {
+        inRadius.setup(nextCenter(), radius);
+        inRadius.traverse(kdTree);
+        return inRadius.getResult().size();
+    }
+
+    @Benchmark
+    public Vector3d quadTreeNearest() {
+        return quadTree.getNearestObject(nextCenter());
+    }
+
+    @Benchmark
+    public Vector3d kdTreeNearest() {
+        nearest.setup(nextCenter());
+        nearest.traverse(kdTree);
+        return nearest.getNearest();
+    }
+}
@@ -0,0 +1,180 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.test.benchmark;
+
+import org.eclipse.mosaic.lib.database.Database;
+import org.eclipse.mosaic.lib.database.road.Connection;
+import org.eclipse.mosaic.lib.database.road.Node;
+import org.eclipse.mosaic.lib.database.road.Way;
+import org.eclipse.mosaic.lib.geo.CartesianPoint;
+import org.eclipse.mosaic.lib.geo.GeoPoint;
+import org.eclipse.mosaic.lib.math.Vector3d;
+import org.eclipse.mosaic.lib.transform.GeoProjection;
+import org.eclipse.mosaic.lib.transform.Wgs84Projection;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Creates synthetic, reproducible data for the benchmarks. All data is derived from a seed,
+ * thus the same seed always results in the same data.
+ */
+public final class SyntheticData {
+
+    /**
+     * The origin of all synthetic scenarios, used as the center of the geographic projection.
+     */
+    public static final GeoPoint ORIGIN = GeoPoint.latLon(52.5, 13.4);
+
+    private SyntheticData() {
+        // static methods only
+    }
+
+    /**
+     * Initializes the geographic projection with {@link #ORIGIN} as its center, replacing any previous projection.
+     */
+    public static void initializeProjection() {
+        GeoProjection.reset();
+        GeoProjection.initialize(new Wgs84Projection(ORIGIN));
+    }
+
+    /**
+     * Creates points uniformly distributed within a square of the given size centered at the origin.
+     * As in the simulation, the x and z coordinates describe the ground plane.
+     */
+    public static List<Vector3d> createPoints(Random random, int count, double size) {
+        final List<Vector3d> points = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            points.add(new Vector3d(randomCoordinate(random, size), 0, randomCoordinate(random, size)));
+        }
+        return points;
+    }
+
+    /**
+     * Creates cartesian points uniformly distributed within a square of the given size centered at the origin.
+     */
+    public static List<CartesianPoint> createCartesianPoints(Random random, int count, double size) {
+        final List<CartesianPoint> points = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            points.add(CartesianPoint.xy(randomCoordinate(random, size), randomCoordinate(random, size)));
+        }
+        return points;
+    }
+
+    /**
+     * Creates geographic points uniformly distributed within a square of roughly the given size in meters around {@link #ORIGIN}.
+     */
+    public static List<GeoPoint> createGeoPoints(Random random, int count, double size) {
+        final double degreesPerMeter = 1 / 111_000d;
+        final List<GeoPoint> points = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            points.add(GeoPoint.latLon(
+                    ORIGIN.getLatitude() + randomCoordinate(random, size) * degreesPerMeter,
+                    ORIGIN.getLongitude() + randomCoordinate(random, size) * degreesPerMeter * 1.6
+            ));
+        }
+        return points;
+    }
+
+    /**
+     * Creates a road network as a grid of {@code size x size} junctions which are connected by two-way roads of the given length.
+     * The maximum speed of each road is chosen randomly, so that routes with different costs exist. The id of the node in
+     * column {@code x} and row {@code y} is {@code "x_y"}.
+     */
+    public static Database createGridNetwork(Random random, int size, double roadLength) {
+        final double latitudePerMeter = 1 / 111_000d;
+        final double longitudePerMeter = latitudePerMeter * 1.6;
+        final double offset = -(size - 1) * roadLength / 2;
+
+        final Database.Builder builder = new Database.Builder();
+        for (int x = 0; x < size; x++) {
+            for (int y = 0; y < size; y++) {
+                builder.addNode(nodeId(x, y), GeoPoint.latLon(
+                        ORIGIN.getLatitude() + (offset + y * roadLength) * latitudePerMeter,
+                        ORIGIN.getLongitude() + (offset + x * roadLength) * longitudePerMeter
+                ));
+            }
+        }
+        for (int x = 0; x < size; x++) {
+            for (int y = 0; y < size; y++) {
+                if (x + 1 < size) {
+                    addRoad(builder, random, nodeId(x, y), nodeId(x + 1, y), roadLength);
+                }
+                if (y + 1 < size) {
+                    addRoad(builder, random, nodeId(x, y), nodeId(x, y + 1), roadLength);
+                }
+            }
+        }
+        return builder.build();
+    }
+
+    public static String nodeId(int x, int y) {
+        return x + "_" + y;
+    }
+
+    private static void addRoad(Database.Builder builder, Random random, String from, String to, double length) {
+        final String wayId = from + "-" + to;
+        final Way way = builder.addWay(wayId, wayId, "primary");
+        way.setMaxSpeedInKmh(30 + 10 * random.nextInt(6));
+        way.setLanes(1, 1);
+        builder.addNodeToWay(wayId, from);
+        builder.addNodeToWay(wayId, to);
+        addConnection(builder, way, from, to, length);
+        addConnection(builder, way, to, from, length);
+    }
+
+    private static void addConnection(Database.Builder builder, Way way, String from, String to, double length) {
+        final Connection connection = builder.addConnection(way.getId() + "_" + from + "_" + to, way.getId());
+        connection.setLength(length);
+        builder.addNodeToConnection(connection.getId(), from);
+        builder.addNodeToConnection(connection.getId(), to);
+    }
+
+    /**
+     * Creates times within the given duration in ns, each at the beginning of one of {@code steps} equally long
+     * simulation steps. Thus, many times are equal, as with events scheduled at the beginning of a simulation step.
+     */
+    public static long[] createStepTimes(Random random, int count, long duration, int steps) {
+        final long[] times = new long[count];
+        for (int i = 0; i < count; i++) {
+            times[i] = random.nextInt(steps) * (duration / steps);
+        }
+        return times;
+    }
+
+    /**
+     * Creates random values from {@code 0} (inclusive) to {@code bound} (exclusive), e.g. for the nice values of events.
+     */
+    public static long[] createValues(Random random, int count, int bound) {
+        final long[] values = new long[count];
+        for (int i = 0; i < count; i++) {
+            values[i] = random.nextInt(bound);
+        }
+        return values;
+    }
+
+    private static double randomCoordinate(Random random, double size) {
+        return (random.nextDouble() - 0.5) * size;
+    }
+
+    /**
+     * Returns a random node of the given grid network.
+     */
+    public static Node randomNode(Random random, Database database, int size) {
+        return database.getNode(nodeId(random.nextInt(size), random.nextInt(size)));
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.test.benchmark;
+
+import org.eclipse.mosaic.lib.util.objects.Identifiable;
+import org.eclipse.mosaic.lib.util.objects.TimeCache;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the {@link TimeCache} as used for V2X messages: Messages are put into the cache when they are sent,
+ * looked up when they are received, and removed by a garbage collection once they are expired.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TimeCacheBenchmark {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Param("42")
+    public long seed;
+
+    /**
+     * The number of items in the cache.
+     */
+    @Param({"1000", "100000"})
+    public int items;
+
+    private TimeCache<Item> cache;
+    private Item[] cachedItems;
+    private int[] lookups;
+    private int nextLookup = 0;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        final Random random = new Random(seed);
+        cache = new TimeCache<>();
+        cachedItems = new Item[items];
+        for (int i = 0; i < items; i++) {
+            cachedItems[i] = new Item(i);
+            cache.putItem(random.nextInt(100) * SECOND, cachedItems[i]);
+        }
+        lookups = new int[1024];
+        for (int i = 0; i < lookups.length; i++) {
+            lookups[i] = cachedItems[random.nextInt(items)].getId();
+        }
+    }
+
+    @Benchmark
+    public Item getItem() {
+        nextLookup = (nextLookup + 1) % lookups.length;
+        return cache.getItem(lookups[nextLookup]);
+    }
+
+    /**
+     * Removes all items, and puts them back into the cache afterward, thus every
+     * invocation works on the same content.
+     */
+    @Benchmark
+    public int garbageCollectionAndRefill() {
+        final int removed = cache.garbageCollection(Long.MAX_VALUE).size();
+        for (Item item : cachedItems) {
+            cache.putItem(0, item);
+        }
+        return removed;
+    }
+
+    public static class Item implements Identifiable {
+
+        private final int id;
+
+        private Item(int id) {
+            this.id = id;
+        }
+
+        @Override
+        public int getId() {
+            return id;
+        }
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.eclipse.mosaic.starter.MosaicSimulation;
+import org.eclipse.mosaic.test.junit.LogAssert;
+import org.eclipse.mosaic.test.junit.MosaicSimulationRule;
+import org.eclipse.mosaic.test.scale.ScaleTestScenario;
+import org.eclipse.mosaic.test.scale.SyntheticTrafficAmbassador;
+
+import org.junit.BeforeClass;
+import org.junit.ClassRule;
+import org.junit.Test;
+
+import java.nio.file.Path;
+
+/**
+ * Executes a small generated scale test scenario, in which the vehicle movements are simulated by
+ * the {@link SyntheticTrafficAmbassador} instead of SUMO.
+ */
+public class SyntheticTrafficIT {
+
+    private final static int VEHICLES = 200;
+
+    @ClassRule
+    public static MosaicSimulationRule simulationRule = new MosaicSimulationRule()
+            .federateConfigurationManipulator("sumo", f -> {
+                f.classname = SyntheticTrafficAmbassador.class.getCanonicalName();
+                f.deploy = false;
+                f.start = false;
+            });
+
+    private static MosaicSimulation.SimulationResult simulationResult;
+
+    @BeforeClass
+    public static void runSimulation() throws Exception {
+        SyntheticTrafficAmbassador.resetStatistics();
+        final Path scenarioDirectory = new ScaleTestScenario(VEHICLES, 100, 4711)
+                .create(simulationRule.newFolder("synthetic-traffic").toPath());
+        simulationResult = simulationRule.executeSimulation(scenarioDirectory);
+    }
+
+    @Test
+    public void executionSuccessful() throws Exception {
+        assertNull(simulationResult.exception);
+        assertTrue(simulationResult.success);
+    }
+
+    @Test
+    public void allVehiclesSimulated() throws Exception {
+        assertEquals(VEHICLES, LogAssert.count(simulationRule, "Mapping.log", ".*Creating Vehicle: .*"));
+        assertTrue(SyntheticTrafficAmbassador.getMaxActiveVehicles() > VEHICLES / 2);
+        assertTrue(SyntheticTrafficAmbassador.getVehicleSteps() > 0);
+    }
+
+    @Test
+    public void vehicleMovementsWrittenToOutput() throws Exception {
+        LogAssert.contains(simulationRule, "output.csv", "VEHICLE_UPDATES;\\d+;veh_0;.*");
+    }
+}
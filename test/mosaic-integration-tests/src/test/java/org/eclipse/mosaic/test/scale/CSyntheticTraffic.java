@@ -0,0 +1,32 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.test.scale;
+
+/**
+ * Configuration of the {@link SyntheticTrafficAmbassador}.
+ */
+public class CSyntheticTraffic {
+
+    /**
+     * The interval in which vehicle movements are simulated and published. Unit: [ms].
+     */
+    public long updateInterval = 1000;
+
+    /**
+     * The path to the road network database, relative to the directory of this configuration file.
+     */
+    public String databaseFile = "../application/network.db";
+}
@@ -0,0 +1,240 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.test.scale;
+
+import org.eclipse.mosaic.lib.util.objects.ObjectInstantiation;
+import org.eclipse.mosaic.rti.config.CHosts;
+import org.eclipse.mosaic.rti.config.CLocalHost;
+import org.eclipse.mosaic.starter.MosaicSimulation;
+import org.eclipse.mosaic.starter.config.CRuntime;
+import org.eclipse.mosaic.starter.config.CScenario;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.IOUtils;
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Runs headless scale tests of the Application, SNS, Cell, and Output simulators with a growing number
+ * of vehicles, and reports the throughput and memory consumption of each run. The vehicle movements are
+ * simulated by the {@link SyntheticTrafficAmbassador} instead of SUMO, so that the results reflect the costs
+ * of MOSAIC itself, and no traffic simulator needs to be installed.
+ * <p>
+ * Usage: {@code ScaleTestRunner [--duration <seconds>] [--log-level <level>] [<vehicles>...]}, e.g.
+ * {@code ScaleTestRunner --duration 300 1000 10000 100000}, which are also the default values.
+ * The runner is part of the test sources of this module, and is started from the IDE or by
+ * {@code mvn exec:java -Dexec.classpathScope=test -Dexec.mainClass=org.eclipse.mosaic.test.scale.ScaleTestRunner}.
+ * Runs with many vehicles require a large heap, e.g. {@code -Xmx16g} for 100k vehicles.
+ */
+public class ScaleTestRunner {
+
+    private static final long RANDOM_SEED = 4711;
+
+    private final int durationInS;
+    private final String logLevel;
+    private final Path workingDirectory;
+
+    public ScaleTestRunner(int durationInS, String logLevel, Path workingDirectory) {
+        this.durationInS = durationInS;
+        this.logLevel = logLevel;
+        this.workingDirectory = workingDirectory;
+    }
+
+    public static void main(String[] args) throws Exception {
+        int durationInS = 300;
+        String logLevel = "WARN";
+        final List<Integer> vehicleCounts = new ArrayList<>();
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--duration" -> durationInS = Integer.parseInt(args[++i]);
+                case "--log-level" -> logLevel = args[++i];
+                default -> vehicleCounts.add(Integer.parseInt(args[i]));
+            }
+        }
+        if (vehicleCounts.isEmpty()) {
+            vehicleCounts.addAll(List.of(1_000, 10_000, 100_000));
+        }
+
+        final Path workingDirectory = Files.createTempDirectory("mosaic-scale-test");
+        final ScaleTestRunner runner = new ScaleTestRunner(durationInS, logLevel, workingDirectory);
+        final List<Result> results = new ArrayList<>();
+        try {
+            for (int vehicles : vehicleCounts) {
+                final Result result = runner.run(vehicles);
+                System.out.println(result.format());
+                results.add(result);
+            }
+        } finally {
+            FileUtils.deleteQuietly(workingDirectory.toFile());
+        }
+
+        System.out.println();
+        System.out.println(Result.HEADER);
+        results.forEach(r -> System.out.println(r.format()));
+        System.exit(results.stream().allMatch(r -> r.success) ? 0 : 1);
+    }
+
+    /**
+     * Generates a scenario with the given number of vehicles and executes it.
+     */
+    public Result run(int numberOfVehicles) throws IOException {
+        final Path runDirectory = workingDirectory.resolve("vehicles-" + numberOfVehicles);
+        final Path scenarioDirectory = new ScaleTestScenario(numberOfVehicles, durationInS, RANDOM_SEED)
+                .create(runDirectory.resolve("scenario"));
+        final CScenario scenarioConfiguration;
+        try {
+            scenarioConfiguration = new ObjectInstantiation<>(CScenario.class)
+                    .readFile(scenarioDirectory.resolve("scenario_config.json").toFile());
+        } catch (InstantiationException e) {
+            throw new IOException(e);
+        }
+
+        final MosaicSimulation simulation = new MosaicSimulation()
+                .setWatchdogInterval(0)
+                .setRuntimeConfiguration(createRuntimeConfiguration())
+                .setHostsConfiguration(createHostsConfiguration(runDirectory))
+                .setLogbackConfigurationFile(createLogConfiguration(runDirectory))
+                .setLogLevelOverride(logLevel);
+
+        SyntheticTrafficAmbassador.resetStatistics();
+        System.gc();
+
+        final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        final AtomicLong peakHeap = new AtomicLong(memory.getHeapMemoryUsage().getUsed());
+        final ScheduledExecutorService sampler = Executors.newSingleThreadScheduledExecutor(r -> {
+            final Thread thread = new Thread(r, "heap-sampler");
+            thread.setDaemon(true);
+            return thread;
+        });
+        sampler.scheduleAtFixedRate(
+                () -> peakHeap.accumulateAndGet(memory.getHeapMemoryUsage().getUsed(), Math::max), 0, 100, TimeUnit.MILLISECONDS
+        );
+
+        final long start = System.nanoTime();
+        final MosaicSimulation.SimulationResult simulationResult;
+        try {
+            simulationResult = simulation.runSimulation(scenarioDirectory, scenarioConfiguration);
+        } finally {
+            sampler.shutdownNow();
+        }
+        final double wallTimeInS = (System.nanoTime() - start) / 1e9;
+
+        if (!simulationResult.success && simulationResult.exception != null) {
+            simulationResult.exception.printStackTrace();
+        }
+        return new Result(
+                numberOfVehicles,
+                simulationResult.success,
+                wallTimeInS,
+                durationInS / wallTimeInS,
+                SyntheticTrafficAmbassador.getMaxActiveVehicles(),
+                SyntheticTrafficAmbassador.getVehicleSteps() / wallTimeInS,
+                peakHeap.get()
+        );
+    }
+
+    /**
+     * Replaces SUMO by the {@link SyntheticTrafficAmbassador}. The federate id "sumo" is kept, so that the
+     * subscriptions and the logging of the traffic simulator remain the same.
+     */
+    private CRuntime createRuntimeConfiguration() throws IOException {
+        final CRuntime runtimeConfiguration;
+        try (InputStream resource = Objects.requireNonNull(getClass().getResourceAsStream("/runtime.json"),
+                "Could not find runtime.json in classpath."
+        )) {
+            runtimeConfiguration = new ObjectInstantiation<>(CRuntime.class).read(resource);
+        } catch (InstantiationException e) {
+            throw new IOException(e);
+        }
+        for (CRuntime.CFederate federate : runtimeConfiguration.federates) {
+            if ("sumo".equals(federate.id)) {
+                federate.classname = SyntheticTrafficAmbassador.class.getCanonicalName();
+                federate.deploy = false;
+                federate.start = false;
+            }
+        }
+        return runtimeConfiguration;
+    }
+
+    private static CHosts createHostsConfiguration(Path runDirectory) throws IOException {
+        final Path tmpDirectory = Files.createDirectories(runDirectory.resolve("tmp"));
+        final CHosts hostsConfiguration = new CHosts();
+        hostsConfiguration.localHosts.add(new CLocalHost(tmpDirectory.toAbsolutePath().toString()));
+        return hostsConfiguration;
+    }
+
+    private Path createLogConfiguration(Path runDirectory) throws IOException {
+        final Path logDirectory = Paths.get("log", "scale-test-" + runDirectory.getFileName());
+        FileUtils.deleteQuietly(logDirectory.toFile());
+        try (InputStream resource = Objects.requireNonNull(getClass().getResourceAsStream("/logback.xml"),
+                "Could not find logback.xml in classpath."
+        )) {
+            final String configuration = StringUtils.replace(
+                    IOUtils.toString(resource, StandardCharsets.UTF_8), "${logDirectory}", logDirectory.toAbsolutePath().toString()
+            );
+            final Path logConfiguration = runDirectory.resolve("logback.xml");
+            Files.write(logConfiguration, configuration.getBytes(StandardCharsets.UTF_8));
+            return logConfiguration;
+        }
+    }
+
+    public static class Result {
+
+        private static final String HEADER = String.format(Locale.ENGLISH, "%10s %8s %12s %10s %12s %18s %14s",
+                "vehicles", "success", "wall time", "RTF", "peak active", "vehicle steps/s", "peak heap");
+
+        public final int vehicles;
+        public final boolean success;
+        public final double wallTimeInS;
+        public final double realTimeFactor;
+        public final long peakActiveVehicles;
+        public final double vehicleStepsPerSecond;
+        public final long peakHeapBytes;
+
+        private Result(int vehicles, boolean success, double wallTimeInS, double realTimeFactor,
+                       long peakActiveVehicles, double vehicleStepsPerSecond, long peakHeapBytes) {
+            this.vehicles = vehicles;
+            this.success = success;
+            this.wallTimeInS = wallTimeInS;
+            this.realTimeFactor = realTimeFactor;
+            this.peakActiveVehicles = peakActiveVehicles;
+            this.vehicleStepsPerSecond = vehicleStepsPerSecond;
+            this.peakHeapBytes = peakHeapBytes;
+        }
+
+        private String format() {
+            return String.format(Locale.ENGLISH, "%10d %8s %11.1fs %10.2f %12d %18.0f %11d MB",
+                    vehicles, success, wallTimeInS, realTimeFactor, peakActiveVehicles,
+                    vehicleStepsPerSecond, peakHeapBytes / (1024 * 1024));
+        }
+    }
+}
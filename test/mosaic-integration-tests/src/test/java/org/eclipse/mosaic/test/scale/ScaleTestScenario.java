@@ -0,0 +1,383 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.test.scale;
+
+import org.eclipse.mosaic.lib.database.Database;
+import org.eclipse.mosaic.lib.database.road.Connection;
+import org.eclipse.mosaic.lib.database.road.Way;
+import org.eclipse.mosaic.lib.geo.GeoPoint;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+/**
+ * Generates a scenario for scale tests with a given number of vehicles. The road network is a grid of two-way
+ * roads which grows with the number of vehicles, and on which the vehicles drive along random routes. Half of the
+ * vehicles send CAMs via ad hoc communication, the other half via cellular communication. All vehicles are spawned
+ * by the mapping within the first minute of the simulation. The vehicle movements are simulated by the
+ * {@link SyntheticTrafficAmbassador}, which must be configured as the "sumo" federate in the runtime configuration.
+ */
+public class ScaleTestScenario {
+
+    private static final GeoPoint ORIGIN = GeoPoint.latLon(52.515, 13.33);
+
+    /**
+     * The distance between two junctions of the grid in meters.
+     */
+    private static final double ROAD_LENGTH = 200;
+
+    /**
+     * The number of vehicles per junction, which determines the size of the grid.
+     */
+    private static final int VEHICLES_PER_JUNCTION = 20;
+
+    /**
+     * The number of vehicles driving on the same route.
+     */
+    private static final int VEHICLES_PER_ROUTE = 50;
+
+    /**
+     * The duration in seconds in which all vehicles are spawned.
+     */
+    private static final int SPAWNING_DURATION = 60;
+
+    private final int numberOfVehicles;
+    private final int durationInS;
+    private final long randomSeed;
+
+    public ScaleTestScenario(int numberOfVehicles, int durationInS, long randomSeed) {
+        this.numberOfVehicles = numberOfVehicles;
+        this.durationInS = durationInS;
+        this.randomSeed = randomSeed;
+    }
+
+    /**
+     * Writes all configuration files and the road network of this scenario into the given directory.
+     *
+     * @return the scenario directory
+     */
+    public Path create(Path scenarioDirectory) throws IOException {
+        final Random random = new Random(randomSeed);
+        final int gridSize = Math.max(10, (int) Math.ceil(Math.sqrt((double) numberOfVehicles / VEHICLES_PER_JUNCTION)));
+        final int numberOfRoutes = Math.max(1, (int) Math.ceil((double) numberOfVehicles / VEHICLES_PER_ROUTE));
+
+        final Database.Builder builder = createGridNetwork(random, gridSize);
+        final List<String> routeIds = addRandomRoutes(builder, random, gridSize, numberOfRoutes);
+
+        Files.createDirectories(scenarioDirectory.resolve("application"));
+        builder.build().saveToFile(scenarioDirectory.resolve("application").resolve("network.db").toString());
+
+        write(scenarioDirectory, "scenario_config.json", createScenarioConfiguration());
+        write(scenarioDirectory, "mapping/mapping_config.json", createMappingConfiguration(routeIds));
+        write(scenarioDirectory, "sumo/sumo_config.json", """
+                {
+                    "updateInterval": 1000,
+                    "databaseFile": "../application/network.db"
+                }
+                """);
+        write(scenarioDirectory, "sns/sns_config.json", """
+                {
+                    "singlehopRadius": 150.0
+                }
+                """);
+        write(scenarioDirectory, "cell/cell_config.json", """
+                {
+                    "networkConfigurationFile": "network.json",
+                    "regionConfigurationFile": "regions.json"
+                }
+                """);
+        write(scenarioDirectory, "cell/network.json", createCellNetworkConfiguration());
+        write(scenarioDirectory, "cell/regions.json", """
+                {
+                    "regions": []
+                }
+                """);
+        write(scenarioDirectory, "output/output_config.xml", createOutputConfiguration());
+        return scenarioDirectory;
+    }
+
+    private Database.Builder createGridNetwork(Random random, int size) {
+        final double latitudePerMeter = 1 / 111_000d;
+        final double longitudePerMeter = latitudePerMeter / Math.cos(Math.toRadians(ORIGIN.getLatitude()));
+
+        final Database.Builder builder = new Database.Builder();
+        for (int x = 0; x < size; x++) {
+            for (int y = 0; y < size; y++) {
+                builder.addNode(nodeId(x, y), GeoPoint.latLon(
+                        ORIGIN.getLatitude() + y * ROAD_LENGTH * latitudePerMeter,
+                        ORIGIN.getLongitude() + x * ROAD_LENGTH * longitudePerMeter
+                ));
+            }
+        }
+        for (int x = 0; x < size; x++) {
+            for (int y = 0; y < size; y++) {
+                if (x + 1 < size) {
+                    addRoad(builder, random, nodeId(x, y), nodeId(x + 1, y));
+                }
+                if (y + 1 < size) {
+                    addRoad(builder, random, nodeId(x, y), nodeId(x, y + 1));
+                }
+            }
+        }
+        return builder;
+    }
+
+    private static void addRoad(Database.Builder builder, Random random, String from, String to) {
+        final String wayId = from + "-" + to;
+        final Way way = builder.addWay(wayId, wayId, "primary");
+        way.setMaxSpeedInKmh(30 + 10 * random.nextInt(4));
+        way.setLanes(1, 1);
+        builder.addNodeToWay(wayId, from);
+        builder.addNodeToWay(wayId, to);
+        addConnection(builder, wayId, from, to);
+        addConnection(builder, wayId, to, from);
+    }
+
+    private static void addConnection(Database.Builder builder, String wayId, String from, String to) {
+        final Connection connection = builder.addConnection(connectionId(wayId, from, to), wayId);
+        connection.setLength(ROAD_LENGTH);
+        builder.addNodeToConnection(connection.getId(), from);
+        builder.addNodeToConnection(connection.getId(), to);
+    }
+
+    /**
+     * Adds routes which follow a random walk through the grid without turning back. Each route
+     * consists of twice as many connections as the grid has junctions per side.
+     */
+    private static List<String> addRandomRoutes(Database.Builder builder, Random random, int size, int numberOfRoutes) {
+        final int[][] directions = {{1, 0}, {0, 1}, {-1, 0}, {0, -1}};
+        final List<String> routeIds = new ArrayList<>(numberOfRoutes);
+        for (int i = 0; i < numberOfRoutes; i++) {
+            final String routeId = Integer.toString(i);
+            final Database.RouteBuilder route = builder.addRoute(routeId);
+
+            int x = random.nextInt(size);
+            int y = random.nextInt(size);
+            int lastDirection = -1;
+            for (int step = 0; step < 2 * size; step++) {
+                int direction;
+                int nextX;
+                int nextY;
+                do {
+                    direction = random.nextInt(directions.length);
+                    nextX = x + directions[direction][0];
+                    nextY = y + directions[direction][1];
+                } while (nextX < 0 || nextY < 0 || nextX >= size || nextY >= size
+                        || (lastDirection >= 0 && direction == (lastDirection + 2) % directions.length));
+
+                final String from = nodeId(x, y);
+                final String to = nodeId(nextX, nextY);
+                final String wayId = direction < 2 ? from + "-" + to : to + "-" + from;
+                route.addConnection(connectionId(wayId, from, to));
+
+                x = nextX;
+                y = nextY;
+                lastDirection = direction;
+            }
+            route.create();
+            routeIds.add(routeId);
+        }
+        return routeIds;
+    }
+
+    private static String nodeId(int x, int y) {
+        return x + "_" + y;
+    }
+
+    private static String connectionId(String wayId, String from, String to) {
+        return wayId + "_" + from + "_" + to;
+    }
+
+    private String createScenarioConfiguration() {
+        // vehicle addresses require a larger network than the default one for more than 65k vehicles
+        return """
+                {
+                    "simulation": {
+                        "id": "scale-test-%d",
+                        "duration": "%ds",
+                        "randomSeed": %d,
+                        "projection": {
+                            "centerCoordinates": {
+                                "latitude": 52.0,
+                                "longitude": 13.0
+                            },
+                            "cartesianOffset": {
+                                "x": -385769.05,
+                                "y": -5819239.15
+                            }
+                        },
+                        "network": {
+                            "netMask": "255.224.0.0",
+                            "vehicleNet": "10.0.0.0",
+                            "rsuNet": "10.32.0.0",
+                            "tlNet": "10.64.0.0",
+                            "csNet": "10.96.0.0",
+                            "serverNet": "10.128.0.0",
+                            "tmcNet": "10.160.0.0",
+                            "agentNet": "10.192.0.0"
+                        }
+                    },
+                    "federates": {
+                        "application": true,
+                        "mapping": true,
+                        "sns": true,
+                        "cell": true,
+                        "sumo": true,
+                        "output": true
+                    }
+                }
+                """.formatted(numberOfVehicles, durationInS, randomSeed);
+    }
+
+    private String createMappingConfiguration(List<String> routeIds) {
+        final StringBuilder vehicles = new StringBuilder();
+        int remainingVehicles = numberOfVehicles;
+        for (int i = 0; i < routeIds.size(); i++) {
+            final int vehiclesOnRoute = remainingVehicles / (routeIds.size() - i);
+            remainingVehicles -= vehiclesOnRoute;
+            if (vehiclesOnRoute == 0) {
+                continue;
+            }
+            if (vehicles.length() > 0) {
+                vehicles.append(",\n");
+            }
+            vehicles.append(String.format(Locale.ENGLISH, """
+                            {
+                                "startingTime": %.1f,
+                                "targetFlow": %.1f,
+                                "maxNumberVehicles": %d,
+                                "route": "%s",
+                                "types": [
+                                    { "name": "AdHocVehicle", "weight": 0.5 },
+                                    { "name": "CellVehicle", "weight": 0.5 }
+                                ]
+                            }""",
+                    (double) i * SPAWNING_DURATION / routeIds.size() / VEHICLES_PER_ROUTE,
+                    3600d * vehiclesOnRoute / SPAWNING_DURATION,
+                    vehiclesOnRoute,
+                    routeIds.get(i)
+            ));
+        }
+        return """
+                {
+                    "prototypes": [
+                        {
+                            "name": "AdHocVehicle",
+                            "accel": 2.6,
+                            "decel": 4.5,
+                            "length": 5.0,
+                            "maxSpeed": 16.7,
+                            "applications": [ "org.eclipse.mosaic.test.app.sendandreceive.SendCamAppAdHoc(50d, 150d)" ]
+                        },
+                        {
+                            "name": "CellVehicle",
+                            "accel": 2.6,
+                            "decel": 4.5,
+                            "length": 5.0,
+                            "maxSpeed": 16.7,
+                            "applications": [ "org.eclipse.mosaic.test.app.sendandreceive.SendCamAppCell(%d)" ]
+                        }
+                    ],
+                    "vehicles": [
+                %s
+                    ]
+                }
+                """.formatted(durationInS, vehicles);
+    }
+
+    private static String createCellNetworkConfiguration() {
+        return """
+                {
+                    "defaultUplinkCapacity": "100 Gbps",
+                    "defaultDownlinkCapacity": "100 Gbps",
+                    "globalNetwork": {
+                        "uplink": {
+                            "delay": {
+                                "type": "ConstantDelay",
+                                "delay": "50 ms"
+                            },
+                            "transmission": {
+                                "lossProbability": 0.0,
+                                "maxRetries": 0
+                            },
+                            "capacity": "100 Gbps"
+                        },
+                        "downlink": {
+                            "unicast": {
+                                "delay": {
+                                    "type": "ConstantDelay",
+                                    "delay": "50 ms"
+                                },
+                                "transmission": {
+                                    "lossProbability": 0.0,
+                                    "maxRetries": 0
+                                }
+                            },
+                            "multicast": {
+                                "delay": {
+                                    "type": "ConstantDelay",
+                                    "delay": "100 ms"
+                                },
+                                "transmission": {
+                                    "lossProbability": 0.0
+                                },
+                                "usableCapacity": 0.6
+                            },
+                            "capacity": "100 Gbps"
+                        }
+                    }
+                }
+                """;
+    }
+
+    private static String createOutputConfiguration() {
+        return """
+                <?xml version="1.0" encoding="UTF-8"?>
+                <configuration>
+                    <output id="fileoutput" enabled="true" update="5" loader="org.eclipse.mosaic.fed.output.generator.file.FileOutputLoader">
+                        <filename>output.csv</filename>
+                        <directory>.</directory>
+                        <separator>;</separator>
+                        <subscriptions>
+                            <subscription id="VehicleUpdates">
+                                <entries>
+                                    <entry>"VEHICLE_UPDATES"</entry>
+                                    <entry>Time</entry>
+                                    <entry>Updated:Name</entry>
+                                    <entry>Updated:Speed</entry>
+                                    <entry>Updated:Position.Latitude</entry>
+                                    <entry>Updated:Position.Longitude</entry>
+                                    <entry>Updated:RoadPosition.Connection.Id</entry>
+                                </entries>
+                            </subscription>
+                        </subscriptions>
+                    </output>
+                </configuration>
+                """;
+    }
+
+    private static void write(Path scenarioDirectory, String file, String content) throws IOException {
+        final Path path = scenarioDirectory.resolve(file);
+        Files.createDirectories(path.getParent());
+        Files.write(path, content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,368 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.test.scale;
+
+import org.eclipse.mosaic.interactions.mapping.VehicleRegistration;
+import org.eclipse.mosaic.interactions.traffic.VehicleRoutesInitialization;
+import org.eclipse.mosaic.interactions.traffic.VehicleUpdates;
+import org.eclipse.mosaic.interactions.vehicle.VehicleRouteRegistration;
+import org.eclipse.mosaic.lib.database.Database;
+import org.eclipse.mosaic.lib.database.road.Connection;
+import org.eclipse.mosaic.lib.database.road.Node;
+import org.eclipse.mosaic.lib.enums.DriveDirection;
+import org.eclipse.mosaic.lib.enums.VehicleStopMode;
+import org.eclipse.mosaic.lib.geo.CartesianPoint;
+import org.eclipse.mosaic.lib.math.Vector3d;
+import org.eclipse.mosaic.lib.math.VectorUtils;
+import org.eclipse.mosaic.lib.objects.road.SimpleRoadPosition;
+import org.eclipse.mosaic.lib.objects.vehicle.VehicleData;
+import org.eclipse.mosaic.lib.objects.vehicle.VehicleDeparture;
+import org.eclipse.mosaic.lib.objects.vehicle.VehicleRoute;
+import org.eclipse.mosaic.lib.objects.vehicle.VehicleType;
+import org.eclipse.mosaic.lib.util.objects.ObjectInstantiation;
+import org.eclipse.mosaic.rti.TIME;
+import org.eclipse.mosaic.rti.api.AbstractFederateAmbassador;
+import org.eclipse.mosaic.rti.api.IllegalValueException;
+import org.eclipse.mosaic.rti.api.Interaction;
+import org.eclipse.mosaic.rti.api.InternalFederateException;
+import org.eclipse.mosaic.rti.api.parameters.AmbassadorParameter;
+import org.eclipse.mosaic.rti.api.parameters.FederatePriority;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A traffic federate which replaces SUMO for scale tests. It drives all vehicles registered by the mapping
+ * along their routes on the road network database and publishes their movements as {@link VehicleUpdates},
+ * without requiring any external simulator.
+ * <p>
+ * The vehicles follow simple kinematics: Each vehicle accelerates to the speed limit of the current
+ * connection, limited by the maximum speed of its vehicle type, and brakes in time to stop at the end
+ * of its route, where it is removed from the simulation. Vehicles do not interact with each other, thus
+ * there are no lane changes, no car following, and no traffic lights.
+ * <p>
+ * The number of simulated vehicles is collected in static counters, so that a scale test can report them
+ * after the simulation has finished.
+ */
+public class SyntheticTrafficAmbassador extends AbstractFederateAmbassador {
+
+    private static final AtomicLong VEHICLE_STEPS = new AtomicLong();
+    private static final AtomicLong MAX_ACTIVE_VEHICLES = new AtomicLong();
+
+    private final CSyntheticTraffic config;
+    private final long updateInterval;
+
+    private Database database;
+
+    private final Map<String, VehicleRoute> routes = new HashMap<>();
+    private final Map<String, ConnectionGeometry> geometries = new HashMap<>();
+
+    private final List<VehicleRegistration> pendingVehicles = new ArrayList<>();
+    private final Map<String, SyntheticVehicle> vehicles = new LinkedHashMap<>();
+
+    private long nextTimeStep;
+
+    public SyntheticTrafficAmbassador(AmbassadorParameter ambassadorParameter) {
+        super(ambassadorParameter);
+        try {
+            config = new ObjectInstantiation<>(CSyntheticTraffic.class, log).readFile(ambassadorParameter.configuration);
+        } catch (InstantiationException e) {
+            throw new RuntimeException("Configuration object could not be instantiated: ", e);
+        }
+        updateInterval = config.updateInterval * TIME.MILLI_SECOND;
+    }
+
+    /**
+     * Resets the statistics collected by all instances of this federate.
+     */
+    public static void resetStatistics() {
+        VEHICLE_STEPS.set(0);
+        MAX_ACTIVE_VEHICLES.set(0);
+    }
+
+    /**
+     * Returns the number of vehicle movements simulated since the last reset, i.e. the
+     * sum of active vehicles over all simulation steps.
+     */
+    public static long getVehicleSteps() {
+        return VEHICLE_STEPS.get();
+    }
+
+    /**
+     * Returns the highest number of vehicles driving at the same time since the last reset.
+     */
+    public static long getMaxActiveVehicles() {
+        return MAX_ACTIVE_VEHICLES.get();
+    }
+
+    @Override
+    public void initialize(long startTime, long endTime) throws InternalFederateException {
+        super.initialize(startTime, endTime);
+
+        final File databaseFile = new File(ambassadorParameter.configuration.getParentFile(), config.databaseFile);
+        if (!databaseFile.exists()) {
+            throw new InternalFederateException("Could not find road network database " + databaseFile);
+        }
+        database = Database.loadFromFile(databaseFile);
+        log.info("Loaded road network with {} connections from {}", database.getConnections().size(), databaseFile);
+
+        nextTimeStep = startTime;
+        try {
+            rti.requestAdvanceTime(nextTimeStep, 0, FederatePriority.higher(descriptor.getPriority()));
+        } catch (IllegalValueException e) {
+            throw new InternalFederateException(e);
+        }
+    }
+
+    @Override
+    protected void processInteraction(Interaction interaction) throws InternalFederateException {
+        if (interaction.getTypeId().equals(VehicleRegistration.TYPE_ID)) {
+            pendingVehicles.add((VehicleRegistration) interaction);
+        } else if (interaction.getTypeId().equals(VehicleRoutesInitialization.TYPE_ID)) {
+            routes.putAll(((VehicleRoutesInitialization) interaction).getRoutes());
+        } else if (interaction.getTypeId().equals(VehicleRouteRegistration.TYPE_ID)) {
+            final VehicleRoute route = ((VehicleRouteRegistration) interaction).getRoute();
+            routes.put(route.getId(), route);
+        } else {
+            // vehicles always follow their initial route, all other interactions, e.g. route changes, are ignored
+            log.debug("Ignored interaction {} at {}", interaction.getTypeId(), TIME.format(interaction.getTime()));
+        }
+    }
+
+    @Override
+    protected void processTimeAdvanceGrant(long time) throws InternalFederateException {
+        if (time < nextTimeStep) {
+            // time advances are also granted for received interactions, which are processed in the next simulation step
+            return;
+        }
+        final double stepLength = (double) updateInterval / TIME.SECOND;
+
+        final List<VehicleData> added = addPendingVehicles(time);
+        final List<VehicleData> updated = new ArrayList<>(vehicles.size());
+        final List<String> removed = new ArrayList<>();
+
+        for (Iterator<SyntheticVehicle> iterator = vehicles.values().iterator(); iterator.hasNext(); ) {
+            final SyntheticVehicle vehicle = iterator.next();
+            if (vehicle.departureTime == time) {
+                // vehicle has been added in this step and has not moved yet
+                continue;
+            }
+            if (vehicle.move(stepLength)) {
+                updated.add(vehicle.createVehicleData(time));
+            } else {
+                removed.add(vehicle.name);
+                iterator.remove();
+            }
+        }
+
+        VEHICLE_STEPS.addAndGet(vehicles.size());
+        MAX_ACTIVE_VEHICLES.accumulateAndGet(vehicles.size(), Math::max);
+
+        nextTimeStep = time + updateInterval;
+        try {
+            final VehicleUpdates vehicleUpdates = new VehicleUpdates(time, added, updated, removed);
+            vehicleUpdates.setNextUpdate(nextTimeStep);
+            rti.triggerInteraction(vehicleUpdates);
+            rti.requestAdvanceTime(nextTimeStep, 0, FederatePriority.higher(descriptor.getPriority()));
+        } catch (IllegalValueException e) {
+            throw new InternalFederateException(e);
+        }
+    }
+
+    private List<VehicleData> addPendingVehicles(long time) {
+        final List<VehicleData> added = new ArrayList<>();
+        for (Iterator<VehicleRegistration> iterator = pendingVehicles.iterator(); iterator.hasNext(); ) {
+            final VehicleRegistration registration = iterator.next();
+            if (registration.getTime() > time) {
+                continue;
+            }
+            iterator.remove();
+
+            final String name = registration.getMapping().getName();
+            final VehicleDeparture departure = registration.getDeparture();
+            final VehicleRoute route = departure != null ? routes.get(departure.getRouteId()) : null;
+            if (route == null || route.getConnectionIds().isEmpty()) {
+                log.warn("Could not add vehicle {} without known route", name);
+                continue;
+            }
+            final SyntheticVehicle vehicle = new SyntheticVehicle(name, time, route, registration.getMapping().getVehicleType());
+            vehicle.depart(departure);
+            vehicles.put(name, vehicle);
+            added.add(vehicle.createVehicleData(time));
+        }
+        return added;
+    }
+
+    private ConnectionGeometry getGeometry(String connectionId) {
+        return geometries.computeIfAbsent(connectionId, id -> {
+            final Connection connection = database.getConnection(id);
+            if (connection == null) {
+                throw new IllegalArgumentException("Unknown connection " + id);
+            }
+            return new ConnectionGeometry(connection);
+        });
+    }
+
+    @Override
+    public boolean isTimeConstrained() {
+        return true;
+    }
+
+    @Override
+    public boolean isTimeRegulating() {
+        return true;
+    }
+
+    /**
+     * The shape of a connection in cartesian coordinates, used to interpolate the positions of vehicles.
+     */
+    private static class ConnectionGeometry {
+
+        private final CartesianPoint[] points;
+        private final double[] offsets;
+        private final double maxSpeed;
+
+        private ConnectionGeometry(Connection connection) {
+            final List<Node> nodes = connection.getNodes();
+            points = new CartesianPoint[nodes.size()];
+            offsets = new double[nodes.size()];
+            for (int i = 0; i < nodes.size(); i++) {
+                points[i] = nodes.get(i).getPosition().toCartesian();
+                offsets[i] = i == 0 ? 0 : offsets[i - 1] + points[i].distanceTo(points[i - 1]);
+            }
+            maxSpeed = connection.getMaxSpeedInMs();
+        }
+
+        private double getLength() {
+            return offsets[offsets.length - 1];
+        }
+
+        private int getSegment(double offset) {
+            int segment = 0;
+            while (segment < offsets.length - 2 && offsets[segment + 1] < offset) {
+                segment++;
+            }
+            return segment;
+        }
+
+        private CartesianPoint getPosition(double offset) {
+            final int segment = getSegment(offset);
+            final double segmentLength = offsets[segment + 1] - offsets[segment];
+            final double ratio = segmentLength > 0 ? Math.min(1, (offset - offsets[segment]) / segmentLength) : 0;
+            final CartesianPoint from = points[segment];
+            final CartesianPoint to = points[segment + 1];
+            return CartesianPoint.xy(from.getX() + ratio * (to.getX() - from.getX()), from.getY() + ratio * (to.getY() - from.getY()));
+        }
+
+        private double getHeading(double offset) {
+            final int segment = getSegment(offset);
+            final Vector3d direction = points[segment + 1].toVector3d().subtract(points[segment].toVector3d());
+            return VectorUtils.getHeadingFromDirection(direction);
+        }
+    }
+
+    private class SyntheticVehicle {
+
+        private final String name;
+        private final long departureTime;
+        private final VehicleRoute route;
+        private final double maxSpeed;
+        private final double accel;
+        private final double decel;
+
+        private int connectionIndex;
+        private ConnectionGeometry connection;
+        private double offset;
+        private double speed;
+        private double acceleration;
+        private double distanceDriven;
+        /**
+         * The remaining distance to the end of the route.
+         */
+        private double remainingDistance;
+
+        private SyntheticVehicle(String name, long departureTime, VehicleRoute route, VehicleType vehicleType) {
+            this.name = name;
+            this.departureTime = departureTime;
+            this.route = route;
+            this.maxSpeed = vehicleType.getMaxSpeed() * vehicleType.getSpeedFactor();
+            this.accel = vehicleType.getAccel();
+            this.decel = vehicleType.getDecel();
+        }
+
+        private void depart(VehicleDeparture departure) {
+            connectionIndex = Math.min(departure.getDepartureConnectionIndex(), route.getConnectionIds().size() - 1);
+            connection = getGeometry(route.getConnectionIds().get(connectionIndex));
+            offset = Math.min(departure.getDeparturePos(), connection.getLength());
+
+            remainingDistance = connection.getLength() - offset;
+            for (int i = connectionIndex + 1; i < route.getConnectionIds().size(); i++) {
+                remainingDistance += getGeometry(route.getConnectionIds().get(i)).getLength();
+            }
+
+            speed = departure.getDepartureSpeedMode() == VehicleDeparture.DepartureSpeedMode.PRECISE
+                    ? departure.getDepartureSpeed()
+                    : Math.min(maxSpeed, connection.maxSpeed);
+            speed = Math.min(speed, Math.sqrt(2 * decel * remainingDistance));
+        }
+
+        /**
+         * Moves the vehicle along its route.
+         *
+         * @return {@code false}, if the vehicle has reached the end of its route
+         */
+        private boolean move(double stepLength) {
+            // brake to stop at the end of the route
+            final double targetSpeed = Math.min(Math.min(maxSpeed, connection.maxSpeed), Math.sqrt(2 * decel * remainingDistance));
+            final double newSpeed = speed < targetSpeed
+                    ? Math.min(targetSpeed, speed + accel * stepLength)
+                    : Math.max(targetSpeed, speed - decel * stepLength);
+            acceleration = (newSpeed - speed) / stepLength;
+            speed = newSpeed;
+
+            final double distance = Math.min(speed * stepLength, remainingDistance);
+            distanceDriven += distance;
+            remainingDistance -= distance;
+            offset += distance;
+            while (offset > connection.getLength()) {
+                if (connectionIndex + 1 >= route.getConnectionIds().size()) {
+                    return false;
+                }
+                offset -= connection.getLength();
+                connection = getGeometry(route.getConnectionIds().get(++connectionIndex));
+            }
+            return remainingDistance > 0.1 || speed > 0.1;
+        }
+
+        private VehicleData createVehicleData(long time) {
+            final CartesianPoint position = connection.getPosition(offset);
+            return new VehicleData.Builder(time, name)
+                    .position(position.toGeo(), position)
+                    .road(new SimpleRoadPosition(route.getConnectionIds().get(connectionIndex), 0, offset, 0))
+                    .route(route.getId())
+                    .movement(speed, acceleration, distanceDriven)
+                    .orientation(DriveDirection.FORWARD, connection.getHeading(offset), 0)
+                    .stopped(VehicleStopMode.NOT_STOPPED)
+                    .create();
+        }
+    }
+}